@@ -0,0 +1,85 @@
+package com.bspark.comms.core.protocol.message;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수신 슬롯 배열의 프레임 해석 비교
+ * 이전 방식(슬롯 배열을 프레임 길이만큼 복사한 뒤 데이터 구간을 다시 복사)과 {@link FrameView}로 그 자리에서 읽는 방식,
+ * 외부 전송용 16진수 변환(바이트마다 String.format)과 {@link FrameView#appendHex}를 비교합니다.
+ * 할당량은 -prof gc(build.gradle의 jmh 설정)로 함께 측정합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FrameViewBenchmark {
+
+    @Param({"32", "512"})
+    int payloadSize;
+
+    // 수신 슬롯처럼 프레임보다 큰 재사용 배열
+    private final byte[] slot = new byte[8192];
+    private final FrameView view = new FrameView();
+    private int length;
+
+    @Setup
+    public void setUp() {
+        byte[] payload = new byte[payloadSize];
+        new Random(22).nextBytes(payload);
+        byte[] frame = FrameEncoder.encode(0x0101, (byte) 0x23, payload);
+        System.arraycopy(frame, 0, slot, 0, frame.length);
+        length = frame.length;
+    }
+
+    @Benchmark
+    public int arrayCopyParse() {
+        byte[] data = Arrays.copyOf(slot, length);
+        int address = (data[FrameView.ADDRESS_OFFSET] & 0xFF) << 8 | (data[FrameView.ADDRESS_OFFSET + 1] & 0xFF);
+        int opcode = data[FrameView.OPCODE_OFFSET] & 0xFF;
+        byte[] payload = Arrays.copyOfRange(data, FrameView.HEADER_SIZE, data.length - 2);
+        int crc = (data[data.length - 2] & 0xFF) << 8 | (data[data.length - 1] & 0xFF);
+
+        int sum = address + opcode + crc;
+        for (byte b : payload) {
+            sum += b & 0xFF;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int frameViewParse() {
+        FrameView frame = view.wrap(slot, 0, length);
+        int sum = frame.address() + (frame.opcode() & 0xFF) + frame.crc();
+        int payloadLength = frame.payloadLength();
+        for (int i = 0; i < payloadLength; i++) {
+            sum += frame.payloadByte(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public String arrayCopyHex() {
+        byte[] data = Arrays.copyOf(slot, length);
+        StringBuilder result = new StringBuilder();
+        for (byte b : data) {
+            result.append(String.format("%02X", b));
+        }
+        return result.toString();
+    }
+
+    @Benchmark
+    public String frameViewHex() {
+        FrameView frame = view.wrap(slot, 0, length);
+        return frame.appendHex(new StringBuilder(frame.length() * 2)).toString();
+    }
+}
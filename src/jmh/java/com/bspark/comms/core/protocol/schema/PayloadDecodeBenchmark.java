@@ -0,0 +1,126 @@
+package com.bspark.comms.core.protocol.schema;
+
+import com.bspark.comms.core.protocol.message.FrameEncoder;
+import com.bspark.comms.core.protocol.message.FrameView;
+import com.bspark.comms.core.protocol.schema.bench.DetectorInfoPayload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검지기 정보 응답(벤치마크용 예시 구조) 디코딩 비교
+ * 직접 작성한 파싱, 스키마 해석 디코딩({@link PayloadSchema#decode}), 빌드 시 생성한 디코더를 같은 프레임으로 비교합니다.
+ * 필드 값 JSON 기록까지 포함한 비용도 함께 측정합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PayloadDecodeBenchmark {
+
+    @Param({"4", "32"})
+    int detectors;
+
+    private final FrameView frame = new FrameView();
+    private final StringBuilder json = new StringBuilder(4096);
+    private final HandWrittenDetectorInfo handWritten = new HandWrittenDetectorInfo();
+    private final DetectorInfoPayload generated = new DetectorInfoPayload();
+    private PayloadSchema schema;
+    private PayloadRecord record;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (Reader reader = new InputStreamReader(
+                getClass().getResourceAsStream("/protocol/payload-schema-bench.txt"), StandardCharsets.UTF_8)) {
+            schema = PayloadSchemaParser.parse(reader).get(DetectorInfoPayload.OPCODE);
+        }
+        record = schema.newRecord();
+
+        Random random = new Random(23);
+        byte[] payload = new byte[1 + detectors * 5];
+        random.nextBytes(payload);
+        payload[0] = (byte) detectors;
+        // 수신 버퍼처럼 direct 버퍼에서 읽음
+        byte[] bytes = FrameEncoder.encode(0x0001, (byte) DetectorInfoPayload.OPCODE, payload);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        frame.wrap(buffer);
+    }
+
+    @Benchmark
+    public int handWritten() {
+        return handWritten.decode(frame);
+    }
+
+    @Benchmark
+    public int schema() {
+        return schema.decode(frame, record);
+    }
+
+    @Benchmark
+    public int generated() {
+        return generated.decode(frame);
+    }
+
+    @Benchmark
+    public int schemaJson() {
+        json.setLength(0);
+        schema.decode(frame, record);
+        return record.appendJson(json).length();
+    }
+
+    @Benchmark
+    public int generatedJson() {
+        json.setLength(0);
+        generated.decode(frame);
+        return generated.appendJson(json).length();
+    }
+
+    /**
+     * 스키마 없이 직접 작성한 파싱 (비교 기준)
+     */
+    static final class HandWrittenDetectorInfo {
+        final int[] detectorNo = new int[64];
+        final boolean[] occupied = new boolean[64];
+        final boolean[] fault = new boolean[64];
+        final int[] volume = new int[64];
+        final int[] occupancy = new int[64];
+        int count;
+
+        int decode(FrameView frame) {
+            int length = frame.payloadLength();
+            if (length < 1) {
+                return PayloadSchema.TRUNCATED;
+            }
+            int base = frame.payloadOffset();
+            int n = frame.getUnsignedByte(base);
+            if (n > 64) {
+                return PayloadSchema.GROUP_OVERFLOW;
+            }
+            if (1 + n * 5 > length) {
+                return PayloadSchema.TRUNCATED;
+            }
+            for (int e = 0, p = base + 1; e < n; e++, p += 5) {
+                int flags = frame.getUnsignedByte(p + 1);
+                detectorNo[e] = frame.getUnsignedByte(p);
+                occupied[e] = (flags & 0x80) != 0;
+                fault[e] = (flags & 0x40) != 0;
+                volume[e] = frame.getUnsignedByte(p + 2) << 8 | frame.getUnsignedByte(p + 3);
+                occupancy[e] = frame.getUnsignedByte(p + 4);
+            }
+            count = n;
+            return PayloadSchema.OK;
+        }
+    }
+}
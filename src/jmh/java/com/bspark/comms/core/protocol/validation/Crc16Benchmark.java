@@ -0,0 +1,92 @@
+package com.bspark.comms.core.protocol.validation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프레임 CRC 계산 비교
+ * 이전 CrcValidator 방식(프레임 복사 후 1바이트씩 테이블 조회)과 {@link Crc16} slice-by-8을 같은 프레임으로 비교합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class Crc16Benchmark {
+
+    // 이전 CrcValidator의 1바이트 테이블 (같은 다항식에서 생성)
+    private static final int[] LEGACY_TABLE = new int[256];
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            int crc = i;
+            for (int bit = 0; bit < 8; bit++) {
+                crc = (crc & 1) != 0 ? (crc >>> 1) ^ 0x8408 : crc >>> 1;
+            }
+            LEGACY_TABLE[i] = crc;
+        }
+    }
+
+    @Param({"16", "256", "4096"})
+    int frameSize;
+
+    private byte[] frame;
+    private ByteBuffer direct;
+
+    @Setup
+    public void setUp() {
+        frame = new byte[frameSize];
+        new Random(21).nextBytes(frame);
+        int crc = Crc16.compute(frame, 0, frameSize);
+        frame[frameSize - 2] = (byte) (crc >>> 8);
+        frame[frameSize - 1] = (byte) crc;
+        direct = ByteBuffer.allocateDirect(frameSize).put(frame).flip();
+    }
+
+    /**
+     * 이전 CrcValidator.validate와 같이 CRC 대상 구간을 복사한 뒤 계산
+     */
+    @Benchmark
+    public boolean legacyCopyAndTable() {
+        byte[] body = Arrays.copyOfRange(frame, Crc16.SYNC_SIZE, frame.length - Crc16.CRC_SIZE);
+        int expected = (frame[frame.length - 2] & 0xFF) << 8 | (frame[frame.length - 1] & 0xFF);
+        return legacyCrc(body, 0, body.length) == expected;
+    }
+
+    @Benchmark
+    public int legacyTable() {
+        return legacyCrc(frame, Crc16.SYNC_SIZE, frame.length - Crc16.CRC_SIZE);
+    }
+
+    @Benchmark
+    public int sliceBy8Array() {
+        return Crc16.update(Crc16.INITIAL, frame, Crc16.SYNC_SIZE, frameSize - Crc16.SYNC_SIZE - Crc16.CRC_SIZE);
+    }
+
+    @Benchmark
+    public int sliceBy8Direct() {
+        return Crc16.update(Crc16.INITIAL, direct, Crc16.SYNC_SIZE, frameSize - Crc16.SYNC_SIZE - Crc16.CRC_SIZE);
+    }
+
+    @Benchmark
+    public int verifyDirect() {
+        return Crc16.verify(direct);
+    }
+
+    private static int legacyCrc(byte[] data, int from, int to) {
+        int crc = 0xFFFF;
+        for (int i = from; i < to; i++) {
+            crc = (crc >>> 8) ^ LEGACY_TABLE[(crc ^ (data[i] & 0xFF)) & 0xFF];
+        }
+        return crc & 0xFFFF;
+    }
+}
@@ -0,0 +1,145 @@
+package com.bspark.comms.network.server;
+
+import com.bspark.comms.config.CommsProperties;
+import com.bspark.comms.core.protocol.message.FrameEncoder;
+import com.bspark.comms.core.scheduling.PollTimer;
+import com.bspark.comms.dao.IpAddressWhitelistDAO;
+import com.bspark.comms.network.server.dispatch.InboundDispatcher;
+import com.bspark.comms.network.server.nio.InboundFlowControl;
+import com.bspark.comms.network.server.nio.NioConnectionManager;
+import com.bspark.comms.network.server.nio.NioMetrics;
+import com.bspark.comms.network.server.nio.NioTcpServer;
+import com.bspark.comms.network.server.vt.VirtualThreadTcpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.beans.DirectFieldAccessor;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 서버 엔진 수신 처리량 비교
+ * NIO Selector 엔진과 가상 스레드 엔진을 같은 연결 수와 프레임 수로 띄워, 모든 클라이언트가 보낸 프레임이
+ * 수신 분배기 처리 스레드까지 도착하는 시간을 프레임당 시간으로 측정합니다.
+ * 같은 IP의 연결은 기존 연결을 끊으므로 클라이언트마다 서로 다른 루프백 주소(127.0.x.y)에서 연결합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ServerEngineBenchmark {
+
+    private static final int CONNECTIONS = 256;
+    // 연결마다 한 번에 보내는 프레임 수
+    private static final int FRAMES_PER_CONNECTION = 64;
+    private static final int OPERATIONS = CONNECTIONS * FRAMES_PER_CONNECTION;
+
+    @Param({"nio", "virtual-thread"})
+    String engine;
+
+    private final AtomicLong processed = new AtomicLong();
+    private InboundDispatcher dispatcher;
+    private PollTimer pollTimer;
+    private WhitelistCache whitelist;
+    private TcpServerEngine server;
+    private SocketChannel[] clients;
+    private ByteBuffer batch;
+    private long expected;
+
+    @Setup
+    public void setUp() throws Exception {
+        CommsProperties properties = new CommsProperties();
+        // 한 번에 보낸 프레임이 한 레인에 몰려도 링이 넘쳐 버려지지 않도록 설정
+        properties.getServer().setDispatchRingSize(OPERATIONS);
+        properties.getWhitelist().setRefreshMillis(0);
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        InboundFlowControl flowControl = new InboundFlowControl(properties, meterRegistry);
+        dispatcher = new InboundDispatcher(properties, flowControl, meterRegistry);
+        dispatcher.start(slot -> processed.incrementAndGet());
+
+        pollTimer = new PollTimer(properties, meterRegistry);
+        // 루프백 대역은 설정 항목으로 허용되므로 DB를 조회하지 않음
+        whitelist = new WhitelistCache(new IpAddressWhitelistDAO(null), properties, pollTimer, meterRegistry);
+        NioConnectionManager connectionManager = new NioConnectionManager(event -> {
+        }, whitelist, flowControl, dispatcher, pollTimer, properties);
+        NioMetrics metrics = new NioMetrics(meterRegistry);
+
+        server = "nio".equals(engine)
+                ? new NioTcpServer(connectionManager, event -> {
+                }, properties, metrics)
+                : new VirtualThreadTcpServer(connectionManager, properties, metrics);
+        // 스프링 밖에서 생성하므로 @Value 필드를 기본값으로 설정
+        new DirectFieldAccessor(server).setPropertyValue("bufferSize", 8192);
+        server.start(0, Set.of("127.0.0.0/8"));
+
+        InetSocketAddress serverAddress = new InetSocketAddress("127.0.0.1", server.getServerPort());
+        clients = new SocketChannel[CONNECTIONS];
+        for (int i = 0; i < CONNECTIONS; i++) {
+            clients[i] = SocketChannel.open();
+            clients[i].bind(new InetSocketAddress("127.0." + (1 + i / 250) + "." + (1 + i % 250), 0));
+            clients[i].connect(serverAddress);
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (connectionManager.getActiveConnectionCount() < CONNECTIONS) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Only " + connectionManager.getActiveConnectionCount()
+                        + " of " + CONNECTIONS + " connections registered");
+            }
+            Thread.sleep(10);
+        }
+
+        byte[] frame = FrameEncoder.encode(0x0001, (byte) 0x13, new byte[16]);
+        batch = ByteBuffer.allocateDirect(frame.length * FRAMES_PER_CONNECTION);
+        for (int i = 0; i < FRAMES_PER_CONNECTION; i++) {
+            batch.put(frame);
+        }
+        batch.flip();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        for (SocketChannel client : clients) {
+            if (client != null) {
+                client.close();
+            }
+        }
+        server.stop();
+        dispatcher.stop();
+        whitelist.stop();
+        pollTimer.stop();
+    }
+
+    /**
+     * 모든 연결에서 프레임 묶음을 보내고 처리 스레드가 모두 받을 때까지 대기
+     */
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public long receive() throws IOException {
+        expected += OPERATIONS;
+        for (SocketChannel client : clients) {
+            ByteBuffer frames = batch.duplicate();
+            while (frames.hasRemaining()) {
+                client.write(frames);
+            }
+        }
+        while (processed.get() < expected) {
+            Thread.yield();
+        }
+        return expected;
+    }
+}
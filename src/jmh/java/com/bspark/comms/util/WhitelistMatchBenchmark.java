@@ -0,0 +1,75 @@
+package com.bspark.comms.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 화이트리스트 조회 비교
+ * 이전 WhitelistCache 방식(주소 문자열 집합의 contains)과 {@link Ipv4RadixTrie#match}를 같은 규칙과 주소로 비교합니다.
+ * 문자열 방식은 이미 만들어진 문자열로 조회하는 경우와 수락 시처럼 주소를 문자열로 바꾼 뒤 조회하는 경우를 따로 측정합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WhitelistMatchBenchmark {
+
+    // 조회 주소 수 (2의 거듭제곱)
+    private static final int PROBES = 1024;
+
+    @Param({"100", "5000"})
+    int hosts;
+
+    private Ipv4RadixTrie trie;
+    private Set<String> set;
+    private final int[] addresses = new int[PROBES];
+    private final String[] texts = new String[PROBES];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(20);
+        Ipv4RadixTrie.Builder builder = Ipv4RadixTrie.builder();
+        set = new HashSet<>();
+        int[] allowed = new int[hosts];
+        for (int i = 0; i < hosts; i++) {
+            allowed[i] = 0x0A000000 | random.nextInt(1 << 24);
+            builder.addPrefix(allowed[i], 32, false);
+            set.add(IpAddressUtils.format(allowed[i]));
+        }
+        // 블록 규칙 하나 (문자열 집합은 블록을 표현하지 못하므로 트리에만 추가)
+        builder.addPrefix(0xAC100000, 12, false);
+        trie = builder.build();
+
+        // 허용 주소와 미등록 주소를 반씩 조회
+        for (int i = 0; i < PROBES; i++) {
+            addresses[i] = i % 2 == 0 ? allowed[random.nextInt(hosts)] : 0xC0A80000 | random.nextInt(1 << 16);
+            texts[i] = IpAddressUtils.format(addresses[i]);
+        }
+    }
+
+    @Benchmark
+    public int trieMatch() {
+        return trie.match(addresses[next++ & (PROBES - 1)]);
+    }
+
+    @Benchmark
+    public boolean setContains() {
+        return set.contains(texts[next++ & (PROBES - 1)]);
+    }
+
+    @Benchmark
+    public boolean formatAndSetContains() {
+        return set.contains(IpAddressUtils.format(addresses[next++ & (PROBES - 1)]));
+    }
+}
@@ -1,11 +1,17 @@
 
 package com.bspark.comms.config;
 
+import com.bspark.comms.data.MessageType;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Configuration
 @ConfigurationProperties(prefix = "comms")
 @Getter
@@ -13,7 +19,10 @@ import org.springframework.context.annotation.Configuration;
 public class CommsProperties {
 
     private Server server = new Server();
+    private Polling polling = new Polling();
+    private Whitelist whitelist = new Whitelist();
     private External external = new External();
+    private Protocol protocol = new Protocol();
 
     @Getter
     @Setter
@@ -21,6 +30,135 @@ public class CommsProperties {
         private int port = 7070;
         private int maxConnections = 100;
         private boolean autoStart = true;
+        // TCP 서버 엔진 (nio: Selector 리액터, virtual-thread: 연결별 가상 스레드)
+        private ServerEngine engine = ServerEngine.NIO;
+        // 읽기 처리 워커 Selector 수 (0이면 CPU 코어 수)
+        private int ioWorkers = 0;
+        private WorkerSelection workerSelection = WorkerSelection.ROUND_ROBIN;
+        // 한 번의 gathering write에 묶을 최대 프레임 수 / 바이트 수
+        private int writeBatchMaxFrames = 64;
+        private int writeBatchMaxBytes = 65536;
+        // 처리 대기 수신 프레임 상한/하한 - 상한을 넘으면 읽기 중단, 하한 이하로 내려가면 재개
+        private int inboundHighWatermark = 64;
+        private int inboundLowWatermark = 16;
+        private int inboundGlobalHighWatermark = 10000;
+        private int inboundGlobalLowWatermark = 5000;
+        // 수신 처리 스레드 수 (0이면 CPU 코어 수), 레인 수 (0이면 스레드 수 x 4), 레인별 링 버퍼 슬롯 수, 처리 스레드 대기 방식
+        private int dispatchThreads = 0;
+        private int dispatchLanes = 0;
+        private int dispatchRingSize = 1024;
+        private DispatchWaitStrategy dispatchWaitStrategy = DispatchWaitStrategy.BLOCKING;
+        // 다른 처리 스레드가 레인을 가져가 처리하기 시작하는 레인 대기 수
+        private int dispatchStealThreshold = 32;
+        // CRC가 맞지 않는 수신 프레임을 버리고 다시 동기화할지 여부 (false면 기록만 하고 처리)
+        private boolean dropCrcErrors = true;
+        // 브로드캐스트 소켓 기록 제한 시간 (지나면 아직 기록되지 않은 대상을 실패로 집계)
+        private long broadcastTimeoutMillis = 5000;
+
+        public int resolveIoWorkers() {
+            return ioWorkers > 0 ? ioWorkers : Runtime.getRuntime().availableProcessors();
+        }
+
+        public int resolveDispatchThreads() {
+            return dispatchThreads > 0 ? dispatchThreads : Runtime.getRuntime().availableProcessors();
+        }
+
+        public int resolveDispatchLanes() {
+            return dispatchLanes > 0 ? dispatchLanes : resolveDispatchThreads() * 4;
+        }
+    }
+
+    /**
+     * TCP 서버 엔진 종류
+     */
+    public enum ServerEngine {
+        NIO, VIRTUAL_THREAD
+    }
+
+    /**
+     * 수락된 연결을 워커에 배정하는 방식
+     */
+    public enum WorkerSelection {
+        ROUND_ROBIN, LEAST_CONNECTIONS
+    }
+
+    /**
+     * 수신 처리 스레드가 링 버퍼가 비었을 때 대기하는 방식
+     * BUSY_SPIN은 지연이 가장 짧지만 코어를 계속 점유하고, BLOCKING은 유휴 시 CPU를 사용하지 않습니다.
+     */
+    public enum DispatchWaitStrategy {
+        BUSY_SPIN, YIELDING, SLEEPING, BLOCKING
+    }
+
+    @Getter
+    @Setter
+    public static class Polling {
+        // polling 기본 주기 (상태 요청 주기, 계획의 모든 전송 주기는 이 값의 배수로 맞춰짐)
+        private long intervalMillis = 1000;
+        // 주기를 나누는 위상 슬롯 수와 슬롯 안에서 더하는 최대 지터
+        private int phaseSlots = 20;
+        private long jitterMillis = 20;
+        // 응답 대기 중인 상태 요청 최대 수, 응답 제한 시간, 지연으로 판단하는 응답 시간
+        private int maxInFlight = 1;
+        private long responseTimeoutMillis = 3000;
+        private long slowResponseMillis = 500;
+        // 지연/손실 시 늘어나는 최대 전송 간격과 기본 주기로 한 단계 되돌리기 위한 연속 정상 응답 수
+        private long maxIntervalMillis = 16000;
+        private int recoverAfter = 3;
+        // 타이밍 휠 tick 간격, 버킷 수, 휠(스레드) 수
+        private long tickMillis = 10;
+        private int wheelSize = 512;
+        private int wheelShards = 1;
+        // 계획 이름별 polling 계획 - 어느 계획에도 속하지 않은 클라이언트는 default 계획 사용
+        // (계획이 없으면 기본 주기마다 상태 요청만 전송)
+        private Map<String, Plan> plans = new LinkedHashMap<>();
+        // DB 계획 테이블 사용 여부와 다시 읽는 주기 (0이면 기동 시에만 읽음)
+        private boolean planTableEnabled = false;
+        private long planReloadMillis = 60000;
+
+        @Getter
+        @Setter
+        public static class Plan {
+            // 이 계획을 적용할 클라이언트 IP 목록
+            private List<String> clients = new ArrayList<>();
+            private List<PlanEntry> entries = new ArrayList<>();
+        }
+
+        @Getter
+        @Setter
+        public static class PlanEntry {
+            // 요청 opcode와 전송 주기 (0이면 주기 전송 없이 변경 시에만 전송)
+            private int opcode;
+            private long intervalMillis;
+            // 이 유형의 응답 내용이 바뀌면 다음 기본 주기에 바로 전송, 변경 전송 사이의 최소 간격
+            private MessageType onChangeOf;
+            private long minIntervalMillis;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Whitelist {
+        // DB 허용 목록 전체를 다시 읽는 주기
+        private long refreshMillis = 60000;
+        // 개별 조회 결과를 캐시하는 시간 (허용 / 거부)
+        private long positiveTtlMillis = 300000;
+        private long negativeTtlMillis = 30000;
+        // 개별 조회 스레드 수와 조회를 기다리며 보류할 수 있는 최대 연결 수 (초과 시 바로 거부)
+        private int lookupThreads = 2;
+        private int maxPending = 256;
+        // 허용 목록 테이블 변경 알림(LISTEN/NOTIFY) 수신, 수신 중에는 주기 갱신과 개별 조회를 하지 않음
+        private boolean notifyEnabled = true;
+        private String notifyChannel = "tsc_whitelist";
+        // DB 목록과 함께 적용할 항목 (IP, CIDR, 범위, 앞에 !를 붙이면 거부)
+        private List<String> entries = new ArrayList<>();
+    }
+
+    @Getter
+    @Setter
+    public static class Protocol {
+        // 응답 데이터 구조 스키마 파일 (비우거나 파일이 없으면 16진수로만 전송)
+        private String payloadSchema = "classpath:protocol/payload-schema.txt";
     }
 
     @Getter
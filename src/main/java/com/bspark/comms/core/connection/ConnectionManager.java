@@ -1,98 +1,46 @@
 package com.bspark.comms.core.connection;
 
-import jakarta.annotation.PreDestroy;
+import com.bspark.comms.network.server.nio.ChannelContext;
+import com.bspark.comms.network.server.nio.NioConnectionManager;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import java.net.Socket;
+import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
+/**
+ * 연결 상태/통계 조회
+ * 별도의 연결 목록을 두지 않고 TCP 서버 엔진의 연결 레지스트리(채널별 {@link ChannelContext})를 그대로 읽습니다.
+ */
 @Component
 @RequiredArgsConstructor
 public class ConnectionManager {
 
     private static final Logger logger = LoggerFactory.getLogger(ConnectionManager.class);
 
-    private final ConcurrentHashMap<String, Connection> connections = new ConcurrentHashMap<>();
-    private final AtomicInteger totalConnectionCount = new AtomicInteger(0);
-
-    /**
-     * 새로운 연결 추가
-     */
-    public void addConnection(String clientId, Socket socket) {
-        if (clientId == null || socket == null) {
-            throw new IllegalArgumentException("ClientId and socket cannot be null");
-        }
-
-        long currentTime = System.currentTimeMillis();
-
-        Connection connection = Connection.builder()
-                .clientId(clientId)
-                .socket(socket)
-                .connectedAt(currentTime)
-                .lastActivityAt(new AtomicLong(currentTime))
-                .active(new AtomicBoolean(true))
-                .bytesReceived(new AtomicLong(0))
-                .bytesSent(new AtomicLong(0))
-                .messageCount(new AtomicLong(0))
-                .build();
-
-        connections.put(clientId, connection);
-        totalConnectionCount.incrementAndGet();
-
-        logger.debug("Connection added for client: {}", clientId);
-    }
-
-    /**
-     * 연결 제거
-     */
-    public void removeConnection(String clientId) {
-        Connection connection = connections.remove(clientId);
-        if (connection != null) {
-            connection.close();
-            logger.debug("Connection removed for client: {}", clientId);
-        }
-    }
-
-    /**
-     * 연결 활동 시간 업데이트
-     */
-    public void updateActivity(String clientId) {
-        Connection connection = connections.get(clientId);
-        if (connection != null && connection.isActive()) {
-            connection.updateLastActivity();
-        }
-    }
+    private final NioConnectionManager registry;
 
     /**
      * 클라이언트가 활성 상태인지 확인
      */
     public boolean isActive(String clientId) {
-        Connection connection = connections.get(clientId);
-        return connection != null && connection.isActive() && connection.isSocketValid();
+        ChannelContext context = registry.findContext(clientId);
+        return context != null && isActive(context);
     }
 
-    /**
-     * 특정 클라이언트의 소켓 반환
-     */
-    public Socket getSocket(String clientId) {
-        Connection connection = connections.get(clientId);
-        return connection != null && connection.isActive() ? connection.getSocket() : null;
+    private static boolean isActive(ChannelContext context) {
+        return !context.isClosed() && context.getChannel().isOpen();
     }
 
     /**
      * 활성 연결 수 반환
      */
     public int getActiveConnectionCount() {
-        return (int) connections.values().stream()
-                .filter(Connection::isActive)
-                .filter(Connection::isSocketValid)
+        return (int) registry.getContexts().stream()
+                .filter(ConnectionManager::isActive)
                 .count();
     }
 
@@ -100,44 +48,24 @@ public class ConnectionManager {
      * 전체 연결 수 반환 (히스토리 포함)
      */
     public int getTotalConnectionCount() {
-        return totalConnectionCount.get();
+        return (int) registry.getTotalConnectionCount();
     }
 
     /**
      * 현재 연결된 클라이언트 수 반환
      */
     public int getCurrentConnectionCount() {
-        return connections.size();
+        return registry.getActiveConnectionCount();
     }
 
     /**
      * 활성 클라이언트 ID 목록 반환
      */
     public Set<String> getActiveClientIds() {
-        return connections.entrySet().stream()
-                .filter(entry -> entry.getValue().isActive())
-                .filter(entry -> entry.getValue().isSocketValid())
-                .map(java.util.Map.Entry::getKey)
-                .collect(java.util.stream.Collectors.toSet());
-    }
-
-    /**
-     * 특정 클라이언트의 연결 정보 반환
-     */
-    public Connection getConnection(String clientId) {
-        return connections.get(clientId);
-    }
-
-    /**
-     * 모든 연결 종료
-     */
-    public void closeAllConnections() {
-        logger.info("Closing all connections... Current count: {}", connections.size());
-
-        connections.values().forEach(Connection::close);
-        connections.clear();
-
-        logger.info("All connections closed");
+        return registry.getContexts().stream()
+                .filter(ConnectionManager::isActive)
+                .map(ChannelContext::getClientId)
+                .collect(Collectors.toSet());
     }
 
     /**
@@ -157,126 +85,56 @@ public class ConnectionManager {
     }
 
     /**
-     * 비활성 연결 정리
+     * 일정 시간 수신이 없는 연결 종료
+     *
+     * @return 종료한 연결 수
      */
-    public void cleanupInactiveConnections(long inactivityThresholdMillis) {
+    public int cleanupConnectionsByTimeout(long timeoutMillis) {
         long currentTime = System.currentTimeMillis();
+        int removedCount = 0;
 
-        connections.entrySet().removeIf(entry -> {
-            Connection connection = entry.getValue();
-            boolean shouldRemove = !connection.isSocketValid() ||
-                    (currentTime - connection.getLastActivityAt().get()) > inactivityThresholdMillis;
-
-            if (shouldRemove) {
-                connection.close();
-                logger.debug("Removed inactive connection: {}", entry.getKey());
-            }
-
-            return shouldRemove;
-        });
-    }
-
-    /**
-     * 특정 클라이언트에게 메시지 전송 가능 여부 확인
-     */
-    public boolean canSendMessage(String clientId) {
-        Socket socket = getSocket(clientId);
-        return socket != null && !socket.isClosed() && socket.isConnected();
-    }
-
-    /**
-     * 연결된 모든 클라이언트의 상태 정보 반환
-     */
-    public java.util.Map<String, ConnectionStatus> getAllConnectionStatus() {
-        return connections.entrySet().stream()
-                .collect(java.util.stream.Collectors.toMap(
-                        java.util.Map.Entry::getKey,
-                        entry -> {
-                            Connection conn = entry.getValue();
-                            return ConnectionStatus.builder()
-                                    .active(conn.isActive())
-                                    .socketValid(conn.isSocketValid())
-                                    .connectedAt(conn.getConnectedAt())
-                                    .lastActivityAt(conn.getLastActivityAt().get())
-                                    .inactivityDuration(conn.getInactivityDurationMillis())
-                                    .build();
-                        }
-                ));
-    }
-
-    /**
-     * 특정 클라이언트의 연결 통계 업데이트
-     */
-    public void updateConnectionStats(String clientId, long bytesReceived, long bytesSent) {
-        Connection connection = connections.get(clientId);
-        if (connection != null) {
-            if (bytesReceived > 0) {
-                connection.addBytesReceived(bytesReceived);
-            }
-            if (bytesSent > 0) {
-                connection.addBytesSent(bytesSent);
+        for (ChannelContext context : registry.getContexts()) {
+            if (!isActive(context) || currentTime - context.getLastActivityAt() > timeoutMillis) {
+                registry.closeConnection(context);
+                removedCount++;
+                logger.debug("Connection timeout removed: {}", context.getClientId());
             }
-            connection.incrementMessageCount();
         }
-    }
 
-    /**
-     * 특정 클라이언트의 수신 바이트 수 업데이트
-     */
-    public void addBytesReceived(String clientId, long bytes) {
-        Connection connection = connections.get(clientId);
-        if (connection != null) {
-            connection.addBytesReceived(bytes);
+        if (removedCount > 0) {
+            logger.info("Cleaned up {} timed-out connections", removedCount);
         }
-    }
 
-    /**
-     * 특정 클라이언트의 전송 바이트 수 업데이트
-     */
-    public void addBytesSent(String clientId, long bytes) {
-        Connection connection = connections.get(clientId);
-        if (connection != null) {
-            connection.addBytesSent(bytes);
-        }
+        return removedCount;
     }
 
     /**
-     * 특정 클라이언트의 메시지 카운트 증가
+     * 특정 클라이언트에게 메시지 전송 가능 여부 확인
      */
-    public void incrementMessageCount(String clientId) {
-        Connection connection = connections.get(clientId);
-        if (connection != null) {
-            connection.incrementMessageCount();
-        }
+    public boolean canSendMessage(String clientId) {
+        ChannelContext context = registry.findContext(clientId);
+        return context != null && isActive(context) && !context.getOutboundQueue().isClosed();
     }
 
     /**
-     * 연결 정리 (타임아웃 기반)
+     * 연결된 모든 클라이언트의 상태 정보 반환
      */
-    public int cleanupConnectionsByTimeout(long timeoutMillis) {
+    public Map<String, ConnectionStatus> getAllConnectionStatus() {
         long currentTime = System.currentTimeMillis();
-        int removedCount = 0;
-
-        for (java.util.Iterator<java.util.Map.Entry<String, Connection>> iterator = connections.entrySet().iterator(); iterator.hasNext();) {
-            java.util.Map.Entry<String, Connection> entry = iterator.next();
-            Connection connection = entry.getValue();
-
-            boolean shouldRemove = !connection.isSocketValid() ||
-                    (currentTime - connection.getLastActivityAt().get()) > timeoutMillis;
-
-            if (shouldRemove) {
-                connection.close();
-                iterator.remove();
-                removedCount++;
-                logger.debug("Connection timeout removed: {}", entry.getKey());
-            }
-        }
-
-        if (removedCount > 0) {
-            logger.info("Cleaned up {} timed-out connections", removedCount);
-        }
-
-        return removedCount;
+        return registry.getContexts().stream()
+                .collect(Collectors.toMap(
+                        ChannelContext::getClientId,
+                        context -> ConnectionStatus.builder()
+                                .active(!context.isClosed())
+                                .socketValid(context.getChannel().isOpen())
+                                .connectedAt(context.getConnectedAt())
+                                .lastActivityAt(context.getLastActivityAt())
+                                .inactivityDuration(currentTime - context.getLastActivityAt())
+                                .bytesReceived(context.getBytesReceived())
+                                .bytesSent(context.getBytesSent())
+                                .messageCount(context.getFramesReceived())
+                                .build(),
+                        (first, second) -> second));
     }
 
     /**
@@ -284,22 +142,15 @@ public class ConnectionManager {
      */
     public void logAllConnectionDetails() {
         logger.info("=== Connection Details ===");
-        logger.info("Total connections: {}", connections.size());
+        logger.info("Total connections: {}", getCurrentConnectionCount());
         logger.info("Active connections: {}", getActiveConnectionCount());
 
-        connections.forEach((clientId, connection) -> {
-            logger.info("Client {}: {}", clientId, connection.toString());
+        getAllConnectionStatus().forEach((clientId, status) -> {
+            logger.info("Client {}: {}", clientId, status);
         });
         logger.info("========================");
     }
 
-    @PreDestroy
-    public void cleanup() {
-        logger.info("ConnectionManager cleanup starting...");
-        closeAllConnections();
-        logger.info("ConnectionManager cleanup completed");
-    }
-
     /**
      * 연결 상태 정보
      */
@@ -311,11 +162,14 @@ public class ConnectionManager {
         private final long connectedAt;
         private final long lastActivityAt;
         private final long inactivityDuration;
+        private final long bytesReceived;
+        private final long bytesSent;
+        private final long messageCount;
 
         @Override
         public String toString() {
-            return String.format("ConnectionStatus{active=%s, valid=%s, inactive=%dms}",
-                    active, socketValid, inactivityDuration);
+            return String.format("ConnectionStatus{active=%s, valid=%s, inactive=%dms, rx=%d, tx=%d, messages=%d}",
+                    active, socketValid, inactivityDuration, bytesReceived, bytesSent, messageCount);
         }
     }
-}
\ No newline at end of file
+}
@@ -1,50 +1,42 @@
 package com.bspark.comms.core.protocol.message;
 
+import com.bspark.comms.data.MessageType;
 import com.bspark.comms.util.MessageUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
+import java.util.HashSet;
 import java.util.Set;
 
+/**
+ * 요청 프레임 생성 ({@link FrameEncoder}로 헤더, 주소, CRC까지 인코딩)
+ * 호출자가 수정해도 되도록 매번 새 배열을 반환합니다. 반복 전송에는 {@link FrameEncoder#shared}를 사용합니다.
+ */
 @Component
 public class DefaultMessageBuilder implements MessageBuilder {
     private static final Logger logger = LoggerFactory.getLogger(DefaultMessageBuilder.class);
 
-    // 지원하는 opcode 목록
-    private static final Set<Byte> SUPPORTED_OPCODES = Set.of(
-            (byte) 0x11, // NETWORK_TEST
-            (byte) 0x12, // STATUS_REQUEST
-            (byte) 0x13, // STARTUP_CODE
-            (byte) 0x21, // INTERSECTION_STATUS
-            (byte) 0x22, // DETECTOR_INFO
-            (byte) 0x23, // PHASE_INFO
-            (byte) 0x24  // USER_REQUEST
-    );
-
-    private static final Map<Byte, byte[]> REQ_BYTE_ARRAY_MAP = Map.of(
-            (byte)0x12, new byte[]{ 0x7f, 0x7f, 0x00, 0x08, 0x00, 0x01, 0x00, 0x12, 0x3B, 0x1F},
-            (byte)0xA2, new byte[] {0x7F, 0x7F, 0x00, 0x08, 0x00, 0x01, 0x00, (byte)0xA2, (byte)0x8E, (byte)0x94}
-    );
+    // 지원하는 opcode 목록 (기존 목록 + 프로토콜 요청 유형)
+    private static final Set<Byte> SUPPORTED_OPCODES = supportedOpcodes();
+
+    private static Set<Byte> supportedOpcodes() {
+        Set<Byte> opcodes = new HashSet<>(Set.of(
+                (byte) 0x11, (byte) 0x12, (byte) 0x13,
+                (byte) 0x21, (byte) 0x22, (byte) 0x23, (byte) 0x24));
+        for (MessageType type : MessageType.values()) {
+            if (type.isRequest() && type.getOpcode() >= 0) {
+                opcodes.add((byte) type.getOpcode());
+            }
+        }
+        return Set.copyOf(opcodes);
+    }
 
     @Override
     public byte[] buildMessage(byte opcode) {
-        if (!isOpcodeSupported(opcode)) {
-            throw new IllegalArgumentException("Unsupported opcode: " +
-                    MessageUtils.formatOpcode(opcode));
-        }
-
-        // 기본 메시지 구조: [길이(2바이트)] + [opcode(1바이트)]
-        byte[] message = REQ_BYTE_ARRAY_MAP.get(opcode);
-
-        logger.debug("Built message for opcode {}: {}",
-                MessageUtils.formatOpcode(opcode), MessageUtils.bytesToHex(message));
-
-        return message;
+        return buildMessage(opcode, null);
     }
 
-
     @Override
     public byte[] buildMessage(byte opcode, byte[] data) {
         if (!isOpcodeSupported(opcode)) {
@@ -52,27 +44,13 @@ public class DefaultMessageBuilder implements MessageBuilder {
                     MessageUtils.formatOpcode(opcode));
         }
 
-        if (data == null) {
-            return buildMessage(opcode);
-        }
-
-        // 메시지 구조: [길이(2바이트)] + [opcode(1바이트)] + [데이터]
-        int totalLength = 1 + data.length; // opcode + data
-        byte[] message = new byte[2 + totalLength];
-
-        // 길이 설정 (빅엔디안)
-        message[0] = (byte) ((totalLength >> 8) & 0xFF);
-        message[1] = (byte) (totalLength & 0xFF);
-
-        // opcode 설정
-        message[2] = opcode;
-
-        // 데이터 복사
-        System.arraycopy(data, 0, message, 3, data.length);
-
-        logger.debug("Built message for opcode {} with {} bytes data: {}",
-                MessageUtils.formatOpcode(opcode), data.length, MessageUtils.bytesToHex(message));
+        byte[] message = data == null ? FrameEncoder.encode(opcode)
+                : FrameEncoder.encode(FrameEncoder.DEFAULT_ADDRESS, opcode, data);
 
+        if (logger.isDebugEnabled()) {
+            logger.debug("Built message for opcode {} with {} bytes data: {}",
+                    MessageUtils.formatOpcode(opcode), data != null ? data.length : 0, MessageUtils.bytesToHex(message));
+        }
         return message;
     }
 
@@ -83,6 +61,6 @@ public class DefaultMessageBuilder implements MessageBuilder {
 
     @Override
     public Set<Byte> getSupportedOpcodes() {
-        return Set.copyOf(SUPPORTED_OPCODES);
+        return SUPPORTED_OPCODES;
     }
-}
\ No newline at end of file
+}
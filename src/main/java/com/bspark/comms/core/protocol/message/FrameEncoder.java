@@ -0,0 +1,109 @@
+package com.bspark.comms.core.protocol.message;
+
+import com.bspark.comms.core.protocol.validation.Crc16;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * 요청 프레임 인코더
+ * 프레임 구조: [0x7F 0x7F] + [길이(2바이트)] + [주소(2바이트)] + [예약(1바이트)] + [opcode(1바이트)] + [데이터] + [CRC(2바이트)]
+ * 길이 필드는 헤더 이후 전체 크기이고, CRC는 길이 필드부터 데이터 끝까지 계산합니다.
+ *
+ * <p>프레임은 호출자가 준 버퍼(풀에서 빌린 direct 버퍼 포함)에 바로 기록하며 중간 배열을 만들지 않습니다.
+ * 데이터가 없는 기본 주소 프레임은 opcode별로 미리 인코딩해 읽기 전용 direct 버퍼로 공유하고,
+ * 일부 값만 바뀌는 프레임은 {@link FrameTemplate}을 사용합니다.
+ */
+public final class FrameEncoder {
+
+    public static final int DEFAULT_ADDRESS = 0x0001;
+
+    private static final byte SYNC_BYTE = 0x7F;
+    private static final int EMPTY_FRAME_SIZE = FrameView.HEADER_SIZE + Crc16.CRC_SIZE;
+    private static final byte[] EMPTY = new byte[0];
+
+    // opcode -> 데이터 없는 기본 주소 프레임 (direct 버퍼 하나를 opcode별로 나눈 읽기 전용 조각)
+    private static final ByteBuffer[] SHARED = new ByteBuffer[256];
+
+    static {
+        ByteBuffer frames = ByteBuffer.allocateDirect(SHARED.length * EMPTY_FRAME_SIZE);
+        for (int opcode = 0; opcode < SHARED.length; opcode++) {
+            int start = frames.position();
+            encode(frames, DEFAULT_ADDRESS, (byte) opcode, EMPTY, 0, 0);
+            SHARED[opcode] = frames.slice(start, EMPTY_FRAME_SIZE).asReadOnlyBuffer();
+        }
+    }
+
+    private FrameEncoder() {
+    }
+
+    /**
+     * 데이터 길이에 대한 프레임 전체 길이
+     */
+    public static int frameSize(int payloadLength) {
+        return FrameView.HEADER_SIZE + payloadLength + Crc16.CRC_SIZE;
+    }
+
+    public static byte[] encode(byte opcode) {
+        return encode(DEFAULT_ADDRESS, opcode, EMPTY);
+    }
+
+    public static byte[] encode(int address, byte opcode, byte[] payload) {
+        byte[] frame = new byte[frameSize(payload.length)];
+        encode(ByteBuffer.wrap(frame), address, opcode, payload, 0, payload.length);
+        return frame;
+    }
+
+    /**
+     * dst의 현재 위치에 프레임 기록 후 position을 프레임 끝으로 이동
+     *
+     * @return 기록한 프레임 길이
+     * @throws BufferOverflowException dst에 공간이 부족한 경우
+     */
+    public static int encode(ByteBuffer dst, int address, byte opcode, byte[] payload, int offset, int length) {
+        int size = frameSize(length);
+        if (dst.remaining() < size) {
+            throw new BufferOverflowException();
+        }
+        int start = dst.position();
+        writeHeader(dst, start, size, address, opcode);
+        dst.put(start + FrameView.HEADER_SIZE, payload, offset, length);
+        writeCrc(dst, start, size, Crc16.INITIAL, start + Crc16.SYNC_SIZE);
+        dst.position(start + size);
+        return size;
+    }
+
+    /**
+     * 데이터 없는 기본 주소 프레임 (미리 인코딩한 공유 버퍼)
+     * 모든 호출자가 같은 버퍼를 받으므로 position/limit을 바꾸지 말고 {@link ByteBuffer#duplicate()}해서 사용합니다
+     * (공유 전송과 브로드캐스트는 연결마다 duplicate합니다).
+     */
+    public static ByteBuffer shared(byte opcode) {
+        return SHARED[opcode & 0xFF];
+    }
+
+    /**
+     * 절대 위치 start에 헤더 기록 (CRC 제외)
+     */
+    static void writeHeader(ByteBuffer dst, int start, int size, int address, byte opcode) {
+        int length = size - Crc16.SYNC_SIZE;
+        dst.put(start, SYNC_BYTE);
+        dst.put(start + 1, SYNC_BYTE);
+        dst.put(start + FrameView.LENGTH_OFFSET, (byte) (length >> 8));
+        dst.put(start + FrameView.LENGTH_OFFSET + 1, (byte) length);
+        dst.put(start + FrameView.ADDRESS_OFFSET, (byte) (address >> 8));
+        dst.put(start + FrameView.ADDRESS_OFFSET + 1, (byte) address);
+        dst.put(start + FrameView.RESERVED_OFFSET, (byte) 0x00);
+        dst.put(start + FrameView.OPCODE_OFFSET, opcode);
+    }
+
+    /**
+     * 절대 위치 from부터 데이터 끝까지 crc에 이어서 계산해 프레임 끝에 기록
+     */
+    static void writeCrc(ByteBuffer dst, int start, int size, int crc, int from) {
+        int crcOffset = start + size - Crc16.CRC_SIZE;
+        int value = Crc16.update(crc, dst, from, crcOffset - from);
+        dst.put(crcOffset, (byte) (value >> 8));
+        dst.put(crcOffset + 1, (byte) value);
+    }
+}
@@ -0,0 +1,134 @@
+package com.bspark.comms.core.protocol.message;
+
+import com.bspark.comms.core.protocol.validation.Crc16;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 값 자리가 있는 미리 인코딩한 요청 프레임
+ * 헤더와 고정 데이터는 생성 시 한 번 인코딩하고, 첫 값 자리 앞까지의 CRC도 미리 계산해 둡니다.
+ * 기록 시에는 프레임을 대상 버퍼에 복사해 값 자리만 채우고 첫 값 자리부터 데이터 끝까지만 CRC를 이어서 계산합니다.
+ * 생성 후에는 바뀌지 않으므로 여러 스레드에서 함께 사용할 수 있고, 기록 중에는 할당하지 않습니다.
+ */
+public final class FrameTemplate {
+
+    private final ByteBuffer frame;
+    private final int size;
+    // 값 자리의 프레임 내 위치와 바이트 수
+    private final int[] slotOffsets;
+    private final int[] slotWidths;
+    private final int patchStart;
+    private final int prefixCrc;
+
+    private FrameTemplate(Builder builder) {
+        this.size = FrameEncoder.frameSize(builder.payload.length);
+        ByteBuffer encoded = ByteBuffer.allocate(size);
+        FrameEncoder.encode(encoded, builder.address, builder.opcode, builder.payload, 0, builder.payload.length);
+        this.frame = encoded.flip().asReadOnlyBuffer();
+
+        int count = builder.offsets.size();
+        this.slotOffsets = new int[count];
+        this.slotWidths = new int[count];
+        int first = size - Crc16.CRC_SIZE;
+        for (int i = 0; i < count; i++) {
+            slotOffsets[i] = FrameView.HEADER_SIZE + builder.offsets.get(i);
+            slotWidths[i] = builder.widths.get(i);
+            first = Math.min(first, slotOffsets[i]);
+        }
+        this.patchStart = first;
+        this.prefixCrc = Crc16.update(Crc16.INITIAL, frame, Crc16.SYNC_SIZE, patchStart - Crc16.SYNC_SIZE);
+    }
+
+    /**
+     * @param payload 고정 데이터 (값 자리의 초기값 포함, 복사해서 보관)
+     */
+    public static Builder builder(int address, byte opcode, byte[] payload) {
+        return new Builder(address, opcode, payload);
+    }
+
+    /**
+     * 프레임 전체 길이
+     */
+    public int size() {
+        return size;
+    }
+
+    public int getSlotCount() {
+        return slotOffsets.length;
+    }
+
+    /**
+     * dst의 현재 위치에 값 자리를 채운 프레임 기록 후 position을 프레임 끝으로 이동
+     *
+     * @param values 값 자리 순서대로의 값 (빅엔디안으로 자리 폭만큼 기록, 호출자가 재사용 가능)
+     * @return 기록한 프레임 길이
+     */
+    public int write(ByteBuffer dst, int[] values) {
+        if (values.length != slotOffsets.length) {
+            throw new IllegalArgumentException("Expected " + slotOffsets.length + " values, got " + values.length);
+        }
+        if (dst.remaining() < size) {
+            throw new BufferOverflowException();
+        }
+
+        int start = dst.position();
+        dst.put(start, frame, 0, size);
+        for (int i = 0; i < slotOffsets.length; i++) {
+            int value = values[i];
+            for (int b = slotWidths[i] - 1; b >= 0; b--) {
+                dst.put(start + slotOffsets[i] + b, (byte) value);
+                value >>>= 8;
+            }
+        }
+        FrameEncoder.writeCrc(dst, start, size, prefixCrc, start + patchStart);
+        dst.position(start + size);
+        return size;
+    }
+
+    /**
+     * 값 자리를 채운 프레임을 새 배열로 생성
+     */
+    public byte[] toBytes(int[] values) {
+        byte[] bytes = new byte[size];
+        write(ByteBuffer.wrap(bytes), values);
+        return bytes;
+    }
+
+    /**
+     * 값 자리 선언 (선언 순서가 {@link #write}의 값 순서)
+     */
+    public static final class Builder {
+        private final int address;
+        private final byte opcode;
+        private final byte[] payload;
+        private final List<Integer> offsets = new ArrayList<>();
+        private final List<Integer> widths = new ArrayList<>();
+
+        private Builder(int address, byte opcode, byte[] payload) {
+            this.address = address;
+            this.opcode = opcode;
+            this.payload = payload.clone();
+        }
+
+        /**
+         * @param payloadOffset 데이터 시작 기준 위치
+         * @param width 바이트 수 (1 ~ 4)
+         */
+        public Builder slot(int payloadOffset, int width) {
+            if (width < 1 || width > 4 || payloadOffset < 0 || payloadOffset + width > payload.length) {
+                throw new IllegalArgumentException("Invalid slot " + payloadOffset + "+" + width
+                        + " for payload of " + payload.length + " bytes");
+            }
+            offsets.add(payloadOffset);
+            widths.add(width);
+            return this;
+        }
+
+        public FrameTemplate build() {
+            return new FrameTemplate(this);
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.bspark.comms.core.protocol.message;
+
+import com.bspark.comms.core.protocol.validation.Crc16;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 수신 프레임 flyweight 뷰
+ * 프레임 구조: [0x7F 0x7F] + [길이(2바이트)] + [주소(2바이트)] + [예약(1바이트)] + [opcode(1바이트)] + [데이터] + [CRC(2바이트)]
+ * 배열 또는 버퍼의 프레임 구간을 복사하지 않고 가리키며, 접근자는 필요한 바이트만 그 자리에서 읽습니다.
+ * 뷰와 원본 구간은 재사용되므로 콜백이 끝난 뒤에도 데이터가 필요하면 {@link #copy()}나 {@link #retain()}으로 복사해야 합니다.
+ */
+public final class FrameView {
+
+    public static final int LENGTH_OFFSET = 2;
+    public static final int ADDRESS_OFFSET = 4;
+    public static final int RESERVED_OFFSET = 6;
+    public static final int OPCODE_OFFSET = 7;
+    public static final int HEADER_SIZE = 8;
+    public static final int MIN_FRAME_SIZE = HEADER_SIZE + Crc16.CRC_SIZE;
+
+    private static final byte SYNC_BYTE = 0x7F;
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    // 둘 중 하나만 사용 (배열이 있으면 배열)
+    private byte[] array;
+    private ByteBuffer buffer;
+    private int offset;
+    private int length;
+
+    /**
+     * 배열의 프레임 구간을 가리킴
+     */
+    public FrameView wrap(byte[] data, int offset, int length) {
+        this.array = data;
+        this.buffer = null;
+        this.offset = offset;
+        this.length = length;
+        return this;
+    }
+
+    /**
+     * 버퍼의 position ~ limit 프레임을 가리킴 (버퍼의 position, limit은 바꾸지 않음)
+     */
+    public FrameView wrap(ByteBuffer frame) {
+        if (frame.hasArray()) {
+            return wrap(frame.array(), frame.arrayOffset() + frame.position(), frame.remaining());
+        }
+        this.array = null;
+        this.buffer = frame;
+        this.offset = frame.position();
+        this.length = frame.remaining();
+        return this;
+    }
+
+    /**
+     * 원본 참조 해제
+     */
+    public void clear() {
+        this.array = null;
+        this.buffer = null;
+        this.offset = 0;
+        this.length = 0;
+    }
+
+    /**
+     * 프레임 내 index 위치의 바이트 (0 ~ 255)
+     */
+    public int getUnsignedByte(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Frame index " + index + " out of " + length);
+        }
+        return (array != null ? array[offset + index] : buffer.get(offset + index)) & 0xFF;
+    }
+
+    private int getShort(int index) {
+        return (int) getUnsigned(index, 2);
+    }
+
+    /**
+     * 프레임 내 index 위치의 width 바이트 빅엔디안 부호 없는 정수 (width 1 ~ 7)
+     */
+    public long getUnsigned(int index, int width) {
+        if (index < 0 || width < 1 || width > 7 || index > length - width) {
+            throw new IndexOutOfBoundsException("Frame range " + index + "+" + width + " out of " + length);
+        }
+        long value = 0;
+        int position = offset + index;
+        if (array != null) {
+            for (int i = 0; i < width; i++) {
+                value = value << 8 | (array[position + i] & 0xFF);
+            }
+        } else {
+            for (int i = 0; i < width; i++) {
+                value = value << 8 | (buffer.get(position + i) & 0xFF);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 프레임 전체 길이 (동기 바이트와 CRC 포함)
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * 동기 바이트와 길이 필드가 실제 길이와 맞는지 확인
+     */
+    public boolean hasValidHeader() {
+        return length >= MIN_FRAME_SIZE
+                && getUnsignedByte(0) == (SYNC_BYTE & 0xFF) && getUnsignedByte(1) == (SYNC_BYTE & 0xFF)
+                && declaredLength() + LENGTH_OFFSET == length;
+    }
+
+    /**
+     * 길이 필드 값 (길이 필드부터 CRC까지의 크기)
+     */
+    public int declaredLength() {
+        return getShort(LENGTH_OFFSET);
+    }
+
+    /**
+     * 제어기 주소 (4~5번 바이트)
+     */
+    public int address() {
+        return getShort(ADDRESS_OFFSET);
+    }
+
+    public int reserved() {
+        return getUnsignedByte(RESERVED_OFFSET);
+    }
+
+    public byte opcode() {
+        return (byte) getUnsignedByte(OPCODE_OFFSET);
+    }
+
+    /**
+     * 데이터 시작 위치 (프레임 기준)
+     */
+    public int payloadOffset() {
+        return HEADER_SIZE;
+    }
+
+    public int payloadLength() {
+        return Math.max(0, length - HEADER_SIZE - Crc16.CRC_SIZE);
+    }
+
+    /**
+     * 데이터 내 index 위치의 바이트 (0 ~ 255)
+     */
+    public int payloadByte(int index) {
+        if (index < 0 || index >= payloadLength()) {
+            throw new IndexOutOfBoundsException("Payload index " + index + " out of " + payloadLength());
+        }
+        return getUnsignedByte(HEADER_SIZE + index);
+    }
+
+    /**
+     * 프레임 끝에 기록된 CRC
+     */
+    public int crc() {
+        return getShort(length - Crc16.CRC_SIZE);
+    }
+
+    /**
+     * CRC 검증 결과 코드 ({@link Crc16#OK}, {@link Crc16#TOO_SHORT}, {@link Crc16#MISMATCH})
+     */
+    public int verifyCrc() {
+        if (array != null) {
+            return Crc16.verify(array, offset, length);
+        }
+        return Crc16.verify(buffer.slice(offset, length));
+    }
+
+    /**
+     * 프레임 전체를 dst의 현재 위치에 복사 (중간 배열 없음)
+     */
+    public void writeTo(ByteBuffer dst) {
+        if (array != null) {
+            dst.put(array, offset, length);
+        } else {
+            dst.put(dst.position(), buffer, offset, length);
+            dst.position(dst.position() + length);
+        }
+    }
+
+    /**
+     * 데이터 구간을 dst[dstOffset]부터 복사
+     */
+    public void copyPayload(byte[] dst, int dstOffset) {
+        int payloadLength = payloadLength();
+        if (array != null) {
+            System.arraycopy(array, offset + HEADER_SIZE, dst, dstOffset, payloadLength);
+        } else {
+            buffer.get(offset + HEADER_SIZE, dst, dstOffset, payloadLength);
+        }
+    }
+
+    /**
+     * 프레임 전체를 새 배열로 복사
+     */
+    public byte[] copy() {
+        if (array != null) {
+            return Arrays.copyOfRange(array, offset, offset + length);
+        }
+        byte[] copy = new byte[length];
+        buffer.get(offset, copy, 0, length);
+        return copy;
+    }
+
+    /**
+     * 원본과 분리된 뷰 (복사한 배열을 가리키므로 콜백 이후에도 유효)
+     */
+    public FrameView retain() {
+        return new FrameView().wrap(copy(), 0, length);
+    }
+
+    /**
+     * 프레임 전체를 공백 없는 16진수 문자열로 sb에 추가
+     */
+    public StringBuilder appendHex(StringBuilder sb) {
+        sb.ensureCapacity(sb.length() + length * 2);
+        for (int i = 0; i < length; i++) {
+            int b = array != null ? array[offset + i] : buffer.get(offset + i);
+            sb.append(HEX_DIGITS[(b >>> 4) & 0x0F]).append(HEX_DIGITS[b & 0x0F]);
+        }
+        return sb;
+    }
+
+    @Override
+    public String toString() {
+        if (length < MIN_FRAME_SIZE) {
+            return "FrameView{length=" + length + "}";
+        }
+        return String.format("FrameView{address=0x%04X, opcode=0x%02X, length=%d, crc=0x%04X}",
+                address(), opcode() & 0xFF, length, crc());
+    }
+}
@@ -0,0 +1,33 @@
+package com.bspark.comms.core.protocol.schema;
+
+import com.bspark.comms.core.protocol.message.FrameView;
+
+/**
+ * 빌드 시 데이터 구조 스키마에서 생성한 디코더 ({@link PayloadDecoderGenerator})
+ * 구현 클래스가 응답 하나의 필드를 기본형 필드와 미리 할당한 배열로 담는 재사용 구조체이며,
+ * {@link PayloadSchema#decode}와 같은 결과를 필드 위치를 상수로 펼친 코드로 얻습니다. 스레드 안전하지 않습니다.
+ */
+public interface GeneratedPayload {
+
+    int opcode();
+
+    /**
+     * @return 생성에 사용한 스키마의 {@link PayloadSchema#layout()}
+     */
+    String layout();
+
+    /**
+     * 같은 구조의 새 인스턴스 (스레드별 재사용 인스턴스 생성용)
+     */
+    GeneratedPayload newInstance();
+
+    /**
+     * @return {@link PayloadSchema#OK}, {@link PayloadSchema#TRUNCATED}, {@link PayloadSchema#GROUP_OVERFLOW}
+     */
+    int decode(FrameView frame);
+
+    /**
+     * 필드 값을 {@link PayloadRecord#appendJson}과 같은 형식으로 out에 추가
+     */
+    StringBuilder appendJson(StringBuilder out);
+}
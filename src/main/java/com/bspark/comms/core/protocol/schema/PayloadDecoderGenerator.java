@@ -0,0 +1,298 @@
+package com.bspark.comms.core.protocol.schema;
+
+import javax.lang.model.SourceVersion;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * 데이터 구조 스키마에서 {@link GeneratedPayload} 디코더 소스를 생성 (빌드 시 generatePayloadDecoders 작업이 실행)
+ * 필드 위치, 폭, 비트 마스크를 상수로 펼친 디코더를 만들어 실행 시 필드 배열을 순회하지 않도록 합니다.
+ * 생성한 클래스는 {@code META-INF/services}에 등록되어 {@link PayloadSchemaRegistry}가 구조가 같은 opcode에 사용합니다.
+ * <pre>
+ * 사용: PayloadDecoderGenerator &lt;스키마 파일&gt; &lt;출력 디렉터리&gt; &lt;패키지&gt;
+ * 출력: &lt;출력 디렉터리&gt;/java/..., &lt;출력 디렉터리&gt;/resources/META-INF/services/...
+ * </pre>
+ */
+public final class PayloadDecoderGenerator {
+
+    static final String SERVICE_FILE = "META-INF/services/" + GeneratedPayload.class.getName();
+
+    private PayloadDecoderGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            throw new IllegalArgumentException("Usage: PayloadDecoderGenerator <schema> <output-dir> <package>");
+        }
+
+        Map<Integer, PayloadSchema> schemas;
+        try (Reader reader = Files.newBufferedReader(Path.of(args[0]), StandardCharsets.UTF_8)) {
+            schemas = PayloadSchemaParser.parse(reader);
+        }
+
+        Path output = Path.of(args[1]);
+        Path packageDir = output.resolve("java").resolve(args[2].replace('.', '/'));
+        Files.createDirectories(packageDir);
+        // 스키마에서 지운 구조의 이전 생성 파일 제거
+        try (Stream<Path> previous = Files.list(packageDir)) {
+            for (Path file : (Iterable<Path>) previous::iterator) {
+                if (file.toString().endsWith(".java")) {
+                    Files.delete(file);
+                }
+            }
+        }
+
+        for (Map.Entry<String, String> source : generate(schemas, args[2]).entrySet()) {
+            Path file = output.resolve(source.getKey().equals(SERVICE_FILE) ? "resources" : "java")
+                    .resolve(source.getKey());
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, source.getValue(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * @return 상대 경로 -> 내용 (opcode 순서의 디코더 소스와 서비스 등록 파일)
+     */
+    static Map<String, String> generate(Map<Integer, PayloadSchema> schemas, String packageName) {
+        Map<String, String> sources = new LinkedHashMap<>();
+        Set<String> classNames = new HashSet<>();
+        StringBuilder services = new StringBuilder();
+
+        for (PayloadSchema schema : new TreeMap<>(schemas).values()) {
+            String className = className(schema);
+            if (!classNames.add(className)) {
+                throw new IllegalArgumentException("Duplicate generated class " + className);
+            }
+            sources.put(packageName.replace('.', '/') + "/" + className + ".java",
+                    new ClassWriter(schema, packageName, className).write());
+            services.append(packageName).append('.').append(className).append('\n');
+        }
+        sources.put(SERVICE_FILE, services.toString());
+        return sources;
+    }
+
+    private static String className(PayloadSchema schema) {
+        String name = schema.getName();
+        return (name.startsWith("0x") ? String.format("Opcode%02X", schema.getOpcode()) : identifier(name, true))
+                + "Payload";
+    }
+
+    /**
+     * snake_case 또는 대문자 이름을 Java 식별자로 변환 (예: cycle_length -> cycleLength)
+     */
+    private static String identifier(String name, boolean capitalize) {
+        StringBuilder out = new StringBuilder();
+        for (String part : name.split("_")) {
+            if (part.isEmpty()) {
+                continue;
+            }
+            String word = part.equals(part.toUpperCase()) ? part.toLowerCase() : part;
+            out.append(out.isEmpty() && !capitalize ? word.charAt(0) : Character.toUpperCase(word.charAt(0)))
+                    .append(word, 1, word.length());
+        }
+        String identifier = out.isEmpty() ? "_" : out.toString();
+        return SourceVersion.isName(identifier) ? identifier : identifier + "_";
+    }
+
+    private static final class ClassWriter {
+        private final PayloadSchema schema;
+        private final String packageName;
+        private final String className;
+        private final String[] fieldNames;
+        private final String[][] groupFieldNames;
+        private final String[] groupCountNames;
+        private final StringBuilder out = new StringBuilder();
+
+        ClassWriter(PayloadSchema schema, String packageName, String className) {
+            this.schema = schema;
+            this.packageName = packageName;
+            this.className = className;
+
+            Set<String> used = new HashSet<>(Set.of("OPCODE", "LAYOUT", "frame", "out", "length", "base", "e", "p"));
+            this.fieldNames = new String[schema.getFieldCount()];
+            for (int i = 0; i < fieldNames.length; i++) {
+                fieldNames[i] = unique(used, identifier(schema.getFieldName(i), false));
+            }
+            this.groupFieldNames = new String[schema.getGroupCount()][];
+            this.groupCountNames = new String[schema.getGroupCount()];
+            for (int g = 0; g < groupFieldNames.length; g++) {
+                String group = identifier(schema.getGroupName(g), false);
+                groupCountNames[g] = unique(used, group + "Count");
+                groupFieldNames[g] = new String[schema.getGroupFieldCount(g)];
+                for (int f = 0; f < groupFieldNames[g].length; f++) {
+                    groupFieldNames[g][f] = unique(used, group + identifier(schema.getGroupFieldName(g, f), true));
+                }
+            }
+        }
+
+        private static String unique(Set<String> used, String name) {
+            if (!used.add(name)) {
+                throw new IllegalArgumentException("Duplicate generated field " + name);
+            }
+            return name;
+        }
+
+        String write() {
+            line(0, "package " + packageName + ";");
+            line(0, "");
+            line(0, "import com.bspark.comms.core.protocol.message.FrameView;");
+            line(0, "import com.bspark.comms.core.protocol.schema.GeneratedPayload;");
+            line(0, "import com.bspark.comms.core.protocol.schema.PayloadSchema;");
+            line(0, "");
+            line(0, "/**");
+            line(0, " * " + String.format("0x%02X", schema.getOpcode()) + " " + schema.getName() + " 응답 디코더");
+            line(0, " * 데이터 구조 스키마에서 빌드 시 생성 - 직접 수정하지 말고 스키마를 수정합니다.");
+            line(0, " */");
+            line(0, "public final class " + className + " implements GeneratedPayload {");
+            line(0, "");
+            line(1, "public static final int OPCODE = " + String.format("0x%02X", schema.getOpcode()) + ";");
+            line(1, "public static final String LAYOUT = \"" + schema.layout() + "\";");
+            line(0, "");
+            for (int i = 0; i < fieldNames.length; i++) {
+                line(1, "public " + javaType(schema.field(i)) + " " + fieldNames[i] + ";");
+            }
+            for (int g = 0; g < groupFieldNames.length; g++) {
+                PayloadSchema.Group group = schema.group(g);
+                line(0, "");
+                line(1, "// " + group.name + " (최대 " + group.max + "회)");
+                line(1, "public int " + groupCountNames[g] + ";");
+                for (int f = 0; f < groupFieldNames[g].length; f++) {
+                    String type = javaType(group.fields[f]);
+                    line(1, "public final " + type + "[] " + groupFieldNames[g][f] + " = new " + type + "["
+                            + group.max + "];");
+                }
+            }
+            line(0, "");
+
+            line(1, "@Override");
+            line(1, "public int opcode() {");
+            line(2, "return OPCODE;");
+            line(1, "}");
+            line(0, "");
+            line(1, "@Override");
+            line(1, "public String layout() {");
+            line(2, "return LAYOUT;");
+            line(1, "}");
+            line(0, "");
+            line(1, "@Override");
+            line(1, "public " + className + " newInstance() {");
+            line(2, "return new " + className + "();");
+            line(1, "}");
+            line(0, "");
+            writeDecode();
+            line(0, "");
+            writeAppendJson();
+            line(0, "}");
+            return out.toString();
+        }
+
+        private void writeDecode() {
+            line(1, "@Override");
+            line(1, "public int decode(FrameView frame) {");
+            line(2, "int length = frame.payloadLength();");
+            line(2, "if (length < " + schema.fixedLength() + ") {");
+            line(3, "return PayloadSchema.TRUNCATED;");
+            line(2, "}");
+            line(2, "int base = frame.payloadOffset();");
+            for (int i = 0; i < fieldNames.length; i++) {
+                line(2, fieldNames[i] + " = " + read(schema.field(i), "base") + ";");
+            }
+
+            for (int g = 0; g < groupFieldNames.length; g++) {
+                PayloadSchema.Group group = schema.group(g);
+                String count = groupCountNames[g];
+                line(0, "");
+                String countValue = String.valueOf(group.fixedCount);
+                if (group.countField >= 0) {
+                    boolean wide = javaType(schema.field(group.countField)).equals("long");
+                    countValue = (wide ? "(int) " : "") + fieldNames[group.countField];
+                }
+                line(2, "int " + count + " = " + countValue + ";");
+                line(2, "if (" + count + " < 0 || " + count + " > " + group.max + ") {");
+                line(3, "return PayloadSchema.GROUP_OVERFLOW;");
+                line(2, "}");
+                line(2, "if (" + group.offset + " + (long) " + count + " * " + group.stride + " > length) {");
+                line(3, "return PayloadSchema.TRUNCATED;");
+                line(2, "}");
+                line(2, "for (int e = 0, p = base + " + group.offset + "; e < " + count + "; e++, p += "
+                        + group.stride + ") {");
+                for (int f = 0; f < groupFieldNames[g].length; f++) {
+                    line(3, groupFieldNames[g][f] + "[e] = " + read(group.fields[f], "p") + ";");
+                }
+                line(2, "}");
+                line(2, "this." + count + " = " + count + ";");
+            }
+            line(2, "return PayloadSchema.OK;");
+            line(1, "}");
+        }
+
+        private void writeAppendJson() {
+            line(1, "@Override");
+            line(1, "public StringBuilder appendJson(StringBuilder out) {");
+            String separator = "{";
+            for (int i = 0; i < fieldNames.length; i++) {
+                line(2, "out.append(\"" + separator + "\\\"" + schema.getFieldName(i) + "\\\":\").append("
+                        + fieldNames[i] + ");");
+                separator = ",";
+            }
+            for (int g = 0; g < groupFieldNames.length; g++) {
+                line(2, "out.append(\"" + separator + "\\\"" + schema.getGroupName(g) + "\\\":[\");");
+                separator = ",";
+                line(2, "for (int e = 0; e < " + groupCountNames[g] + "; e++) {");
+                line(3, "out.append(e > 0 ? \",{\" : \"{\");");
+                for (int f = 0; f < groupFieldNames[g].length; f++) {
+                    line(3, "out.append(\"" + (f > 0 ? "," : "") + "\\\"" + schema.getGroupFieldName(g, f)
+                            + "\\\":\").append(" + groupFieldNames[g][f] + "[e]);");
+                }
+                line(3, "out.append('}');");
+                line(2, "}");
+                line(2, "out.append(']');");
+            }
+            if (separator.equals("{")) {
+                line(2, "out.append('{');");
+            }
+            line(2, "return out.append('}');");
+            line(1, "}");
+        }
+
+        /**
+         * 부호 없는 32비트 값만 long, 나머지는 int
+         */
+        private static String javaType(PayloadSchema.Field field) {
+            int bits = field.bitWidth > 0 ? field.bitWidth : field.width * 8;
+            return bits == 32 && !field.signed ? "long" : "int";
+        }
+
+        private static String read(PayloadSchema.Field field, String base) {
+            int bits = field.bitWidth > 0 ? field.bitWidth : field.width * 8;
+            String expression = "frame.getUnsigned(" + base + (field.offset > 0 ? " + " + field.offset : "") + ", "
+                    + field.width + ")";
+            if (field.bitOffset > 0) {
+                expression = "(" + expression + " >>> " + field.bitOffset + ")";
+            }
+            if (bits < field.width * 8) {
+                expression = "(" + expression + " & 0x" + Long.toHexString((1L << bits) - 1).toUpperCase() + "L)";
+            }
+            if (field.signed) {
+                expression = "(" + expression + " << " + (64 - bits) + " >> " + (64 - bits) + ")";
+            }
+            return javaType(field).equals("long") ? expression : "(int) " + expression;
+        }
+
+        private void line(int indent, String text) {
+            if (!text.isEmpty()) {
+                out.append("    ".repeat(indent)).append(text);
+            }
+            out.append('\n');
+        }
+    }
+}
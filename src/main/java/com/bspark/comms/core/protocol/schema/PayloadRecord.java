@@ -0,0 +1,101 @@
+package com.bspark.comms.core.protocol.schema;
+
+/**
+ * 디코딩한 데이터를 담는 재사용 레코드
+ * 필드 값은 long 배열에, 그룹 값은 그룹별 [반복 × 필드] 배열에 담으며 그룹 배열은 최대 반복 수만큼 미리 할당합니다.
+ * 필드 번호는 {@link PayloadSchema#fieldIndex} 등으로 한 번 조회해 보관해 사용합니다. 스레드 안전하지 않습니다.
+ */
+public final class PayloadRecord {
+
+    final PayloadSchema schema;
+    final long[] values;
+    final long[][] groupValues;
+    final int[] groupCounts;
+
+    PayloadRecord(PayloadSchema schema) {
+        this.schema = schema;
+        this.values = new long[schema.getFieldCount()];
+        this.groupValues = new long[schema.getGroupCount()][];
+        this.groupCounts = new int[schema.getGroupCount()];
+        for (int g = 0; g < groupValues.length; g++) {
+            groupValues[g] = new long[schema.getGroupMax(g) * schema.getGroupFieldCount(g)];
+        }
+    }
+
+    public PayloadSchema getSchema() {
+        return schema;
+    }
+
+    public long get(int field) {
+        return values[field];
+    }
+
+    public void set(int field, long value) {
+        values[field] = value;
+    }
+
+    public int getGroupCount(int group) {
+        return groupCounts[group];
+    }
+
+    /**
+     * 인코딩할 그룹 반복 수 지정
+     *
+     * @throws IllegalArgumentException 최대 반복 수를 넘는 경우
+     */
+    public void setGroupCount(int group, int count) {
+        if (count < 0 || count > schema.getGroupMax(group)) {
+            throw new IllegalArgumentException("Invalid count " + count + " for group " + schema.getGroupName(group));
+        }
+        groupCounts[group] = count;
+    }
+
+    public long get(int group, int element, int field) {
+        return groupValues[group][slot(group, element, field)];
+    }
+
+    public void set(int group, int element, int field, long value) {
+        groupValues[group][slot(group, element, field)] = value;
+    }
+
+    private int slot(int group, int element, int field) {
+        if (element < 0 || element >= groupCounts[group]) {
+            throw new IndexOutOfBoundsException("Element " + element + " out of " + groupCounts[group]);
+        }
+        return element * schema.getGroupFieldCount(group) + field;
+    }
+
+    /**
+     * 필드 값을 JSON 객체로 out에 추가 (그룹은 반복별 객체의 배열, 외부 전송용)
+     * 맵을 거치지 않고 레코드에서 바로 기록하며, 필드 이름은 파서가 검증한 식별자이므로 이스케이프하지 않습니다.
+     */
+    public StringBuilder appendJson(StringBuilder out) {
+        out.append('{');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            out.append('"').append(schema.getFieldName(i)).append("\":").append(values[i]);
+        }
+        for (int g = 0; g < groupCounts.length; g++) {
+            if (values.length > 0 || g > 0) {
+                out.append(',');
+            }
+            out.append('"').append(schema.getGroupName(g)).append("\":[");
+            int fieldCount = schema.getGroupFieldCount(g);
+            for (int e = 0; e < groupCounts[g]; e++) {
+                out.append(e > 0 ? ",{" : "{");
+                for (int f = 0; f < fieldCount; f++) {
+                    if (f > 0) {
+                        out.append(',');
+                    }
+                    out.append('"').append(schema.getGroupFieldName(g, f)).append("\":")
+                            .append(groupValues[g][e * fieldCount + f]);
+                }
+                out.append('}');
+            }
+            out.append(']');
+        }
+        return out.append('}');
+    }
+}
@@ -0,0 +1,394 @@
+package com.bspark.comms.core.protocol.schema;
+
+import com.bspark.comms.core.protocol.message.FrameView;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * opcode 하나의 데이터 구조 (스키마를 컴파일한 결과)
+ * 필드 위치, 크기, 비트 필드, 반복 그룹을 배열로 펼쳐 두고 {@link PayloadRecord}에 바로 읽고 씁니다.
+ * 디코딩은 필요한 길이를 그룹 단위로 한 번 확인한 뒤 바이트를 그 자리에서 읽으며 할당하지 않습니다.
+ * 모든 다중 바이트 필드는 빅엔디안이고 위치는 데이터 시작(헤더 이후) 기준입니다.
+ */
+public final class PayloadSchema {
+
+    // 디코딩 결과 코드
+    public static final int OK = 0;
+    public static final int TRUNCATED = 1;
+    public static final int GROUP_OVERFLOW = 2;
+
+    private final int opcode;
+    private final String name;
+    private final Field[] fields;
+    private final Group[] groups;
+    // 단일 필드가 차지하는 최소 데이터 길이
+    private final int fixedLength;
+
+    private PayloadSchema(int opcode, String name, List<Field> fields, List<Group> groups) {
+        this.opcode = opcode;
+        this.name = name;
+        this.fields = fields.toArray(new Field[0]);
+        this.groups = groups.toArray(new Group[0]);
+        int end = 0;
+        for (Field field : this.fields) {
+            end = Math.max(end, field.offset + field.width);
+        }
+        this.fixedLength = end;
+    }
+
+    public int getOpcode() {
+        return opcode;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getFieldCount() {
+        return fields.length;
+    }
+
+    public String getFieldName(int field) {
+        return fields[field].name;
+    }
+
+    public int getGroupCount() {
+        return groups.length;
+    }
+
+    public String getGroupName(int group) {
+        return groups[group].name;
+    }
+
+    public int getGroupFieldCount(int group) {
+        return groups[group].fields.length;
+    }
+
+    public String getGroupFieldName(int group, int field) {
+        return groups[group].fields[field].name;
+    }
+
+    public int getGroupMax(int group) {
+        return groups[group].max;
+    }
+
+    Field field(int field) {
+        return fields[field];
+    }
+
+    Group group(int group) {
+        return groups[group];
+    }
+
+    int fixedLength() {
+        return fixedLength;
+    }
+
+    /**
+     * 이름을 포함한 구조 전체를 나타내는 문자열
+     * 빌드 시 생성한 디코더가 실행 시 설정한 스키마와 같은 구조인지 비교하는 데 사용합니다.
+     */
+    public String layout() {
+        StringBuilder out = new StringBuilder().append(String.format("0x%02X", opcode));
+        for (Field field : fields) {
+            field.appendLayout(out.append(' '));
+        }
+        for (Group group : groups) {
+            out.append(" group ").append(group.name).append(' ')
+                    .append(group.countField >= 0 ? fields[group.countField].name : String.valueOf(group.fixedCount))
+                    .append(' ').append(group.offset).append(' ').append(group.stride).append(' ').append(group.max)
+                    .append(" [");
+            for (Field field : group.fields) {
+                field.appendLayout(out.append(' '));
+            }
+            out.append(" ]");
+        }
+        return out.toString();
+    }
+
+    /**
+     * @return 필드 번호 (없으면 -1), 조회는 초기화 시 한 번만 하고 번호를 보관해 사용
+     */
+    public int fieldIndex(String fieldName) {
+        return indexOf(fields, fieldName);
+    }
+
+    public int groupIndex(String groupName) {
+        for (int i = 0; i < groups.length; i++) {
+            if (groups[i].name.equals(groupName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public int groupFieldIndex(int group, String fieldName) {
+        return indexOf(groups[group].fields, fieldName);
+    }
+
+    private static int indexOf(Field[] fields, String fieldName) {
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i].name.equals(fieldName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 이 구조의 재사용 레코드 생성 (그룹은 최대 반복 수만큼 미리 할당)
+     */
+    public PayloadRecord newRecord() {
+        return new PayloadRecord(this);
+    }
+
+    /**
+     * 프레임 데이터를 레코드로 디코딩
+     *
+     * @return {@link #OK}, {@link #TRUNCATED}, {@link #GROUP_OVERFLOW} (실패 시 레코드 내용은 일부만 갱신됨)
+     */
+    public int decode(FrameView frame, PayloadRecord record) {
+        if (record.schema != this) {
+            throw new IllegalArgumentException("Record of another schema: " + record.schema.name);
+        }
+
+        int payloadLength = frame.payloadLength();
+        if (payloadLength < fixedLength) {
+            return TRUNCATED;
+        }
+        int base = frame.payloadOffset();
+        for (int i = 0; i < fields.length; i++) {
+            record.values[i] = fields[i].read(frame, base);
+        }
+
+        for (int g = 0; g < groups.length; g++) {
+            Group group = groups[g];
+            int count = group.countField >= 0 ? (int) record.values[group.countField] : group.fixedCount;
+            if (count < 0 || count > group.max) {
+                return GROUP_OVERFLOW;
+            }
+            if (group.offset + (long) count * group.stride > payloadLength) {
+                return TRUNCATED;
+            }
+
+            long[] values = record.groupValues[g];
+            Field[] groupFields = group.fields;
+            int index = 0;
+            for (int e = 0; e < count; e++) {
+                int elementBase = base + group.offset + e * group.stride;
+                for (Field field : groupFields) {
+                    values[index++] = field.read(frame, elementBase);
+                }
+            }
+            record.groupCounts[g] = count;
+        }
+        return OK;
+    }
+
+    /**
+     * 레코드를 인코딩했을 때의 데이터 길이
+     */
+    public int encodedLength(PayloadRecord record) {
+        int end = fixedLength;
+        for (int g = 0; g < groups.length; g++) {
+            Group group = groups[g];
+            end = Math.max(end, group.offset + record.groupCounts[g] * group.stride);
+        }
+        return end;
+    }
+
+    /**
+     * 레코드를 dst의 절대 위치 index부터 인코딩 (position, limit은 바꾸지 않음)
+     * 기록 범위를 먼저 0으로 채운 뒤 필드를 기록하므로 같은 바이트를 나눠 쓰는 비트 필드도 함께 기록됩니다.
+     * 그룹 반복 수 필드는 레코드의 반복 수로 기록합니다.
+     *
+     * @return 기록한 바이트 수
+     * @throws IndexOutOfBoundsException dst에 공간이 부족한 경우
+     */
+    public int encode(PayloadRecord record, ByteBuffer dst, int index) {
+        if (record.schema != this) {
+            throw new IllegalArgumentException("Record of another schema: " + record.schema.name);
+        }
+
+        int length = encodedLength(record);
+        if (index < 0 || index + length > dst.limit()) {
+            throw new IndexOutOfBoundsException("Payload of " + length + " bytes does not fit at " + index);
+        }
+        for (int i = 0; i < length; i++) {
+            dst.put(index + i, (byte) 0);
+        }
+
+        for (int g = 0; g < groups.length; g++) {
+            if (groups[g].countField >= 0) {
+                record.values[groups[g].countField] = record.groupCounts[g];
+            }
+        }
+        for (int i = 0; i < fields.length; i++) {
+            fields[i].write(dst, index, record.values[i]);
+        }
+
+        for (int g = 0; g < groups.length; g++) {
+            Group group = groups[g];
+            long[] values = record.groupValues[g];
+            int valueIndex = 0;
+            for (int e = 0; e < record.groupCounts[g]; e++) {
+                int elementBase = index + group.offset + e * group.stride;
+                for (Field field : group.fields) {
+                    field.write(dst, elementBase, values[valueIndex++]);
+                }
+            }
+        }
+        return length;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PayloadSchema{opcode=0x%02X, name=%s, fields=%d, groups=%d}",
+                opcode, name, fields.length, groups.length);
+    }
+
+    /**
+     * 정수 필드 (1~4바이트, 비트 필드는 필드 값의 하위 비트부터 센 위치와 폭)
+     */
+    static final class Field {
+        final String name;
+        final int offset;
+        final int width;
+        final boolean signed;
+        final int bitOffset;
+        // 비트 필드가 아니면 0
+        final int bitWidth;
+        // 디코딩 시 분기 없이 쓰도록 미리 계산한 값 마스크와 부호 확장 이동 수 (부호 없으면 0)
+        private final long valueMask;
+        private final int signShift;
+
+        Field(String name, int offset, int width, boolean signed, int bitOffset, int bitWidth) {
+            this.name = name;
+            this.offset = offset;
+            this.width = width;
+            this.signed = signed;
+            this.bitOffset = bitOffset;
+            this.bitWidth = bitWidth;
+            int bits = bitWidth > 0 ? bitWidth : width * 8;
+            this.valueMask = mask(bits);
+            this.signShift = signed ? 64 - bits : 0;
+        }
+
+        long read(FrameView frame, int base) {
+            long value = (frame.getUnsigned(base + offset, width) >>> bitOffset) & valueMask;
+            return value << signShift >> signShift;
+        }
+
+        void appendLayout(StringBuilder out) {
+            out.append(name).append(':').append(offset).append(':').append(signed ? 's' : 'u').append(width * 8);
+            if (bitWidth > 0) {
+                out.append(':').append(bitOffset).append(':').append(bitWidth);
+            }
+        }
+
+        void write(ByteBuffer dst, int base, long value) {
+            int position = base + offset;
+            long raw;
+            if (bitWidth > 0) {
+                raw = 0;
+                for (int i = 0; i < width; i++) {
+                    raw = raw << 8 | (dst.get(position + i) & 0xFF);
+                }
+                long fieldMask = mask(bitWidth) << bitOffset;
+                raw = (raw & ~fieldMask) | ((value << bitOffset) & fieldMask);
+            } else {
+                raw = value;
+            }
+            for (int i = width - 1; i >= 0; i--) {
+                dst.put(position + i, (byte) raw);
+                raw >>>= 8;
+            }
+        }
+
+        private static long mask(int bits) {
+            return bits == 64 ? -1L : (1L << bits) - 1;
+        }
+    }
+
+    /**
+     * 반복 그룹 (반복 수는 앞에 선언한 필드 값 또는 고정 값)
+     */
+    static final class Group {
+        final String name;
+        // 반복 수 필드 번호 (고정 반복이면 -1)
+        final int countField;
+        final int fixedCount;
+        final int offset;
+        final int stride;
+        final int max;
+        final Field[] fields;
+
+        Group(String name, int countField, int fixedCount, int offset, int stride, int max, List<Field> fields) {
+            this.name = name;
+            this.countField = countField;
+            this.fixedCount = fixedCount;
+            this.offset = offset;
+            this.stride = stride;
+            this.max = max;
+            this.fields = fields.toArray(new Field[0]);
+        }
+    }
+
+    /**
+     * 스키마 조립 (파서에서 사용, 이름 중복과 범위를 검증)
+     */
+    static final class Builder {
+        private final int opcode;
+        private final String name;
+        private final List<Field> fields = new ArrayList<>();
+        private final List<Group> groups = new ArrayList<>();
+
+        Builder(int opcode, String name) {
+            if (opcode < 0 || opcode > 0xFF) {
+                throw new IllegalArgumentException("Invalid opcode: " + opcode);
+            }
+            this.opcode = opcode;
+            this.name = name;
+        }
+
+        int opcode() {
+            return opcode;
+        }
+
+        int fieldIndex(String fieldName) {
+            return indexOf(fields.toArray(new Field[0]), fieldName);
+        }
+
+        void addField(Field field) {
+            if (fieldIndex(field.name) >= 0 || groups.stream().anyMatch(g -> g.name.equals(field.name))) {
+                throw new IllegalArgumentException("Duplicate field: " + field.name);
+            }
+            fields.add(field);
+        }
+
+        void addGroup(Group group) {
+            if (fieldIndex(group.name) >= 0 || groups.stream().anyMatch(g -> g.name.equals(group.name))) {
+                throw new IllegalArgumentException("Duplicate group: " + group.name);
+            }
+            if (group.countField >= 0 && fields.get(group.countField).signed) {
+                throw new IllegalArgumentException("Count field of group " + group.name + " must be unsigned");
+            }
+            for (Field field : group.fields) {
+                if (field.offset + field.width > group.stride) {
+                    throw new IllegalArgumentException("Field " + field.name + " exceeds stride of group " + group.name);
+                }
+            }
+            if (Arrays.stream(group.fields).map(f -> f.name).distinct().count() != group.fields.length) {
+                throw new IllegalArgumentException("Duplicate field in group " + group.name);
+            }
+            groups.add(group);
+        }
+
+        PayloadSchema build() {
+            return new PayloadSchema(opcode, name, fields, groups);
+        }
+    }
+}
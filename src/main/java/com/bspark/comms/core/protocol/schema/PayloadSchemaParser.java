@@ -0,0 +1,211 @@
+package com.bspark.comms.core.protocol.schema;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 데이터 구조 스키마 파서
+ * 한 줄에 항목 하나이며 {@code #} 이후는 주석입니다. 위치는 바이트 단위이고 정수는 10진수 또는 0x 16진수입니다.
+ * <pre>
+ * message &lt;opcode&gt; [이름]
+ *     &lt;필드&gt; &lt;위치&gt; &lt;형식&gt; [bits &lt;시작 비트&gt; &lt;비트 수&gt;]
+ *     group &lt;그룹&gt; count &lt;반복 수 필드|고정 수&gt; offset &lt;위치&gt; stride &lt;반복 크기&gt; [max &lt;최대 반복&gt;]
+ *         &lt;필드&gt; &lt;반복 내 위치&gt; &lt;형식&gt; [bits &lt;시작 비트&gt; &lt;비트 수&gt;]
+ *     end
+ * end
+ * </pre>
+ * 형식은 u8, u16, u24, u32, s8, s16, s24, s32 (빅엔디안)이며, 비트 필드의 시작 비트는 필드 값의 최하위 비트부터 셉니다.
+ * 반복 수 필드는 그룹보다 앞에 선언한 부호 없는 필드여야 하고, 고정 반복이면 max를 생략할 수 있습니다.
+ * 이름은 JSON 키와 생성 코드에 그대로 쓰이므로 영문자, 숫자, _만 허용합니다.
+ */
+public final class PayloadSchemaParser {
+
+    private static final Pattern NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+    private PayloadSchemaParser() {
+    }
+
+    /**
+     * @return opcode -> 스키마
+     * @throws IllegalArgumentException 형식이 잘못되었거나 opcode가 중복된 경우 (줄 번호 포함)
+     */
+    public static Map<Integer, PayloadSchema> parse(Reader source) throws IOException {
+        Map<Integer, PayloadSchema> schemas = new HashMap<>();
+        BufferedReader reader = new BufferedReader(source);
+
+        PayloadSchema.Builder message = null;
+        GroupBuilder group = null;
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            int comment = line.indexOf('#');
+            String[] tokens = (comment >= 0 ? line.substring(0, comment) : line).trim().split("\\s+");
+            if (tokens[0].isEmpty()) {
+                continue;
+            }
+
+            try {
+                if (message == null) {
+                    if (!"message".equals(tokens[0]) || tokens.length < 2 || tokens.length > 3) {
+                        throw new IllegalArgumentException("Expected 'message <opcode> [name]'");
+                    }
+                    int opcode = parseInt(tokens[1]);
+                    message = new PayloadSchema.Builder(opcode,
+                            tokens.length == 3 ? checkName(tokens[2]) : String.format("0x%02X", opcode));
+                } else if ("end".equals(tokens[0])) {
+                    if (group != null) {
+                        message.addGroup(group.build());
+                        group = null;
+                    } else {
+                        if (schemas.putIfAbsent(message.opcode(), message.build()) != null) {
+                            throw new IllegalArgumentException(String.format("Duplicate message 0x%02X", message.opcode()));
+                        }
+                        message = null;
+                    }
+                } else if ("group".equals(tokens[0])) {
+                    if (group != null) {
+                        throw new IllegalArgumentException("Nested groups are not supported");
+                    }
+                    group = GroupBuilder.parse(tokens, message);
+                } else if (group != null) {
+                    group.fields.add(parseField(tokens));
+                } else {
+                    message.addField(parseField(tokens));
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid payload schema line " + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+
+        if (message != null) {
+            throw new IllegalArgumentException("Invalid payload schema: missing 'end' at end of input");
+        }
+        return schemas;
+    }
+
+    private static PayloadSchema.Field parseField(String[] tokens) {
+        if (tokens.length != 3 && !(tokens.length == 6 && "bits".equals(tokens[3]))) {
+            throw new IllegalArgumentException("Expected '<name> <offset> <type> [bits <from> <width>]'");
+        }
+
+        String type = tokens[2];
+        boolean signed = type.startsWith("s");
+        if (!(signed || type.startsWith("u"))) {
+            throw new IllegalArgumentException("Unknown type: " + type);
+        }
+        int bits = parseInt(type.substring(1));
+        if (bits != 8 && bits != 16 && bits != 24 && bits != 32) {
+            throw new IllegalArgumentException("Unknown type: " + type);
+        }
+
+        int offset = parseInt(tokens[1]);
+        if (offset < 0) {
+            throw new IllegalArgumentException("Negative offset: " + offset);
+        }
+
+        int bitOffset = 0;
+        int bitWidth = 0;
+        if (tokens.length == 6) {
+            bitOffset = parseInt(tokens[4]);
+            bitWidth = parseInt(tokens[5]);
+            if (bitOffset < 0 || bitWidth < 1 || bitOffset + bitWidth > bits) {
+                throw new IllegalArgumentException("Bit range outside of " + type);
+            }
+        }
+        return new PayloadSchema.Field(checkName(tokens[0]), offset, bits / 8, signed, bitOffset, bitWidth);
+    }
+
+    private static String checkName(String name) {
+        if (!NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid name: " + name);
+        }
+        return name;
+    }
+
+    private static int parseInt(String token) {
+        try {
+            return token.startsWith("0x") || token.startsWith("0X")
+                    ? Integer.parseInt(token.substring(2), 16) : Integer.parseInt(token);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number: " + token);
+        }
+    }
+
+    private static final class GroupBuilder {
+        private final String name;
+        private final int countField;
+        private final int fixedCount;
+        private final int offset;
+        private final int stride;
+        private final int max;
+        private final List<PayloadSchema.Field> fields = new ArrayList<>();
+
+        private GroupBuilder(String name, int countField, int fixedCount, int offset, int stride, int max) {
+            this.name = name;
+            this.countField = countField;
+            this.fixedCount = fixedCount;
+            this.offset = offset;
+            this.stride = stride;
+            this.max = max;
+        }
+
+        static GroupBuilder parse(String[] tokens, PayloadSchema.Builder message) {
+            if (tokens.length < 2 || tokens.length % 2 != 0) {
+                throw new IllegalArgumentException(
+                        "Expected 'group <name> count <field|n> offset <offset> stride <size> [max <n>]'");
+            }
+
+            Map<String, String> options = new HashMap<>();
+            for (int i = 2; i < tokens.length; i += 2) {
+                if (options.put(tokens[i], tokens[i + 1]) != null) {
+                    throw new IllegalArgumentException("Duplicate group option: " + tokens[i]);
+                }
+            }
+            for (String key : List.of("count", "offset", "stride")) {
+                if (!options.containsKey(key)) {
+                    throw new IllegalArgumentException("Missing group option: " + key);
+                }
+            }
+            if (!List.of("count", "offset", "stride", "max").containsAll(options.keySet())) {
+                throw new IllegalArgumentException("Unknown group option in: " + options.keySet());
+            }
+
+            String count = options.get("count");
+            int countField = -1;
+            int fixedCount = 0;
+            if (Character.isDigit(count.charAt(0))) {
+                fixedCount = parseInt(count);
+            } else {
+                countField = message.fieldIndex(count);
+                if (countField < 0) {
+                    throw new IllegalArgumentException("Count field must be declared before group: " + count);
+                }
+            }
+
+            int offset = parseInt(options.get("offset"));
+            int stride = parseInt(options.get("stride"));
+            int max = options.containsKey("max") ? parseInt(options.get("max")) : fixedCount;
+            if (offset < 0 || stride < 1 || max < 1 || (countField < 0 && fixedCount > max)) {
+                throw new IllegalArgumentException("Invalid group layout: " + tokens[1]);
+            }
+            if (countField >= 0 && !options.containsKey("max")) {
+                throw new IllegalArgumentException("Group with count field needs max: " + tokens[1]);
+            }
+            return new GroupBuilder(checkName(tokens[1]), countField, fixedCount, offset, stride, max);
+        }
+
+        PayloadSchema.Group build() {
+            if (fields.isEmpty()) {
+                throw new IllegalArgumentException("Empty group: " + name);
+            }
+            return new PayloadSchema.Group(name, countField, fixedCount, offset, stride, max, fields);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.bspark.comms.core.protocol.schema;
+
+import com.bspark.comms.config.CommsProperties;
+import com.bspark.comms.core.protocol.message.FrameView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * opcode별 데이터 구조 스키마 등록부
+ * 시작 시 스키마 파일({@code comms.protocol.payload-schema})을 컴파일해 opcode 값을 인덱스로 하는 배열에 둡니다.
+ * 스키마가 있는 응답은 게이트웨이에서 한 번 디코딩해 외부 전송 데이터에 필드 값으로 함께 실어,
+ * 받는 쪽마다 16진수 문자열을 다시 해석하지 않도록 합니다. 스키마가 없는 opcode는 기존처럼 16진수로만 전송합니다.
+ * 빌드 시 생성한 디코더({@link GeneratedPayload})가 있고 구조가 설정한 스키마와 같으면 생성 디코더를 사용합니다.
+ */
+@Component
+public class PayloadSchemaRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(PayloadSchemaRegistry.class);
+
+    private final PayloadSchema[] schemas = new PayloadSchema[256];
+    // 구조가 같은 생성 디코더 (opcode별, 없으면 null), 스레드별 인스턴스의 원본으로만 사용
+    private final GeneratedPayload[] generated = new GeneratedPayload[256];
+    // 스레드별 재사용 레코드, 생성 디코더, JSON 버퍼 (opcode별)
+    private final ThreadLocal<PayloadRecord[]> records = ThreadLocal.withInitial(() -> new PayloadRecord[256]);
+    private final ThreadLocal<GeneratedPayload[]> decoders = ThreadLocal.withInitial(() -> new GeneratedPayload[256]);
+    private final ThreadLocal<StringBuilder> jsonBuffers = ThreadLocal.withInitial(() -> new StringBuilder(256));
+    private final Counter truncated;
+    private final Counter groupOverflows;
+
+    public PayloadSchemaRegistry(CommsProperties commsProperties, ResourceLoader resourceLoader,
+                                 MeterRegistry meterRegistry) {
+        this.truncated = decodeFailureCounter(meterRegistry, "truncated");
+        this.groupOverflows = decodeFailureCounter(meterRegistry, "group-overflow");
+
+        String location = commsProperties.getProtocol().getPayloadSchema();
+        if (location == null || location.isBlank()) {
+            logger.info("데이터 구조 스키마 미사용");
+            return;
+        }
+
+        Resource resource = resourceLoader.getResource(location);
+        if (!resource.exists()) {
+            logger.info("데이터 구조 스키마 파일 없음 - 16진수로만 전송: {}", location);
+            return;
+        }
+
+        try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+            for (Map.Entry<Integer, PayloadSchema> entry : PayloadSchemaParser.parse(reader).entrySet()) {
+                schemas[entry.getKey()] = entry.getValue();
+                logger.info("데이터 구조 스키마 등록: {}", entry.getValue());
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalStateException("Failed to load payload schema " + location + ": " + e.getMessage(), e);
+        }
+
+        for (GeneratedPayload decoder : ServiceLoader.load(GeneratedPayload.class)) {
+            PayloadSchema schema = schemas[decoder.opcode() & 0xFF];
+            if (schema != null && schema.layout().equals(decoder.layout())) {
+                generated[decoder.opcode() & 0xFF] = decoder;
+                logger.info("생성 디코더 사용: {}", decoder.getClass().getSimpleName());
+            } else if (schema != null) {
+                logger.warn("생성 디코더 {}의 구조가 스키마 파일과 달라 스키마로 디코딩", decoder.getClass().getSimpleName());
+            }
+        }
+    }
+
+    private static Counter decodeFailureCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("comms.protocol.decode.failures")
+                .description("스키마와 맞지 않아 디코딩하지 못한 수신 프레임 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return opcode의 스키마 (없으면 null)
+     */
+    public PayloadSchema find(byte opcode) {
+        return schemas[opcode & 0xFF];
+    }
+
+    /**
+     * 호출 스레드의 재사용 레코드로 디코딩 (레코드는 같은 스레드의 다음 디코딩에서 덮어씀)
+     *
+     * @return 디코딩한 레코드 (스키마가 없거나 데이터가 스키마와 맞지 않으면 null)
+     */
+    public PayloadRecord decode(FrameView frame) {
+        int opcode = frame.opcode() & 0xFF;
+        PayloadSchema schema = schemas[opcode];
+        if (schema == null) {
+            return null;
+        }
+
+        PayloadRecord[] cached = records.get();
+        PayloadRecord record = cached[opcode];
+        if (record == null) {
+            record = schema.newRecord();
+            cached[opcode] = record;
+        }
+
+        int result = schema.decode(frame, record);
+        if (result == PayloadSchema.OK) {
+            return record;
+        }
+        decodeFailed(opcode, result);
+        return null;
+    }
+
+    private void decodeFailed(int opcode, int result) {
+        (result == PayloadSchema.TRUNCATED ? truncated : groupOverflows).increment();
+        logger.debug("데이터 구조 디코딩 실패: opcode=0x{}, 결과={}", String.format("%02X", opcode), result);
+    }
+
+    /**
+     * 디코딩한 필드 값 JSON (외부 전송용)
+     * 호출 스레드의 재사용 레코드나 생성 디코더에서 바로 기록하며, 결과 문자열 외에는 할당하지 않습니다.
+     *
+     * @return 스키마가 없거나 디코딩하지 못하면 null
+     */
+    public String decodeJson(FrameView frame) {
+        int opcode = frame.opcode() & 0xFF;
+        GeneratedPayload prototype = generated[opcode];
+        StringBuilder json = jsonBuffers.get();
+        json.setLength(0);
+
+        if (prototype != null) {
+            GeneratedPayload[] cached = decoders.get();
+            GeneratedPayload decoder = cached[opcode];
+            if (decoder == null) {
+                decoder = prototype.newInstance();
+                cached[opcode] = decoder;
+            }
+            int result = decoder.decode(frame);
+            if (result != PayloadSchema.OK) {
+                decodeFailed(opcode, result);
+                return null;
+            }
+            return decoder.appendJson(json).toString();
+        }
+
+        PayloadRecord record = decode(frame);
+        return record != null ? record.appendJson(json).toString() : null;
+    }
+}
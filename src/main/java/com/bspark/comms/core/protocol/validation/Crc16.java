@@ -0,0 +1,160 @@
+package com.bspark.comms.core.protocol.validation;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * 프레임 CRC-16 계산 (반사형 다항식 0x8408, 초기값 0xFFFF, 최종 XOR 없음)
+ * slice-by-8 표로 8바이트씩 처리하며 계산 중에 객체를 만들지 않습니다.
+ * 중간 CRC 값을 넘겨 이어서 계산할 수 있으므로 여러 번의 읽기에 나뉘어 도착한 프레임도 받은 부분부터 계산합니다.
+ * 프레임의 CRC는 길이 필드부터 데이터 끝까지 계산해 마지막 2바이트에 빅엔디안으로 기록합니다.
+ */
+public final class Crc16 {
+
+    public static final int INITIAL = 0xFFFF;
+
+    // 검증 결과 코드
+    public static final int OK = 0;
+    public static final int TOO_SHORT = 1;
+    public static final int MISMATCH = 2;
+
+    // 프레임 앞의 동기 바이트와 뒤의 CRC 크기 (CRC 계산 범위 밖)
+    public static final int SYNC_SIZE = 2;
+    public static final int CRC_SIZE = 2;
+
+    private static final int POLYNOMIAL = 0x8408;
+
+    // T0은 바이트 하나, Tk는 바이트 뒤에 0이 k바이트 더 붙은 경우의 CRC 변화
+    private static final int[] T0 = new int[256];
+    private static final int[] T1 = new int[256];
+    private static final int[] T2 = new int[256];
+    private static final int[] T3 = new int[256];
+    private static final int[] T4 = new int[256];
+    private static final int[] T5 = new int[256];
+    private static final int[] T6 = new int[256];
+    private static final int[] T7 = new int[256];
+
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            int crc = i;
+            for (int bit = 0; bit < 8; bit++) {
+                crc = (crc & 1) != 0 ? (crc >>> 1) ^ POLYNOMIAL : crc >>> 1;
+            }
+            T0[i] = crc;
+        }
+
+        int[][] tables = {T0, T1, T2, T3, T4, T5, T6, T7};
+        for (int k = 1; k < tables.length; k++) {
+            for (int i = 0; i < 256; i++) {
+                int previous = tables[k - 1][i];
+                tables[k][i] = (previous >>> 8) ^ T0[previous & 0xFF];
+            }
+        }
+    }
+
+    private Crc16() {
+    }
+
+    /**
+     * data[offset] ~ data[offset + length - 1]을 이어서 계산
+     *
+     * @param crc 이전까지의 CRC (처음이면 {@link #INITIAL})
+     */
+    public static int update(int crc, byte[] data, int offset, int length) {
+        int i = offset;
+        int end = offset + length;
+        for (; end - i >= 8; i += 8) {
+            long v = (long) LONG_LE.get(data, i);
+            int x = crc ^ (int) v;
+            crc = T7[x & 0xFF] ^ T6[(x >>> 8) & 0xFF]
+                    ^ T5[(int) (v >>> 16) & 0xFF] ^ T4[(int) (v >>> 24) & 0xFF]
+                    ^ T3[(int) (v >>> 32) & 0xFF] ^ T2[(int) (v >>> 40) & 0xFF]
+                    ^ T1[(int) (v >>> 48) & 0xFF] ^ T0[(int) (v >>> 56) & 0xFF];
+        }
+        for (; i < end; i++) {
+            crc = (crc >>> 8) ^ T0[(crc ^ data[i]) & 0xFF];
+        }
+        return crc;
+    }
+
+    /**
+     * 버퍼의 절대 위치 index부터 length 바이트를 이어서 계산 (position, limit은 바꾸지 않음)
+     * 힙 버퍼는 배열을 직접 읽고, direct/읽기 전용 버퍼는 8바이트 단위 절대 읽기로 처리합니다.
+     *
+     * @param crc 이전까지의 CRC (처음이면 {@link #INITIAL})
+     */
+    public static int update(int crc, ByteBuffer buffer, int index, int length) {
+        if (buffer.hasArray()) {
+            return update(crc, buffer.array(), buffer.arrayOffset() + index, length);
+        }
+
+        boolean bigEndian = buffer.order() == ByteOrder.BIG_ENDIAN;
+        int i = index;
+        int end = index + length;
+        for (; end - i >= 8; i += 8) {
+            long v = buffer.getLong(i);
+            if (bigEndian) {
+                v = Long.reverseBytes(v);
+            }
+            int x = crc ^ (int) v;
+            crc = T7[x & 0xFF] ^ T6[(x >>> 8) & 0xFF]
+                    ^ T5[(int) (v >>> 16) & 0xFF] ^ T4[(int) (v >>> 24) & 0xFF]
+                    ^ T3[(int) (v >>> 32) & 0xFF] ^ T2[(int) (v >>> 40) & 0xFF]
+                    ^ T1[(int) (v >>> 48) & 0xFF] ^ T0[(int) (v >>> 56) & 0xFF];
+        }
+        for (; i < end; i++) {
+            crc = (crc >>> 8) ^ T0[(crc ^ buffer.get(i)) & 0xFF];
+        }
+        return crc;
+    }
+
+    /**
+     * 프레임 CRC 계산 (동기 바이트와 CRC 자리를 제외한 범위)
+     *
+     * @param length CRC 자리를 포함한 프레임 전체 길이
+     */
+    public static int compute(byte[] frame, int offset, int length) {
+        return update(INITIAL, frame, offset + SYNC_SIZE, length - SYNC_SIZE - CRC_SIZE);
+    }
+
+    /**
+     * 프레임 끝에 기록된 CRC 검증
+     *
+     * @return {@link #OK}, {@link #TOO_SHORT}, {@link #MISMATCH}
+     */
+    public static int verify(byte[] frame, int offset, int length) {
+        if (length < SYNC_SIZE + CRC_SIZE) {
+            return TOO_SHORT;
+        }
+        int crcOffset = offset + length - CRC_SIZE;
+        int expected = ((frame[crcOffset] & 0xFF) << 8) | (frame[crcOffset + 1] & 0xFF);
+        return compute(frame, offset, length) == expected ? OK : MISMATCH;
+    }
+
+    /**
+     * 버퍼의 position ~ limit 프레임 CRC 검증 (position, limit은 바꾸지 않음)
+     *
+     * @return {@link #OK}, {@link #TOO_SHORT}, {@link #MISMATCH}
+     */
+    public static int verify(ByteBuffer frame) {
+        int start = frame.position();
+        int length = frame.remaining();
+        if (length < SYNC_SIZE + CRC_SIZE) {
+            return TOO_SHORT;
+        }
+        int crcOffset = start + length - CRC_SIZE;
+        int crc = update(INITIAL, frame, start + SYNC_SIZE, length - SYNC_SIZE - CRC_SIZE);
+        return crc == expected(frame, crcOffset) ? OK : MISMATCH;
+    }
+
+    /**
+     * 절대 위치 crcOffset에 빅엔디안으로 기록된 CRC
+     */
+    public static int expected(ByteBuffer frame, int crcOffset) {
+        return ((frame.get(crcOffset) & 0xFF) << 8) | (frame.get(crcOffset + 1) & 0xFF);
+    }
+}
@@ -4,6 +4,8 @@ import lombok.Getter;
 
 @Getter
 public class CrcValidationResult {
+    private static final CrcValidationResult VALID = new CrcValidationResult(true, null);
+
     private final boolean valid;
     private final String errorMessage;
 
@@ -13,7 +15,7 @@ public class CrcValidationResult {
     }
 
     public static CrcValidationResult valid() {
-        return new CrcValidationResult(true, null);
+        return VALID;
     }
 
     public static CrcValidationResult invalid(String errorMessage) {
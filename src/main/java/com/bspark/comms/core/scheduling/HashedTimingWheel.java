@@ -0,0 +1,232 @@
+package com.bspark.comms.core.scheduling;
+
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 해시 타이밍 휠
+ * 작업 등록/취소는 O(1)이며, 하나의 스레드가 tick마다 해당 버킷의 만료된 작업을 실행합니다.
+ * 작업은 휠 스레드에서 실행되므로 송신 대기열 추가처럼 블로킹하지 않는 작업만 등록해야 합니다.
+ */
+public class HashedTimingWheel {
+    private static final Logger logger = LoggerFactory.getLogger(HashedTimingWheel.class);
+
+    // 한 tick에 버킷으로 옮길 최대 등록 작업 수 (대량 등록 시 tick 지연 방지)
+    private static final int MAX_TRANSFER_PER_TICK = 100_000;
+
+    private final String name;
+    private final long tickNanos;
+    private final WheelTimeout.Bucket[] buckets;
+    private final int mask;
+    private final long startTime;
+    private final Timer lagTimer;
+
+    // 다른 스레드에서 등록/취소한 작업 (휠 스레드가 tick마다 반영)
+    private final Queue<WheelTimeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelTimeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger activeCount = new AtomicInteger(0);
+
+    private volatile boolean running = false;
+    private Thread workerThread;
+    // 휠 스레드 전용
+    private long tick;
+
+    /**
+     * @param wheelSize 버킷 수 (2의 거듭제곱으로 올림)
+     * @param lagTimer  실행 지연(예정 시각 대비 실제 실행 시각) 기록용
+     */
+    public HashedTimingWheel(String name, long tickDuration, TimeUnit unit, int wheelSize, Timer lagTimer) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("Tick duration must be positive: " + tickDuration);
+        }
+
+        int size = Integer.highestOneBit(Math.max(2, wheelSize) - 1) << 1;
+        this.name = name;
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.buckets = new WheelTimeout.Bucket[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new WheelTimeout.Bucket();
+        }
+        this.mask = size - 1;
+        this.lagTimer = lagTimer;
+        this.startTime = System.nanoTime();
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+
+        running = true;
+        workerThread = new Thread(this::run, name);
+        workerThread.setDaemon(true);
+        workerThread.start();
+    }
+
+    /**
+     * 1회성 작업 등록 (임의 스레드)
+     */
+    public WheelTimeout schedule(Runnable task, long delay, TimeUnit unit) {
+        return register(task, unit.toNanos(delay), 0);
+    }
+
+    /**
+     * 고정 주기 작업 등록 (임의 스레드)
+     * 실행이 밀려 주기를 놓친 경우 몰아서 실행하지 않고 다음 주기로 넘어갑니다.
+     */
+    public WheelTimeout scheduleAtFixedRate(Runnable task, long initialDelay, long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("Period must be positive: " + period);
+        }
+        return register(task, unit.toNanos(initialDelay), unit.toNanos(period));
+    }
+
+    private WheelTimeout register(Runnable task, long delayNanos, long periodNanos) {
+        long deadline = System.nanoTime() + Math.max(0, delayNanos) - startTime;
+        WheelTimeout timeout = new WheelTimeout(this, task, deadline, periodNanos);
+        activeCount.incrementAndGet();
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    void cancelled(WheelTimeout timeout) {
+        cancelledTimeouts.add(timeout);
+    }
+
+    private void run() {
+        while (running) {
+            long now = waitForNextTick();
+            if (now < 0) {
+                break;
+            }
+
+            processCancelled();
+            transferPending();
+            expire(buckets[(int) (tick & mask)], now);
+            tick++;
+        }
+    }
+
+    /**
+     * 다음 tick 시각까지 대기
+     *
+     * @return 휠 시작 기준 현재 시각, 종료 중이면 -1
+     */
+    private long waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long current = System.nanoTime() - startTime;
+            long sleepNanos = deadline - current;
+            if (sleepNanos <= 0) {
+                return current;
+            }
+
+            LockSupport.parkNanos(this, sleepNanos);
+            if (!running) {
+                return -1;
+            }
+        }
+    }
+
+    private void transferPending() {
+        for (int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+            WheelTimeout timeout = pendingTimeouts.poll();
+            if (timeout == null) {
+                break;
+            }
+            if (timeout.isCancelled()) {
+                continue;
+            }
+
+            long calculated = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculated - tick) / buckets.length;
+            // 이미 지난 작업은 현재 버킷에서 바로 실행
+            long ticks = Math.max(calculated, tick);
+            buckets[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void processCancelled() {
+        WheelTimeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+            activeCount.decrementAndGet();
+        }
+    }
+
+    private void expire(WheelTimeout.Bucket bucket, long now) {
+        WheelTimeout timeout = bucket.head();
+        while (timeout != null) {
+            WheelTimeout next = timeout.next;
+            if (timeout.isCancelled()) {
+                bucket.remove(timeout);
+            } else if (timeout.remainingRounds <= 0) {
+                bucket.remove(timeout);
+                runTask(timeout, now);
+            } else {
+                timeout.remainingRounds--;
+            }
+            timeout = next;
+        }
+    }
+
+    private void runTask(WheelTimeout timeout, long now) {
+        if (!timeout.isPeriodic() && !timeout.markExpired()) {
+            return;
+        }
+
+        lagTimer.record(Math.max(0, now - timeout.deadline), TimeUnit.NANOSECONDS);
+        try {
+            timeout.run();
+        } catch (Throwable t) {
+            logger.warn("타이밍 휠 {} 작업 실행 중 오류: {}", name, t.getMessage(), t);
+        }
+
+        if (!timeout.isPeriodic()) {
+            activeCount.decrementAndGet();
+            return;
+        }
+
+        if (!timeout.isCancelled()) {
+            // 다음 주기로 이동 (놓친 주기는 건너뜀), 현재 버킷 순회와 섞이지 않도록 다음 tick에 반영
+            do {
+                timeout.deadline += timeout.periodNanos;
+            } while (timeout.deadline <= now);
+            pendingTimeouts.add(timeout);
+        }
+    }
+
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+
+        running = false;
+        LockSupport.unpark(workerThread);
+        try {
+            workerThread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 등록되어 있는 작업 수 (취소 반영 전 작업 포함)
+     */
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+
+    public long getTickNanos() {
+        return tickNanos;
+    }
+}
@@ -0,0 +1,179 @@
+package com.bspark.comms.core.scheduling;
+
+import com.bspark.comms.config.CommsProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * polling 위상 배정
+ * polling 주기를 여러 위상 슬롯으로 나누고 클라이언트를 가장 적게 배정된 슬롯에 넣어,
+ * 재접속이 몰려도 요청과 응답이 주기 안에 고르게 퍼지도록 합니다.
+ * 슬롯 안에서는 클라이언트 주소로 정해지는 제한된 지터를 더해 같은 슬롯끼리도 겹치지 않게 합니다.
+ * 배정은 연결 ID로 색인하는 배열에 보관하고, 슬롯별 연결 목록을 함께 두어 재배치 시 탐색 없이 옮깁니다.
+ */
+@Component
+public class PollPhasePlanner {
+
+    // 한 번의 재배치에서 옮길 최대 클라이언트 수
+    private static final int MAX_MOVES_PER_REBALANCE = 16;
+
+    private final long periodMillis;
+    private final int[] slotLoad;
+    // 슬롯 -> 배정된 연결 ID 목록 (앞쪽 slotLoad[slot]개가 유효)
+    private final int[][] slotMembers;
+    private final long jitterBound;
+    // 연결 ID -> 배정된 슬롯 (미배정 -1), 슬롯 목록 안의 위치, 지터 계산용 주소
+    private int[] assignments = new int[0];
+    private int[] positions = new int[0];
+    private int[] addresses = new int[0];
+
+    public PollPhasePlanner(CommsProperties commsProperties, MeterRegistry meterRegistry) {
+        CommsProperties.Polling config = commsProperties.getPolling();
+        this.periodMillis = config.getIntervalMillis();
+        this.slotLoad = new int[Math.max(1, config.getPhaseSlots())];
+        this.slotMembers = new int[slotLoad.length][8];
+        this.jitterBound = Math.min(config.getJitterMillis(), periodMillis / slotLoad.length);
+
+        for (int i = 0; i < slotLoad.length; i++) {
+            int slot = i;
+            Gauge.builder("comms.poll.phase.slot.load", this, planner -> planner.getSlotLoad(slot))
+                    .description("위상 슬롯별 배정된 클라이언트 수")
+                    .tag("slot", String.valueOf(i))
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 클라이언트를 가장 적게 배정된 슬롯에 배정 (같은 부하면 클라이언트 주소 해시 위치부터 선택)
+     *
+     * @param address int로 묶은 IPv4 주소
+     */
+    public synchronized int assign(int connectionId, int address) {
+        if (connectionId >= assignments.length) {
+            int capacity = Math.max(64, Integer.highestOneBit(connectionId) << 1);
+            int previous = assignments.length;
+            assignments = Arrays.copyOf(assignments, capacity);
+            positions = Arrays.copyOf(positions, capacity);
+            addresses = Arrays.copyOf(addresses, capacity);
+            Arrays.fill(assignments, previous, capacity, -1);
+        }
+        if (assignments[connectionId] >= 0) {
+            return assignments[connectionId];
+        }
+
+        int start = Math.floorMod(hash(address), slotLoad.length);
+        int selected = start;
+        for (int i = 1; i < slotLoad.length; i++) {
+            int slot = (start + i) % slotLoad.length;
+            if (slotLoad[slot] < slotLoad[selected]) {
+                selected = slot;
+            }
+        }
+
+        addresses[connectionId] = address;
+        addToSlot(connectionId, selected);
+        return selected;
+    }
+
+    public synchronized void release(int connectionId) {
+        if (connectionId < assignments.length && assignments[connectionId] >= 0) {
+            removeFromSlot(connectionId);
+            assignments[connectionId] = -1;
+        }
+    }
+
+    /**
+     * 슬롯 간 배정 수 차이가 1 이하가 되도록 가장 많은 슬롯의 클라이언트를 가장 적은 슬롯으로 이동
+     *
+     * @return 슬롯이 바뀐 연결 ID (호출자가 다시 스케줄링해야 함)
+     */
+    public synchronized int[] rebalance() {
+        int[] moved = new int[MAX_MOVES_PER_REBALANCE];
+        int count = 0;
+        while (count < MAX_MOVES_PER_REBALANCE) {
+            int max = 0;
+            int min = 0;
+            for (int i = 1; i < slotLoad.length; i++) {
+                if (slotLoad[i] > slotLoad[max]) {
+                    max = i;
+                }
+                if (slotLoad[i] < slotLoad[min]) {
+                    min = i;
+                }
+            }
+            if (slotLoad[max] - slotLoad[min] <= 1) {
+                break;
+            }
+
+            // 가장 최근에 배정된 연결을 옮김
+            int connectionId = slotMembers[max][slotLoad[max] - 1];
+            removeFromSlot(connectionId);
+            addToSlot(connectionId, min);
+            moved[count++] = connectionId;
+        }
+        return Arrays.copyOf(moved, count);
+    }
+
+    private void addToSlot(int connectionId, int slot) {
+        int load = slotLoad[slot];
+        if (load == slotMembers[slot].length) {
+            slotMembers[slot] = Arrays.copyOf(slotMembers[slot], load * 2);
+        }
+        slotMembers[slot][load] = connectionId;
+        positions[connectionId] = load;
+        assignments[connectionId] = slot;
+        slotLoad[slot] = load + 1;
+    }
+
+    /**
+     * 슬롯 목록에서 제거 (마지막 연결을 빈 자리로 옮김)
+     */
+    private void removeFromSlot(int connectionId) {
+        int slot = assignments[connectionId];
+        int last = --slotLoad[slot];
+        int moved = slotMembers[slot][last];
+        slotMembers[slot][positions[connectionId]] = moved;
+        positions[moved] = positions[connectionId];
+    }
+
+    /**
+     * 주기 안에서 클라이언트가 전송할 위치 (슬롯 시작 + 지터, 밀리초)
+     */
+    public synchronized long phaseOf(int connectionId) {
+        if (connectionId >= assignments.length || assignments[connectionId] < 0) {
+            return 0;
+        }
+        return assignments[connectionId] * periodMillis / slotLoad.length + jitterOf(addresses[connectionId]);
+    }
+
+    /**
+     * 주기 안의 위치까지 남은 시간
+     */
+    public long delayUntil(long phase) {
+        return Math.floorMod(phase - System.currentTimeMillis(), periodMillis);
+    }
+
+    private long jitterOf(int address) {
+        if (jitterBound <= 0) {
+            return 0;
+        }
+        return Math.floorMod(hash(address) * 0x9E3779B9L, jitterBound);
+    }
+
+    private static int hash(int address) {
+        // 같은 대역 주소는 하위 바이트만 다르므로 비트를 섞어 사용
+        int h = address * 0x85EBCA6B;
+        return h ^ (h >>> 13);
+    }
+
+    public long getPeriodMillis() {
+        return periodMillis;
+    }
+
+    public synchronized int getSlotLoad(int slot) {
+        return slotLoad[slot];
+    }
+}
@@ -0,0 +1,83 @@
+package com.bspark.comms.core.scheduling;
+
+import com.bspark.comms.config.CommsProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주기 polling용 타이머
+ * 연결 수와 관계없이 소수의 타이밍 휠 스레드가 모든 클라이언트의 주기 작업을 실행합니다.
+ * polling 묶음은 위상 슬롯 번호로 휠을 나눠 이웃한 위상이 서로 다른 휠에 배정되고,
+ * 그 밖의 작업은 작업 키의 해시로 휠을 선택합니다.
+ */
+@Component
+public class PollTimer {
+    private static final Logger logger = LoggerFactory.getLogger(PollTimer.class);
+
+    private final HashedTimingWheel[] wheels;
+
+    public PollTimer(CommsProperties commsProperties, MeterRegistry meterRegistry) {
+        CommsProperties.Polling config = commsProperties.getPolling();
+        Timer lagTimer = Timer.builder("comms.poll.schedule.lag")
+                .description("polling 작업의 예정 시각 대비 실제 실행 지연")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+
+        this.wheels = new HashedTimingWheel[Math.max(1, config.getWheelShards())];
+        for (int i = 0; i < wheels.length; i++) {
+            wheels[i] = new HashedTimingWheel("poll-timer-" + i, config.getTickMillis(), TimeUnit.MILLISECONDS,
+                    config.getWheelSize(), lagTimer);
+            Gauge.builder("comms.poll.timer.active", wheels[i], HashedTimingWheel::getActiveCount)
+                    .description("타이밍 휠에 등록된 작업 수")
+                    .tag("wheel", String.valueOf(i))
+                    .register(meterRegistry);
+            wheels[i].start();
+        }
+
+        logger.info("polling 타이머 시작: 휠 {}개, tick {}ms, 버킷 {}개",
+                wheels.length, config.getTickMillis(), config.getWheelSize());
+    }
+
+    /**
+     * 작업 키의 고정 주기 작업 등록
+     */
+    public WheelTimeout scheduleAtFixedRate(String key, Runnable task, long initialDelay, long period,
+                                            TimeUnit unit) {
+        return scheduleAtFixedRate(key.hashCode(), task, initialDelay, period, unit);
+    }
+
+    /**
+     * 위상 슬롯의 고정 주기 작업 등록
+     *
+     * @param slot 위상 슬롯 번호 (휠 수로 나눈 나머지로 휠 선택)
+     */
+    public WheelTimeout scheduleAtFixedRate(int slot, Runnable task, long initialDelay, long period,
+                                            TimeUnit unit) {
+        return wheelOf(slot).scheduleAtFixedRate(task, initialDelay, period, unit);
+    }
+
+    /**
+     * 작업 키의 1회성 작업 등록
+     */
+    public WheelTimeout schedule(String key, Runnable task, long delay, TimeUnit unit) {
+        return wheelOf(key.hashCode()).schedule(task, delay, unit);
+    }
+
+    HashedTimingWheel wheelOf(int slot) {
+        return wheels[Math.floorMod(slot, wheels.length)];
+    }
+
+    @PreDestroy
+    public void stop() {
+        for (HashedTimingWheel wheel : wheels) {
+            wheel.stop();
+        }
+    }
+}
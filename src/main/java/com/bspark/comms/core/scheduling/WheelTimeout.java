@@ -0,0 +1,115 @@
+package com.bspark.comms.core.scheduling;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 타이밍 휠에 등록된 작업
+ * 같은 버킷의 작업들과 이중 연결 리스트로 묶여 있어 취소 시 O(1)로 제거됩니다.
+ */
+public class WheelTimeout {
+    private static final int ST_INIT = 0;
+    private static final int ST_CANCELLED = 1;
+    private static final int ST_EXPIRED = 2;
+
+    private final HashedTimingWheel wheel;
+    private final Runnable task;
+    // 0이면 1회성 작업
+    final long periodNanos;
+    private final AtomicInteger state = new AtomicInteger(ST_INIT);
+
+    // 휠 시작 시점 기준 실행 시각 (휠 스레드에서만 갱신)
+    long deadline;
+    long remainingRounds;
+
+    // 버킷 연결 (휠 스레드 전용)
+    WheelTimeout next;
+    WheelTimeout prev;
+    Bucket bucket;
+
+    WheelTimeout(HashedTimingWheel wheel, Runnable task, long deadline, long periodNanos) {
+        this.wheel = wheel;
+        this.task = task;
+        this.deadline = deadline;
+        this.periodNanos = periodNanos;
+    }
+
+    /**
+     * 작업 취소 (임의 스레드, 주기 작업은 이후 실행도 모두 취소)
+     *
+     * @return 이번 호출로 취소되었으면 true
+     */
+    public boolean cancel() {
+        if (!state.compareAndSet(ST_INIT, ST_CANCELLED)) {
+            return false;
+        }
+        wheel.cancelled(this);
+        return true;
+    }
+
+    public boolean isCancelled() {
+        return state.get() == ST_CANCELLED;
+    }
+
+    public boolean isExpired() {
+        return state.get() == ST_EXPIRED;
+    }
+
+    boolean isPeriodic() {
+        return periodNanos > 0;
+    }
+
+    /**
+     * 1회성 작업을 실행 완료 상태로 전환
+     */
+    boolean markExpired() {
+        return state.compareAndSet(ST_INIT, ST_EXPIRED);
+    }
+
+    void run() {
+        task.run();
+    }
+
+    /**
+     * 휠 버킷 (휠 스레드 전용)
+     */
+    static final class Bucket {
+        private WheelTimeout head;
+        private WheelTimeout tail;
+
+        void add(WheelTimeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void remove(WheelTimeout timeout) {
+            WheelTimeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = timeout.prev;
+            }
+
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        WheelTimeout head() {
+            return head;
+        }
+    }
+}
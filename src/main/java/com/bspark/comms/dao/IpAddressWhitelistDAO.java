@@ -9,6 +9,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -63,6 +64,23 @@ public class IpAddressWhitelistDAO {
         }
     }
 
+    /**
+     * 허용 목록 변경 알림 수신용 연결 (LISTEN 실행 후 반환하며 호출자가 닫음)
+     *
+     * @param channel 검증된 알림 채널 이름 (식별자라 바인딩할 수 없음)
+     */
+    public Connection listen(String channel) throws SQLException {
+        Connection conn = dataSource.getConnection();
+        try (Statement st = conn.createStatement()) {
+            conn.setAutoCommit(true);
+            st.execute("LISTEN " + channel);
+            return conn;
+        } catch (SQLException e) {
+            conn.close();
+            throw e;
+        }
+    }
+
     public void updateStatus(String ipAddress) {
         String sql = "UPDATE tsc_schema.tb_tsc_list " +
                      "SET status = 'online', last_access_time = now() " +
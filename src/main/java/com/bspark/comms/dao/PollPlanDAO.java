@@ -0,0 +1,122 @@
+package com.bspark.comms.dao;
+
+import com.bspark.comms.config.CommsProperties.Polling.Plan;
+import com.bspark.comms.config.CommsProperties.Polling.PlanEntry;
+import com.bspark.comms.data.MessageType;
+import com.bspark.comms.util.IpAddressUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * polling 계획 조회
+ * tb_poll_plan: plan_name, opcode, interval_millis, on_change_of(MessageType 이름, null 가능), min_interval_millis
+ * tb_poll_plan_client: ip_address, plan_name
+ */
+@Repository
+public class PollPlanDAO {
+
+    private static final Logger logger = LoggerFactory.getLogger(PollPlanDAO.class);
+    private final DataSource dataSource;
+
+    public PollPlanDAO(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * 모든 polling 계획 조회 (계획 이름 -> 계획)
+     */
+    public Map<String, Plan> getPlans() {
+        String entrySql = "SELECT plan_name, opcode, interval_millis, on_change_of, min_interval_millis " +
+                          "FROM tsc_schema.tb_poll_plan ORDER BY plan_name, opcode";
+        String clientSql = "SELECT ip_address, plan_name FROM tsc_schema.tb_poll_plan_client";
+        Map<String, Plan> plans = new LinkedHashMap<>();
+
+        try (Connection conn = dataSource.getConnection()) {
+            try (PreparedStatement ps = conn.prepareStatement(entrySql);
+                 ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String planName = rs.getString("plan_name");
+                    PlanEntry entry = toEntry(rs, planName);
+                    if (entry != null) {
+                        plans.computeIfAbsent(planName, name -> new Plan()).getEntries().add(entry);
+                    }
+                }
+            }
+
+            try (PreparedStatement ps = conn.prepareStatement(clientSql);
+                 ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    Plan plan = plans.get(rs.getString("plan_name"));
+                    String ipAddress = rs.getString("ip_address");
+                    if (plan != null && isValidAddress(ipAddress)) {
+                        plan.getClients().add(ipAddress.trim());
+                    }
+                }
+            }
+
+            logger.info("PostgreSQL에서 {} 개의 polling 계획 로드", plans.size());
+
+        } catch (SQLException e) {
+            logger.error("polling 계획 조회 중 데이터베이스 오류: {}", e.getMessage());
+            throw new RuntimeException("polling 계획 로드 실패", e);
+        }
+
+        return plans;
+    }
+
+    /**
+     * 계획 항목 행 변환
+     * 잘못된 행 하나 때문에 전체 계획 갱신이 실패하지 않도록 해당 행만 건너뜁니다.
+     *
+     * @return 잘못된 행이면 null
+     */
+    private PlanEntry toEntry(ResultSet rs, String planName) throws SQLException {
+        int opcode = rs.getInt("opcode");
+        long intervalMillis = rs.getLong("interval_millis");
+        String onChangeOf = rs.getString("on_change_of");
+
+        MessageType trigger = null;
+        if (onChangeOf != null && !onChangeOf.isBlank()) {
+            try {
+                trigger = MessageType.valueOf(onChangeOf.trim());
+            } catch (IllegalArgumentException e) {
+                logger.warn("polling 계획 {} 항목 제외 - 알 수 없는 on_change_of: {}", planName, onChangeOf);
+                return null;
+            }
+        }
+        if (opcode < 0 || opcode > 0xFF) {
+            logger.warn("polling 계획 {} 항목 제외 - 잘못된 opcode: {}", planName, opcode);
+            return null;
+        }
+        if (intervalMillis <= 0 && trigger == null) {
+            logger.warn("polling 계획 {} 항목 제외 - 전송 주기와 on_change_of가 모두 없음 (opcode {})", planName, opcode);
+            return null;
+        }
+
+        PlanEntry entry = new PlanEntry();
+        entry.setOpcode(opcode);
+        entry.setIntervalMillis(intervalMillis);
+        entry.setOnChangeOf(trigger);
+        entry.setMinIntervalMillis(rs.getLong("min_interval_millis"));
+        return entry;
+    }
+
+    private boolean isValidAddress(String ipAddress) {
+        try {
+            IpAddressUtils.pack(ipAddress == null ? null : ipAddress.trim());
+            return true;
+        } catch (IllegalArgumentException e) {
+            logger.warn("polling 계획 클라이언트 제외 - 잘못된 IPv4 주소: {}", ipAddress);
+            return false;
+        }
+    }
+}
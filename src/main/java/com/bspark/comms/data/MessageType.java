@@ -2,6 +2,8 @@ package com.bspark.comms.data;
 
 import lombok.Getter;
 
+import java.util.Arrays;
+
 @Getter
 public enum MessageType {
     INTERSECTION_STATUS(0x13, "교차로 상태 데이터", MessageCategory.RESPONSE),
@@ -13,6 +15,18 @@ public enum MessageType {
     USER_REQUEST(-1, "사용자 요청", MessageCategory.RESPONSE),
     UNKNOWN(-1, "알 수 없음", MessageCategory.UNKNOWN);
 
+    // opcode(0~255) -> 유형, 등록되지 않은 opcode는 USER_REQUEST (values()는 호출마다 배열을 복사하므로 미리 구성)
+    private static final MessageType[] BY_OPCODE = new MessageType[256];
+
+    static {
+        Arrays.fill(BY_OPCODE, USER_REQUEST);
+        for (MessageType type : values()) {
+            if (type.opcode >= 0) {
+                BY_OPCODE[type.opcode] = type;
+            }
+        }
+    }
+
     private final int opcode;
     private final String description;
     private final MessageCategory category;
@@ -27,13 +41,7 @@ public enum MessageType {
      * opcode로 MessageType 찾기
      */
     public static MessageType fromOpcode(byte opcode) {
-        int unsignedOpcode = opcode & 0xFF;
-        for (MessageType type : values()) {
-            if (type.opcode == unsignedOpcode) {
-                return type;
-            }
-        }
-        return USER_REQUEST;
+        return BY_OPCODE[opcode & 0xFF];
     }
 
     /**
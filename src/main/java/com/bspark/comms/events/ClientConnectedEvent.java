@@ -5,11 +5,14 @@ import org.springframework.context.ApplicationEvent;
 
 @Getter
 public class ClientConnectedEvent extends ApplicationEvent {
+    // 내부 테이블 색인용 연결 ID
+    private final int connectionId;
     private final String clientId;
     private final String clientIp;
 
-    public ClientConnectedEvent(Object source, String clientId, String clientIp) {
+    public ClientConnectedEvent(Object source, int connectionId, String clientId, String clientIp) {
         super(source);
+        this.connectionId = connectionId;
         this.clientId = clientId;
         this.clientIp = clientIp;
     }
@@ -5,10 +5,13 @@ import org.springframework.context.ApplicationEvent;
 
 @Getter
 public class ClientDisconnectedEvent extends ApplicationEvent {
+    // 내부 테이블 색인용 연결 ID (이벤트 처리가 끝난 뒤 다른 연결에 재사용될 수 있음)
+    private final int connectionId;
     private final String clientId;
 
-    public ClientDisconnectedEvent(Object source, String clientId) {
+    public ClientDisconnectedEvent(Object source, int connectionId, String clientId) {
         super(source);
+        this.connectionId = connectionId;
         this.clientId = clientId;
     }
 
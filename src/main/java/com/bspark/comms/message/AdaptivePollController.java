@@ -0,0 +1,198 @@
+package com.bspark.comms.message;
+
+import com.bspark.comms.config.CommsProperties;
+import com.bspark.comms.util.SlotArray;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 적응형 polling 제어
+ * 클라이언트별로 응답을 기다리는 상태 요청 수를 제한하고(기본 1개), 응답 지연이나 손실이 늘면
+ * 전송 간격을 두 배씩 늘렸다가 응답이 회복되면 기본 주기로 되돌립니다.
+ * 간격 조정은 기본 주기 tick을 건너뛰는 방식이므로 배정된 위상은 유지됩니다.
+ * 상태는 연결 ID로 색인하는 배열에 보관하며 클라이언트 IP 문자열은 로그와 조회 응답에만 사용합니다.
+ */
+@Component
+public class AdaptivePollController {
+    private static final Logger logger = LoggerFactory.getLogger(AdaptivePollController.class);
+
+    private final long baseIntervalMillis;
+    private final int maxInFlight;
+    private final long responseTimeoutNanos;
+    private final long slowResponseNanos;
+    private final int maxBackoffLevel;
+    private final int recoverAfter;
+
+    private final SlotArray<PollState> states = new SlotArray<>();
+
+    public AdaptivePollController(CommsProperties commsProperties) {
+        CommsProperties.Polling config = commsProperties.getPolling();
+        this.baseIntervalMillis = config.getIntervalMillis();
+        this.maxInFlight = Math.max(1, config.getMaxInFlight());
+        this.responseTimeoutNanos = config.getResponseTimeoutMillis() * 1_000_000L;
+        this.slowResponseNanos = config.getSlowResponseMillis() * 1_000_000L;
+        this.recoverAfter = Math.max(1, config.getRecoverAfter());
+
+        int level = 0;
+        while ((baseIntervalMillis << (level + 1)) <= config.getMaxIntervalMillis()) {
+            level++;
+        }
+        this.maxBackoffLevel = level;
+    }
+
+    public void register(int connectionId, String clientId) {
+        states.set(connectionId, new PollState(clientId));
+    }
+
+    public void remove(int connectionId) {
+        states.remove(connectionId);
+    }
+
+    /**
+     * 상태 요청이 계획된 tick마다 호출하여 이번에 보낼지 결정 (타이머 스레드)
+     *
+     * @return 전송해야 하면 true (전송 중으로 기록됨)
+     */
+    public boolean tryAcquire(int connectionId) {
+        PollState state = states.get(connectionId);
+        return state == null || state.tryAcquire(System.nanoTime());
+    }
+
+    /**
+     * 상태 요청 전송 실패 - 응답 대기에서 제외하고 손실과 같이 간격을 늘림
+     */
+    public void sendFailed(int connectionId) {
+        PollState state = states.get(connectionId);
+        if (state != null) {
+            state.sendFailed();
+        }
+    }
+
+    /**
+     * 상태 응답 수신 (처리 스레드)
+     */
+    public void responseReceived(int connectionId) {
+        PollState state = states.get(connectionId);
+        if (state != null) {
+            state.responseReceived(System.nanoTime());
+        }
+    }
+
+    /**
+     * 클라이언트별 polling 상태 (actuator 노출용)
+     */
+    public Map<String, Map<String, Object>> getSnapshot() {
+        Map<String, Map<String, Object>> snapshot = new LinkedHashMap<>();
+        states.forEach(state -> snapshot.put(state.clientId, state.toMap()));
+        return snapshot;
+    }
+
+    private final class PollState {
+        private final String clientId;
+        private int inFlight;
+        private long lastSentAt;
+        private int backoffLevel;
+        private int ticksUntilNext;
+        private int consecutiveGood;
+        private double averageLatencyMillis;
+
+        private long sent;
+        private long responses;
+        private long timeouts;
+        private long failures;
+        private long skipped;
+
+        private PollState(String clientId) {
+            this.clientId = clientId;
+        }
+
+        synchronized boolean tryAcquire(long now) {
+            if (inFlight >= maxInFlight) {
+                if (now - lastSentAt < responseTimeoutNanos) {
+                    skipped++;
+                    return false;
+                }
+
+                // 응답 제한 시간 초과 - 손실로 보고 간격을 늘림
+                timeouts += inFlight;
+                inFlight = 0;
+                consecutiveGood = 0;
+                backOff("응답 없음");
+            }
+
+            if (ticksUntilNext > 0) {
+                ticksUntilNext--;
+                skipped++;
+                return false;
+            }
+
+            inFlight++;
+            sent++;
+            lastSentAt = now;
+            ticksUntilNext = (1 << backoffLevel) - 1;
+            return true;
+        }
+
+        synchronized void sendFailed() {
+            if (inFlight > 0) {
+                inFlight--;
+            }
+            failures++;
+            consecutiveGood = 0;
+            backOff("전송 실패");
+        }
+
+        synchronized void responseReceived(long now) {
+            if (inFlight == 0) {
+                // 요청하지 않은 응답 (제한 시간 이후 도착 등)
+                return;
+            }
+
+            inFlight--;
+            responses++;
+            long latency = now - lastSentAt;
+            double latencyMillis = latency / 1_000_000.0;
+            averageLatencyMillis = responses == 1 ? latencyMillis : averageLatencyMillis * 0.8 + latencyMillis * 0.2;
+
+            if (latency > slowResponseNanos) {
+                consecutiveGood = 0;
+                backOff("응답 지연");
+                return;
+            }
+
+            if (backoffLevel > 0 && ++consecutiveGood >= recoverAfter) {
+                consecutiveGood = 0;
+                backoffLevel--;
+                logger.info("polling 간격 회복: {} ({}ms)", clientId, effectiveIntervalMillis());
+            }
+        }
+
+        private void backOff(String reason) {
+            if (backoffLevel < maxBackoffLevel) {
+                backoffLevel++;
+                logger.info("polling 간격 증가: {} ({}ms, {})", clientId, effectiveIntervalMillis(), reason);
+            }
+        }
+
+        private long effectiveIntervalMillis() {
+            return baseIntervalMillis << backoffLevel;
+        }
+
+        synchronized Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("effectiveIntervalMillis", effectiveIntervalMillis());
+            map.put("inFlight", inFlight);
+            map.put("averageLatencyMillis", Math.round(averageLatencyMillis * 10) / 10.0);
+            map.put("sent", sent);
+            map.put("responses", responses);
+            map.put("timeouts", timeouts);
+            map.put("failures", failures);
+            map.put("skipped", skipped);
+            return map;
+        }
+    }
+}
@@ -1,52 +1,95 @@
 package com.bspark.comms.message;
 
+import com.bspark.comms.core.protocol.message.FrameView;
 import com.bspark.comms.data.MessageType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 기본 메시지 처리기
+ * 프레임은 {@link OpcodeRegistry}에서 opcode로 바로 처리기를 찾아 전달합니다.
+ * 프로토콜에 정의된 유형마다 기본 응답 처리기를 대체 처리기로 등록하여, 빈이나 실행 중에 등록한 처리기가 없을 때만 사용합니다.
+ */
 @Component
 public class DefaultMessageProcessor implements MessageProcessor {
     private static final Logger logger = LoggerFactory.getLogger(DefaultMessageProcessor.class);
 
-    @Override
-    public byte[] processMessage(String clientId, MessageType messageType, byte[] data) {
-        logger.debug("메시지 처리: 클라이언트={}, 유형={}, 크기={}", clientId, messageType, data.length);
-
-        // 여기에 메시지 처리 로직 구현
-        // 현재는 기본 응답만 생성
-
-        if (messageType.isResponse()) {
-            // 응답 메시지 처리 (교차로 상태, 검지기 정보 등)
-            return createAcknowledgement(data);
-        } else if (messageType.isRequest()) {
-            // 요청 메시지 처리 (상태 요청, 네트워크 테스트 등)
-            return createCommandResponse(messageType, data);
-        } else {
-            logger.warn("지원되지 않는 메시지 유형: {}", messageType);
-            return null;
+    private final OpcodeRegistry opcodeRegistry;
+
+    public DefaultMessageProcessor(OpcodeRegistry opcodeRegistry) {
+        this.opcodeRegistry = opcodeRegistry;
+        for (MessageType type : MessageType.values()) {
+            if (type.getOpcode() >= 0) {
+                opcodeRegistry.registerFallback(new DefaultHandler(type));
+            }
         }
     }
 
-    /**
-     * 간단한 ACK 메시지 생성
-     */
-    private byte[] createAcknowledgement(byte[] originalData) {
-        // 단순 예시로 'ACK' + 데이터 길이를 응답
-        String response = String.format("ACK:%d", originalData.length);
-        return response.getBytes();
+    @Override
+    public byte[] processMessage(String clientId, MessageType messageType, FrameView frame) {
+        logger.debug("메시지 처리: 클라이언트={}, 유형={}, 크기={}", clientId, messageType, frame.length());
+        return opcodeRegistry.dispatch(clientId, frame);
     }
 
     /**
-     * 명령 응답 메시지 생성
+     * 기본 응답 처리기
+     * 응답 메시지(교차로 상태, 검지기 정보 등)에는 'ACK:' + 프레임 길이를, 요청 메시지(상태 요청, 네트워크 테스트 등)에는
+     * 유형별 고정 응답을 보냅니다. 고정 응답은 미리 만들어 두고 공유합니다 (송신 시 배열을 수정하지 않음).
      */
-    private byte[] createCommandResponse(MessageType messageType, byte[] originalData) {
-        if (messageType == MessageType.NETWORK_TEST) {
-            return "NETWORK_TEST_ACK".getBytes();
-        } else if (messageType == MessageType.STATUS_REQUEST) {
-            return "STATUS_ACK".getBytes();
-        } else {
-            return String.format("CMD_ACK:%s", messageType.name()).getBytes();
+    private static final class DefaultHandler implements OpcodeHandler {
+        private static final byte[] ACK_PREFIX = "ACK:".getBytes(StandardCharsets.US_ASCII);
+
+        private final OpcodeSpec spec;
+        // 요청 메시지의 고정 응답 (응답 메시지면 null)
+        private final byte[] commandResponse;
+
+        DefaultHandler(MessageType type) {
+            this.spec = OpcodeSpec.of(type, OpcodeSpec.VARIABLE_LENGTH);
+            this.commandResponse = type.isResponse() ? null : createCommandResponse(type);
+        }
+
+        @Override
+        public OpcodeSpec getSpec() {
+            return spec;
+        }
+
+        @Override
+        public byte[] handle(String clientId, FrameView frame) {
+            return commandResponse != null ? commandResponse : createAcknowledgement(frame);
+        }
+
+        /**
+         * 간단한 ACK 메시지 생성 ('ACK:' + 프레임 길이)
+         */
+        private static byte[] createAcknowledgement(FrameView frame) {
+            int length = frame.length();
+            int digits = 1;
+            for (int rest = length / 10; rest > 0; rest /= 10) {
+                digits++;
+            }
+            byte[] response = new byte[ACK_PREFIX.length + digits];
+            System.arraycopy(ACK_PREFIX, 0, response, 0, ACK_PREFIX.length);
+            for (int i = response.length - 1; i >= ACK_PREFIX.length; i--) {
+                response[i] = (byte) ('0' + length % 10);
+                length /= 10;
+            }
+            return response;
+        }
+
+        /**
+         * 명령 응답 메시지 생성
+         */
+        private static byte[] createCommandResponse(MessageType messageType) {
+            if (messageType == MessageType.NETWORK_TEST) {
+                return "NETWORK_TEST_ACK".getBytes(StandardCharsets.US_ASCII);
+            } else if (messageType == MessageType.STATUS_REQUEST) {
+                return "STATUS_ACK".getBytes(StandardCharsets.US_ASCII);
+            } else {
+                return ("CMD_ACK:" + messageType.name()).getBytes(StandardCharsets.US_ASCII);
+            }
         }
     }
-}
\ No newline at end of file
+}
@@ -1,52 +1,44 @@
 package com.bspark.comms.message;
 
+import com.bspark.comms.core.protocol.message.FrameEncoder;
 import com.bspark.comms.data.MessageType;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import java.nio.ByteBuffer;
 
+/**
+ * 요청 프레임 생성 ({@link FrameEncoder}로 인코딩)
+ */
 @Component
 public class MessageFactory {
-    private static final Logger logger = LoggerFactory.getLogger(MessageFactory.class);
+
+    private static final byte[] EMPTY = new byte[0];
 
     /**
-     * 메시지 생성 (opcode + 데이터)
+     * 메시지 생성 (기본 주소, opcode + 데이터)
      */
     public byte[] buildMessage(int opcode, byte[] data) {
-        ByteBuffer buffer = ByteBuffer.allocate(1 + (data != null ? data.length : 0));
-        buffer.put((byte) opcode);
-        if (data != null && data.length > 0) {
-            buffer.put(data);
-        }
-        return buffer.array();
+        return FrameEncoder.encode(FrameEncoder.DEFAULT_ADDRESS, (byte) opcode, data != null ? data : EMPTY);
     }
 
     /**
      * 상태 요청 메시지 생성
      */
     public byte[] createStatusRequestMessage() {
-        ByteBuffer dataBuffer = ByteBuffer.allocate(10);
-
-        dataBuffer.put((byte)0x7F);
-        dataBuffer.put((byte)0x7F);
-        dataBuffer.put((byte)0x00);
-        dataBuffer.put((byte)0x08);
-        dataBuffer.put((byte)0x00);
-        dataBuffer.put((byte)0x01);
-        dataBuffer.put((byte)0x00);
-        dataBuffer.put((byte)0x12);
-        dataBuffer.put((byte)0x3B);
-        dataBuffer.put((byte)0x1F);
-
-        return dataBuffer.array();
+        return FrameEncoder.encode((byte) MessageType.STATUS_REQUEST.getOpcode());
     }
 
     /**
      * 하트비트 메시지 생성
      */
     public byte[] createHeartbeatMessage() {
-        return buildMessage(MessageType.NETWORK_TEST.getOpcode(), new byte[0]);
+        return FrameEncoder.encode((byte) MessageType.NETWORK_TEST.getOpcode());
+    }
+
+    /**
+     * 하트비트 프레임 (미리 인코딩한 공유 버퍼, 수정 금지)
+     */
+    public ByteBuffer heartbeatFrame() {
+        return FrameEncoder.shared((byte) MessageType.NETWORK_TEST.getOpcode());
     }
-}
\ No newline at end of file
+}
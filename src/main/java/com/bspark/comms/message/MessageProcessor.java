@@ -1,5 +1,6 @@
 package com.bspark.comms.message;
 
+import com.bspark.comms.core.protocol.message.FrameView;
 import com.bspark.comms.data.MessageType;
 
 public interface MessageProcessor {
@@ -8,8 +9,8 @@ public interface MessageProcessor {
      *
      * @param clientId 클라이언트 ID
      * @param messageType 메시지 유형
-     * @param data 수신된 데이터
+     * @param frame 수신된 프레임 (재사용 뷰이므로 호출 중에만 유효, 보관하려면 {@link FrameView#retain()})
      * @return 응답 데이터 (응답이 없는 경우 null 또는 빈 배열)
      */
-    byte[] processMessage(String clientId, MessageType messageType, byte[] data);
+    byte[] processMessage(String clientId, MessageType messageType, FrameView frame);
 }
\ No newline at end of file
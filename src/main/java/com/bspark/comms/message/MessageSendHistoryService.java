@@ -1,30 +1,51 @@
 package com.bspark.comms.message;
 
-import lombok.Getter;
+import com.bspark.comms.util.IntLongHashMap;
+import com.bspark.comms.util.IpAddressUtils;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 클라이언트별 마지막 전송 opcode (int로 묶은 IPv4 주소 키, 문자열 ID 메서드는 REST/HTTP 경계용)
+ */
 @Service
 public class MessageSendHistoryService {
 
-    @Getter
-    private final Map<String, Byte> clientTransmissionHistory = new ConcurrentHashMap<>();
+    private static final long NONE = -1;
+
+    // this 잠금으로 보호
+    private final IntLongHashMap clientTransmissionHistory = new IntLongHashMap(NONE);
+
+    public synchronized void recordTransmission(int address, byte opcode) {
+        clientTransmissionHistory.put(address, opcode & 0xFF);
+    }
 
     public void recordTransmission(String clientId, byte opcode) {
-        clientTransmissionHistory.put(clientId, opcode);
+        recordTransmission(IpAddressUtils.pack(clientId), opcode);
+    }
+
+    public synchronized Byte getLastTransmittedOpcode(String clientId) {
+        long opcode = clientTransmissionHistory.get(IpAddressUtils.pack(clientId));
+        return opcode == NONE ? null : (byte) opcode;
+    }
+
+    public synchronized Map<String, Byte> getClientTransmissionHistory() {
+        Map<String, Byte> history = new HashMap<>();
+        clientTransmissionHistory.forEach((address, opcode) -> history.put(IpAddressUtils.format(address), (byte) opcode));
+        return history;
     }
 
-    public Byte getLastTransmittedOpcode(String clientId) {
-        return clientTransmissionHistory.get(clientId);
+    public synchronized void clearHistory(int address) {
+        clientTransmissionHistory.remove(address);
     }
 
     public void clearHistory(String clientId) {
-        clientTransmissionHistory.remove(clientId);
+        clearHistory(IpAddressUtils.pack(clientId));
     }
 
-    public void clearAllHistory() {
+    public synchronized void clearAllHistory() {
         clientTransmissionHistory.clear();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,24 @@
+package com.bspark.comms.message;
+
+import com.bspark.comms.core.protocol.message.FrameView;
+
+/**
+ * opcode 하나의 수신 프레임 처리기
+ * Spring 빈으로 등록하면 {@link OpcodeRegistry}가 자동으로 수집하고, 빈이 아닌 처리기는 {@link OpcodeRegistry#register}로 등록합니다.
+ * 처리기는 클라이언트의 수신 레인 스레드에서 호출되며 여러 클라이언트에 대해 동시에 호출될 수 있습니다.
+ */
+public interface OpcodeHandler {
+
+    /**
+     * 처리할 opcode와 선언 정보
+     */
+    OpcodeSpec getSpec();
+
+    /**
+     * 프레임 처리
+     *
+     * @param frame 수신된 프레임 (재사용 뷰이므로 호출 중에만 유효, 보관하려면 {@link FrameView#retain()})
+     * @return 응답 데이터 (응답이 없는 경우 null 또는 빈 배열)
+     */
+    byte[] handle(String clientId, FrameView frame);
+}
@@ -0,0 +1,164 @@
+package com.bspark.comms.message;
+
+import com.bspark.comms.core.protocol.message.FrameView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * opcode별 처리기 등록부
+ * 256칸 배열에 opcode 값을 그대로 인덱스로 처리기를 두어, 프레임마다 분류와 처리기 선택이 배열 조회 한 번이고 할당이 없습니다.
+ * 처리기는 Spring 빈({@link OpcodeHandler})으로 수집하거나 실행 중에 {@link #register}로 추가하며, opcode 하나에는 처리기 하나만 둡니다.
+ * 기본 처리기는 {@link #registerFallback}으로 따로 두어 등록한 처리기가 없는 동안만 사용하고, 처리기를 등록하면 대체합니다.
+ *
+ * <p>등록되지 않은 opcode와 선언된 길이와 다른 프레임은 프레임마다 로그를 남기지 않고 카운터로만 집계합니다
+ * (opcode별 최초 1회만 로그).
+ * 처리기는 클라이언트의 수신 레인 스레드에서 바로 호출되므로 같은 클라이언트의 프레임은 수신 순서대로 처리됩니다.
+ */
+@Component
+public class OpcodeRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(OpcodeRegistry.class);
+
+    private static final int OPCODE_COUNT = 256;
+
+    // 조회용 (등록한 처리기, 없으면 대체 처리기), 등록 시에만 복사해 교체 (조회 스레드는 잠금 없이 읽음)
+    private volatile OpcodeHandler[] handlers = new OpcodeHandler[OPCODE_COUNT];
+    // 등록 상태 (잠금 안에서만 접근)
+    private final OpcodeHandler[] registered = new OpcodeHandler[OPCODE_COUNT];
+    private final OpcodeHandler[] fallbacks = new OpcodeHandler[OPCODE_COUNT];
+    private final AtomicLongArray unknownByOpcode = new AtomicLongArray(OPCODE_COUNT);
+    private final Counter unknownOpcodes;
+    private final Counter lengthMismatches;
+
+    public OpcodeRegistry(List<OpcodeHandler> handlerBeans, MeterRegistry meterRegistry) {
+        this.unknownOpcodes = unhandledCounter(meterRegistry, "unknown-opcode");
+        this.lengthMismatches = unhandledCounter(meterRegistry, "length-mismatch");
+        for (OpcodeHandler handler : handlerBeans) {
+            register(handler);
+        }
+    }
+
+    private static Counter unhandledCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("comms.tcp.opcode.unhandled")
+                .description("처리기로 전달하지 않은 수신 프레임 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 처리기 등록 (대체 처리기가 있으면 대체)
+     *
+     * @throws IllegalStateException 같은 opcode에 이미 처리기가 등록된 경우
+     */
+    public synchronized void register(OpcodeHandler handler) {
+        OpcodeSpec spec = handler.getSpec();
+        int opcode = spec.getOpcode();
+        if (registered[opcode] != null) {
+            throw new IllegalStateException(String.format("Duplicate handler for opcode 0x%02X: %s, %s",
+                    opcode, registered[opcode].getClass().getName(), handler.getClass().getName()));
+        }
+
+        registered[opcode] = handler;
+        publish(opcode);
+        logger.debug("opcode 처리기 등록: {} -> {}", spec, handler.getClass().getSimpleName());
+    }
+
+    /**
+     * 등록한 처리기가 없을 때 사용할 대체 처리기 지정 (기본 처리기용, 이전 대체 처리기는 교체)
+     */
+    public synchronized void registerFallback(OpcodeHandler handler) {
+        int opcode = handler.getSpec().getOpcode();
+        fallbacks[opcode] = handler;
+        publish(opcode);
+    }
+
+    /**
+     * 등록한 처리기 제거 (대체 처리기가 있으면 다시 사용)
+     *
+     * @return 제거한 처리기 (없으면 null)
+     */
+    public synchronized OpcodeHandler unregister(int opcode) {
+        OpcodeHandler removed = registered[opcode];
+        if (removed != null) {
+            registered[opcode] = null;
+            publish(opcode);
+            logger.debug("opcode 처리기 제거: 0x{} -> {}", String.format("%02X", opcode),
+                    removed.getClass().getSimpleName());
+        }
+        return removed;
+    }
+
+    private void publish(int opcode) {
+        OpcodeHandler[] updated = Arrays.copyOf(handlers, OPCODE_COUNT);
+        updated[opcode] = registered[opcode] != null ? registered[opcode] : fallbacks[opcode];
+        handlers = updated;
+    }
+
+    /**
+     * @return opcode의 처리기 (없으면 null)
+     */
+    public OpcodeHandler find(byte opcode) {
+        return handlers[opcode & 0xFF];
+    }
+
+    /**
+     * @return opcode의 선언 정보 (처리기가 없으면 null)
+     */
+    public OpcodeSpec getSpec(byte opcode) {
+        OpcodeHandler handler = find(opcode);
+        return handler != null ? handler.getSpec() : null;
+    }
+
+    /**
+     * 프레임을 opcode의 처리기로 전달
+     *
+     * @return 처리기의 응답 (처리기가 없거나 길이가 선언과 다르면 null)
+     */
+    public byte[] dispatch(String clientId, FrameView frame) {
+        int opcode = frame.opcode() & 0xFF;
+        OpcodeHandler handler = handlers[opcode];
+        if (handler == null) {
+            unknownOpcodes.increment();
+            if (unknownByOpcode.getAndIncrement(opcode) == 0) {
+                logger.warn("처리기가 없는 opcode 수신: 0x{} (클라이언트: {}, 이후 동일 opcode는 집계만 함)",
+                        String.format("%02X", opcode), clientId);
+            }
+            return null;
+        }
+
+        if (!handler.getSpec().accepts(frame.payloadLength())) {
+            lengthMismatches.increment();
+            logger.debug("opcode 0x{} 데이터 길이 불일치: {} (기대 {})", String.format("%02X", opcode),
+                    frame.payloadLength(), handler.getSpec().getExpectedLength());
+            return null;
+        }
+
+        return handler.handle(clientId, frame);
+    }
+
+    /**
+     * @return 처리기가 없어 버린 opcode의 누적 수신 수
+     */
+    public long getUnknownCount(byte opcode) {
+        return unknownByOpcode.get(opcode & 0xFF);
+    }
+
+    /**
+     * @return 사용 중인 처리기 수 (대체 처리기 포함)
+     */
+    public int size() {
+        int count = 0;
+        for (OpcodeHandler handler : handlers) {
+            if (handler != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,75 @@
+package com.bspark.comms.message;
+
+import com.bspark.comms.data.MessageType;
+
+/**
+ * opcode 처리기의 선언 정보
+ * 요청/응답 구분과 기대 데이터 길이를 처리기가 직접 선언합니다.
+ * 처리기는 클라이언트의 수신 레인 스레드에서 호출되어 같은 클라이언트의 프레임은 항상 수신 순서대로 처리되므로
+ * 순서 보장 여부는 따로 선언하지 않습니다.
+ */
+public final class OpcodeSpec {
+
+    // 데이터 길이를 검사하지 않음
+    public static final int VARIABLE_LENGTH = -1;
+
+    private final int opcode;
+    private final MessageType.MessageCategory category;
+    private final int expectedLength;
+
+    /**
+     * @param opcode 처리할 opcode (0 ~ 255)
+     * @param expectedLength 기대 데이터 길이 (헤더와 CRC 제외, 검사하지 않으면 {@link #VARIABLE_LENGTH})
+     */
+    public OpcodeSpec(int opcode, MessageType.MessageCategory category, int expectedLength) {
+        if (opcode < 0 || opcode > 0xFF) {
+            throw new IllegalArgumentException("Invalid opcode: " + opcode);
+        }
+        if (expectedLength < VARIABLE_LENGTH) {
+            throw new IllegalArgumentException("Invalid expected length: " + expectedLength);
+        }
+        this.opcode = opcode;
+        this.category = category;
+        this.expectedLength = expectedLength;
+    }
+
+    /**
+     * 메시지 유형의 opcode와 구분을 그대로 사용
+     */
+    public static OpcodeSpec of(MessageType type, int expectedLength) {
+        return new OpcodeSpec(type.getOpcode(), type.getCategory(), expectedLength);
+    }
+
+    public int getOpcode() {
+        return opcode;
+    }
+
+    public MessageType.MessageCategory getCategory() {
+        return category;
+    }
+
+    public boolean isRequest() {
+        return category == MessageType.MessageCategory.REQUEST;
+    }
+
+    public boolean isResponse() {
+        return category == MessageType.MessageCategory.RESPONSE;
+    }
+
+    public int getExpectedLength() {
+        return expectedLength;
+    }
+
+    /**
+     * 데이터 길이가 선언과 맞는지 확인
+     */
+    public boolean accepts(int payloadLength) {
+        return expectedLength == VARIABLE_LENGTH || expectedLength == payloadLength;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("OpcodeSpec{opcode=0x%02X, category=%s, expectedLength=%d}",
+                opcode, category, expectedLength);
+    }
+}
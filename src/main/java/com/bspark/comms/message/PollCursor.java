@@ -0,0 +1,110 @@
+package com.bspark.comms.message;
+
+import com.bspark.comms.data.MessageType;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 클라이언트 하나의 polling 계획 진행 상태
+ * 기본 주기 tick마다 계획의 순환표에서 보낼 항목을 고르고, 응답 내용이 바뀐 항목은 최소 간격이 지난 뒤 전송합니다.
+ * tick 관련 상태는 타이머 스레드에서 호출자가 잠금을 잡고 접근하며, 변경 표시만 처리 스레드에서 기록합니다.
+ */
+final class PollCursor {
+
+    private static final int NO_CRC = -1;
+
+    private final AtomicLong changed = new AtomicLong();
+    // 응답 유형(ordinal)별 직전 응답 CRC (없으면 NO_CRC)
+    private final AtomicIntegerArray responseCrc = new AtomicIntegerArray(MessageType.values().length);
+
+    private volatile PollSchedule.CompiledPlan plan;
+    private long tick;
+    private long[] lastSentTick;
+
+    PollCursor(PollSchedule.CompiledPlan plan) {
+        reset(plan);
+    }
+
+    /**
+     * 새 계획으로 교체 (진행 중인 tick은 유지하고 항목별 기록만 초기화)
+     */
+    void reset(PollSchedule.CompiledPlan plan) {
+        this.plan = plan;
+        this.lastSentTick = new long[plan.getEntryCount()];
+        Arrays.fill(lastSentTick, Long.MIN_VALUE / 2);
+        changed.set(0);
+        for (int i = 0; i < responseCrc.length(); i++) {
+            responseCrc.set(i, NO_CRC);
+        }
+    }
+
+    /**
+     * 응답 수신 (처리 스레드)
+     * 계획에서 변경 시 전송하도록 지정한 응답 유형이면 직전 응답과 CRC를 비교하여 바뀐 경우 해당 항목을 표시합니다.
+     *
+     * @return 전송할 항목이 새로 표시되었으면 true
+     */
+    boolean responseReceived(MessageType messageType, int crc) {
+        long mask = plan.changeMaskOf(messageType);
+        if (mask == 0) {
+            return false;
+        }
+
+        int previous = responseCrc.getAndSet(messageType.ordinal(), crc);
+        if (previous == NO_CRC || previous == crc) {
+            return false;
+        }
+        changed.accumulateAndGet(mask, (a, b) -> a | b);
+        return true;
+    }
+
+    /**
+     * 이번 tick에 보낼 항목을 고르고 다음 tick으로 진행 (타이머 스레드)
+     *
+     * @param current        현재 적용할 계획 (다시 로드되어 바뀌었으면 항목별 기록을 초기화하고 적용)
+     * @param acquireTracked 상태 요청이 계획된 tick에만 호출, false면 상태 요청만 건너뛰고 나머지 항목은 계획대로 전송
+     * @return 이번 tick에 보낼 항목 번호 비트 ({@link PollSchedule.CompiledPlan#getEntry(int)})
+     */
+    long advance(PollSchedule.CompiledPlan current, BooleanSupplier acquireTracked) {
+        if (current != plan) {
+            reset(current);
+        }
+
+        long now = tick++;
+        long pending = changed.getAndSet(0);
+        boolean holdTracked = current.tracksAt(now) && !acquireTracked.getAsBoolean();
+
+        long due = 0;
+        for (PollSchedule.Entry entry : current.dueAt(now)) {
+            if (!holdTracked || !entry.isTracked()) {
+                due |= 1L << entry.getIndex();
+            }
+        }
+        pending &= ~due;
+
+        // 응답 내용이 바뀐 항목 중 최소 간격이 지난 항목 전송 (나머지는 다음 tick으로 넘김)
+        long deferred = 0;
+        while (pending != 0) {
+            int index = Long.numberOfTrailingZeros(pending);
+            pending &= pending - 1;
+
+            PollSchedule.Entry entry = current.getEntry(index);
+            if ((holdTracked && entry.isTracked()) || now - lastSentTick[index] < entry.getMinTicks()) {
+                deferred |= 1L << index;
+            } else {
+                due |= 1L << index;
+            }
+        }
+        if (deferred != 0) {
+            changed.accumulateAndGet(deferred, (a, b) -> a | b);
+        }
+
+        for (long bits = due; bits != 0; bits &= bits - 1) {
+            lastSentTick[Long.numberOfTrailingZeros(bits)] = now;
+        }
+        return due;
+    }
+}
@@ -0,0 +1,90 @@
+package com.bspark.comms.message;
+
+import com.bspark.comms.config.CommsProperties;
+import com.bspark.comms.config.CommsProperties.Polling.Plan;
+import com.bspark.comms.core.scheduling.PollTimer;
+import com.bspark.comms.dao.PollPlanDAO;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * polling 계획 관리
+ * 설정(comms.polling.plans)과 DB 계획 테이블(같은 이름이면 DB 우선)을 읽어 {@link PollSchedule}로 컴파일하고,
+ * 다시 읽을 때는 컴파일된 계획만 교체합니다. 연결된 클라이언트는 다음 tick부터 새 계획을 사용하므로 연결을 다시 맺지 않습니다.
+ * 새 계획이 잘못된 경우 기존 계획을 유지합니다.
+ */
+@Component
+public class PollPlanRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(PollPlanRegistry.class);
+
+    private static final String RELOAD_TASK_KEY = "poll-plan-reload";
+
+    private final CommsProperties.Polling config;
+    private final PollPlanDAO pollPlanDAO;
+    private final PollTimer pollTimer;
+
+    private volatile PollSchedule schedule;
+
+    public PollPlanRegistry(CommsProperties commsProperties, PollPlanDAO pollPlanDAO, PollTimer pollTimer) {
+        this.config = commsProperties.getPolling();
+        this.pollPlanDAO = pollPlanDAO;
+        this.pollTimer = pollTimer;
+        this.schedule = PollSchedule.compile(config.getPlans(), config.getIntervalMillis());
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!config.isPlanTableEnabled()) {
+            return;
+        }
+
+        reload();
+        long reloadMillis = config.getPlanReloadMillis();
+        if (reloadMillis > 0) {
+            // DB 조회가 타이머 스레드를 막지 않도록 공용 풀에서 실행
+            pollTimer.scheduleAtFixedRate(RELOAD_TASK_KEY, () -> CompletableFuture.runAsync(this::reload),
+                    reloadMillis, reloadMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 계획을 다시 읽어 컴파일된 계획 교체
+     *
+     * @return 교체에 성공하면 true
+     */
+    public synchronized boolean reload() {
+        try {
+            Map<String, Plan> plans = new LinkedHashMap<>(config.getPlans());
+            if (config.isPlanTableEnabled()) {
+                plans.putAll(pollPlanDAO.getPlans());
+            }
+
+            schedule = PollSchedule.compile(plans, config.getIntervalMillis());
+            logger.debug("polling 계획 적용: {}", schedule.getPlans().keySet());
+            return true;
+        } catch (Exception e) {
+            logger.error("polling 계획 로드 실패 - 기존 계획 유지: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 클라이언트에 적용되는 현재 계획
+     *
+     * @param address int로 묶은 IPv4 주소
+     */
+    public PollSchedule.CompiledPlan planFor(int address) {
+        return schedule.planFor(address);
+    }
+
+    public PollSchedule getSchedule() {
+        return schedule;
+    }
+}
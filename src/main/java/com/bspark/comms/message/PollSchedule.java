@@ -0,0 +1,266 @@
+package com.bspark.comms.message;
+
+import com.bspark.comms.config.CommsProperties.Polling.Plan;
+import com.bspark.comms.config.CommsProperties.Polling.PlanEntry;
+import com.bspark.comms.core.protocol.message.FrameEncoder;
+import com.bspark.comms.data.MessageType;
+import com.bspark.comms.util.IntLongHashMap;
+import com.bspark.comms.util.IpAddressUtils;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 컴파일된 polling 계획 (불변)
+ * 계획의 전송 주기를 기본 주기 tick 수로 바꾸고, 주기들의 최소공배수 길이의 순환표에
+ * tick별로 보낼 항목을 미리 펼쳐 둡니다. 요청 프레임도 미리 인코딩하므로 tick마다 계산이나 할당이 없습니다.
+ * 같은 주기를 갖는 항목이 같은 tick에 몰리지 않도록 항목 순서만큼 위치를 어긋나게 배치합니다.
+ * 클라이언트별 계획은 int로 묶은 IPv4 주소 -> 계획 번호의 primitive 맵으로 찾습니다.
+ */
+public final class PollSchedule {
+
+    public static final String DEFAULT_PLAN = "default";
+
+    // 순환표 최대 길이 (기본 주기 1초 기준 1시간)
+    private static final int MAX_CYCLE_TICKS = 3600;
+    // 변경 전송 여부를 비트로 표시하므로 계획당 최대 항목 수
+    private static final int MAX_ENTRIES = Long.SIZE;
+
+    private static final long NO_PLAN = -1;
+
+    private final CompiledPlan defaultPlan;
+    private final Map<String, CompiledPlan> plans;
+    // 컴파일 후 읽기만 하므로 동기화 불필요
+    private final CompiledPlan[] planTable;
+    private final IntLongHashMap clientPlans;
+
+    private PollSchedule(CompiledPlan defaultPlan, Map<String, CompiledPlan> plans,
+                         CompiledPlan[] planTable, IntLongHashMap clientPlans) {
+        this.defaultPlan = defaultPlan;
+        this.plans = plans;
+        this.planTable = planTable;
+        this.clientPlans = clientPlans;
+    }
+
+    /**
+     * 계획 컴파일 (default 계획이 없으면 기본 주기마다 상태 요청만 전송)
+     *
+     * @throws IllegalArgumentException 계획이 잘못된 경우
+     */
+    public static PollSchedule compile(Map<String, Plan> sources, long baseIntervalMillis) {
+        Map<String, CompiledPlan> plans = new HashMap<>();
+        List<CompiledPlan> planTable = new ArrayList<>();
+        IntLongHashMap clientPlans = new IntLongHashMap(NO_PLAN);
+
+        for (Map.Entry<String, Plan> source : sources.entrySet()) {
+            CompiledPlan plan = compilePlan(source.getKey(), source.getValue(), baseIntervalMillis);
+            plans.put(plan.name, plan);
+            planTable.add(plan);
+            for (String client : source.getValue().getClients()) {
+                long previous = clientPlans.put(IpAddressUtils.pack(client.trim()), planTable.size() - 1);
+                if (previous != NO_PLAN && previous != planTable.size() - 1) {
+                    throw new IllegalArgumentException("Client " + client + " belongs to plans "
+                            + planTable.get((int) previous).name + " and " + plan.name);
+                }
+            }
+        }
+
+        if (!plans.containsKey(DEFAULT_PLAN)) {
+            plans.put(DEFAULT_PLAN, compilePlan(DEFAULT_PLAN, statusOnlyPlan(baseIntervalMillis), baseIntervalMillis));
+        }
+
+        return new PollSchedule(plans.get(DEFAULT_PLAN), Collections.unmodifiableMap(plans),
+                planTable.toArray(new CompiledPlan[0]), clientPlans);
+    }
+
+    private static Plan statusOnlyPlan(long baseIntervalMillis) {
+        PlanEntry status = new PlanEntry();
+        status.setOpcode(MessageType.STATUS_REQUEST.getOpcode());
+        status.setIntervalMillis(baseIntervalMillis);
+
+        Plan plan = new Plan();
+        plan.getEntries().add(status);
+        return plan;
+    }
+
+    private static CompiledPlan compilePlan(String name, Plan source, long baseIntervalMillis) {
+        List<PlanEntry> sourceEntries = source.getEntries();
+        if (sourceEntries.isEmpty() || sourceEntries.size() > MAX_ENTRIES) {
+            throw new IllegalArgumentException("Plan " + name + " must have 1.." + MAX_ENTRIES + " entries");
+        }
+
+        Entry[] entries = new Entry[sourceEntries.size()];
+        int cycleTicks = 1;
+        for (int i = 0; i < entries.length; i++) {
+            PlanEntry planEntry = sourceEntries.get(i);
+            if (planEntry.getOpcode() < 0 || planEntry.getOpcode() > 0xFF) {
+                throw new IllegalArgumentException("Plan " + name + " has invalid opcode " + planEntry.getOpcode());
+            }
+            if (planEntry.getIntervalMillis() <= 0 && planEntry.getOnChangeOf() == null) {
+                throw new IllegalArgumentException("Plan " + name + " entry " + i + " has neither interval nor trigger");
+            }
+
+            entries[i] = new Entry(i, planEntry, baseIntervalMillis);
+            if (entries[i].periodTicks > 0) {
+                cycleTicks = lcm(cycleTicks, entries[i].periodTicks);
+                if (cycleTicks > MAX_CYCLE_TICKS) {
+                    throw new IllegalArgumentException("Plan " + name + " cycle exceeds " + MAX_CYCLE_TICKS + " ticks");
+                }
+            }
+        }
+
+        return new CompiledPlan(name, entries, cycleTicks);
+    }
+
+    private static int lcm(int a, int b) {
+        int x = a;
+        int y = b;
+        while (y != 0) {
+            int t = x % y;
+            x = y;
+            y = t;
+        }
+        return a / x * b;
+    }
+
+    /**
+     * 클라이언트에 적용되는 계획
+     *
+     * @param address int로 묶은 IPv4 주소
+     */
+    public CompiledPlan planFor(int address) {
+        long index = clientPlans.get(address);
+        return index == NO_PLAN ? defaultPlan : planTable[(int) index];
+    }
+
+    public Map<String, CompiledPlan> getPlans() {
+        return plans;
+    }
+
+    /**
+     * 컴파일된 계획 하나
+     */
+    public static final class CompiledPlan {
+        private final String name;
+        private final Entry[] entries;
+        // tick % cycle 위치별 주기 전송 항목과 응답을 기다리는 상태 요청 포함 여부
+        private final Entry[][] dueAt;
+        private final boolean[] tracksAt;
+        // 응답 유형별 변경 시 전송할 항목 비트
+        private final Map<MessageType, Long> changeMasks;
+
+        private CompiledPlan(String name, Entry[] entries, int cycleTicks) {
+            this.name = name;
+            this.entries = entries;
+            this.dueAt = new Entry[cycleTicks][];
+            this.tracksAt = new boolean[cycleTicks];
+
+            List<Entry> due = new ArrayList<>();
+            for (int tick = 0; tick < cycleTicks; tick++) {
+                due.clear();
+                for (Entry entry : entries) {
+                    if (entry.periodTicks > 0 && tick % entry.periodTicks == entry.offset) {
+                        due.add(entry);
+                        tracksAt[tick] |= entry.tracked;
+                    }
+                }
+                dueAt[tick] = due.toArray(new Entry[0]);
+            }
+
+            Map<MessageType, Long> masks = new HashMap<>();
+            for (Entry entry : entries) {
+                if (entry.onChangeOf != null) {
+                    masks.merge(entry.onChangeOf, 1L << entry.index, (a, b) -> a | b);
+                }
+            }
+            this.changeMasks = masks;
+        }
+
+        /**
+         * tick에 주기 전송할 항목
+         */
+        public Entry[] dueAt(long tick) {
+            return dueAt[(int) (tick % dueAt.length)];
+        }
+
+        /**
+         * tick에 상태 요청(응답 대기 제한 대상)이 포함되는지 확인
+         */
+        public boolean tracksAt(long tick) {
+            return tracksAt[(int) (tick % tracksAt.length)];
+        }
+
+        /**
+         * 응답 유형이 바뀌었을 때 전송할 항목 비트 (없으면 0)
+         */
+        public long changeMaskOf(MessageType type) {
+            return changeMasks.getOrDefault(type, 0L);
+        }
+
+        public Entry getEntry(int index) {
+            return entries[index];
+        }
+
+        public int getEntryCount() {
+            return entries.length;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    /**
+     * 계획 항목 (요청 프레임은 미리 인코딩되어 모든 클라이언트가 공유하므로 수정 금지)
+     * 전송에는 읽기 전용 direct 버퍼를 연결마다 duplicate하여 사용합니다.
+     */
+    public static final class Entry {
+        private final int index;
+        private final byte opcode;
+        private final ByteBuffer buffer;
+        private final int periodTicks;
+        private final int offset;
+        private final MessageType onChangeOf;
+        private final int minTicks;
+        private final boolean tracked;
+
+        private Entry(int index, PlanEntry source, long baseIntervalMillis) {
+            this.index = index;
+            this.opcode = (byte) source.getOpcode();
+            this.buffer = FrameEncoder.shared(opcode);
+            this.periodTicks = source.getIntervalMillis() > 0 ? toTicks(source.getIntervalMillis(), baseIntervalMillis) : 0;
+            this.offset = periodTicks > 0 ? index % periodTicks : 0;
+            this.onChangeOf = source.getOnChangeOf();
+            this.minTicks = toTicks(source.getMinIntervalMillis(), baseIntervalMillis);
+            this.tracked = source.getOpcode() == MessageType.STATUS_REQUEST.getOpcode();
+        }
+
+        private static int toTicks(long millis, long baseIntervalMillis) {
+            return (int) Math.max(1, Math.round((double) millis / baseIntervalMillis));
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public byte getOpcode() {
+            return opcode;
+        }
+
+        public ByteBuffer getBuffer() {
+            return buffer;
+        }
+
+        public int getMinTicks() {
+            return minTicks;
+        }
+
+        public boolean isTracked() {
+            return tracked;
+        }
+    }
+}
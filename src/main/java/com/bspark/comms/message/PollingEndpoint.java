@@ -0,0 +1,45 @@
+package com.bspark.comms.message;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 클라이언트별 polling 상태 actuator 엔드포인트 (/actuator/polling)
+ * POST 요청 시 polling 계획을 다시 읽습니다.
+ */
+@Component
+@Endpoint(id = "polling")
+public class PollingEndpoint {
+
+    private final AdaptivePollController pollController;
+    private final PollPlanRegistry planRegistry;
+
+    public PollingEndpoint(AdaptivePollController pollController, PollPlanRegistry planRegistry) {
+        this.pollController = pollController;
+        this.planRegistry = planRegistry;
+    }
+
+    @ReadOperation
+    public Map<String, Map<String, Object>> polling() {
+        return pollController.getSnapshot();
+    }
+
+    @ReadOperation
+    public Map<String, Object> client(@Selector String clientId) {
+        return pollController.getSnapshot().getOrDefault(clientId, Map.of());
+    }
+
+    @WriteOperation
+    public Map<String, Object> reload() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("reloaded", planRegistry.reload());
+        result.put("plans", planRegistry.getSchedule().getPlans().keySet());
+        return result;
+    }
+}
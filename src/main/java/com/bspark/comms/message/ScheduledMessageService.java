@@ -1,21 +1,31 @@
 package com.bspark.comms.message;
 
-import com.bspark.comms.core.protocol.message.MessageBuilder;
+import com.bspark.comms.config.CommsProperties;
+import com.bspark.comms.core.protocol.message.FrameView;
+import com.bspark.comms.core.scheduling.PollPhasePlanner;
+import com.bspark.comms.core.scheduling.PollTimer;
+import com.bspark.comms.core.scheduling.WheelTimeout;
+import com.bspark.comms.data.MessageType;
 import com.bspark.comms.events.ClientConnectedEvent;
 import com.bspark.comms.events.ClientDisconnectedEvent;
 import com.bspark.comms.network.server.TcpClientService;
+import com.bspark.comms.network.server.nio.ChannelContext;
+import com.bspark.comms.util.SlotArray;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 
 @Service
 public class ScheduledMessageService {
@@ -23,15 +33,27 @@ public class ScheduledMessageService {
 
     private final TcpClientService tcpClientService;
     private final MessageFactory messageFactory;
-    private final Map<String, ScheduledExecutorService> clientSchedulers = new ConcurrentHashMap<>();
+    private final PollTimer pollTimer;
+    private final PollPhasePlanner phasePlanner;
+    private final AdaptivePollController pollController;
+    private final PollPlanRegistry planRegistry;
+    private final long tickMillis;
+    // 연결 ID로 색인하는 클라이언트별 polling 상태
+    private final SlotArray<ClientPoll> clientPolls = new SlotArray<>();
+    // 타이머 tick 단위로 맞춘 위상 -> 같은 시점에 전송하는 클라이언트 묶음
+    private final Map<Long, PollGroup> pollGroups = new ConcurrentHashMap<>();
 
-    @Autowired
-    private final MessageBuilder messageBuilder;
-
-    public ScheduledMessageService(TcpClientService tcpClientService, MessageFactory messageFactory, MessageBuilder messageBuilder) {
+    public ScheduledMessageService(TcpClientService tcpClientService, MessageFactory messageFactory,
+                                   PollTimer pollTimer, PollPhasePlanner phasePlanner,
+                                   AdaptivePollController pollController, PollPlanRegistry planRegistry,
+                                   CommsProperties commsProperties) {
         this.tcpClientService = tcpClientService;
         this.messageFactory = messageFactory;
-        this.messageBuilder = messageBuilder;
+        this.pollTimer = pollTimer;
+        this.phasePlanner = phasePlanner;
+        this.pollController = pollController;
+        this.planRegistry = planRegistry;
+        this.tickMillis = Math.max(1, commsProperties.getPolling().getTickMillis());
     }
 
     /**
@@ -39,39 +61,95 @@ public class ScheduledMessageService {
      */
     @EventListener
     public void handleClientConnected(ClientConnectedEvent event) {
+        int connectionId = event.getConnectionId();
         String clientId = event.getClientId();
+        ChannelContext channel = tcpClientService.findChannel(connectionId);
+        // 이벤트 처리 전에 연결이 종료되어 ID가 다른 연결에 재사용된 경우 제외
+        if (channel == null || !clientId.equals(channel.getClientId())) {
+            logger.warn("연결 상태를 찾을 수 없어 정기 메시지 전송을 시작하지 않음: {}", clientId);
+            return;
+        }
         logger.info("클라이언트 연결됨: {} - 정기 메시지 전송 시작", clientId);
 
-        // 클라이언트별 스케줄러 생성
-        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
-            Thread t = new Thread(r, "scheduled-sender-" + clientId);
-            t.setDaemon(true);
-            return t;
+        // 위상 슬롯을 배정받아 같은 위상의 클라이언트 묶음에 추가 (클라이언트별 타이머 작업 없음)
+        phasePlanner.assign(connectionId, channel.getAddress());
+        pollController.register(connectionId, clientId);
+        ClientPoll poll = new ClientPoll(connectionId, channel, planRegistry.planFor(channel.getAddress()),
+                pollController);
+        ClientPoll previous = clientPolls.set(connectionId, poll);
+        if (previous != null) {
+            leaveGroup(previous);
+        }
+        joinGroup(poll);
+    }
+
+    /**
+     * 클라이언트 연결 종료 시 스케줄러 정리
+     */
+    @EventListener
+    public void handleClientDisconnected(ClientDisconnectedEvent event) {
+        logger.info("클라이언트 연결 종료됨: {} - 정기 메시지 전송 중단", event.getClientId());
+
+        cancelPoll(event.getConnectionId());
+    }
+
+    /**
+     * 배정된 위상의 묶음에 추가 (묶음이 없으면 만들어 공용 타이밍 휠에 등록)
+     */
+    private void joinGroup(ClientPoll poll) {
+        long phase = phasePlanner.phaseOf(poll.connectionId) / tickMillis * tickMillis;
+        pollGroups.compute(phase, (key, group) -> {
+            if (group == null) {
+                group = new PollGroup(phase);
+                group.timeout = schedulePollGroup(group);
+            }
+            group.members.add(poll);
+            poll.group = group;
+            return group;
         });
+    }
 
-        // 1초 간격으로 메시지 전송 스케줄링
-        scheduler.scheduleAtFixedRate(() -> {
+    private void leaveGroup(ClientPoll poll) {
+        PollGroup current = poll.group;
+        if (current == null) {
+            return;
+        }
+
+        pollGroups.computeIfPresent(current.phase, (key, group) -> {
+            group.members.remove(poll);
+            if (!group.members.isEmpty()) {
+                return group;
+            }
+            group.timeout.cancel();
+            return null;
+        });
+    }
+
+    /**
+     * 위상에 맞춰 묶음의 주기 전송 등록 (위상은 tick 단위로 맞췄으므로 tick 번호로 휠 선택)
+     */
+    private WheelTimeout schedulePollGroup(PollGroup group) {
+        int slot = (int) (group.phase / tickMillis);
+        long period = phasePlanner.getPeriodMillis();
+        return pollTimer.scheduleAtFixedRate(slot, () -> {
             try {
-                sendPeriodicMessageToClient(clientId);
+                pollGroup(group);
             } catch (Exception e) {
-                logger.error("정기 메시지 전송 중 오류 발생 (클라이언트: {}): {}", clientId, e.getMessage());
+                logger.error("정기 메시지 전송 중 오류 발생 (위상: {}ms): {}", group.phase, e.getMessage());
             }
-        }, 1, 1, TimeUnit.SECONDS);
-
-        clientSchedulers.put(clientId, scheduler);
+        }, phasePlanner.delayUntil(group.phase), period, TimeUnit.MILLISECONDS);
     }
 
     /**
-     * 클라이언트 연결 종료 시 스케줄러 정리
+     * 연결 종료로 슬롯 부하가 치우치면 일부 클라이언트를 다른 위상의 묶음으로 옮김
      */
-    @EventListener
-    public void handleClientDisconnected(ClientDisconnectedEvent event) {
-        String clientId = event.getClientId();
-        logger.info("클라이언트 연결 종료됨: {} - 정기 메시지 전송 중단", clientId);
-
-        ScheduledExecutorService scheduler = clientSchedulers.remove(clientId);
-        if (scheduler != null) {
-            scheduler.shutdownNow();
+    private void rebalancePhases() {
+        for (int connectionId : phasePlanner.rebalance()) {
+            ClientPoll poll = clientPolls.get(connectionId);
+            if (poll != null) {
+                leaveGroup(poll);
+                joinGroup(poll);
+            }
         }
     }
 
@@ -84,37 +162,156 @@ public class ScheduledMessageService {
         if (clientCount > 0) {
             logger.debug("하트비트 메시지 전송 (연결된 클라이언트: {}개)", clientCount);
 
-            tcpClientService.getConnectedClients().keySet().forEach(clientId -> {
-                try {
-                    byte[] heartbeatData = messageFactory.createHeartbeatMessage();
-                    tcpClientService.sendDataToClient(clientId, heartbeatData);
-                } catch (Exception e) {
-                    logger.warn("하트비트 메시지 전송 실패 (클라이언트: {}): {}", clientId, e.getMessage());
+            tcpClientService.sendDataToAllActiveClients(messageFactory.heartbeatFrame()).thenAccept(result -> {
+                if (result.getFailed() > 0) {
+                    logger.warn("하트비트 메시지 전송 실패: {}", result);
                 }
             });
         }
     }
 
     /**
-     * 특정 클라이언트에 주기적으로 메시지 전송
+     * 클라이언트 응답 수신 (처리 스레드)
+     * 상태 응답은 polling 제어에 알리고, 계획에서 변경 시 전송하도록 지정한 응답 유형이면
+     * 직전 응답과 CRC를 비교하여 내용이 바뀐 경우 해당 항목을 다음 주기에 전송하도록 표시합니다.
+     *
+     * @param channel 응답을 수신한 연결 (연결 ID로 바로 찾으며, 그 사이 종료되어 ID가 재사용된 경우 무시)
+     */
+    public void responseReceived(ChannelContext channel, MessageType messageType, FrameView frame) {
+        ClientPoll poll = clientPolls.get(channel.getId());
+        if (poll == null || poll.channel != channel) {
+            return;
+        }
+
+        if (messageType == MessageType.INTERSECTION_STATUS) {
+            pollController.responseReceived(poll.connectionId);
+        }
+
+        if (frame.length() >= FrameView.MIN_FRAME_SIZE) {
+            poll.cursor.responseReceived(messageType, frame.crc());
+        }
+    }
+
+    /**
+     * 같은 위상의 클라이언트에 계획된 요청 전송 (기본 주기마다 타이머 스레드에서 호출)
+     * 클라이언트별로 이번 주기에 보낼 항목을 모은 뒤, 같은 프레임을 받는 연결끼리 묶어
+     * 공유 버퍼 하나로 전송합니다. 프레임 인코딩과 연결 조회는 주기마다 반복하지 않습니다.
      */
-    private void sendPeriodicMessageToClient(String clientId) {
-        // 현재 시간을 포함한 상태 요청 메시지 생성
-        //byte[] statusRequestData = messageFactory.createStatusRequestMessage();
-
-        byte[] statusRequestData = messageBuilder.buildMessage((byte)0x12);
-
-        boolean sent = tcpClientService.sendDataToClient(clientId, statusRequestData);
-        if (sent) {
-            logger.debug("정기 상태 요청 메시지 전송됨: {}", clientId);
-        } else {
-            logger.warn("정기 상태 요청 메시지 전송 실패: {}", clientId);
-
-            // 전송 실패 시 스케줄러 정리 (클라이언트 연결이 끊어졌을 가능성)
-            ScheduledExecutorService scheduler = clientSchedulers.remove(clientId);
-            if (scheduler != null) {
-                scheduler.shutdownNow();
+    private void pollGroup(PollGroup group) {
+        Map<PollSchedule.Entry, List<ChannelContext>> batches = group.batches;
+        for (ClientPoll poll : group.members) {
+            collectDue(poll, batches);
+        }
+
+        int targets = 0;
+        Iterator<Map.Entry<PollSchedule.Entry, List<ChannelContext>>> iterator = batches.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<PollSchedule.Entry, List<ChannelContext>> batch = iterator.next();
+            List<ChannelContext> channels = batch.getValue();
+            if (channels.isEmpty()) {
+                // 이번 주기에 대상이 없는 항목 (계획 교체로 더 이상 쓰지 않는 항목 포함)
+                iterator.remove();
+                continue;
+            }
+            PollSchedule.Entry entry = batch.getKey();
+            if (entry.isTracked()) {
+                // 상태 요청은 기록 실패를 polling 제어에 알려 응답 대기에서 빼고 간격을 늘림
+                targets += channels.size();
+                tcpClientService.sendShared(entry.getBuffer(), channels, this::statusSendFailed)
+                        .thenAccept(result -> {
+                            if (result.getFailed() > 0) {
+                                logger.warn("정기 상태 요청 전송 실패 (위상: {}ms): {}", group.phase, result);
+                            }
+                        });
+            } else {
+                targets += tcpClientService.sendShared(entry.getBuffer(), channels);
             }
+            channels.clear();
+        }
+
+        if (targets > 0) {
+            logger.debug("정기 요청 메시지 전송됨: 위상 {}ms, {}건", group.phase, targets);
+        }
+    }
+
+    /**
+     * 상태 요청 기록 실패 (워커 스레드, 그 사이 종료되어 ID가 재사용된 연결은 무시)
+     */
+    private void statusSendFailed(ChannelContext channel) {
+        ClientPoll poll = clientPolls.get(channel.getId());
+        if (poll != null && poll.channel == channel) {
+            pollController.sendFailed(poll.connectionId);
+        }
+    }
+
+    /**
+     * 클라이언트의 이번 주기 전송 항목을 묶음에 추가
+     */
+    private void collectDue(ClientPoll poll, Map<PollSchedule.Entry, List<ChannelContext>> batches) {
+        if (poll.channel.isClosed()) {
+            // 연결 종료 이벤트에서 정리됨
+            return;
+        }
+
+        // 위상 재배치로 다른 휠의 묶음으로 옮겨지는 순간에만 경합하므로 사실상 비용 없음
+        synchronized (poll) {
+            collectDueLocked(poll, batches);
+        }
+    }
+
+    private void collectDueLocked(ClientPoll poll, Map<PollSchedule.Entry, List<ChannelContext>> batches) {
+        // 계획이 다시 로드되었으면 다음 tick부터 새 계획 적용
+        PollSchedule.CompiledPlan plan = planRegistry.planFor(poll.channel.getAddress());
+        for (long due = poll.cursor.advance(plan, poll.acquireTracked); due != 0; due &= due - 1) {
+            PollSchedule.Entry entry = plan.getEntry(Long.numberOfTrailingZeros(due));
+            batches.computeIfAbsent(entry, key -> new ArrayList<>()).add(poll.channel);
+        }
+    }
+
+    private void cancelPoll(int connectionId) {
+        ClientPoll poll = clientPolls.remove(connectionId);
+        if (poll != null) {
+            leaveGroup(poll);
+            pollController.remove(connectionId);
+            phasePlanner.release(connectionId);
+            rebalancePhases();
+        }
+    }
+
+    /**
+     * 같은 위상(타이머 tick 단위)에 전송하는 클라이언트 묶음
+     */
+    private static final class PollGroup {
+        private final long phase;
+        private final Set<ClientPoll> members = ConcurrentHashMap.newKeySet();
+        // 주기마다 비우고 재사용하는 프레임별 전송 대상 (타이머 스레드 전용)
+        private final Map<PollSchedule.Entry, List<ChannelContext>> batches = new IdentityHashMap<>();
+
+        private WheelTimeout timeout;
+
+        private PollGroup(long phase) {
+            this.phase = phase;
+        }
+    }
+
+    /**
+     * 클라이언트별 polling 진행 상태 (계획 진행은 타이머 스레드에서 잠금을 잡고 접근)
+     */
+    private static final class ClientPoll {
+        private final int connectionId;
+        private final ChannelContext channel;
+        private final PollCursor cursor;
+        // 상태 요청 전송 허용 여부 확인 (tick마다 만들지 않도록 한 번만 생성)
+        private final BooleanSupplier acquireTracked;
+
+        private volatile PollGroup group;
+
+        private ClientPoll(int connectionId, ChannelContext channel, PollSchedule.CompiledPlan plan,
+                           AdaptivePollController pollController) {
+            this.connectionId = connectionId;
+            this.channel = channel;
+            this.cursor = new PollCursor(plan);
+            this.acquireTracked = () -> pollController.tryAcquire(connectionId);
         }
     }
-}
\ No newline at end of file
+}
@@ -1,11 +1,17 @@
 package com.bspark.comms.network.server;
 
+import com.bspark.comms.network.server.nio.BroadcastResult;
+import com.bspark.comms.network.server.nio.ChannelContext;
 import com.bspark.comms.network.server.nio.NioConnectionManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 @Service
 public class TcpClientService {
@@ -19,43 +25,90 @@ public class TcpClientService {
 
     /**
      * 특정 클라이언트에게 데이터 전송
+     *
+     * @return 송신 대기열에 추가되었으면 true
      */
     public boolean sendDataToClient(String clientId, byte[] data) {
+        return !sendDataToClientAsync(clientId, data).isCompletedExceptionally();
+    }
+
+    /**
+     * 특정 클라이언트에게 데이터 전송 (소켓 기록 완료 시 future 완료)
+     */
+    public CompletableFuture<Void> sendDataToClientAsync(String clientId, byte[] data) {
         logger.debug("클라이언트에게 데이터 전송: {} ({} 바이트)", clientId, data.length);
         return connectionManager.sendData(clientId, data);
     }
 
-    public int sendDataToAllActiveClients(byte[] data) {
-        Map<String, String> connectedClients = connectionManager.getConnectedClients();
-
-        if (connectedClients.isEmpty()) {
-            logger.debug("브로드캐스트할 활성 클라이언트가 없습니다");
-            return 0;
-        }
-
-        int successCount = 0;
-        int totalClients = connectedClients.size();
-
-        logger.info("모든 클라이언트에게 브로드캐스트 시작: {} 클라이언트 ({} 바이트)",
-                totalClients, data.length);
-
-        for (String clientId : connectedClients.keySet()) {
-            try {
-                if (connectionManager.sendData(clientId, data)) {
-                    successCount++;
-                    logger.debug("브로드캐스트 성공: {}", clientId);
-                } else {
-                    logger.warn("브로드캐스트 실패: {}", clientId);
-                }
-            } catch (Exception e) {
-                logger.error("브로드캐스트 중 오류 발생 ({}): {}", clientId, e.getMessage());
-            }
-        }
+    /**
+     * 수신한 연결에 응답 전송 (연결 조회 없음)
+     */
+    public CompletableFuture<Void> sendDataToChannel(ChannelContext channel, byte[] data) {
+        return connectionManager.sendData(channel, data);
+    }
+
+    /**
+     * 같은 프레임을 여러 연결에 한 번에 전송 (연결 조회 없이 보관 중인 연결 상태 사용)
+     *
+     * @param frame 읽기 전용 공유 프레임 버퍼
+     * @return 송신 대기열에 추가된 연결 수
+     */
+    public int sendShared(ByteBuffer frame, List<ChannelContext> targets) {
+        return connectionManager.sendShared(frame, targets);
+    }
+
+    /**
+     * 같은 프레임을 여러 연결에 전송하고 기록에 실패한 연결을 onFailure로 받음
+     *
+     * @return 모든 대상의 소켓 기록이 끝나면 성공/실패 수와 함께 완료되는 future
+     */
+    public CompletableFuture<BroadcastResult> sendShared(ByteBuffer frame, List<ChannelContext> targets,
+                                                         Consumer<ChannelContext> onFailure) {
+        return connectionManager.sendShared(frame, targets, onFailure);
+    }
+
+    /**
+     * 클라이언트의 연결 상태 조회 (없으면 null)
+     */
+    public ChannelContext findChannel(String clientId) {
+        return connectionManager.findContext(clientId);
+    }
 
-        logger.info("브로드캐스트 완료: {}/{} 클라이언트 성공", successCount, totalClients);
-        return successCount;
+    /**
+     * 연결 ID로 연결 상태 조회 (없으면 null)
+     */
+    public ChannelContext findChannel(int connectionId) {
+        return connectionManager.findContext(connectionId);
     }
 
+    /**
+     * 연결된 모든 클라이언트에게 같은 데이터 전송
+     * 데이터는 한 번만 읽기 전용 direct 버퍼로 복사되고 연결마다 duplicate로 공유됩니다.
+     * 호출 스레드는 워커에 분배만 하고 바로 반환합니다.
+     *
+     * @return 모든 대상의 소켓 기록이 끝나면 성공/실패 수와 함께 완료되는 future
+     */
+    public CompletableFuture<BroadcastResult> sendDataToAllActiveClients(byte[] data) {
+        return sendDataToAllActiveClients(ByteBuffer.allocateDirect(data.length).put(data).flip().asReadOnlyBuffer());
+    }
+
+    /**
+     * 연결된 모든 클라이언트에 공유 프레임 전송 (복사 없음)
+     *
+     * @param frame 읽기 전용 공유 프레임 버퍼 (position~limit, 호출 후에도 수정하면 안 됨)
+     */
+    public CompletableFuture<BroadcastResult> sendDataToAllActiveClients(ByteBuffer frame) {
+        int size = frame.remaining();
+        CompletableFuture<BroadcastResult> result = connectionManager.broadcast(frame);
+        result.thenAccept(broadcast -> {
+            if (broadcast.getTotal() == 0) {
+                logger.debug("브로드캐스트할 활성 클라이언트가 없습니다");
+            } else {
+                logger.info("브로드캐스트 완료 ({} 바이트): {}", size, broadcast);
+            }
+        });
+        return result;
+    }
 
     /**
      * 클라이언트 연결 종료
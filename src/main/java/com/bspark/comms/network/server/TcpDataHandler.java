@@ -1,66 +1,75 @@
 
 package com.bspark.comms.network.server;
 
+import com.bspark.comms.core.protocol.message.FrameView;
 import com.bspark.comms.data.MessageType;
-import com.bspark.comms.events.DataReceivedEvent;
 import com.bspark.comms.message.MessageProcessor;
+import com.bspark.comms.message.ScheduledMessageService;
+import com.bspark.comms.network.server.dispatch.InboundDispatcher;
+import com.bspark.comms.network.server.dispatch.InboundFrameHandler;
+import com.bspark.comms.network.server.dispatch.InboundSlot;
+import com.bspark.comms.network.server.nio.ChannelContext;
 import com.bspark.comms.service.external.HttpClientService;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-
 @Component
 @RequiredArgsConstructor
-public class TcpDataHandler {
+public class TcpDataHandler implements InboundFrameHandler {
     private static final Logger logger = LoggerFactory.getLogger(TcpDataHandler.class);
 
     private final MessageProcessor messageProcessor;
     private final TcpClientService tcpClientService;
     private final HttpClientService httpClientService; // 추가
+    private final InboundDispatcher inboundDispatcher;
+    private final ScheduledMessageService scheduledMessageService;
 
-    private final ExecutorService processingExecutor = Executors.newFixedThreadPool(
-            Runtime.getRuntime().availableProcessors(),
-            r -> {
-                Thread t = new Thread(r, "tcp-data-handler");
-                t.setDaemon(true);
-                return t;
-            }
-    );
+    /**
+     * 수신 분배기의 처리 스레드에서 데이터 처리 시작
+     */
+    @PostConstruct
+    public void start() {
+        inboundDispatcher.start(this);
+    }
 
     /**
-     * 데이터 수신 이벤트 처리
+     * 데이터 수신 처리 (수신 분배기 처리 스레드)
      */
-    @EventListener
-    public void handleDataReceived(DataReceivedEvent event) {
-        String clientId = event.getClientId();
-        byte[] data = event.getData();
+    @Override
+    public void onFrame(InboundSlot slot) {
+        String clientId = slot.getClientId();
+        FrameView frame = slot.getFrame();
+
+        // 요청에 대한 응답이면 polling 제어와 변경 시 전송 계획에 알림
+        if (slot.getMessageType().isResponse()) {
+            scheduledMessageService.responseReceived(slot.getContext(), slot.getMessageType(), frame);
+        }
 
-        logger.debug("데이터 수신 처리: {} ({} 바이트)", clientId, data.length);
+        logger.debug("데이터 수신 처리: {} ({} 바이트)", clientId, frame.length());
 
-        // 데이터 처리를 별도 스레드 풀에서 비동기 처리
-        processingExecutor.submit(() -> processReceivedData(clientId, event.getMessageType(), data));
+        // 슬롯 배열을 가리키는 뷰를 그대로 넘김 (뷰를 보관하는 쪽에서 retain/copy)
+        processReceivedData(slot.getContext(), clientId, slot.getMessageType(), frame);
     }
 
     /**
      * 수신된 데이터 처리
      */
-    private void processReceivedData(String clientId, MessageType messageType, byte[] data) {
+    private void processReceivedData(ChannelContext channel, String clientId, MessageType messageType, FrameView frame) {
         try {
             // 1. 기존 HTTP API로 데이터 전송 (Redis/외부 시스템으로)
             logger.debug("외부 API로 데이터 전송: 클라이언트={}, 유형={}", clientId, messageType);
-            httpClientService.sendDataAsync(clientId, messageType, data);
+            httpClientService.sendDataAsync(clientId, messageType, frame);
 
             // 2. 메시지 처리기를 통해 데이터 처리 및 응답 생성
-            byte[] response = messageProcessor.processMessage(clientId, messageType, data);
+            byte[] response = messageProcessor.processMessage(clientId, messageType, frame);
 
             // 3. 응답이 있다면 클라이언트에게 전송
             if (response != null && response.length > 0) {
-                tcpClientService.sendDataToClient(clientId, response);
+                // 수신한 연결로 바로 응답 (IP 문자열로 연결을 다시 찾지 않음)
+                tcpClientService.sendDataToChannel(channel, response);
                 logger.debug("응답 전송 완료: {} ({} 바이트)", clientId, response.length);
             }
 
@@ -68,4 +77,4 @@ public class TcpDataHandler {
             logger.error("데이터 처리 중 오류 발생 (클라이언트: {}): {}", clientId, e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+}
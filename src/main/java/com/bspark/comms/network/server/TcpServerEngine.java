@@ -0,0 +1,18 @@
+package com.bspark.comms.network.server;
+
+import java.util.Set;
+
+/**
+ * TCP 서버 엔진
+ * comms.server.engine 설정으로 NIO Selector 엔진과 가상 스레드 엔진 중 하나가 등록됩니다.
+ */
+public interface TcpServerEngine {
+
+    void start(int port, Set<String> whiteList);
+
+    void stop();
+
+    boolean isRunning();
+
+    int getServerPort();
+}
@@ -0,0 +1,394 @@
+package com.bspark.comms.network.server;
+
+import com.bspark.comms.config.CommsProperties;
+import com.bspark.comms.core.scheduling.PollTimer;
+import com.bspark.comms.dao.IpAddressWhitelistDAO;
+import com.bspark.comms.util.IntLongHashMap;
+import com.bspark.comms.util.IpAddressUtils;
+import com.bspark.comms.util.Ipv4RadixTrie;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 연결 허용 IP 캐시
+ * 허용 목록 항목은 단일 IP, CIDR 블록, 주소 범위이며 앞에 {@code !}를 붙이면 거부 항목입니다({@link Ipv4RadixTrie}).
+ * 설정 항목과 DB 항목을 하나의 radix 트리로 컴파일하므로 주소 판단은 트리 한 번 조회로 끝납니다.
+ * 수락 스레드는 메모리의 허용 목록과 개별 조회 결과(허용/거부 TTL)만 확인하고 DB를 호출하지 않습니다.
+ * 캐시로 판단할 수 없는 IP는 조회 스레드에서 DB를 확인하며, 허용 목록 전체는 주기적으로 다시 읽습니다.
+ * 변경 알림으로 동기화 중({@link #resync()} 이후)에는 메모리 목록이 DB와 같으므로 목록에 없는 IP는 바로 거부하고
+ * 주기 갱신도 건너뜁니다.
+ */
+@Component
+public class WhitelistCache {
+    private static final Logger logger = LoggerFactory.getLogger(WhitelistCache.class);
+
+    private static final String REFRESH_TASK_KEY = "whitelist-refresh";
+    private static final long NO_ENTRY = -1;
+
+    /**
+     * 캐시 판단 결과
+     */
+    public enum Decision {
+        ALLOWED, DENIED, UNKNOWN
+    }
+
+    private final IpAddressWhitelistDAO whitelistDao;
+    private final CommsProperties.Whitelist config;
+    private final PollTimer pollTimer;
+    private final ExecutorService lookupExecutor;
+
+    // 설정 항목과 DB 항목 (tableLock으로 보호하며 변경 시 새 집합으로 교체)
+    private Set<String> configuredEntries = Set.of();
+    private Set<String> tableEntries = Set.of();
+    // 두 항목을 컴파일한 규칙 (교체 후에는 읽기만 함)
+    private volatile Ipv4RadixTrie rules = Ipv4RadixTrie.builder().build();
+    // 항목 변경, 규칙 교체, 동기화 상태 변경을 직렬화
+    private final Object tableLock = new Object();
+    // 변경 알림으로 DB와 동기화 중인지 여부
+    private volatile boolean live;
+    // 개별 조회 결과: 주소 -> (만료 시각 << 1 | 허용 여부), decisions 잠금으로 보호
+    private final IntLongHashMap decisions = new IntLongHashMap(NO_ENTRY);
+    // 진행 중인 개별 조회 (같은 IP의 동시 연결은 조회 하나를 공유)
+    private final Map<Integer, CompletableFuture<Boolean>> lookups = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger(0);
+
+    private final Counter hits;
+    private final Counter negativeHits;
+    private final Counter misses;
+    private final Counter overflows;
+    private final Counter notListed;
+    private final Counter denyRuleHits;
+    private final Timer lookupLatency;
+    private final Timer refreshLatency;
+
+    public WhitelistCache(IpAddressWhitelistDAO whitelistDao, CommsProperties commsProperties,
+                          PollTimer pollTimer, MeterRegistry meterRegistry) {
+        this.whitelistDao = whitelistDao;
+        this.config = commsProperties.getWhitelist();
+        this.pollTimer = pollTimer;
+        this.lookupExecutor = Executors.newFixedThreadPool(Math.max(1, config.getLookupThreads()), r -> {
+            Thread t = new Thread(r, "whitelist-lookup");
+            t.setDaemon(true);
+            return t;
+        });
+
+        this.hits = lookupCounter(meterRegistry, "hit");
+        this.negativeHits = lookupCounter(meterRegistry, "negative-hit");
+        this.misses = lookupCounter(meterRegistry, "miss");
+        this.overflows = lookupCounter(meterRegistry, "overflow");
+        this.notListed = lookupCounter(meterRegistry, "not-listed");
+        this.denyRuleHits = lookupCounter(meterRegistry, "deny-rule");
+        this.lookupLatency = dbTimer(meterRegistry, "lookup");
+        this.refreshLatency = dbTimer(meterRegistry, "refresh");
+        Gauge.builder("comms.whitelist.pending", pending, AtomicInteger::get)
+                .description("화이트리스트 조회를 기다리며 보류 중인 연결 수")
+                .register(meterRegistry);
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("comms.whitelist.lookups")
+                .description("연결 수락 시 화이트리스트 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Timer dbTimer(MeterRegistry meterRegistry, String query) {
+        return Timer.builder("comms.whitelist.db.latency")
+                .description("화이트리스트 DB 조회 시간")
+                .tag("query", query)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        long refreshMillis = config.getRefreshMillis();
+        if (refreshMillis > 0) {
+            // DB 조회가 타이머 스레드를 막지 않도록 조회 스레드에서 실행
+            pollTimer.scheduleAtFixedRate(REFRESH_TASK_KEY,
+                    () -> CompletableFuture.runAsync(this::refreshIfStale, lookupExecutor),
+                    refreshMillis, refreshMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * DB와 별도로 적용할 항목 설정 (서버 시작 시)
+     */
+    public void setConfiguredIps(Set<String> ips) {
+        synchronized (tableLock) {
+            configuredEntries = normalize(ips);
+            compile();
+        }
+    }
+
+    /**
+     * DB 허용 목록 전체를 다시 읽고 만료된 개별 조회 결과 정리
+     *
+     * @return 성공하면 true (실패하면 기존 목록 유지)
+     */
+    public boolean refresh() {
+        synchronized (tableLock) {
+            try {
+                Set<String> ips = refreshLatency.recordCallable(whitelistDao::getAllowedIps);
+                tableEntries = normalize(ips);
+                compile();
+                purgeExpired(System.currentTimeMillis());
+                logger.debug("PostgreSQL에서 {} 개의 화이트리스트 IP 로드됨", ips.size());
+                return true;
+            } catch (Exception e) {
+                logger.error("화이트리스트 갱신 실패 - 기존 목록 유지: {}", e.getMessage());
+                return false;
+            }
+        }
+    }
+
+    private void refreshIfStale() {
+        synchronized (tableLock) {
+            if (live) {
+                purgeExpired(System.currentTimeMillis());
+                return;
+            }
+            refresh();
+        }
+    }
+
+    /**
+     * 변경 알림 수신을 시작(또는 재연결)한 뒤 전체 목록을 다시 읽어 동기화 상태로 전환
+     * LISTEN 이후에 읽으므로 그 사이의 변경은 이어서 받는 알림으로 반영됩니다.
+     *
+     * @return 성공하면 true (실패하면 동기화 상태로 전환하지 않음)
+     */
+    public boolean resync() {
+        synchronized (tableLock) {
+            Set<String> previous = tableEntries;
+            if (!refresh()) {
+                return false;
+            }
+
+            Set<String> current = tableEntries;
+            int[] changes = new int[2];
+            for (String entry : current) {
+                if (!previous.contains(entry)) {
+                    changes[0]++;
+                    logger.debug("화이트리스트 동기화 - 추가된 항목: {}", entry);
+                }
+            }
+            for (String entry : previous) {
+                if (!current.contains(entry)) {
+                    changes[1]++;
+                    logger.debug("화이트리스트 동기화 - 삭제된 항목: {}", entry);
+                }
+            }
+            // 동기화 중에는 개별 조회 결과를 쓰지 않으므로 재연결 후 폴백할 때 오래된 결과가 남지 않도록 비움
+            synchronized (decisions) {
+                decisions.clear();
+            }
+            live = true;
+            logger.info("화이트리스트 동기화 완료 - 전체 {} (추가 {}, 삭제 {})", current.size(), changes[0], changes[1]);
+            return true;
+        }
+    }
+
+    /**
+     * 변경 알림 수신이 끊김 (재동기화 전까지 주기 갱신과 개별 조회로 폴백)
+     */
+    public void markStale() {
+        live = false;
+    }
+
+    public boolean isLive() {
+        return live;
+    }
+
+    /**
+     * 알림으로 받은 DB 항목 추가
+     *
+     * @throws IllegalArgumentException 항목 형식이 잘못된 경우
+     */
+    public void allow(String entry) {
+        String normalized = entry.trim();
+        // 형식 확인
+        Ipv4RadixTrie.builder().add(normalized);
+        synchronized (tableLock) {
+            if (tableEntries.contains(normalized)) {
+                return;
+            }
+            Set<String> updated = new HashSet<>(tableEntries);
+            updated.add(normalized);
+            tableEntries = updated;
+            compile();
+        }
+    }
+
+    /**
+     * 알림으로 받은 DB 항목 삭제
+     */
+    public void revoke(String entry) {
+        String normalized = entry.trim();
+        synchronized (tableLock) {
+            if (!tableEntries.contains(normalized)) {
+                return;
+            }
+            Set<String> updated = new HashSet<>(tableEntries);
+            updated.remove(normalized);
+            tableEntries = updated;
+            compile();
+        }
+    }
+
+    /**
+     * 메모리만으로 허용 여부 판단 (수락 스레드, DB 호출 없음)
+     * 거부 항목에 걸리면 바로 거부하고, 허용 항목이 하나도 없으면 나머지 IP는 모두 허용합니다.
+     */
+    public Decision check(int address) {
+        Ipv4RadixTrie current = rules;
+        int verdict = current.match(address);
+        if (verdict == Ipv4RadixTrie.DENY) {
+            denyRuleHits.increment();
+            return Decision.DENIED;
+        }
+        if (!current.hasAllowRules()) {
+            return Decision.ALLOWED;
+        }
+        if (verdict == Ipv4RadixTrie.ALLOW) {
+            hits.increment();
+            return Decision.ALLOWED;
+        }
+        if (live) {
+            notListed.increment();
+            return Decision.DENIED;
+        }
+
+        long entry;
+        synchronized (decisions) {
+            entry = decisions.get(address);
+        }
+        if (entry != NO_ENTRY && (entry >>> 1) > System.currentTimeMillis()) {
+            boolean allowed = (entry & 1) != 0;
+            (allowed ? hits : negativeHits).increment();
+            return allowed ? Decision.ALLOWED : Decision.DENIED;
+        }
+
+        misses.increment();
+        return Decision.UNKNOWN;
+    }
+
+    /**
+     * 캐시에 없는 IP를 조회 스레드에서 DB로 확인
+     * 보류 중인 연결이 상한에 도달하면 조회하지 않고 거부합니다.
+     *
+     * @return 허용 여부로 완료되는 future (조회 스레드에서 완료)
+     */
+    public CompletableFuture<Boolean> resolve(int address) {
+        if (pending.incrementAndGet() > config.getMaxPending()) {
+            pending.decrementAndGet();
+            overflows.increment();
+            logger.warn("화이트리스트 조회 대기 연결이 너무 많아 거부: {}", IpAddressUtils.format(address));
+            return CompletableFuture.completedFuture(false);
+        }
+
+        CompletableFuture<Boolean> created = new CompletableFuture<>();
+        CompletableFuture<Boolean> lookup = lookups.putIfAbsent(address, created);
+        if (lookup == null) {
+            lookup = created;
+            try {
+                lookupExecutor.execute(() -> {
+                    try {
+                        boolean allowed = lookup(address);
+                        lookups.remove(address, created);
+                        created.complete(allowed);
+                    } catch (Throwable e) {
+                        lookups.remove(address, created);
+                        created.completeExceptionally(e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // 종료 중
+                lookups.remove(address, created);
+                created.complete(false);
+            }
+        }
+        return lookup.whenComplete((allowed, error) -> pending.decrementAndGet());
+    }
+
+    private boolean lookup(int address) {
+        String ip = IpAddressUtils.format(address);
+        long start = System.nanoTime();
+        boolean allowed = whitelistDao.isIpAllowed(ip);
+        lookupLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        long ttl = allowed ? config.getPositiveTtlMillis() : config.getNegativeTtlMillis();
+        synchronized (decisions) {
+            decisions.put(address, (System.currentTimeMillis() + ttl) << 1 | (allowed ? 1 : 0));
+        }
+        return allowed;
+    }
+
+    private void purgeExpired(long now) {
+        synchronized (decisions) {
+            IntLongHashMap unexpired = new IntLongHashMap(NO_ENTRY);
+            decisions.forEach((address, entry) -> {
+                if ((entry >>> 1) > now) {
+                    unexpired.put(address, entry);
+                }
+            });
+            decisions.clear();
+            unexpired.forEach(decisions::put);
+        }
+    }
+
+    /**
+     * 설정 항목과 DB 항목으로 규칙을 다시 컴파일 (tableLock 안에서 호출)
+     */
+    private void compile() {
+        Ipv4RadixTrie.Builder builder = Ipv4RadixTrie.builder();
+        addEntries(builder, configuredEntries);
+        addEntries(builder, tableEntries);
+        rules = builder.build();
+    }
+
+    private static void addEntries(Ipv4RadixTrie.Builder builder, Set<String> entries) {
+        for (String entry : entries) {
+            try {
+                builder.add(entry);
+            } catch (IllegalArgumentException e) {
+                logger.warn("형식이 잘못된 화이트리스트 항목 무시: {}", entry);
+            }
+        }
+    }
+
+    private static Set<String> normalize(Set<String> entries) {
+        Set<String> normalized = new HashSet<>();
+        if (entries != null) {
+            for (String entry : entries) {
+                if (entry != null && !entry.isBlank()) {
+                    normalized.add(entry.trim());
+                }
+            }
+        }
+        return normalized;
+    }
+
+    @PreDestroy
+    public void stop() {
+        lookupExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,180 @@
+package com.bspark.comms.network.server;
+
+import com.bspark.comms.config.CommsProperties;
+import com.bspark.comms.dao.IpAddressWhitelistDAO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.regex.Pattern;
+
+/**
+ * 허용 목록 테이블 변경 알림 수신 (PostgreSQL LISTEN/NOTIFY)
+ * 전용 스레드가 DB 연결 하나로 알림을 받아 {@link WhitelistCache}에 추가/삭제를 바로 반영합니다.
+ * 연결이 끊기면 캐시는 주기 갱신과 개별 조회로 폴백하고, 재연결 후 전체 목록을 다시 읽어 동기화합니다.
+ *
+ * <p>알림 페이로드는 {@code INSERT:<항목>} 또는 {@code DELETE:<항목>}이며 그 밖의 알림은 전체 재동기화로 처리합니다.
+ * 테이블에 필요한 트리거:
+ * <pre>
+ * CREATE OR REPLACE FUNCTION tsc_schema.notify_tb_tsc_list() RETURNS trigger AS $$
+ * BEGIN
+ *     IF TG_OP = 'TRUNCATE' THEN
+ *         PERFORM pg_notify('tsc_whitelist', 'TRUNCATE');
+ *         RETURN NULL;
+ *     END IF;
+ *     IF TG_OP IN ('UPDATE', 'DELETE') THEN
+ *         PERFORM pg_notify('tsc_whitelist', 'DELETE:' || OLD.ip_address);
+ *     END IF;
+ *     IF TG_OP IN ('INSERT', 'UPDATE') THEN
+ *         PERFORM pg_notify('tsc_whitelist', 'INSERT:' || NEW.ip_address);
+ *     END IF;
+ *     RETURN NULL;
+ * END;
+ * $$ LANGUAGE plpgsql;
+ *
+ * CREATE TRIGGER tb_tsc_list_notify
+ *     AFTER INSERT OR UPDATE OF ip_address OR DELETE ON tsc_schema.tb_tsc_list
+ *     FOR EACH ROW EXECUTE FUNCTION tsc_schema.notify_tb_tsc_list();
+ * CREATE TRIGGER tb_tsc_list_notify_truncate
+ *     AFTER TRUNCATE ON tsc_schema.tb_tsc_list
+ *     FOR EACH STATEMENT EXECUTE FUNCTION tsc_schema.notify_tb_tsc_list();
+ * </pre>
+ */
+@Component
+public class WhitelistChangeListener {
+    private static final Logger logger = LoggerFactory.getLogger(WhitelistChangeListener.class);
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+    // 알림 대기 시간 (종료 요청 확인 주기)
+    private static final int POLL_MILLIS = 1000;
+    // 알림이 없을 때 연결이 살아 있는지 확인하는 주기 (끊긴 TCP 연결은 알림 대기로는 드러나지 않음)
+    private static final long VALIDATE_INTERVAL_MILLIS = 30000;
+    private static final int VALIDATE_TIMEOUT_SECONDS = 5;
+    private static final long MIN_RECONNECT_DELAY_MILLIS = 1000;
+    private static final long MAX_RECONNECT_DELAY_MILLIS = 30000;
+
+    private final IpAddressWhitelistDAO whitelistDao;
+    private final WhitelistCache whitelistCache;
+    private final CommsProperties.Whitelist config;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public WhitelistChangeListener(IpAddressWhitelistDAO whitelistDao, WhitelistCache whitelistCache,
+                                   CommsProperties commsProperties) {
+        this.whitelistDao = whitelistDao;
+        this.whitelistCache = whitelistCache;
+        this.config = commsProperties.getWhitelist();
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!config.isNotifyEnabled()) {
+            logger.info("화이트리스트 변경 알림 비활성화 - 주기 갱신과 개별 조회 사용");
+            return;
+        }
+
+        String channel = config.getNotifyChannel();
+        if (channel == null || !CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalStateException("Invalid whitelist notify channel: " + channel);
+        }
+
+        running = true;
+        listenerThread = new Thread(() -> listenLoop(channel), "whitelist-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    private void listenLoop(String channel) {
+        long reconnectDelay = MIN_RECONNECT_DELAY_MILLIS;
+        while (running) {
+            try (Connection conn = whitelistDao.listen(channel)) {
+                PGConnection pgConnection = conn.unwrap(PGConnection.class);
+                // LISTEN 이후 전체 목록을 읽어야 그 사이 변경이 알림으로 이어짐
+                if (!whitelistCache.resync()) {
+                    throw new SQLException("화이트리스트 전체 동기화 실패");
+                }
+                logger.info("화이트리스트 변경 알림 수신 시작: {}", channel);
+                reconnectDelay = MIN_RECONNECT_DELAY_MILLIS;
+                receive(conn, pgConnection);
+            } catch (Exception e) {
+                if (running) {
+                    logger.warn("화이트리스트 변경 알림 연결 실패 - {}ms 후 재연결: {}", reconnectDelay, e.getMessage());
+                }
+            } finally {
+                whitelistCache.markStale();
+            }
+
+            if (!running) {
+                break;
+            }
+            try {
+                Thread.sleep(reconnectDelay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            reconnectDelay = Math.min(reconnectDelay * 2, MAX_RECONNECT_DELAY_MILLIS);
+        }
+        logger.info("화이트리스트 변경 알림 수신 종료");
+    }
+
+    private void receive(Connection conn, PGConnection pgConnection) throws SQLException {
+        long lastActivity = System.currentTimeMillis();
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(POLL_MILLIS);
+            long now = System.currentTimeMillis();
+            if (notifications != null && notifications.length > 0) {
+                for (PGNotification notification : notifications) {
+                    apply(notification.getParameter());
+                }
+                lastActivity = now;
+            } else if (now - lastActivity >= VALIDATE_INTERVAL_MILLIS) {
+                if (!conn.isValid(VALIDATE_TIMEOUT_SECONDS)) {
+                    throw new SQLException("알림 연결 응답 없음");
+                }
+                lastActivity = now;
+            }
+        }
+    }
+
+    private void apply(String payload) throws SQLException {
+        int separator = payload == null ? -1 : payload.indexOf(':');
+        String operation = separator < 0 ? payload : payload.substring(0, separator);
+        if (separator < 0 || !("INSERT".equals(operation) || "DELETE".equals(operation))) {
+            logger.info("화이트리스트 변경 알림 '{}' - 전체 재동기화", payload);
+            if (!whitelistCache.resync()) {
+                throw new SQLException("화이트리스트 전체 동기화 실패");
+            }
+            return;
+        }
+
+        String entry = payload.substring(separator + 1).trim();
+        if ("INSERT".equals(operation)) {
+            try {
+                whitelistCache.allow(entry);
+            } catch (IllegalArgumentException e) {
+                logger.warn("형식이 잘못된 화이트리스트 변경 알림 무시: {}", payload);
+                return;
+            }
+            logger.info("화이트리스트 항목 추가: {}", entry);
+        } else {
+            whitelistCache.revoke(entry);
+            logger.info("화이트리스트 항목 삭제: {}", entry);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+}
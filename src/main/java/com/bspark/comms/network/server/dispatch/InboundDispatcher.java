@@ -0,0 +1,253 @@
+package com.bspark.comms.network.server.dispatch;
+
+import com.bspark.comms.config.CommsProperties;
+import com.bspark.comms.data.MessageType;
+import com.bspark.comms.network.server.nio.ChannelContext;
+import com.bspark.comms.network.server.nio.InboundFlowControl;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 수신 프레임 분배기
+ * 클라이언트 ID 해시로 레인을 선택하고, 레인은 한 번에 한 스레드만 처리하므로 같은 클라이언트의 프레임은 수신 순서대로 처리됩니다.
+ * 레인 수를 처리 스레드 수보다 많게 두어 각 스레드가 여러 레인을 맡고, 자기 레인이 비었을 때는
+ * 적체된 다른 스레드의 레인을 통째로 가져가 처리합니다 (레인 단위 작업 훔치기).
+ * 데이터 경로에서는 Spring 이벤트를 사용하지 않으며, 연결/종료 이벤트만 ApplicationEventPublisher로 발행합니다.
+ */
+@Component
+public class InboundDispatcher {
+    private static final Logger logger = LoggerFactory.getLogger(InboundDispatcher.class);
+
+    // 한 번에 처리할 최대 슬롯 수 (레인 소유권을 잡고 있는 단위)
+    private static final int MAX_BATCH = 64;
+
+    private final InboundFlowControl flowControl;
+    private final InboundLane[] lanes;
+    private final InboundLane[][] homeLanes;
+    private final WaitStrategy[] waitStrategies;
+    private final int stealThreshold;
+    private final Counter laneSteals;
+    private final Counter rejectedFrames;
+    private final List<Thread> threads = new ArrayList<>();
+
+    private volatile boolean running = false;
+
+    public InboundDispatcher(CommsProperties commsProperties, InboundFlowControl flowControl,
+                             MeterRegistry meterRegistry) {
+        CommsProperties.Server server = commsProperties.getServer();
+        int threadCount = server.resolveDispatchThreads();
+        int laneCount = Math.max(threadCount, server.resolveDispatchLanes());
+
+        this.flowControl = flowControl;
+        this.stealThreshold = server.getDispatchStealThreshold();
+        this.waitStrategies = new WaitStrategy[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            waitStrategies[i] = WaitStrategy.create(server.getDispatchWaitStrategy());
+        }
+
+        // 레인 i는 스레드 (i % 스레드 수)에 배정
+        this.lanes = new InboundLane[laneCount];
+        List<List<InboundLane>> assigned = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            assigned.add(new ArrayList<>());
+        }
+        for (int i = 0; i < laneCount; i++) {
+            int home = i % threadCount;
+            lanes[i] = new InboundLane(i, home, new InboundRing(server.getDispatchRingSize(), waitStrategies[home]));
+            assigned.get(home).add(lanes[i]);
+
+            Gauge.builder("comms.tcp.dispatch.lane.depth", lanes[i], InboundLane::getDepth)
+                    .description("레인별 처리 대기 중인 수신 프레임 수")
+                    .tag("lane", String.valueOf(i))
+                    .register(meterRegistry);
+        }
+        this.homeLanes = new InboundLane[threadCount][];
+        for (int i = 0; i < threadCount; i++) {
+            homeLanes[i] = assigned.get(i).toArray(new InboundLane[0]);
+        }
+
+        Gauge.builder("comms.tcp.dispatch.lane.imbalance", this, InboundDispatcher::getLaneImbalance)
+                .description("가장 적체된 레인의 대기 수 / 레인 평균 대기 수 (1이면 균등)")
+                .register(meterRegistry);
+        this.laneSteals = Counter.builder("comms.tcp.dispatch.lane.steals")
+                .description("다른 처리 스레드의 레인을 가져가 처리한 횟수")
+                .register(meterRegistry);
+        this.rejectedFrames = Counter.builder("comms.tcp.dispatch.rejected")
+                .description("레인 링 버퍼가 가득 차 버린 수신 프레임 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 처리 스레드 시작
+     */
+    public synchronized void start(InboundFrameHandler handler) {
+        if (running) {
+            return;
+        }
+
+        InboundFrameHandler guarded = slot -> {
+            try {
+                handler.onFrame(slot);
+            } catch (Exception e) {
+                logger.error("수신 데이터 처리 중 오류 발생 (클라이언트: {}): {}", slot.getClientId(), e.getMessage(), e);
+            } finally {
+                flowControl.frameProcessed(slot.getContext());
+            }
+        };
+
+        running = true;
+        for (int i = 0; i < homeLanes.length; i++) {
+            int threadIndex = i;
+            Thread thread = new Thread(() -> consume(threadIndex, guarded), "inbound-dispatch-" + i);
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+
+        logger.info("수신 분배기 시작: 처리 스레드 {}개, 레인 {}개, 레인별 링 크기 {}",
+                homeLanes.length, lanes.length, lanes[0].getRing().getCapacity());
+    }
+
+    /**
+     * 수신 프레임 발행 (리액터 스레드)
+     * 레인은 클라이언트 주소로 정하므로 같은 클라이언트의 프레임은 순서대로 처리됩니다.
+     *
+     * @return 레인의 링 버퍼가 가득 차 프레임을 버렸으면 false
+     */
+    public boolean publish(ChannelContext context, String clientId, MessageType messageType, ByteBuffer frame) {
+        int h = context.getAddress() * 0x9E3779B9;
+        boolean published = lanes[Math.floorMod(h ^ (h >>> 16), lanes.length)].getRing()
+                .publish(context, clientId, messageType, frame);
+        if (!published) {
+            rejectedFrames.increment();
+        }
+        return published;
+    }
+
+    private void consume(int threadIndex, InboundFrameHandler handler) {
+        InboundLane[] home = homeLanes[threadIndex];
+        WaitStrategy waitStrategy = waitStrategies[threadIndex];
+        int idleCount = 0;
+
+        while (running) {
+            int processed = 0;
+            for (InboundLane lane : home) {
+                processed += drain(lane, handler);
+            }
+
+            if (processed == 0) {
+                processed = stealHottestLane(threadIndex, handler);
+            }
+
+            if (processed > 0) {
+                idleCount = 0;
+            } else {
+                waitStrategy.idle(idleCount, () -> hasAvailable(home));
+                idleCount = Math.min(idleCount + 1, Integer.MAX_VALUE - 1);
+            }
+        }
+
+        // 종료 시 배정된 레인의 남은 슬롯 처리
+        int remaining;
+        do {
+            remaining = 0;
+            for (InboundLane lane : home) {
+                remaining += drain(lane, handler);
+            }
+        } while (remaining > 0);
+    }
+
+    /**
+     * 레인 소유권을 잡고 한 묶음 처리 (다른 스레드가 처리 중이면 건너뜀)
+     */
+    private int drain(InboundLane lane, InboundFrameHandler handler) {
+        if (!lane.getRing().hasAvailable() || !lane.tryAcquire()) {
+            return 0;
+        }
+
+        try {
+            return lane.getRing().drain(handler, MAX_BATCH);
+        } finally {
+            lane.release();
+        }
+    }
+
+    /**
+     * 다른 스레드에 배정된 레인 중 가장 적체된 레인을 가져가 처리
+     */
+    private int stealHottestLane(int threadIndex, InboundFrameHandler handler) {
+        InboundLane hottest = null;
+        long maxDepth = stealThreshold - 1;
+        for (InboundLane lane : lanes) {
+            long depth = lane.getDepth();
+            if (lane.getHomeThread() != threadIndex && depth > maxDepth) {
+                hottest = lane;
+                maxDepth = depth;
+            }
+        }
+
+        if (hottest == null) {
+            return 0;
+        }
+
+        int processed = drain(hottest, handler);
+        if (processed > 0) {
+            laneSteals.increment();
+            // 남은 슬롯은 배정된 스레드가 이어서 처리하도록 깨움
+            if (hottest.getRing().hasAvailable()) {
+                hottest.getRing().getWaitStrategy().signal();
+            }
+        }
+        return processed;
+    }
+
+    private boolean hasAvailable(InboundLane[] home) {
+        for (InboundLane lane : home) {
+            if (lane.getRing().hasAvailable()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 레인 불균형 (최대 대기 수 / 평균 대기 수, 대기 중인 프레임이 없으면 0)
+     */
+    public double getLaneImbalance() {
+        long total = 0;
+        long max = 0;
+        for (InboundLane lane : lanes) {
+            long depth = lane.getDepth();
+            total += depth;
+            max = Math.max(max, depth);
+        }
+        return total == 0 ? 0 : (double) max * lanes.length / total;
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+
+        running = false;
+        for (Thread thread : threads) {
+            try {
+                thread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        threads.clear();
+        logger.info("수신 분배기 종료");
+    }
+}
@@ -0,0 +1,14 @@
+package com.bspark.comms.network.server.dispatch;
+
+/**
+ * 수신 링 버퍼 소비자 콜백 (처리 스레드에서 호출)
+ */
+@FunctionalInterface
+public interface InboundFrameHandler {
+
+    /**
+     * 수신 프레임 처리
+     * 슬롯은 반환 후 재사용되므로 데이터를 보관하려면 복사해야 합니다.
+     */
+    void onFrame(InboundSlot slot);
+}
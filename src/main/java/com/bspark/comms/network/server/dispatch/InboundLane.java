@@ -0,0 +1,49 @@
+package com.bspark.comms.network.server.dispatch;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 수신 처리 레인
+ * 클라이언트 ID 해시로 선택되는 링 버퍼 하나와 소유권으로 구성됩니다.
+ * 한 번에 한 스레드만 레인을 처리하므로 같은 클라이언트의 프레임은 잠금 없이 수신 순서대로 처리되며,
+ * 평소에는 배정된 처리 스레드가 처리하고 적체 시 다른 스레드가 레인 전체를 가져가 처리합니다.
+ */
+public class InboundLane {
+    private final int index;
+    private final int homeThread;
+    private final InboundRing ring;
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+
+    public InboundLane(int index, int homeThread, InboundRing ring) {
+        this.index = index;
+        this.homeThread = homeThread;
+        this.ring = ring;
+    }
+
+    /**
+     * 레인 처리 권한 획득 시도
+     */
+    boolean tryAcquire() {
+        return !draining.get() && draining.compareAndSet(false, true);
+    }
+
+    void release() {
+        draining.set(false);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getHomeThread() {
+        return homeThread;
+    }
+
+    public InboundRing getRing() {
+        return ring;
+    }
+
+    public long getDepth() {
+        return ring.getDepth();
+    }
+}
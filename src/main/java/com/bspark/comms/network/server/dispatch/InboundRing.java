@@ -0,0 +1,114 @@
+package com.bspark.comms.network.server.dispatch;
+
+import com.bspark.comms.data.MessageType;
+import com.bspark.comms.network.server.nio.ChannelContext;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 리액터(다중 생산자)에서 처리 스레드로 수신 프레임을 넘기는 링 버퍼
+ * 소비는 한 번에 한 스레드만 하며, 소비 스레드 간 전환은 {@link InboundLane}의 소유권으로 보장합니다.
+ * 슬롯은 미리 할당되어 재사용되므로 프레임마다 객체를 만들지 않습니다.
+ * 생산자는 CAS로 시퀀스를 선점하며, 링이 가득 차면 대기하지 않고 발행을 거절합니다 (리액터 스레드를 막지 않음).
+ */
+public class InboundRing {
+    private final InboundSlot[] slots;
+    private final int mask;
+    // 슬롯별로 발행이 끝난 시퀀스 (소비자가 발행 완료 여부 확인에 사용)
+    private final AtomicLongArray published;
+    private final AtomicLong claimSequence = new AtomicLong(0);
+    private final AtomicLong consumedSequence = new AtomicLong(0);
+    private final WaitStrategy waitStrategy;
+
+    // 레인 소유 스레드 전용 (소유권 획득/반납으로 스레드 간 가시성 보장)
+    private long nextSequence;
+
+    /**
+     * @param size 슬롯 수 (2의 거듭제곱으로 올림)
+     */
+    public InboundRing(int size, WaitStrategy waitStrategy) {
+        int capacity = Integer.highestOneBit(Math.max(2, size) - 1) << 1;
+        this.slots = new InboundSlot[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new InboundSlot();
+            published.set(i, -1);
+        }
+        this.mask = capacity - 1;
+        this.waitStrategy = waitStrategy;
+    }
+
+    /**
+     * 프레임 발행 (생산자 스레드)
+     * 프레임 내용은 슬롯으로 복사되므로 반환 후 원본 버퍼를 재사용해도 됩니다.
+     *
+     * @return 링이 가득 차 발행하지 못했으면 false
+     */
+    public boolean publish(ChannelContext context, String clientId, MessageType messageType, ByteBuffer frame) {
+        long sequence;
+        do {
+            sequence = claimSequence.get();
+            // 한 바퀴 전 슬롯이 아직 소비되지 않음
+            if (sequence - slots.length >= consumedSequence.get()) {
+                return false;
+            }
+        } while (!claimSequence.compareAndSet(sequence, sequence + 1));
+
+        int index = (int) (sequence & mask);
+        slots[index].set(context, clientId, messageType, frame);
+        published.set(index, sequence);
+        waitStrategy.signal();
+        return true;
+    }
+
+    /**
+     * 발행된 슬롯을 순서대로 처리 (레인을 소유한 스레드)
+     *
+     * @return 처리한 슬롯 수
+     */
+    public int drain(InboundFrameHandler handler, int maxBatch) {
+        int count = 0;
+        while (count < maxBatch) {
+            int index = (int) (nextSequence & mask);
+            if (published.get(index) != nextSequence) {
+                break;
+            }
+
+            InboundSlot slot = slots[index];
+            try {
+                handler.onFrame(slot);
+            } finally {
+                slot.clear();
+                nextSequence++;
+                consumedSequence.lazySet(nextSequence);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 처리할 슬롯이 있는지 확인 (소유 스레드가 아니어도 호출 가능)
+     */
+    public boolean hasAvailable() {
+        long sequence = consumedSequence.get();
+        return published.get((int) (sequence & mask)) == sequence;
+    }
+
+    /**
+     * 발행되었거나 선점되었지만 아직 소비되지 않은 슬롯 수
+     */
+    public long getDepth() {
+        return Math.max(0, claimSequence.get() - consumedSequence.get());
+    }
+
+    public int getCapacity() {
+        return slots.length;
+    }
+
+    public WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+}
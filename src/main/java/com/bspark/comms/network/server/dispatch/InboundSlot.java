@@ -0,0 +1,81 @@
+package com.bspark.comms.network.server.dispatch;
+
+import com.bspark.comms.core.protocol.message.FrameView;
+import com.bspark.comms.data.MessageType;
+import com.bspark.comms.network.server.nio.ChannelContext;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 수신 링 버퍼 슬롯
+ * 링 생성 시 미리 할당되어 재사용되며, 프레임 데이터 배열도 필요한 크기로 늘어난 뒤 계속 재사용합니다.
+ * 처리 스레드는 배열을 가리키는 {@link FrameView}로 프레임을 읽으므로 슬롯 복사 이후 추가 복사가 없습니다.
+ */
+public class InboundSlot {
+    private static final int INITIAL_CAPACITY = 256;
+
+    private ChannelContext context;
+    private String clientId;
+    private MessageType messageType;
+    private byte[] data = new byte[INITIAL_CAPACITY];
+    private int length;
+    private final FrameView frame = new FrameView();
+
+    /**
+     * 프레임을 슬롯에 복사 (생산자 스레드)
+     */
+    void set(ChannelContext context, String clientId, MessageType messageType, ByteBuffer source) {
+        int size = source.remaining();
+        if (data.length < size) {
+            data = new byte[Math.max(size, data.length * 2)];
+        }
+        source.get(data, 0, size);
+
+        this.context = context;
+        this.clientId = clientId;
+        this.messageType = messageType;
+        this.length = size;
+        this.frame.wrap(data, 0, size);
+    }
+
+    /**
+     * 처리 후 참조 해제 (소비자 스레드)
+     */
+    void clear() {
+        this.context = null;
+        this.clientId = null;
+        this.messageType = null;
+        this.length = 0;
+        frame.clear();
+    }
+
+    public ChannelContext getContext() {
+        return context;
+    }
+
+    public String getClientId() {
+        return clientId;
+    }
+
+    public MessageType getMessageType() {
+        return messageType;
+    }
+
+    /**
+     * 프레임 데이터 (재사용 배열이므로 처리 중에만 유효, 길이는 {@link #getLength()})
+     */
+    public byte[] getData() {
+        return data;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * 슬롯 배열을 가리키는 프레임 뷰 (처리 중에만 유효, 이후에도 필요하면 {@link FrameView#retain()})
+     */
+    public FrameView getFrame() {
+        return frame;
+    }
+}
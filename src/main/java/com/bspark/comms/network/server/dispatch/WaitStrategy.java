@@ -0,0 +1,88 @@
+package com.bspark.comms.network.server.dispatch;
+
+import com.bspark.comms.config.CommsProperties;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 수신 처리 스레드 대기 전략
+ * 처리 스레드마다 생성하며, 스레드에 배정된 레인의 링 버퍼들이 발행 신호에 함께 사용합니다.
+ */
+public interface WaitStrategy {
+    int SPIN_TRIES = 100;
+    long SLEEP_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    /**
+     * 처리할 슬롯이 없을 때 처리 스레드에서 호출
+     *
+     * @param idleCount 연속으로 빈 링을 확인한 횟수
+     * @param available 처리할 슬롯이 생겼는지 확인
+     */
+    void idle(int idleCount, BooleanSupplier available);
+
+    /**
+     * 슬롯 발행 후 생산자 스레드에서 호출
+     */
+    default void signal() {
+    }
+
+    static WaitStrategy create(CommsProperties.DispatchWaitStrategy type) {
+        return switch (type) {
+            case BUSY_SPIN -> (idleCount, available) -> Thread.onSpinWait();
+            case YIELDING -> (idleCount, available) -> {
+                if (idleCount < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+            };
+            case SLEEPING -> (idleCount, available) -> {
+                if (idleCount < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else if (idleCount < SPIN_TRIES * 2) {
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(SLEEP_NANOS);
+                }
+            };
+            case BLOCKING -> new Blocking();
+        };
+    }
+
+    /**
+     * 잠시 스핀한 뒤 생산자가 깨울 때까지 대기 (유휴 시 CPU 사용 없음)
+     */
+    final class Blocking implements WaitStrategy {
+        private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+        private volatile Thread waiter;
+
+        @Override
+        public void idle(int idleCount, BooleanSupplier available) {
+            if (idleCount < SPIN_TRIES) {
+                Thread.onSpinWait();
+                return;
+            }
+
+            // 대기 표시 후 다시 확인해야 발행과 대기 사이의 신호 누락이 없음
+            waiter = Thread.currentThread();
+            try {
+                if (!available.getAsBoolean()) {
+                    LockSupport.parkNanos(this, MAX_PARK_NANOS);
+                }
+            } finally {
+                waiter = null;
+            }
+        }
+
+        @Override
+        public void signal() {
+            Thread thread = waiter;
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
+        }
+    }
+}
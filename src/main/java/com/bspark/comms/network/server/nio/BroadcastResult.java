@@ -0,0 +1,34 @@
+package com.bspark.comms.network.server.nio;
+
+/**
+ * 브로드캐스트 전송 결과 (대상 연결 수와 소켓 기록 성공/실패 수)
+ */
+public final class BroadcastResult {
+
+    private final int total;
+    private final int succeeded;
+    private final int failed;
+
+    public BroadcastResult(int total, int succeeded, int failed) {
+        this.total = total;
+        this.succeeded = succeeded;
+        this.failed = failed;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    @Override
+    public String toString() {
+        return succeeded + "/" + total + " 성공, " + failed + " 실패";
+    }
+}
@@ -0,0 +1,155 @@
+package com.bspark.comms.network.server.nio;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 워커별 direct 버퍼 풀 (크기 등급별 slab 할당)
+ * 연결은 미완성 프레임을 보관하는 동안에만 버퍼를 빌리고, 프레임이 완성되면 반납합니다.
+ * 소유 워커 스레드에서만 사용하므로 동기화하지 않습니다.
+ */
+public class BufferPool {
+    private static final Logger logger = LoggerFactory.getLogger(BufferPool.class);
+
+    private static final int MIN_CLASS_SIZE = 512;
+    private static final int CHUNKS_PER_SLAB = 32;
+
+    private final String name;
+    private final int[] classSizes;
+    private final List<ArrayDeque<ByteBuffer>> freeLists;
+    private final int[] outstanding;
+
+    private volatile long usedBytes;
+    private volatile long highWaterBytes;
+    private volatile long capacityBytes;
+
+    /**
+     * @param maxChunkSize 가장 큰 등급의 크기 (최대 프레임 크기)
+     */
+    public BufferPool(String name, int maxChunkSize) {
+        this.name = name;
+
+        int classCount = 1;
+        for (int size = MIN_CLASS_SIZE; size < maxChunkSize; size <<= 2) {
+            classCount++;
+        }
+
+        this.classSizes = new int[classCount];
+        for (int i = 0, size = MIN_CLASS_SIZE; i < classCount; i++, size <<= 2) {
+            classSizes[i] = Math.min(size, maxChunkSize);
+        }
+        classSizes[classCount - 1] = Math.max(maxChunkSize, MIN_CLASS_SIZE);
+
+        this.freeLists = new ArrayList<>(classCount);
+        for (int i = 0; i < classCount; i++) {
+            freeLists.add(new ArrayDeque<>());
+        }
+        this.outstanding = new int[classCount];
+    }
+
+    /**
+     * 최소 size 바이트를 담을 수 있는 버퍼 대여 (쓰기 모드, 비어있는 상태)
+     */
+    public ByteBuffer acquire(int size) {
+        int sizeClass = classOf(size);
+        if (sizeClass < 0) {
+            throw new IllegalArgumentException("Requested size exceeds pool chunk size: " + size);
+        }
+
+        ByteBuffer buffer = freeLists.get(sizeClass).poll();
+        if (buffer == null) {
+            allocateSlab(sizeClass);
+            buffer = freeLists.get(sizeClass).poll();
+        }
+
+        outstanding[sizeClass]++;
+        usedBytes += buffer.capacity();
+        if (usedBytes > highWaterBytes) {
+            highWaterBytes = usedBytes;
+        }
+
+        return buffer.clear();
+    }
+
+    /**
+     * 대여한 버퍼 반납
+     */
+    public void release(ByteBuffer buffer) {
+        int sizeClass = classOf(buffer.capacity());
+        if (sizeClass < 0 || classSizes[sizeClass] != buffer.capacity() || outstanding[sizeClass] == 0) {
+            throw new IllegalStateException("Buffer does not belong to pool " + name);
+        }
+
+        outstanding[sizeClass]--;
+        usedBytes -= buffer.capacity();
+        freeLists.get(sizeClass).push(buffer);
+    }
+
+    private int classOf(int size) {
+        for (int i = 0; i < classSizes.length; i++) {
+            if (size <= classSizes[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 하나의 direct 메모리 slab을 등급 크기로 잘라 여유 목록에 추가
+     */
+    private void allocateSlab(int sizeClass) {
+        int chunkSize = classSizes[sizeClass];
+        ByteBuffer slab = ByteBuffer.allocateDirect(chunkSize * CHUNKS_PER_SLAB);
+        for (int i = 0; i < CHUNKS_PER_SLAB; i++) {
+            freeLists.get(sizeClass).add(slab.slice(i * chunkSize, chunkSize));
+        }
+        capacityBytes += (long) chunkSize * CHUNKS_PER_SLAB;
+        logger.debug("버퍼 풀 {} slab 할당: {} 바이트 x {}", name, chunkSize, CHUNKS_PER_SLAB);
+    }
+
+    /**
+     * 반납되지 않은 버퍼 수
+     */
+    public int getOutstandingCount() {
+        int count = 0;
+        for (int value : outstanding) {
+            count += value;
+        }
+        return count;
+    }
+
+    /**
+     * 반납되지 않은 버퍼가 있으면 경고 (워커 종료 시점 누수 확인)
+     *
+     * @return 누수가 없으면 true
+     */
+    public boolean checkLeaks() {
+        int leaked = getOutstandingCount();
+        if (leaked > 0) {
+            logger.warn("버퍼 풀 {} 누수 감지: 반납되지 않은 버퍼 {}개 ({} 바이트)", name, leaked, usedBytes);
+            return false;
+        }
+        return true;
+    }
+
+    public int getMaxChunkSize() {
+        return classSizes[classSizes.length - 1];
+    }
+
+    public long getUsedBytes() {
+        return usedBytes;
+    }
+
+    public long getHighWaterBytes() {
+        return highWaterBytes;
+    }
+
+    public long getCapacityBytes() {
+        return capacityBytes;
+    }
+}
@@ -0,0 +1,155 @@
+package com.bspark.comms.network.server.nio;
+
+import com.bspark.comms.util.IpAddressUtils;
+
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 채널별 상태
+ * 송신 대기열과 수신 처리 카운터를 제외하고는 소유자(워커 스레드 또는 연결 전용 스레드)에서만 접근합니다.
+ * NIO 엔진에서는 SelectionKey에 첨부되며, 연결 통계도 여기에 보관하므로 연결 상태 조회는 이 객체만 봅니다.
+ */
+public class ChannelContext {
+    private final ChannelOwner owner;
+    private final SocketChannel channel;
+    private final FrameDecoder decoder;
+    private final OutboundQueue outboundQueue = new OutboundQueue();
+
+    // 처리 대기 중인 수신 프레임 수와 읽기 중단 여부 (수신 흐름 제어)
+    private final AtomicInteger inboundPending = new AtomicInteger(0);
+    private final AtomicBoolean readSuspended = new AtomicBoolean(false);
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    private final long connectedAt = System.currentTimeMillis();
+    // 수신 통계 (읽기 스레드 하나에서만 갱신하므로 volatile로 충분)
+    private volatile long bytesReceived;
+    private volatile long framesReceived;
+    private volatile long lastActivityAt = connectedAt;
+
+    // 연결 ID(등록 시 배정, 종료 후 재사용)와 int로 묶은 IPv4 주소, 문자열 ID는 로그와 REST/HTTP 경계용
+    private volatile int id = -1;
+    private volatile int address;
+    private volatile String clientId;
+    // NIO 엔진에서만 사용
+    private SelectionKey key;
+
+    public ChannelContext(ChannelOwner owner, SocketChannel channel, FrameDecoder decoder) {
+        this.owner = owner;
+        this.channel = channel;
+        this.decoder = decoder;
+    }
+
+    /**
+     * 등록된 SelectionKey 연결 (워커 스레드에서 등록 직후 호출)
+     */
+    void bind(SelectionKey key) {
+        this.key = key;
+    }
+
+    void setAddress(int address) {
+        this.address = address;
+        this.clientId = IpAddressUtils.format(address);
+    }
+
+    void assignId(int id) {
+        this.id = id;
+    }
+
+    /**
+     * 소켓 읽기 기록 (읽기 스레드)
+     */
+    public void recordRead(int bytes) {
+        bytesReceived += bytes;
+        lastActivityAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 수신 프레임 기록 (읽기 스레드)
+     */
+    void recordFrame() {
+        framesReceived++;
+    }
+
+    /**
+     * 종료 표시
+     *
+     * @return 처음 종료하는 경우 true
+     */
+    boolean markClosed() {
+        return closed.compareAndSet(false, true);
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    public ChannelOwner getOwner() {
+        return owner;
+    }
+
+    public SocketChannel getChannel() {
+        return channel;
+    }
+
+    public FrameDecoder getDecoder() {
+        return decoder;
+    }
+
+    public OutboundQueue getOutboundQueue() {
+        return outboundQueue;
+    }
+
+    /**
+     * 연결 ID (등록 전이면 -1)
+     */
+    public int getId() {
+        return id;
+    }
+
+    public int getAddress() {
+        return address;
+    }
+
+    public String getClientId() {
+        return clientId;
+    }
+
+    public long getConnectedAt() {
+        return connectedAt;
+    }
+
+    public long getLastActivityAt() {
+        return lastActivityAt;
+    }
+
+    public long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    public long getFramesReceived() {
+        return framesReceived;
+    }
+
+    public long getBytesSent() {
+        return outboundQueue.getBytesWritten();
+    }
+
+    public SelectionKey getKey() {
+        return key;
+    }
+
+    AtomicInteger getInboundPending() {
+        return inboundPending;
+    }
+
+    AtomicBoolean getReadSuspended() {
+        return readSuspended;
+    }
+
+    public boolean isReadSuspended() {
+        return readSuspended.get();
+    }
+}
@@ -0,0 +1,52 @@
+package com.bspark.comms.network.server.nio;
+
+import java.util.List;
+
+/**
+ * 연결의 읽기/쓰기를 담당하는 실행 주체
+ * NIO 엔진에서는 연결이 배정된 워커 리액터, 가상 스레드 엔진에서는 연결 전용 가상 스레드입니다.
+ */
+public interface ChannelOwner {
+
+    /**
+     * 송신 대기열 전송 요청 (임의 스레드)
+     */
+    void requestFlush(ChannelContext context);
+
+    /**
+     * 이 소유자의 여러 연결에 대한 송신 대기열 전송 요청 (임의 스레드)
+     */
+    default void requestFlush(List<ChannelContext> contexts) {
+        for (ChannelContext context : contexts) {
+            requestFlush(context);
+        }
+    }
+
+    /**
+     * 소유자 스레드에서 작업 실행 (임의 스레드)
+     * 연결마다 전용 스레드를 갖는 소유자는 호출 스레드에서 바로 실행합니다.
+     */
+    default void submit(Runnable task) {
+        task.run();
+    }
+
+    /**
+     * 읽기 중단 (읽기 스레드에서 호출)
+     */
+    void suspendRead(ChannelContext context);
+
+    /**
+     * 읽기 재개 (임의 스레드)
+     */
+    void resumeRead(ChannelContext context);
+
+    /**
+     * 연결 종료 후 정리 요청 (임의 스레드)
+     */
+    void connectionClosed(ChannelContext context);
+
+    /**
+     * 로그 표시용 이름
+     */
+    String getName();
+}
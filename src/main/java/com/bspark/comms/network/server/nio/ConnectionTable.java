@@ -0,0 +1,127 @@
+package com.bspark.comms.network.server.nio;
+
+import com.bspark.comms.util.IntLongHashMap;
+import com.bspark.comms.util.SlotArray;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 연결 테이블
+ * 등록 시 연결마다 조밀한 int ID를 배정하고(종료된 ID는 재사용), ID로 색인하는 배열과
+ * int로 묶은 IPv4 주소 -> ID의 primitive 해시 맵으로 연결을 찾습니다.
+ * ID 조회는 잠금이 없고, 주소 조회와 등록/해제는 테이블 잠금을 잡습니다.
+ */
+final class ConnectionTable {
+
+    private static final long NO_ID = -1;
+
+    private final SlotArray<ChannelContext> contexts = new SlotArray<>();
+    // 아래 필드는 this 잠금으로 보호
+    private final IntLongHashMap idsByAddress = new IntLongHashMap(NO_ID);
+    private int[] freeIds = new int[16];
+    private int freeCount;
+    private int nextId;
+    private volatile int size;
+
+    /**
+     * ID를 배정하고 주소를 새 연결에 연결 (같은 주소의 이전 연결은 호출자가 먼저 종료)
+     */
+    synchronized void add(ChannelContext context) {
+        int id = freeCount > 0 ? freeIds[--freeCount] : nextId++;
+        context.assignId(id);
+        contexts.set(id, context);
+        idsByAddress.put(context.getAddress(), id);
+        size++;
+    }
+
+    /**
+     * 주소 조회에서 제외 (같은 주소로 이미 새 연결이 등록된 경우 새 연결 유지)
+     */
+    synchronized void unmapAddress(ChannelContext context) {
+        int id = context.getId();
+        if (id >= 0 && idsByAddress.get(context.getAddress()) == id) {
+            idsByAddress.remove(context.getAddress());
+        }
+    }
+
+    /**
+     * ID 반납 (종료 처리가 끝난 뒤 호출해야 다른 연결이 같은 ID를 받기 전에 정리가 끝남)
+     */
+    synchronized void release(ChannelContext context) {
+        int id = context.getId();
+        if (id < 0 || !contexts.remove(id, context)) {
+            return;
+        }
+
+        unmapAddress(context);
+        if (freeCount == freeIds.length) {
+            int[] grown = new int[freeIds.length * 2];
+            System.arraycopy(freeIds, 0, grown, 0, freeCount);
+            freeIds = grown;
+        }
+        freeIds[freeCount++] = id;
+        size--;
+    }
+
+    ChannelContext get(int id) {
+        return contexts.get(id);
+    }
+
+    synchronized ChannelContext findByAddress(int address) {
+        long id = idsByAddress.get(address);
+        return id == NO_ID ? null : contexts.get((int) id);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 등록된 연결의 읽기 전용 뷰 (복사하지 않으며 순회 중 변경은 반영될 수도, 안 될 수도 있음)
+     */
+    Collection<ChannelContext> view() {
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<ChannelContext> iterator() {
+                return new Iterator<>() {
+                    private final int capacity = contexts.capacity();
+                    private int index = -1;
+                    private ChannelContext next = advance();
+
+                    private ChannelContext advance() {
+                        while (++index < capacity) {
+                            ChannelContext context = contexts.get(index);
+                            if (context != null) {
+                                return context;
+                            }
+                        }
+                        return null;
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        return next != null;
+                    }
+
+                    @Override
+                    public ChannelContext next() {
+                        if (next == null) {
+                            throw new NoSuchElementException();
+                        }
+                        ChannelContext current = next;
+                        next = advance();
+                        return current;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+}
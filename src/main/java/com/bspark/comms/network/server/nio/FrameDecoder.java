@@ -0,0 +1,348 @@
+package com.bspark.comms.network.server.nio;
+
+import com.bspark.comms.core.protocol.message.FrameView;
+import com.bspark.comms.core.protocol.validation.Crc16;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 연결별 스트리밍 프레임 디코더
+ * 프레임 구조: [0x7F 0x7F] + [길이(2바이트, 빅엔디안)] + [주소(2바이트)] + [예약(1바이트)] + [opcode(1바이트)] + [데이터] + [CRC(2바이트)]
+ * 길이 필드는 헤더 이후 전체 크기이므로 프레임 전체 길이는 길이 필드 + 2 입니다.
+ * 여러 번의 읽기에 걸쳐 나뉘어 도착한 프레임을 누적하고, 한 번의 읽기에 포함된 모든 프레임을 추출합니다.
+ *
+ * 평소에는 워커의 공용 읽기 버퍼에서 바로 디코딩하며, 미완성 프레임이 남은 경우에만
+ * 버퍼 풀에서 버퍼를 빌려 보관합니다. 따라서 유휴 연결은 버퍼를 점유하지 않습니다.
+ * 연결 전용 읽기 버퍼를 쓰는 경우(가상 스레드 엔진)에는 풀 없이 생성하며, 미완성 프레임은 같은 버퍼 앞쪽으로 옮겨 보관합니다.
+ *
+ * CRC는 프레임을 추출하면서 함께 검증해 결과 코드를 리스너에 넘깁니다. 미완성 프레임은 받은 부분까지 미리 계산해 두고
+ * 다음 읽기에서 이어서 계산하므로 각 바이트는 도착한 읽기에서 한 번만 계산됩니다.
+ * CRC가 맞지 않으면 기본적으로 데이터 안의 우연한 0x7F7F를 헤더로 잘못 잡은 것으로 보고, 프레임 전체를 버리지 않고
+ * 헤더 한 바이트 뒤부터 다시 동기화합니다 (잘못된 길이로 뒤따르는 정상 프레임을 삼키지 않음).
+ * 길이가 받은 데이터보다 긴 헤더는 기다리는 동안 뒤에 도착한 데이터에서 CRC까지 맞는 프레임을 찾고,
+ * 찾으면 같은 방식으로 다시 동기화합니다 (잘못 잡은 헤더가 큰 길이로 디코더를 붙잡지 않음).
+ */
+public class FrameDecoder {
+
+    public static final byte SYNC_BYTE = 0x7F;
+    public static final int LENGTH_OFFSET = FrameView.LENGTH_OFFSET;
+    public static final int OPCODE_OFFSET = FrameView.OPCODE_OFFSET;
+    public static final int MIN_FRAME_SIZE = FrameView.MIN_FRAME_SIZE;
+
+    private static final int PREFIX_SIZE = 4;
+
+    // 연결 전용 버퍼 사용 시 null
+    private final BufferPool bufferPool;
+    private final int maxFrameSize;
+    // CRC 불일치 시 다시 동기화할지 여부 (false면 MISMATCH로 리스너에 전달)
+    private final boolean resyncOnCrcError;
+
+    // 미완성 프레임 보관 버퍼 (쓰기 모드, 없으면 null)
+    private ByteBuffer pending;
+
+    // 미완성 프레임의 중간 CRC와 계산한 바이트 수 (길이 필드부터), 보관 중인 프레임 크기 (없으면 0)
+    private int partialCrc = Crc16.INITIAL;
+    private int partialCrcBytes;
+    private int partialFrameSize;
+    // 미완성 프레임 뒤에서 아직 확인하지 않은 첫 헤더 후보 위치 (프레임 시작 기준)
+    private int lookaheadOffset;
+
+    private long decodedFrames;
+    private long discardedBytes;
+    private long crcErrors;
+
+    public FrameDecoder(BufferPool bufferPool) {
+        this(bufferPool, true);
+    }
+
+    public FrameDecoder(BufferPool bufferPool, boolean resyncOnCrcError) {
+        this.bufferPool = bufferPool;
+        this.maxFrameSize = bufferPool.getMaxChunkSize();
+        this.resyncOnCrcError = resyncOnCrcError;
+    }
+
+    /**
+     * 연결 전용 읽기 버퍼용 디코더 (버퍼 크기는 maxFrameSize 이상이어야 함)
+     */
+    public FrameDecoder(int maxFrameSize) {
+        this(maxFrameSize, true);
+    }
+
+    public FrameDecoder(int maxFrameSize, boolean resyncOnCrcError) {
+        this.bufferPool = null;
+        this.maxFrameSize = maxFrameSize;
+        this.resyncOnCrcError = resyncOnCrcError;
+    }
+
+    /**
+     * 소켓 읽기에 사용할 버퍼 반환 (쓰기 모드)
+     * 미완성 프레임이 있으면 보관 버퍼에 이어서 읽고, 없으면 워커 공용 버퍼를 비워서 사용합니다.
+     */
+    public ByteBuffer readBuffer(ByteBuffer sharedBuffer) {
+        if (pending != null) {
+            return pending;
+        }
+        return sharedBuffer.clear();
+    }
+
+    /**
+     * 읽기 버퍼에 누적된 데이터에서 완성된 프레임을 모두 추출하여 리스너에 전달
+     * 전달되는 프레임은 버퍼의 뷰이므로 콜백 안에서만 유효합니다.
+     *
+     * @param buffer {@link #readBuffer(ByteBuffer)}로 받은 버퍼 (쓰기 모드)
+     * @return 추출된 프레임 수
+     */
+    public int decode(ByteBuffer buffer, FrameListener listener) {
+        buffer.flip();
+        int frames = 0;
+
+        try {
+            while (true) {
+                if (!syncToHeader(buffer)) {
+                    break;
+                }
+
+                int start = buffer.position();
+                if (buffer.remaining() < PREFIX_SIZE) {
+                    break;
+                }
+
+                int frameSize = readFrameSize(buffer, start);
+                if (frameSize < MIN_FRAME_SIZE || frameSize > maxFrameSize) {
+                    // 잘못된 길이 - 헤더 한 바이트를 버리고 다시 동기화
+                    buffer.position(start + 1);
+                    discardedBytes++;
+                    continue;
+                }
+
+                if (buffer.remaining() < frameSize) {
+                    // 받은 부분까지 CRC를 계산해 두고 다음 읽기에서 이어서 계산
+                    updateCrc(buffer, start, frameSize, buffer.limit());
+                    if (!hasFollowingFrame(buffer, start)) {
+                        break;
+                    }
+                    // 뒤에 정상 프레임이 이미 도착함 - 잘못 잡은 헤더이므로 한 바이트만 버리고 다시 동기화
+                    resetCrc();
+                    buffer.position(start + 1);
+                    discardedBytes++;
+                    continue;
+                }
+
+                int crcOffset = start + frameSize - Crc16.CRC_SIZE;
+                int crc = updateCrc(buffer, start, frameSize, crcOffset);
+                int crcStatus = crc == Crc16.expected(buffer, crcOffset) ? Crc16.OK : Crc16.MISMATCH;
+                resetCrc();
+                if (crcStatus != Crc16.OK) {
+                    crcErrors++;
+                    if (resyncOnCrcError) {
+                        // 잘못 잡은 헤더일 수 있으므로 한 바이트만 버리고 프레임 안쪽부터 다시 동기화
+                        buffer.position(start + 1);
+                        discardedBytes++;
+                        continue;
+                    }
+                }
+
+                ByteBuffer frame = buffer.slice(start, frameSize);
+                buffer.position(start + frameSize);
+                frames++;
+                decodedFrames++;
+                listener.onFrame(frame, crcStatus);
+            }
+        } finally {
+            retainRemainder(buffer);
+        }
+
+        return frames;
+    }
+
+    /**
+     * start에서 시작하는 프레임의 CRC를 end 직전 바이트까지 이어서 계산
+     * 보관 중인 프레임은 다음 디코딩에서도 버퍼 맨 앞에 있으므로 크기가 같으면 이전 계산을 이어갑니다.
+     *
+     * @return 지금까지의 CRC
+     */
+    private int updateCrc(ByteBuffer buffer, int start, int frameSize, int end) {
+        if (partialFrameSize != frameSize) {
+            resetCrc();
+            partialFrameSize = frameSize;
+        }
+
+        int from = start + Crc16.SYNC_SIZE + partialCrcBytes;
+        int to = Math.min(end, start + frameSize - Crc16.CRC_SIZE);
+        if (to > from) {
+            partialCrc = Crc16.update(partialCrc, buffer, from, to - from);
+            partialCrcBytes += to - from;
+        }
+        return partialCrc;
+    }
+
+    private void resetCrc() {
+        partialCrc = Crc16.INITIAL;
+        partialCrcBytes = 0;
+        partialFrameSize = 0;
+        lookaheadOffset = 0;
+    }
+
+    /**
+     * start에서 시작하는 미완성 프레임 안에 CRC까지 맞는 완성된 프레임이 있는지 확인
+     * 거부된 후보는 다음 읽기에서 다시 검사하지 않고, 아직 다 받지 못한 첫 후보부터 이어서 확인합니다.
+     *
+     * @return 정상 프레임을 찾았으면 true
+     */
+    private boolean hasFollowingFrame(ByteBuffer buffer, int start) {
+        int limit = buffer.limit();
+        int position = start + Math.max(lookaheadOffset, 1);
+        int resume = -1;
+
+        for (; position + 1 < limit; position++) {
+            if (buffer.get(position) != SYNC_BYTE || buffer.get(position + 1) != SYNC_BYTE) {
+                continue;
+            }
+            if (limit - position < PREFIX_SIZE) {
+                resume = resume < 0 ? position : resume;
+                break;
+            }
+
+            int frameSize = readFrameSize(buffer, position);
+            if (frameSize < MIN_FRAME_SIZE || frameSize > maxFrameSize) {
+                continue;
+            }
+            if (limit - position < frameSize) {
+                resume = resume < 0 ? position : resume;
+                continue;
+            }
+
+            int crcOffset = position + frameSize - Crc16.CRC_SIZE;
+            int crc = Crc16.update(Crc16.INITIAL, buffer, position + Crc16.SYNC_SIZE,
+                    frameSize - Crc16.SYNC_SIZE - Crc16.CRC_SIZE);
+            if (crc == Crc16.expected(buffer, crcOffset)) {
+                return true;
+            }
+        }
+
+        lookaheadOffset = (resume < 0 ? position : resume) - start;
+        return false;
+    }
+
+    /**
+     * 디코딩 후 남은 미완성 프레임 처리
+     */
+    private void retainRemainder(ByteBuffer buffer) {
+        if (bufferPool == null) {
+            // 연결 전용 버퍼 - 남은 바이트를 앞으로 옮기고 이어서 읽음
+            buffer.compact();
+            return;
+        }
+
+        if (buffer != pending) {
+            // 공용 버퍼에서 읽은 경우 - 남은 바이트가 있을 때만 풀에서 빌려 보관
+            if (buffer.hasRemaining()) {
+                ByteBuffer retained = bufferPool.acquire(requiredCapacity(buffer));
+                retained.put(buffer);
+                pending = retained;
+            }
+            return;
+        }
+
+        buffer.compact();
+        if (buffer.position() == 0) {
+            // 프레임이 모두 완성됨 - 보관 버퍼 반납
+            release();
+            return;
+        }
+
+        // 프레임 길이가 보관 버퍼보다 크면 더 큰 등급으로 교체
+        buffer.flip();
+        int required = requiredCapacity(buffer);
+        if (required > buffer.capacity()) {
+            ByteBuffer larger = bufferPool.acquire(required);
+            larger.put(buffer);
+            bufferPool.release(buffer);
+            pending = larger;
+        } else {
+            buffer.position(buffer.limit()).limit(buffer.capacity());
+        }
+    }
+
+    /**
+     * 남은 미완성 프레임 전체를 담는 데 필요한 크기
+     */
+    private int requiredCapacity(ByteBuffer buffer) {
+        int remaining = buffer.remaining();
+        if (remaining < PREFIX_SIZE) {
+            return remaining;
+        }
+        return Math.max(remaining, readFrameSize(buffer, buffer.position()));
+    }
+
+    /**
+     * 0x7F7F 헤더 위치로 이동 (헤더 이전 바이트는 폐기)
+     *
+     * @return 헤더를 찾았으면 true
+     */
+    private boolean syncToHeader(ByteBuffer buffer) {
+        int position = buffer.position();
+        int limit = buffer.limit();
+
+        while (position + 1 < limit) {
+            if (buffer.get(position) == SYNC_BYTE && buffer.get(position + 1) == SYNC_BYTE) {
+                discardedBytes += position - buffer.position();
+                buffer.position(position);
+                return true;
+            }
+            position++;
+        }
+
+        // 마지막 바이트가 헤더의 첫 바이트일 수 있으므로 남겨둠
+        int keep = position < limit && buffer.get(position) == SYNC_BYTE ? 1 : 0;
+        discardedBytes += limit - keep - buffer.position();
+        buffer.position(limit - keep);
+        return false;
+    }
+
+    private int readFrameSize(ByteBuffer buffer, int frameStart) {
+        int offset = frameStart + LENGTH_OFFSET;
+        return (((buffer.get(offset) & 0xFF) << 8) | (buffer.get(offset + 1) & 0xFF)) + 2;
+    }
+
+    /**
+     * 보관 중인 버퍼 반납 (연결 종료 시에도 호출)
+     */
+    public void release() {
+        if (pending != null) {
+            bufferPool.release(pending);
+            pending = null;
+        }
+        resetCrc();
+    }
+
+    /**
+     * 아직 완성되지 않은 프레임 데이터가 남아있는지 확인
+     */
+    public boolean hasPartialFrame() {
+        return pending != null;
+    }
+
+    public long getDecodedFrames() {
+        return decodedFrames;
+    }
+
+    public long getDiscardedBytes() {
+        return discardedBytes;
+    }
+
+    public long getCrcErrors() {
+        return crcErrors;
+    }
+
+    /**
+     * 디코딩된 프레임 수신 콜백
+     */
+    @FunctionalInterface
+    public interface FrameListener {
+        /**
+         * @param crcStatus CRC 검증 결과 ({@link Crc16#OK}, 다시 동기화하지 않는 디코더에서만 {@link Crc16#MISMATCH})
+         */
+        void onFrame(ByteBuffer frame, int crcStatus);
+    }
+}
@@ -0,0 +1,128 @@
+package com.bspark.comms.network.server.nio;
+
+import com.bspark.comms.config.CommsProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 수신 흐름 제어
+ * 처리 대기 중인 수신 프레임 수가 상한(high watermark)을 넘으면 해당 연결의 읽기를 중단하여
+ * (NIO 엔진은 OP_READ 해제) TCP 흐름 제어로 제어기 측 송신을 늦추고, 하한(low watermark) 아래로 내려가면 읽기를 재개합니다.
+ * 연결별 대기 수와 전체 대기 수를 각각 제한합니다.
+ * 연결 자체 적체로 중단한 연결은 연결 대기 수만 보고 재개하고, 전체 적체로 중단한 연결은 전체 대기 수가 하한에 도달할 때까지 유지합니다.
+ */
+@Component
+public class InboundFlowControl {
+    private static final Logger logger = LoggerFactory.getLogger(InboundFlowControl.class);
+
+    private final int connectionHighWatermark;
+    private final int connectionLowWatermark;
+    private final int globalHighWatermark;
+    private final int globalLowWatermark;
+
+    private final AtomicInteger globalPending = new AtomicInteger(0);
+    // 읽기를 중단한 연결 -> 전체 적체로 중단했는지
+    private final Map<ChannelContext, Boolean> suspended = new ConcurrentHashMap<>();
+
+    public InboundFlowControl(CommsProperties commsProperties, MeterRegistry meterRegistry) {
+        CommsProperties.Server server = commsProperties.getServer();
+        this.connectionHighWatermark = server.getInboundHighWatermark();
+        this.connectionLowWatermark = Math.min(server.getInboundLowWatermark(), connectionHighWatermark - 1);
+        this.globalHighWatermark = server.getInboundGlobalHighWatermark();
+        this.globalLowWatermark = Math.min(server.getInboundGlobalLowWatermark(), globalHighWatermark - 1);
+
+        Gauge.builder("comms.tcp.inbound.pending", globalPending, AtomicInteger::get)
+                .description("처리 대기 중인 수신 프레임 수")
+                .register(meterRegistry);
+        Gauge.builder("comms.tcp.inbound.suspended.connections", suspended, Map::size)
+                .description("수신 처리 적체로 읽기가 중단된 연결 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 수신 프레임이 처리 대기열에 들어감 (워커 스레드)
+     *
+     * @return 이 연결의 읽기를 중단해야 하면 true
+     */
+    public boolean frameQueued(ChannelContext context) {
+        int connectionPending = context.getInboundPending().incrementAndGet();
+        int pending = globalPending.incrementAndGet();
+        return connectionPending >= connectionHighWatermark || pending >= globalHighWatermark;
+    }
+
+    /**
+     * 수신 프레임 처리 완료 (처리 스레드)
+     */
+    public void frameProcessed(ChannelContext context) {
+        int connectionPending = context.getInboundPending().decrementAndGet();
+        int pending = globalPending.decrementAndGet();
+
+        // 연결 자체 적체로 중단한 연결은 전체 대기 수와 관계없이 재개
+        if (context.isReadSuspended() && connectionPending <= connectionLowWatermark
+                && !Boolean.TRUE.equals(suspended.get(context))) {
+            resume(context);
+        }
+
+        // 전체 대기 수가 하한에 도달하면 전체 적체 표시를 풀고, 연결 대기 수도 하한 이하인 연결 재개
+        if (pending == globalLowWatermark && !suspended.isEmpty()) {
+            for (Map.Entry<ChannelContext, Boolean> entry : suspended.entrySet()) {
+                entry.setValue(false);
+                if (entry.getKey().getInboundPending().get() <= connectionLowWatermark) {
+                    resume(entry.getKey());
+                }
+            }
+        }
+    }
+
+    /**
+     * 연결의 읽기 중단 (읽기 스레드)
+     */
+    public void suspend(ChannelContext context) {
+        if (context.isClosed() || !context.getReadSuspended().compareAndSet(false, true)) {
+            return;
+        }
+
+        boolean global = globalPending.get() >= globalHighWatermark;
+        context.getOwner().suspendRead(context);
+        suspended.put(context, global);
+        logger.debug("수신 처리 적체로 읽기 중단 (연결 대기 {}, 전체 대기 {})",
+                context.getInboundPending().get(), globalPending.get());
+
+        // 중단하는 사이에 처리가 끝났을 수 있으므로 다시 확인
+        if (context.getInboundPending().get() <= connectionLowWatermark
+                && (!global || globalPending.get() <= globalLowWatermark)) {
+            resume(context);
+        }
+    }
+
+    private void resume(ChannelContext context) {
+        if (!context.getReadSuspended().compareAndSet(true, false)) {
+            return;
+        }
+
+        suspended.remove(context);
+        context.getOwner().resumeRead(context);
+    }
+
+    /**
+     * 연결 종료 시 중단 목록에서 제거
+     */
+    public void connectionClosed(ChannelContext context) {
+        suspended.remove(context);
+    }
+
+    public int getGlobalPending() {
+        return globalPending.get();
+    }
+
+    public int getSuspendedCount() {
+        return suspended.size();
+    }
+}
@@ -1,262 +1,584 @@
 package com.bspark.comms.network.server.nio;
 
-import com.bspark.comms.dao.IpAddressWhitelistDAO;
+import com.bspark.comms.config.CommsProperties;
+import com.bspark.comms.core.protocol.validation.Crc16;
+import com.bspark.comms.core.scheduling.PollTimer;
+import com.bspark.comms.core.scheduling.WheelTimeout;
 import com.bspark.comms.data.MessageType;
 import com.bspark.comms.events.ClientConnectedEvent;
 import com.bspark.comms.events.ClientDisconnectedEvent;
-import com.bspark.comms.events.DataReceivedEvent;
+import com.bspark.comms.network.server.WhitelistCache;
+import com.bspark.comms.network.server.dispatch.InboundDispatcher;
+import com.bspark.comms.network.transport.MessageSendException;
+import com.bspark.comms.util.IpAddressUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.net.Inet4Address;
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.channels.SelectionKey;
-import java.nio.channels.Selector;
-import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 @Component
 public class NioConnectionManager {
     private static final Logger logger = LoggerFactory.getLogger(NioConnectionManager.class);
 
     private final ApplicationEventPublisher eventPublisher;
-    private final Map<String, SelectionKey> clientMap = new ConcurrentHashMap<>();
-    private final Map<SelectionKey, String> keyMap = new ConcurrentHashMap<>();
-    private final Map<SelectionKey, ByteBuffer> bufferMap = new ConcurrentHashMap<>();
+    private final InboundFlowControl flowControl;
+    private final InboundDispatcher dispatcher;
+    private final ConnectionTable connections = new ConnectionTable();
     private final AtomicInteger connectionSequence = new AtomicInteger(0);
-    @Autowired
-    private final IpAddressWhitelistDAO whiteListDao;
-
-    private Set<String> whiteList = ConcurrentHashMap.newKeySet();
-    private final int BUFFER_SIZE = 8192;
-
-    public NioConnectionManager(ApplicationEventPublisher eventPublisher, IpAddressWhitelistDAO whiteListDao) {
+    private final AtomicLong totalConnections = new AtomicLong(0);
+    private final WhitelistCache whitelist;
+    private final PollTimer pollTimer;
+    // CRC가 맞지 않는 프레임을 처리하지 않고 버릴지 여부
+    private final boolean dropCrcErrors;
+    // 브로드캐스트 소켓 기록 제한 시간
+    private final long broadcastTimeoutMillis;
+    // 한 번의 읽기 이벤트에서 허용하는 최대 read 호출 수 (다른 연결과의 공정성 보장)
+    private static final int MAX_READS_PER_EVENT = 16;
+
+    public NioConnectionManager(ApplicationEventPublisher eventPublisher, WhitelistCache whitelist,
+                                InboundFlowControl flowControl, InboundDispatcher dispatcher,
+                                PollTimer pollTimer, CommsProperties commsProperties) {
         this.eventPublisher = eventPublisher;
-        this.whiteListDao = whiteListDao;
+        this.whitelist = whitelist;
+        this.flowControl = flowControl;
+        this.dispatcher = dispatcher;
+        this.pollTimer = pollTimer;
+        this.dropCrcErrors = commsProperties.getServer().isDropCrcErrors();
+        this.broadcastTimeoutMillis = commsProperties.getServer().getBroadcastTimeoutMillis();
     }
 
     public void setWhiteList(Set<String> whiteList) {
         if (whiteList != null) {
-            this.whiteList = ConcurrentHashMap.newKeySet();
-            this.whiteList.addAll(whiteList);
+            whitelist.setConfiguredIps(whiteList);
         }
     }
 
-    public void acceptConnection(ServerSocketChannel serverChannel, Selector selector) throws IOException {
-        // 클라이언트 연결 수락
-        SocketChannel clientChannel = serverChannel.accept();
-        if (clientChannel == null) {
-            return;
+    /**
+     * 수락된 클라이언트 연결 허용 여부 확인 (acceptor 스레드)
+     * 화이트리스트 캐시로 판단할 수 없는 연결은 보류했다가 조회가 끝나면 조회 스레드에서 deferredAccept로 넘깁니다.
+     * 확인 중 오류가 난 연결은 닫고 false를 반환하므로 호출자는 다음 연결을 계속 수락할 수 있습니다.
+     *
+     * @param deferredAccept 보류 후 허용된 논블로킹 채널을 받을 콜백
+     * @return 바로 허용되어 논블로킹 모드로 설정된 경우 true (거부/보류된 경우 false)
+     */
+    public boolean acceptConnection(SocketChannel clientChannel, Consumer<SocketChannel> deferredAccept) {
+        try {
+            boolean admitted = admit(clientChannel, channel -> {
+                try {
+                    channel.configureBlocking(false);
+                    deferredAccept.accept(channel);
+                } catch (IOException e) {
+                    logger.error("보류된 연결 수락 실패: {}", e.getMessage());
+                    closeQuietly(channel);
+                }
+            });
+            if (!admitted) {
+                return false;
+            }
+
+            // 논블로킹 모드 설정
+            clientChannel.configureBlocking(false);
+            return true;
+        } catch (IOException e) {
+            logger.warn("연결 수락 중 오류: {}", e.getMessage());
+            closeQuietly(clientChannel);
+            return false;
         }
+    }
 
-        String clientIp = ((InetSocketAddress)clientChannel.getRemoteAddress()).getAddress().getHostAddress();
+    /**
+     * 화이트리스트 확인 (거부된 채널은 닫음, DB를 기다리지 않음)
+     * 캐시에 없는 IP는 채널을 보류하고 조회 스레드에서 확인한 뒤, 허용되면 deferredAdmit을 호출합니다.
+     *
+     * @param deferredAdmit 보류 후 허용된 채널을 받을 콜백 (조회 스레드에서 호출)
+     * @return 바로 허용된 경우 true (거부되거나 보류된 경우 false)
+     */
+    public boolean admit(SocketChannel clientChannel, Consumer<SocketChannel> deferredAdmit) throws IOException {
+        InetAddress remoteAddress = ((InetSocketAddress)clientChannel.getRemoteAddress()).getAddress();
+        String clientIp = remoteAddress.getHostAddress();
+
+        // 연결 테이블은 IPv4 주소를 int 키로 사용
+        if (!(remoteAddress instanceof Inet4Address)) {
+            logger.warn("IPv4가 아닌 주소에서 연결 시도: {}", clientIp);
+            clientChannel.close();
+            return false;
+        }
 
         // 화이트리스트 확인
+        int address = IpAddressUtils.pack(remoteAddress);
+        WhitelistCache.Decision decision = whitelist.check(address);
+        if (decision == WhitelistCache.Decision.ALLOWED) {
+            return true;
+        }
+        if (decision == WhitelistCache.Decision.DENIED) {
+            reject(clientChannel, clientIp);
+            return false;
+        }
 
+        // 조회가 끝날 때까지 채널 보류 (수락 스레드는 바로 다음 연결 처리)
+        whitelist.resolve(address).whenComplete((allowed, error) -> {
+            if (Boolean.TRUE.equals(allowed)) {
+                deferredAdmit.accept(clientChannel);
+            } else {
+                reject(clientChannel, clientIp);
+            }
+        });
+        return false;
+    }
 
-        if (!whiteList.isEmpty() && !whiteList.contains(clientIp) && !whiteListDao.isIpAllowed(clientIp)) {
-            logger.warn("화이트리스트에 없는 IP에서 연결 시도: {}", clientIp);
-            clientChannel.close();
-            return;
+    private void reject(SocketChannel clientChannel, String clientIp) {
+        logger.warn("화이트리스트에 없는 IP에서 연결 시도: {}", clientIp);
+        closeQuietly(clientChannel);
+    }
+
+    private void closeQuietly(SocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.error("채널 종료 중 오류: {}", e.getMessage());
         }
+    }
 
-        // 논블로킹 모드 설정
-        clientChannel.configureBlocking(false);
+    /**
+     * 소유자에 등록된 연결을 관리 대상에 추가 (소유자 스레드)
+     */
+    public void registerConnection(ChannelContext context) {
+        // 등록 전에 상대가 연결을 끊으면 주소를 알 수 없으므로 바로 정리
+        InetAddress remoteAddress = context.getChannel().socket().getInetAddress();
+        if (remoteAddress == null) {
+            logger.warn("등록 전에 연결이 종료됨 ({})", context.getOwner().getName());
+            closeConnection(context);
+            return;
+        }
 
-        // 클라이언트 ID 생성
-        String clientId = generateClientId(clientChannel);
+        // 수락 시 IPv4만 허용했으므로 주소를 int로 변환
+        int address = IpAddressUtils.pack(remoteAddress);
 
-        // 읽기 이벤트 등록
-        SelectionKey key = clientChannel.register(selector, SelectionKey.OP_READ);
+        // 같은 IP의 기존 연결이 있으면 기존 연결 종료
+        disconnectExistingConnection(address);
 
-        // 클라이언트 정보 저장
-        clientMap.put(clientId, key);
-        keyMap.put(key, clientId);
-        bufferMap.put(key, ByteBuffer.allocate(BUFFER_SIZE));
+        // 주소 저장 후 연결 ID 배정
+        context.setAddress(address);
+        connections.add(context);
+        totalConnections.incrementAndGet();
 
-        logger.info("클라이언트 연결 수락: {} ({})", clientId, clientIp);
+        String clientId = context.getClientId();
+        logger.info("클라이언트 연결 수락: {} (ID {}, {})", clientId, context.getId(), context.getOwner().getName());
 
         // 연결 이벤트 발행
-        eventPublisher.publishEvent(new ClientConnectedEvent(this, clientId, clientIp));
+        eventPublisher.publishEvent(new ClientConnectedEvent(this, context.getId(), clientId, clientId));
     }
 
-    public void readData(SelectionKey key) {
-        SocketChannel channel = (SocketChannel) key.channel();
-        String clientId = keyMap.get(key);
-        ByteBuffer buffer = bufferMap.get(key);
-
-        if (clientId == null || buffer == null) {
-            closeConnection(key);
+    /**
+     * 읽기 이벤트 처리 (워커 스레드)
+     *
+     * @param sharedBuffer 워커 공용 direct 읽기 버퍼
+     */
+    public void readData(SelectionKey key, ByteBuffer sharedBuffer) {
+        ChannelContext context = contextOf(key);
+        SocketChannel channel = context.getChannel();
+        String clientId = context.getClientId();
+        FrameDecoder decoder = context.getDecoder();
+
+        if (context.getId() < 0 || context.isClosed()) {
+            closeConnection(context);
             return;
         }
 
         try {
-            buffer.clear();
-            int bytesRead = channel.read(buffer);
+            // 더 읽을 데이터가 없거나(EAGAIN) 읽기 예산을 다 쓸 때까지 반복
+            for (int reads = 0; reads < MAX_READS_PER_EVENT; reads++) {
+                ByteBuffer buffer = decoder.readBuffer(sharedBuffer);
+                int bytesRead = channel.read(buffer);
+
+                if (bytesRead == -1) {
+                    // 연결 종료
+                    closeConnection(context);
+                    return;
+                }
 
-            if (bytesRead == -1) {
-                // 연결 종료
-                closeConnection(key);
-                return;
-            }
+                if (bytesRead == 0) {
+                    break;
+                }
 
-            // 데이터 수신 이벤트 발행 부분 수정
-            if (bytesRead > 0) {
-                buffer.flip();
-                byte[] data = new byte[buffer.remaining()];
-                buffer.get(data);
+                context.recordRead(bytesRead);
+                logger.debug("데이터 수신: {} ({} 바이트)", clientId, bytesRead);
 
-                logger.debug("데이터 수신: {} ({} 바이트)", clientId, data.length);
+                // 완성된 프레임을 모두 추출하여 발행
+                decoder.decode(buffer, (frame, crcStatus) -> publishFrame(context, frame, crcStatus));
 
-                // 메시지 유형 결정 (7번 인덱스의 바이트를 opcode로 가정)
-                MessageType messageType = MessageType.UNKNOWN;
-                if (data.length > 0) {
-                    // 첫 바이트를 opcode로 사용하여 메시지 타입 결정
-                    messageType = MessageType.fromOpcode(data[7]);
+                // 처리 적체로 읽기가 중단되면 남은 데이터는 소켓 버퍼에 둠
+                if (context.isReadSuspended()) {
+                    break;
                 }
-
-                // 데이터 수신 이벤트 발행
-                eventPublisher.publishEvent(new DataReceivedEvent(
-                        this, clientId, messageType, data));
             }
         } catch (IOException e) {
             logger.error("데이터 읽기 오류 {}: {}", clientId, e.getMessage());
-            closeConnection(key);
+            closeConnection(context);
         }
     }
 
-    public boolean sendData(String clientId, byte[] data) {
-        SelectionKey key = clientMap.get(clientId);
-        if (key == null || !key.isValid()) {
+    /**
+     * 디코딩된 프레임을 처리 스레드로 전달 (읽기 스레드)
+     *
+     * @param crcStatus 디코더의 CRC 검증 결과 ({@link Crc16#OK}가 아니면 설정에 따라 버림)
+     */
+    public void publishFrame(ChannelContext context, ByteBuffer frame, int crcStatus) {
+        if (crcStatus != Crc16.OK) {
+            logger.debug("CRC 불일치 프레임 수신: {} ({} 바이트, 누적 {})",
+                    context.getClientId(), frame.remaining(), context.getDecoder().getCrcErrors());
+            if (dropCrcErrors) {
+                return;
+            }
+        }
+
+        // 메시지 유형 결정 (7번 인덱스의 바이트가 opcode)
+        MessageType messageType = MessageType.fromOpcode(frame.get(FrameDecoder.OPCODE_OFFSET));
+        context.recordFrame();
+
+        if (flowControl.frameQueued(context)) {
+            flowControl.suspend(context);
+        }
+
+        // 프레임은 디코더 버퍼의 뷰이므로 링 버퍼 슬롯으로 복사하여 처리 스레드에 전달
+        if (!dispatcher.publish(context, context.getClientId(), messageType, frame)) {
+            // 링이 가득 참 - 리액터를 막지 않도록 프레임을 버림 (상태 응답이면 polling 응답 없음으로 처리됨)
+            logger.debug("수신 처리 링이 가득 차 프레임 버림: {} ({})", context.getClientId(), messageType);
+            flowControl.frameProcessed(context);
+        }
+    }
+
+    /**
+     * 클라이언트에게 데이터 전송 요청
+     * 데이터는 연결별 송신 대기열에 추가되고 연결 소유자가 소켓으로 내보냅니다.
+     *
+     * @return 소켓에 모두 기록되면 완료되는 future (연결이 없거나 종료되면 MessageSendException으로 실패)
+     */
+    public CompletableFuture<Void> sendData(String clientId, byte[] data) {
+        ChannelContext context = findContext(clientId);
+        if (context == null || context.isClosed()) {
             logger.warn("존재하지 않는 클라이언트에게 데이터 전송 시도: {}", clientId);
-            return false;
+            return CompletableFuture.failedFuture(
+                    new MessageSendException("Client not connected: " + clientId));
         }
 
-        SocketChannel channel = (SocketChannel) key.channel();
-        if (!channel.isConnected()) {
-            logger.warn("연결되지 않은 채널에 데이터 전송 시도: {}", clientId);
-            closeConnection(key);
-            return false;
+        return sendData(context, data);
+    }
+
+    /**
+     * 이미 조회한 연결에 데이터 전송 요청 (연결 조회 없음)
+     *
+     * @return 소켓에 모두 기록되면 완료되는 future (연결이 종료되면 MessageSendException으로 실패)
+     */
+    public CompletableFuture<Void> sendData(ChannelContext context, byte[] data) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        if (context.getOutboundQueue().offer(ByteBuffer.wrap(data), future)) {
+            context.getOwner().requestFlush(context);
         }
 
-        try {
-            ByteBuffer buffer = ByteBuffer.wrap(data);
-            while (buffer.hasRemaining()) {
-                channel.write(buffer);
+        logger.debug("데이터 전송 요청: {} ({} 바이트)", context.getClientId(), data.length);
+        return future;
+    }
+
+    /**
+     * 같은 프레임을 여러 연결에 전송 (임의 스레드)
+     * 읽기 전용 공유 버퍼의 duplicate를 각 연결의 송신 대기열에 추가하고,
+     * flush 요청은 소유자(워커)별로 모아 한 번씩만 보냅니다. 완료 future는 만들지 않습니다.
+     *
+     * @param frame 전송할 프레임 (position~limit, 호출 후에도 수정하면 안 됨)
+     * @return 송신 대기열에 추가된 연결 수
+     */
+    public int sendShared(ByteBuffer frame, List<ChannelContext> targets) {
+        Map<ChannelOwner, List<ChannelContext>> flushes = new IdentityHashMap<>();
+        int queued = 0;
+
+        for (ChannelContext context : targets) {
+            OutboundQueue outboundQueue = context.getOutboundQueue();
+            if (outboundQueue.offer(frame.duplicate(), null)) {
+                flushes.computeIfAbsent(context.getOwner(), owner -> new ArrayList<>()).add(context);
+            }
+            if (!outboundQueue.isClosed()) {
+                queued++;
             }
-            logger.debug("데이터 전송 성공: {} ({} 바이트)", clientId, data.length);
-            return true;
-        } catch (IOException e) {
-            logger.error("데이터 전송 오류 {}: {}", clientId, e.getMessage());
-            closeConnection(key);
-            return false;
         }
+
+        flushes.forEach(ChannelOwner::requestFlush);
+        return queued;
     }
 
-    public void closeConnection(SelectionKey key) {
-        if (!key.isValid()) {
-            return;
+    /**
+     * 같은 프레임을 여러 연결에 전송하고 대상별 기록 결과를 집계 (임의 스레드)
+     * 소켓 기록에 실패하거나, 기록 전에 연결이 종료되거나, 제한 시간 안에 기록되지 않은 대상은 onFailure로 알립니다.
+     *
+     * @param frame     전송할 프레임 (position~limit, 호출 후에도 수정하면 안 됨)
+     * @param onFailure 실패한 대상을 받을 콜백 (워커, 타이머 또는 호출 스레드에서 호출)
+     * @return 모든 대상의 소켓 기록이 끝나면 완료되는 결과 future
+     */
+    public CompletableFuture<BroadcastResult> sendShared(ByteBuffer frame, List<ChannelContext> targets,
+                                                         Consumer<ChannelContext> onFailure) {
+        Map<ChannelOwner, List<ChannelContext>> flushes = new IdentityHashMap<>();
+        BroadcastTracker tracker = new BroadcastTracker(targets.size(), broadcastTimeoutMillis);
+
+        for (ChannelContext context : targets) {
+            if (context.getOutboundQueue().offer(frame.duplicate(), tracker.newTarget(context, onFailure))) {
+                flushes.computeIfAbsent(context.getOwner(), owner -> new ArrayList<>()).add(context);
+            }
         }
 
-        String clientId = keyMap.remove(key);
-        if (clientId != null) {
-            clientMap.remove(clientId);
+        tracker.startTimeout(pollTimer);
+        flushes.forEach(ChannelOwner::requestFlush);
+        return tracker.result;
+    }
 
-            // 연결 종료 이벤트 발행
-            eventPublisher.publishEvent(new ClientDisconnectedEvent(this, clientId));
+    /**
+     * 연결된 모든 클라이언트에 같은 프레임 전송 (임의 스레드)
+     * 연결 목록을 복사하지 않고 소유자(워커)별로 나눈 뒤, 각 워커가 자기 스레드에서 병렬로
+     * 공유 버퍼의 duplicate를 대기열에 넣고 flush합니다. 호출자는 분배만 하고 바로 반환합니다.
+     * 대상별 결과는 분배 전에 만들어 두므로, 워커가 멈춰 작업이 실행되지 않거나 연결이 멈춘 대상도
+     * 제한 시간이 지나면 실패로 집계되어 결과가 항상 완료됩니다.
+     *
+     * @param frame 읽기 전용 공유 프레임 버퍼 (호출 후에도 수정하면 안 됨)
+     * @return 모든 대상의 소켓 기록이 끝나거나 실패하면 완료되는 결과 future
+     */
+    public CompletableFuture<BroadcastResult> broadcast(ByteBuffer frame) {
+        Map<ChannelOwner, List<ChannelContext>> owners = new IdentityHashMap<>();
+        int total = 0;
+        for (ChannelContext context : connections.view()) {
+            owners.computeIfAbsent(context.getOwner(), owner -> new ArrayList<>()).add(context);
+            total++;
         }
 
-        bufferMap.remove(key);
+        BroadcastTracker tracker = new BroadcastTracker(total, broadcastTimeoutMillis);
+        owners.forEach((owner, contexts) -> {
+            List<CompletableFuture<Void>> futures = new ArrayList<>(contexts.size());
+            for (int i = 0; i < contexts.size(); i++) {
+                futures.add(tracker.newTarget());
+            }
 
+            owner.submit(() -> {
+                List<ChannelContext> flushes = new ArrayList<>(contexts.size());
+                for (int i = 0; i < contexts.size(); i++) {
+                    ChannelContext context = contexts.get(i);
+                    if (context.getOutboundQueue().offer(frame.duplicate(), futures.get(i))) {
+                        flushes.add(context);
+                    }
+                }
+                owner.requestFlush(flushes);
+            });
+        });
+        tracker.startTimeout(pollTimer);
+        return tracker.result;
+    }
+
+    /**
+     * 클라이언트(IP 문자열)의 연결 상태 조회 (없거나 IPv4 형식이 아니면 null, REST/HTTP 경계용)
+     */
+    public ChannelContext findContext(String clientId) {
         try {
-            key.channel().close();
+            return connections.findByAddress(IpAddressUtils.pack(clientId));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 연결 ID로 연결 상태 조회 (없으면 null, 잠금 없음)
+     */
+    public ChannelContext findContext(int connectionId) {
+        return connections.get(connectionId);
+    }
+
+    /**
+     * 연결 종료 (임의 스레드, 여러 번 호출해도 한 번만 처리)
+     */
+    public void closeConnection(ChannelContext context) {
+        if (!context.markClosed()) {
+            return;
+        }
+
+        // 같은 IP로 새 연결이 이미 등록된 경우 새 연결은 유지
+        connections.unmapAddress(context);
+        context.getOutboundQueue().close();
+        flowControl.connectionClosed(context);
+
+        try {
+            context.getChannel().close();
         } catch (IOException e) {
             logger.error("채널 종료 중 오류: {}", e.getMessage());
         }
 
-        key.cancel();
+        // 일부만 전송된 프레임과 버퍼는 소유자가 정리
+        context.getOwner().connectionClosed(context);
+
+        if (context.getId() >= 0) {
+            String clientId = context.getClientId();
+
+            // 연결 종료 이벤트 발행 (처리가 끝난 뒤 연결 ID 반납)
+            try {
+                eventPublisher.publishEvent(new ClientDisconnectedEvent(this, context.getId(), clientId));
+            } finally {
+                connections.release(context);
+            }
 
-        if (clientId != null) {
             logger.info("클라이언트 연결 종료: {}", clientId);
         }
     }
 
     public void closeAllConnections() {
-        for (SelectionKey key : keyMap.keySet()) {
-            closeConnection(key);
+        for (ChannelContext context : connections.view()) {
+            closeConnection(context);
         }
-
-        clientMap.clear();
-        keyMap.clear();
-        bufferMap.clear();
     }
 
     /**
      * 특정 클라이언트 연결 종료
      */
     public boolean disconnectClient(String clientId) {
-        SelectionKey key = clientMap.get(clientId);
-        if (key == null || !key.isValid()) {
+        ChannelContext context = findContext(clientId);
+        if (context == null || context.isClosed()) {
             logger.warn("연결 종료 요청된 클라이언트가 존재하지 않음: {}", clientId);
             return false;
         }
 
-        closeConnection(key);
+        closeConnection(context);
         return true;
     }
 
-    /**
-     * 클라이언트 ID 생성 (IP 주소만 사용, 중복 시 기존 연결 종료)
-     */
-    private String generateClientId(SocketChannel channel) {
-        try {
-            InetSocketAddress remoteAddress = (InetSocketAddress) channel.getRemoteAddress();
-            String ip = remoteAddress.getAddress().getHostAddress();
-
-            // 같은 IP의 기존 연결이 있으면 기존 연결 종료
-            disconnectExistingConnection(ip);
-
-            return ip;
-        } catch (IOException e) {
-            return "unknown";
-        }
+    private ChannelContext contextOf(SelectionKey key) {
+        return (ChannelContext) key.attachment();
     }
 
     /**
      * 같은 IP의 기존 연결 종료
      */
-    private void disconnectExistingConnection(String ip) {
-        SelectionKey existingKey = clientMap.get(ip);
-        if (existingKey != null && existingKey.isValid()) {
-            logger.info("같은 IP의 기존 연결 종료: {}", ip);
-            closeConnection(existingKey);
+    private void disconnectExistingConnection(int address) {
+        ChannelContext existing = connections.findByAddress(address);
+        if (existing != null && !existing.isClosed()) {
+            logger.info("같은 IP의 기존 연결 종료: {}", existing.getClientId());
+            closeConnection(existing);
         }
     }
 
     public Map<String, String> getConnectedClients() {
         Map<String, String> clients = new HashMap<>();
-        for (Map.Entry<String, SelectionKey> entry : clientMap.entrySet()) {
+        for (ChannelContext context : connections.view()) {
             try {
-                SocketChannel channel = (SocketChannel) entry.getValue().channel();
+                SocketChannel channel = context.getChannel();
                 InetSocketAddress address = (InetSocketAddress) channel.getRemoteAddress();
-                clients.put(entry.getKey(), address.getAddress().getHostAddress());
+                clients.put(context.getClientId(), address.getAddress().getHostAddress());
             } catch (Exception e) {
-                clients.put(entry.getKey(), "unknown");
+                clients.put(context.getClientId(), "unknown");
             }
         }
         return clients;
     }
 
     public int getActiveConnectionCount() {
-        return clientMap.size();
+        return connections.size();
+    }
+
+    /**
+     * 기동 이후 등록된 전체 연결 수
+     */
+    public long getTotalConnectionCount() {
+        return totalConnections.get();
+    }
+
+    /**
+     * 등록된 연결 상태 목록 (복사하지 않는 읽기 전용 뷰)
+     */
+    public Collection<ChannelContext> getContexts() {
+        return connections.view();
+    }
+
+    /**
+     * 브로드캐스트 대상별 전송 결과 집계
+     * 대상마다 타이머를 두지 않고 전송 요청마다 타이머 작업 하나를 등록하여, 제한 시간이 지나면
+     * 아직 완료되지 않은 대상을 모두 실패로 처리합니다 (이후 기록이 끝나도 결과는 바뀌지 않음).
+     */
+    private static final class BroadcastTracker {
+        private static final String TIMEOUT_KEY = "broadcast-timeout";
+
+        private final int total;
+        private final long timeoutMillis;
+        private final List<CompletableFuture<Void>> targets;
+        private final AtomicInteger succeeded = new AtomicInteger(0);
+        private final AtomicInteger failed = new AtomicInteger(0);
+        private final AtomicInteger remaining;
+        private final CompletableFuture<BroadcastResult> result = new CompletableFuture<>();
+
+        private BroadcastTracker(int total, long timeoutMillis) {
+            this.total = total;
+            this.timeoutMillis = timeoutMillis;
+            this.targets = new ArrayList<>(total);
+            this.remaining = new AtomicInteger(total);
+            if (total == 0) {
+                result.complete(new BroadcastResult(0, 0, 0));
+            }
+        }
+
+        private CompletableFuture<Void> newTarget() {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            future.whenComplete((ignored, error) -> {
+                (error == null ? succeeded : failed).incrementAndGet();
+                if (remaining.decrementAndGet() == 0) {
+                    result.complete(new BroadcastResult(total, succeeded.get(), failed.get()));
+                }
+            });
+            targets.add(future);
+            return future;
+        }
+
+        private CompletableFuture<Void> newTarget(ChannelContext context, Consumer<ChannelContext> onFailure) {
+            CompletableFuture<Void> future = newTarget();
+            future.whenComplete((ignored, error) -> {
+                if (error != null) {
+                    onFailure.accept(context);
+                }
+            });
+            return future;
+        }
+
+        /**
+         * 제한 시간 타이머 등록 (모든 대상을 만든 뒤 호출, 결과가 먼저 완료되면 타이머 취소)
+         */
+        private void startTimeout(PollTimer pollTimer) {
+            if (result.isDone()) {
+                return;
+            }
+            WheelTimeout timeout = pollTimer.schedule(TIMEOUT_KEY, this::expire, timeoutMillis, TimeUnit.MILLISECONDS);
+            result.whenComplete((ignored, error) -> timeout.cancel());
+        }
+
+        /**
+         * 아직 완료되지 않은 대상을 모두 실패로 처리 (타이머 스레드)
+         */
+        private void expire() {
+            TimeoutException timeout = new TimeoutException("broadcast timed out after " + timeoutMillis + "ms");
+            for (CompletableFuture<Void> target : targets) {
+                target.completeExceptionally(timeout);
+            }
+        }
     }
-}
\ No newline at end of file
+}
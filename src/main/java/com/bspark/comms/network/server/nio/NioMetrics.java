@@ -0,0 +1,67 @@
+package com.bspark.comms.network.server.nio;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * NIO 서버 처리 지표 (actuator metrics 엔드포인트로 노출)
+ */
+@Component
+public class NioMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary framesPerFlush;
+    private final DistributionSummary bytesPerFlush;
+
+    public NioMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.framesPerFlush = DistributionSummary.builder("comms.tcp.outbound.frames.per.flush")
+                .description("한 번의 gathering write로 전송한 프레임 수")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.bytesPerFlush = DistributionSummary.builder("comms.tcp.outbound.bytes.per.flush")
+                .description("한 번의 gathering write로 전송한 바이트 수")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 송신 flush(write 시스템 콜 1회) 기록
+     */
+    public void recordFlush(int frames, long bytes) {
+        framesPerFlush.record(frames);
+        bytesPerFlush.record(bytes);
+    }
+
+    /**
+     * 워커 버퍼 풀 사용량 지표 등록
+     */
+    public void registerBufferPool(int workerIndex, BufferPool bufferPool) {
+        String worker = String.valueOf(workerIndex);
+        Gauge.builder("comms.tcp.buffer.pool.used", bufferPool, BufferPool::getUsedBytes)
+                .description("대여 중인 버퍼 크기")
+                .tag("worker", worker)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("comms.tcp.buffer.pool.high.water", bufferPool, BufferPool::getHighWaterBytes)
+                .description("대여 중인 버퍼 크기의 최대값")
+                .tag("worker", worker)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("comms.tcp.buffer.pool.capacity", bufferPool, BufferPool::getCapacityBytes)
+                .description("풀이 할당한 direct 메모리 크기")
+                .tag("worker", worker)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("comms.tcp.buffer.pool.outstanding", bufferPool, BufferPool::getOutstandingCount)
+                .description("반납되지 않은 버퍼 수")
+                .tag("worker", worker)
+                .register(meterRegistry);
+    }
+
+    public MeterRegistry getMeterRegistry() {
+        return meterRegistry;
+    }
+}
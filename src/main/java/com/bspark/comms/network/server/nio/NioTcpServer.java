@@ -1,8 +1,11 @@
 package com.bspark.comms.network.server.nio;
 
+import com.bspark.comms.config.CommsProperties;
+import com.bspark.comms.network.server.TcpServerEngine;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
@@ -12,31 +15,43 @@ import java.net.InetSocketAddress;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
 import java.util.Iterator;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Component
-public class NioTcpServer implements Runnable {
+@ConditionalOnProperty(prefix = "comms.server", name = "engine", havingValue = "nio", matchIfMissing = true)
+public class NioTcpServer implements Runnable, TcpServerEngine {
     private static final Logger logger = LoggerFactory.getLogger(NioTcpServer.class);
 
     private final NioConnectionManager connectionManager;
     private final ApplicationEventPublisher eventPublisher;
+    private final CommsProperties commsProperties;
+    private final NioMetrics metrics;
     private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicInteger nextWorker = new AtomicInteger(0);
 
     private Selector selector;
     private ServerSocketChannel serverChannel;
     private Thread serverThread;
+    private NioWorker[] workers = new NioWorker[0];
 
     @Value("${server.tcp.buffer-size:8192}")
     private int bufferSize;
 
     public NioTcpServer(NioConnectionManager connectionManager,
-                        ApplicationEventPublisher eventPublisher) {
+                        ApplicationEventPublisher eventPublisher,
+                        CommsProperties commsProperties,
+                        NioMetrics metrics) {
         this.connectionManager = connectionManager;
         this.eventPublisher = eventPublisher;
+        this.commsProperties = commsProperties;
+        this.metrics = metrics;
     }
 
+    @Override
     public void start(int port, Set<String> whiteList) {
         if (running.get()) {
             logger.warn("NIO TCP 서버가 이미 실행 중입니다");
@@ -58,19 +73,42 @@ public class NioTcpServer implements Runnable {
             // 화이트리스트 설정
             connectionManager.setWhiteList(whiteList);
 
-            // 서버 스레드 시작
+            // 워커 리액터 시작
+            startWorkers(commsProperties.getServer().resolveIoWorkers());
+
+            // 서버(acceptor) 스레드 시작
             running.set(true);
             serverThread = new Thread(this, "nio-tcp-server");
             serverThread.setDaemon(true);
             serverThread.start();
 
-            logger.info("NIO TCP 서버가 포트 {}에서 시작되었습니다", port);
+            logger.info("NIO TCP 서버가 포트 {}에서 시작되었습니다 (워커 {}개, 배정 방식 {})",
+                    port, workers.length, commsProperties.getServer().getWorkerSelection());
         } catch (IOException e) {
             logger.error("NIO TCP 서버 시작 실패: {}", e.getMessage(), e);
+            stopWorkers();
             closeResources();
         }
     }
 
+    private void startWorkers(int workerCount) throws IOException {
+        workers = new NioWorker[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            workers[i] = new NioWorker(i, connectionManager, metrics, commsProperties.getServer(), bufferSize);
+        }
+        for (NioWorker worker : workers) {
+            worker.start();
+        }
+    }
+
+    private void stopWorkers() {
+        for (NioWorker worker : workers) {
+            if (worker != null) {
+                worker.stop();
+            }
+        }
+    }
+
     @Override
     public void run() {
         try {
@@ -98,14 +136,9 @@ public class NioTcpServer implements Runnable {
                         continue;
                     }
 
-                    // 연결 수락 이벤트
+                    // 연결 수락 이벤트 - 수락된 채널은 워커에 넘김
                     if (key.isAcceptable()) {
-                        connectionManager.acceptConnection(serverChannel, selector);
-                    }
-
-                    // 읽기 이벤트
-                    if (key.isReadable()) {
-                        connectionManager.readData(key);
+                        acceptConnections();
                     }
                 }
             }
@@ -118,6 +151,48 @@ public class NioTcpServer implements Runnable {
         }
     }
 
+    private void acceptConnections() throws IOException {
+        // 거부되거나 보류된 연결이 있어도 대기 중인 연결이 없을 때까지 계속 수락
+        SocketChannel clientChannel;
+        while ((clientChannel = serverChannel.accept()) != null) {
+            if (connectionManager.acceptConnection(clientChannel, this::acceptDeferred)) {
+                selectWorker().register(clientChannel);
+            }
+        }
+    }
+
+    /**
+     * 화이트리스트 조회 후 허용된 보류 연결을 워커에 넘김 (조회 스레드)
+     */
+    private void acceptDeferred(SocketChannel clientChannel) {
+        if (!running.get()) {
+            try {
+                clientChannel.close();
+            } catch (IOException e) {
+                logger.error("리소스 정리 중 오류: {}", e.getMessage(), e);
+            }
+            return;
+        }
+        selectWorker().register(clientChannel);
+    }
+
+    /**
+     * 새 연결을 처리할 워커 선택
+     */
+    private NioWorker selectWorker() {
+        if (commsProperties.getServer().getWorkerSelection() == CommsProperties.WorkerSelection.LEAST_CONNECTIONS) {
+            NioWorker selected = workers[0];
+            for (NioWorker worker : workers) {
+                if (worker.getConnectionCount() < selected.getConnectionCount()) {
+                    selected = worker;
+                }
+            }
+            return selected;
+        }
+        return workers[Math.floorMod(nextWorker.getAndIncrement(), workers.length)];
+    }
+
+    @Override
     public void stop() {
         if (!running.getAndSet(false)) {
             logger.warn("NIO TCP 서버가 실행 중이 아닙니다");
@@ -141,8 +216,9 @@ public class NioTcpServer implements Runnable {
             }
         }
 
-        // 모든 연결 종료
+        // 모든 연결 종료 후 워커 중지
         connectionManager.closeAllConnections();
+        stopWorkers();
 
         logger.info("NIO TCP 서버가 중지되었습니다");
     }
@@ -160,10 +236,12 @@ public class NioTcpServer implements Runnable {
         }
     }
 
+    @Override
     public boolean isRunning() {
         return running.get();
     }
 
+    @Override
     public int getServerPort() {
         return serverChannel != null && serverChannel.socket().isBound()
                 ? serverChannel.socket().getLocalPort() : -1;
@@ -0,0 +1,287 @@
+package com.bspark.comms.network.server.nio;
+
+import com.bspark.comms.config.CommsProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 워커 리액터
+ * 자신의 Selector에 등록된 연결의 읽기/쓰기 이벤트를 처리합니다.
+ * 등록된 SelectionKey와 채널별 상태는 이 워커 스레드에서만 접근합니다.
+ */
+public class NioWorker implements Runnable, ChannelOwner {
+    private static final Logger logger = LoggerFactory.getLogger(NioWorker.class);
+
+    private final int index;
+    private final NioConnectionManager connectionManager;
+    private final NioMetrics metrics;
+    private final Selector selector;
+    private final WriteBatch writeBatch;
+    private final BufferPool bufferPool;
+    // 모든 연결이 함께 사용하는 읽기 버퍼 (미완성 프레임은 풀 버퍼로 옮겨 보관)
+    private final ByteBuffer readBuffer;
+    private final boolean resyncOnCrcError;
+
+    // 다른 스레드에서 요청된 작업 (채널 등록 등)
+    private final Queue<Runnable> pendingTasks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicInteger connectionCount = new AtomicInteger(0);
+
+    private Thread workerThread;
+
+    public NioWorker(int index, NioConnectionManager connectionManager, NioMetrics metrics,
+                     CommsProperties.Server config, int bufferSize) throws IOException {
+        this.index = index;
+        this.connectionManager = connectionManager;
+        this.metrics = metrics;
+        this.bufferPool = new BufferPool("nio-worker-" + index, bufferSize);
+        this.readBuffer = ByteBuffer.allocateDirect(bufferSize);
+        this.writeBatch = new WriteBatch(config.getWriteBatchMaxFrames(), config.getWriteBatchMaxBytes());
+        this.resyncOnCrcError = config.isDropCrcErrors();
+        this.selector = Selector.open();
+        metrics.registerBufferPool(index, bufferPool);
+    }
+
+    public void start() {
+        running.set(true);
+        workerThread = new Thread(this, "nio-worker-" + index);
+        workerThread.setDaemon(true);
+        workerThread.start();
+    }
+
+    /**
+     * 수락된 채널을 이 워커에 등록 요청
+     */
+    public void register(SocketChannel channel) {
+        execute(() -> doRegister(channel));
+    }
+
+    /**
+     * 워커 스레드에서 실행할 작업 등록
+     */
+    public void execute(Runnable task) {
+        pendingTasks.add(task);
+        selector.wakeup();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (running.get()) {
+                selector.select(100);
+
+                if (!running.get()) {
+                    break;
+                }
+
+                runPendingTasks();
+
+                Set<SelectionKey> selectedKeys = selector.selectedKeys();
+                if (selectedKeys.isEmpty()) {
+                    continue;
+                }
+
+                Iterator<SelectionKey> keyIterator = selectedKeys.iterator();
+                while (keyIterator.hasNext()) {
+                    SelectionKey key = keyIterator.next();
+                    keyIterator.remove();
+
+                    if (!key.isValid()) {
+                        continue;
+                    }
+
+                    // 읽기 이벤트
+                    if (key.isReadable()) {
+                        connectionManager.readData(key, readBuffer);
+                    }
+
+                    // 쓰기 가능 이벤트 (송신 대기 데이터가 있을 때만 등록됨)
+                    if (key.isValid() && key.isWritable()) {
+                        flush((ChannelContext) key.attachment());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            if (running.get()) {
+                logger.error("NIO 워커 {} 실행 중 오류: {}", index, e.getMessage(), e);
+            }
+        } finally {
+            // 종료 전에 요청된 정리 작업을 처리하고 남은 채널을 닫음
+            runPendingTasks();
+            closeRemainingChannels();
+            bufferPool.checkLeaks();
+            closeSelector();
+        }
+    }
+
+    private void runPendingTasks() {
+        Runnable task;
+        while ((task = pendingTasks.poll()) != null) {
+            try {
+                task.run();
+            } catch (Exception e) {
+                logger.error("NIO 워커 {} 작업 처리 중 오류: {}", index, e.getMessage(), e);
+            }
+        }
+    }
+
+    private void doRegister(SocketChannel channel) {
+        try {
+            ChannelContext context = new ChannelContext(this, channel, new FrameDecoder(bufferPool, resyncOnCrcError));
+            SelectionKey key = channel.register(selector, SelectionKey.OP_READ, context);
+            context.bind(key);
+            connectionCount.incrementAndGet();
+            connectionManager.registerConnection(context);
+        } catch (ClosedChannelException e) {
+            logger.warn("등록 전에 채널이 종료됨 (워커 {})", index);
+        }
+    }
+
+    /**
+     * 연결의 송신 대기열 flush 요청 (임의 스레드)
+     */
+    @Override
+    public void requestFlush(ChannelContext context) {
+        execute(() -> flush(context));
+    }
+
+    /**
+     * 여러 연결의 flush를 한 번의 작업으로 요청 (Selector wakeup 1회)
+     */
+    @Override
+    public void requestFlush(List<ChannelContext> contexts) {
+        execute(() -> {
+            for (ChannelContext context : contexts) {
+                flush(context);
+            }
+        });
+    }
+
+    @Override
+    public void submit(Runnable task) {
+        execute(task);
+    }
+
+    /**
+     * OP_READ 관심 해제 (워커 스레드)
+     */
+    @Override
+    public void suspendRead(ChannelContext context) {
+        SelectionKey key = context.getKey();
+        if (key.isValid()) {
+            key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+        }
+    }
+
+    @Override
+    public void resumeRead(ChannelContext context) {
+        execute(() -> {
+            SelectionKey key = context.getKey();
+            if (key.isValid() && !context.isReadSuspended()) {
+                key.interestOps(key.interestOps() | SelectionKey.OP_READ);
+            }
+        });
+    }
+
+    /**
+     * 이 워커에 등록된 연결이 종료됨 - 일부만 전송된 프레임과 버퍼는 워커 스레드에서 정리
+     */
+    @Override
+    public void connectionClosed(ChannelContext context) {
+        connectionCount.decrementAndGet();
+        context.getKey().cancel();
+        requestFlush(context);
+    }
+
+    @Override
+    public String getName() {
+        return "nio-worker-" + index;
+    }
+
+    /**
+     * 송신 대기열을 소켓으로 전송하고, 남은 데이터가 있을 때만 OP_WRITE 관심을 유지
+     */
+    private void flush(ChannelContext context) {
+        SelectionKey key = context.getKey();
+        if (context.isClosed() || !key.isValid()) {
+            releaseChannel(context);
+            return;
+        }
+
+        try {
+            boolean drained = context.getOutboundQueue().flush(context.getChannel(), writeBatch, metrics);
+            if (drained) {
+                key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+            } else {
+                key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+            }
+        } catch (IOException e) {
+            logger.error("데이터 전송 오류 (워커 {}): {}", index, e.getMessage());
+            connectionManager.closeConnection(context);
+        }
+    }
+
+    /**
+     * 종료된 연결이 보유한 버퍼와 송신 대기 프레임 정리
+     */
+    private void releaseChannel(ChannelContext context) {
+        context.getOutboundQueue().discard();
+        context.getDecoder().release();
+    }
+
+    private void closeRemainingChannels() {
+        for (SelectionKey key : selector.keys()) {
+            if (key.attachment() instanceof ChannelContext context) {
+                connectionManager.closeConnection(context);
+                releaseChannel(context);
+            }
+        }
+    }
+
+    public void stop() {
+        if (!running.getAndSet(false)) {
+            return;
+        }
+
+        selector.wakeup();
+
+        if (workerThread != null) {
+            try {
+                workerThread.join(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.warn("NIO 워커 {} 종료 대기 중 인터럽트 발생", index);
+            }
+        }
+    }
+
+    private void closeSelector() {
+        try {
+            selector.close();
+        } catch (IOException e) {
+            logger.error("NIO 워커 {} Selector 종료 중 오류: {}", index, e.getMessage());
+        }
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+}
@@ -0,0 +1,209 @@
+package com.bspark.comms.network.server.nio;
+
+import com.bspark.comms.network.transport.MessageSendException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 연결별 송신 대기열 (다중 생산자 / 단일 소비자)
+ * 여러 스레드에서 프레임을 추가하고, 소유 워커 스레드만 소켓으로 내보냅니다.
+ * 대기 중인 프레임은 gathering write로 한 번의 시스템 콜에 묶어서 전송합니다.
+ */
+public class OutboundQueue {
+
+    private final Queue<PendingWrite> queue = new ConcurrentLinkedQueue<>();
+    // 워커에 flush 요청이 이미 걸려 있는지 여부 (중복 요청 방지)
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+
+    // 소켓 송신 버퍼가 가득 차 일부만 전송된 프레임 (워커 스레드 전용)
+    private ArrayDeque<PendingWrite> unfinished;
+    private volatile boolean closed;
+    // 소켓에 기록한 누적 바이트 수 (소비자 스레드에서만 갱신)
+    private volatile long bytesWritten;
+
+    /**
+     * 송신할 프레임 추가 (임의 스레드)
+     *
+     * @return 호출자가 워커에 flush를 요청해야 하면 true
+     */
+    public boolean offer(ByteBuffer buffer, CompletableFuture<Void> future) {
+        if (closed) {
+            fail(future, "Connection closed");
+            return false;
+        }
+
+        queue.add(new PendingWrite(buffer, future));
+
+        if (closed) {
+            // 추가 직후 연결이 종료된 경우 남은 항목 정리
+            failQueued();
+            return false;
+        }
+
+        return flushScheduled.compareAndSet(false, true);
+    }
+
+    /**
+     * 대기 중인 프레임을 배치 단위로 묶어 소켓으로 전송 (워커 스레드)
+     *
+     * @return 모두 전송했으면 true, 소켓 송신 버퍼가 가득 차 남은 데이터가 있으면 false
+     */
+    public boolean flush(GatheringByteChannel channel, WriteBatch batch, NioMetrics metrics) throws IOException {
+        try {
+            while (!closed) {
+                fillBatch(batch);
+
+                if (batch.count == 0) {
+                    flushScheduled.set(false);
+                    // 플래그를 내린 사이에 추가된 항목이 있으면 계속 처리
+                    if (queue.isEmpty() || !flushScheduled.compareAndSet(false, true)) {
+                        return true;
+                    }
+                    continue;
+                }
+
+                long written;
+                try {
+                    written = channel.write(batch.buffers, 0, batch.count);
+                } catch (IOException e) {
+                    failBatch(batch);
+                    throw e;
+                }
+                bytesWritten += written;
+                int completed = completeWritten(batch);
+                metrics.recordFlush(completed, written);
+
+                if (completed < batch.count) {
+                    // 송신 버퍼가 가득 참 - 남은 프레임은 다음 쓰기 가능 이벤트에서 전송
+                    keepUnfinished(batch, completed);
+                    return false;
+                }
+                batch.clear();
+            }
+            discard();
+            return true;
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private void fillBatch(WriteBatch batch) {
+        if (unfinished != null) {
+            while (!unfinished.isEmpty() && batch.hasRoom()) {
+                PendingWrite write = unfinished.poll();
+                batch.add(write.buffer, write.future);
+            }
+        }
+
+        while (batch.hasRoom()) {
+            PendingWrite write = queue.poll();
+            if (write == null) {
+                break;
+            }
+            batch.add(write.buffer, write.future);
+        }
+    }
+
+    /**
+     * 전송이 끝난 앞쪽 프레임들의 future 완료
+     *
+     * @return 전송이 끝난 프레임 수
+     */
+    @SuppressWarnings("unchecked")
+    private int completeWritten(WriteBatch batch) {
+        int completed = 0;
+        while (completed < batch.count && !batch.buffers[completed].hasRemaining()) {
+            CompletableFuture<Void> future = (CompletableFuture<Void>) batch.futures[completed];
+            if (future != null) {
+                future.complete(null);
+            }
+            completed++;
+        }
+        return completed;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void failBatch(WriteBatch batch) {
+        for (int i = 0; i < batch.count; i++) {
+            fail((CompletableFuture<Void>) batch.futures[i], "Write failed");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void keepUnfinished(WriteBatch batch, int from) {
+        if (unfinished == null) {
+            unfinished = new ArrayDeque<>();
+        }
+        // 배치에 담지 못한 이전 항목 앞에 순서대로 되돌림
+        for (int i = batch.count - 1; i >= from; i--) {
+            unfinished.addFirst(new PendingWrite(batch.buffers[i], (CompletableFuture<Void>) batch.futures[i]));
+        }
+    }
+
+    /**
+     * 연결 종료 시 대기 중인 전송을 실패 처리 (임의 스레드)
+     * 일부만 전송된 프레임은 소유 워커가 {@link #discard()}로 정리합니다.
+     */
+    public void close() {
+        closed = true;
+        failQueued();
+    }
+
+    /**
+     * 종료된 연결의 남은 프레임 정리 (워커 스레드)
+     */
+    public void discard() {
+        closed = true;
+
+        if (unfinished != null) {
+            PendingWrite write;
+            while ((write = unfinished.poll()) != null) {
+                fail(write.future, "Connection closed");
+            }
+            unfinished = null;
+        }
+        failQueued();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    public boolean hasPending() {
+        return !queue.isEmpty() || (unfinished != null && !unfinished.isEmpty());
+    }
+
+    private void failQueued() {
+        PendingWrite write;
+        while ((write = queue.poll()) != null) {
+            fail(write.future, "Connection closed");
+        }
+    }
+
+    private static void fail(CompletableFuture<Void> future, String reason) {
+        if (future != null) {
+            future.completeExceptionally(new MessageSendException(reason));
+        }
+    }
+
+    private static final class PendingWrite {
+        private final ByteBuffer buffer;
+        private final CompletableFuture<Void> future;
+
+        private PendingWrite(ByteBuffer buffer, CompletableFuture<Void> future) {
+            this.buffer = buffer;
+            this.future = future;
+        }
+    }
+}
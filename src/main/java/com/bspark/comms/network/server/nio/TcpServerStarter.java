@@ -2,7 +2,8 @@
 package com.bspark.comms.network.server.nio;
 
 import com.bspark.comms.config.CommsProperties;
-import com.bspark.comms.dao.IpAddressWhitelistDAO;
+import com.bspark.comms.network.server.TcpServerEngine;
+import com.bspark.comms.network.server.WhitelistCache;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +11,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.HashSet;
 import java.util.Set;
 
 @Component
@@ -18,9 +20,9 @@ public class TcpServerStarter {
 
     private static final Logger logger = LoggerFactory.getLogger(TcpServerStarter.class);
 
-    private final NioTcpServer nioTcpServer;
+    private final TcpServerEngine tcpServerEngine;
     private final CommsProperties commsProperties;
-    private final IpAddressWhitelistDAO ipAddressWhitelistDAO; // PostgreSQL DAO 사용
+    private final WhitelistCache whitelistCache; // PostgreSQL 화이트리스트 캐시
 
     @PostConstruct
     public void startTcpServer() {
@@ -30,36 +32,32 @@ public class TcpServerStarter {
             // PostgreSQL에서 화이트리스트 조회
             Set<String> whiteList = getWhiteListFromDatabase();
 
-            nioTcpServer.start(commsProperties.getServer().getPort(), whiteList);
+            tcpServerEngine.start(commsProperties.getServer().getPort(), whiteList);
         }
     }
 
     /**
-     * PostgreSQL에서 화이트리스트 IP 목록 조회
+     * PostgreSQL 화이트리스트를 캐시에 읽고 DB와 별도로 적용할 항목 반환
+     * DB 목록은 캐시가 따로 갱신하므로 서버에는 고정 항목(localhost와 설정 항목)만 넘깁니다.
      */
     private Set<String> getWhiteListFromDatabase() {
-        try {
-            // PostgreSQL에서 활성 IP 목록 가져오기
-            Set<String> dbWhiteList = ipAddressWhitelistDAO.getAllowedIps();
-
-            logger.info("PostgreSQL에서 {} 개의 화이트리스트 IP 로드됨", dbWhiteList.size());
-
-            // 기본 localhost는 항상 포함
-            dbWhiteList.add("127.0.0.1");
-
-            return dbWhiteList;
+        Set<String> whiteList = new HashSet<>(commsProperties.getWhitelist().getEntries());
+        // 기본 localhost는 항상 포함
+        whiteList.add("127.0.0.1");
+        if (whitelistCache.refresh()) {
+            return whiteList;
+        }
 
-        } catch (Exception e) {
-            logger.error("PostgreSQL에서 화이트리스트 로드 실패, 기본값 사용: {}", e.getMessage());
+        logger.error("PostgreSQL에서 화이트리스트 로드 실패, 기본값 사용");
 
-            // DB 연결 실패 시 기본 화이트리스트 반환
-            return Set.of("127.0.0.1", "192.168.1.100");
-        }
+        // DB 연결 실패 시 기본 화이트리스트 추가
+        whiteList.add("192.168.1.100");
+        return whiteList;
     }
 
     @PreDestroy
     public void stopTcpServer() {
         logger.info("TCP 서버 종료 중...");
-        nioTcpServer.stop();
+        tcpServerEngine.stop();
     }
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.bspark.comms.network.server.nio;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * gathering write에 사용하는 워커별 작업 배열
+ * 워커 스레드에서만 사용하며, 한 연결의 flush가 끝나면 비워집니다.
+ */
+public class WriteBatch {
+
+    final ByteBuffer[] buffers;
+    final CompletableFuture<?>[] futures;
+    final int maxFrames;
+    final int maxBytes;
+
+    int count;
+    long bytes;
+
+    public WriteBatch(int maxFrames, int maxBytes) {
+        if (maxFrames < 1 || maxBytes < 1) {
+            throw new IllegalArgumentException("Write batch limits must be positive");
+        }
+        this.buffers = new ByteBuffer[maxFrames];
+        this.futures = new CompletableFuture<?>[maxFrames];
+        this.maxFrames = maxFrames;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * 프레임을 더 담을 수 있는지 확인 (최소 1개는 항상 허용)
+     */
+    boolean hasRoom() {
+        return count == 0 || (count < maxFrames && bytes < maxBytes);
+    }
+
+    void add(ByteBuffer buffer, CompletableFuture<?> future) {
+        buffers[count] = buffer;
+        futures[count] = future;
+        count++;
+        bytes += buffer.remaining();
+    }
+
+    void clear() {
+        Arrays.fill(buffers, 0, count, null);
+        Arrays.fill(futures, 0, count, null);
+        count = 0;
+        bytes = 0;
+    }
+}
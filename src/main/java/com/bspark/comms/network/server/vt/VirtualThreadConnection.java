@@ -0,0 +1,137 @@
+package com.bspark.comms.network.server.vt;
+
+import com.bspark.comms.network.server.nio.ChannelContext;
+import com.bspark.comms.network.server.nio.ChannelOwner;
+import com.bspark.comms.network.server.nio.FrameDecoder;
+import com.bspark.comms.network.server.nio.NioConnectionManager;
+import com.bspark.comms.network.server.nio.NioMetrics;
+import com.bspark.comms.network.server.nio.OutboundQueue;
+import com.bspark.comms.network.server.nio.WriteBatch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 가상 스레드 엔진의 연결
+ * 연결마다 읽기/쓰기 가상 스레드를 하나씩 두고 블로킹 I/O로 처리합니다.
+ * 디코딩 이후의 처리 경로(수신 분배기, 흐름 제어, 송신 대기열)는 NIO 엔진과 같습니다.
+ */
+public class VirtualThreadConnection implements ChannelOwner {
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadConnection.class);
+
+    private final String name;
+    private final NioConnectionManager connectionManager;
+    private final NioMetrics metrics;
+    private final ChannelContext context;
+    private final ByteBuffer readBuffer;
+    private final WriteBatch writeBatch;
+
+    private Thread reader;
+    private Thread writer;
+
+    public VirtualThreadConnection(long id, SocketChannel channel, NioConnectionManager connectionManager,
+                                   NioMetrics metrics, int bufferSize, WriteBatch writeBatch, boolean resyncOnCrcError) {
+        this.name = "vt-conn-" + id;
+        this.connectionManager = connectionManager;
+        this.metrics = metrics;
+        this.context = new ChannelContext(this, channel, new FrameDecoder(bufferSize, resyncOnCrcError));
+        this.readBuffer = ByteBuffer.allocate(bufferSize);
+        this.writeBatch = writeBatch;
+    }
+
+    public void start() {
+        writer = Thread.ofVirtual().name(name + "-writer").unstarted(this::writeLoop);
+        reader = Thread.ofVirtual().name(name + "-reader").unstarted(this::readLoop);
+        writer.start();
+        reader.start();
+    }
+
+    private void readLoop() {
+        try {
+            connectionManager.registerConnection(context);
+
+            SocketChannel channel = context.getChannel();
+            while (!context.isClosed()) {
+                // 처리 적체로 읽기가 중단되면 재개될 때까지 대기 (남은 데이터는 소켓 버퍼에 둠)
+                if (context.isReadSuspended()) {
+                    LockSupport.park(this);
+                    continue;
+                }
+
+                int bytesRead = channel.read(readBuffer);
+                if (bytesRead == -1) {
+                    break;
+                }
+                context.recordRead(bytesRead);
+
+                context.getDecoder().decode(readBuffer,
+                        (frame, crcStatus) -> connectionManager.publishFrame(context, frame, crcStatus));
+            }
+        } catch (IOException e) {
+            if (!context.isClosed()) {
+                logger.error("데이터 읽기 오류 {}: {}", context.getClientId(), e.getMessage());
+            }
+        } finally {
+            connectionManager.closeConnection(context);
+        }
+    }
+
+    private void writeLoop() {
+        OutboundQueue outboundQueue = context.getOutboundQueue();
+        try {
+            while (!context.isClosed()) {
+                if (!outboundQueue.hasPending()) {
+                    LockSupport.park(this);
+                    continue;
+                }
+
+                // 블로킹 채널이므로 대기열이 빌 때까지 기록
+                outboundQueue.flush(context.getChannel(), writeBatch, metrics);
+            }
+        } catch (IOException e) {
+            if (!context.isClosed()) {
+                logger.error("데이터 전송 오류 {}: {}", context.getClientId(), e.getMessage());
+            }
+            connectionManager.closeConnection(context);
+        } finally {
+            outboundQueue.discard();
+        }
+    }
+
+    @Override
+    public void requestFlush(ChannelContext context) {
+        LockSupport.unpark(writer);
+    }
+
+    @Override
+    public void suspendRead(ChannelContext context) {
+        // 읽기 스레드가 다음 read 전에 중단 여부를 확인함
+    }
+
+    @Override
+    public void resumeRead(ChannelContext context) {
+        LockSupport.unpark(reader);
+    }
+
+    /**
+     * 종료 후 대기 중인 읽기/쓰기 스레드를 깨워 정리하도록 함
+     */
+    @Override
+    public void connectionClosed(ChannelContext context) {
+        LockSupport.unpark(reader);
+        LockSupport.unpark(writer);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    public ChannelContext getContext() {
+        return context;
+    }
+}
@@ -0,0 +1,182 @@
+package com.bspark.comms.network.server.vt;
+
+import com.bspark.comms.config.CommsProperties;
+import com.bspark.comms.network.server.TcpServerEngine;
+import com.bspark.comms.network.server.nio.NioConnectionManager;
+import com.bspark.comms.network.server.nio.NioMetrics;
+import com.bspark.comms.network.server.nio.WriteBatch;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가상 스레드 TCP 서버 엔진
+ * 연결마다 가상 스레드에서 블로킹 읽기/쓰기를 수행합니다. Selector가 없어 흐름이 단순하며,
+ * 대부분 유휴 상태인 다수의 제어기 연결에서 NIO 엔진과 비교할 수 있도록 comms.server.engine=virtual-thread로 선택합니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "comms.server", name = "engine", havingValue = "virtual-thread")
+public class VirtualThreadTcpServer implements TcpServerEngine {
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadTcpServer.class);
+
+    private final NioConnectionManager connectionManager;
+    private final CommsProperties commsProperties;
+    private final NioMetrics metrics;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicLong connectionSequence = new AtomicLong(0);
+
+    private ServerSocketChannel serverChannel;
+    private Thread acceptorThread;
+
+    @Value("${server.tcp.buffer-size:8192}")
+    private int bufferSize;
+
+    public VirtualThreadTcpServer(NioConnectionManager connectionManager,
+                                  CommsProperties commsProperties,
+                                  NioMetrics metrics) {
+        this.connectionManager = connectionManager;
+        this.commsProperties = commsProperties;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void start(int port, Set<String> whiteList) {
+        if (running.get()) {
+            logger.warn("가상 스레드 TCP 서버가 이미 실행 중입니다");
+            return;
+        }
+
+        try {
+            // 블로킹 모드 서버 소켓
+            serverChannel = ServerSocketChannel.open();
+            serverChannel.bind(new InetSocketAddress(port));
+
+            // 화이트리스트 설정
+            connectionManager.setWhiteList(whiteList);
+
+            running.set(true);
+            acceptorThread = Thread.ofVirtual().name("vt-tcp-acceptor").start(this::acceptLoop);
+
+            logger.info("가상 스레드 TCP 서버가 포트 {}에서 시작되었습니다", port);
+        } catch (IOException e) {
+            logger.error("가상 스레드 TCP 서버 시작 실패: {}", e.getMessage(), e);
+            running.set(false);
+            closeServerChannel();
+        }
+    }
+
+    private void acceptLoop() {
+        try {
+            while (running.get()) {
+                SocketChannel clientChannel = serverChannel.accept();
+                // 화이트리스트 조회가 필요한 연결은 조회가 끝난 뒤 조회 스레드에서 시작
+                if (admit(clientChannel)) {
+                    startConnection(clientChannel);
+                }
+            }
+        } catch (ClosedChannelException e) {
+            // 서버 종료
+        } catch (IOException e) {
+            if (running.get()) {
+                logger.error("가상 스레드 TCP 서버 실행 중 오류: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 연결 하나의 확인 오류(확인 전에 끊긴 경우 등)는 해당 연결만 닫고 수락을 계속함
+     */
+    private boolean admit(SocketChannel clientChannel) {
+        try {
+            return connectionManager.admit(clientChannel, this::startConnection);
+        } catch (IOException e) {
+            logger.warn("연결 수락 중 오류: {}", e.getMessage());
+            try {
+                clientChannel.close();
+            } catch (IOException closeError) {
+                logger.error("리소스 정리 중 오류: {}", closeError.getMessage(), closeError);
+            }
+            return false;
+        }
+    }
+
+    private void startConnection(SocketChannel clientChannel) {
+        if (!running.get()) {
+            try {
+                clientChannel.close();
+            } catch (IOException e) {
+                logger.error("리소스 정리 중 오류: {}", e.getMessage(), e);
+            }
+            return;
+        }
+
+        CommsProperties.Server config = commsProperties.getServer();
+        WriteBatch writeBatch = new WriteBatch(config.getWriteBatchMaxFrames(), config.getWriteBatchMaxBytes());
+        new VirtualThreadConnection(connectionSequence.incrementAndGet(), clientChannel,
+                connectionManager, metrics, bufferSize, writeBatch, config.isDropCrcErrors()).start();
+    }
+
+    @Override
+    public void stop() {
+        if (!running.getAndSet(false)) {
+            logger.warn("가상 스레드 TCP 서버가 실행 중이 아닙니다");
+            return;
+        }
+
+        logger.info("가상 스레드 TCP 서버 중지 중...");
+
+        // 서버 소켓을 닫아 accept 대기를 해제
+        closeServerChannel();
+        if (acceptorThread != null) {
+            try {
+                acceptorThread.join(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.warn("서버 스레드 종료 대기 중 인터럽트 발생");
+            }
+        }
+
+        // 채널을 닫으면 연결별 가상 스레드도 종료됨
+        connectionManager.closeAllConnections();
+
+        logger.info("가상 스레드 TCP 서버가 중지되었습니다");
+    }
+
+    private void closeServerChannel() {
+        try {
+            if (serverChannel != null) {
+                serverChannel.close();
+            }
+        } catch (IOException e) {
+            logger.error("리소스 정리 중 오류: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    @Override
+    public int getServerPort() {
+        return serverChannel != null && serverChannel.socket().isBound()
+                ? serverChannel.socket().getLocalPort() : -1;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stop();
+    }
+}
@@ -1,36 +1,35 @@
 package com.bspark.comms.network.transport;
 
 import com.bspark.comms.core.connection.ConnectionManager;
-import jakarta.annotation.PreDestroy;
+import com.bspark.comms.network.server.nio.BroadcastResult;
+import com.bspark.comms.network.server.nio.ChannelContext;
+import com.bspark.comms.network.server.nio.NioConnectionManager;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
-import java.io.OutputStream;
-import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 
+/**
+ * 메시지 전송
+ * 연결 레지스트리의 채널 송신 큐로 전달만 하며, 실제 소켓 기록은 각 연결의 I/O 스레드가 수행합니다.
+ */
 @Service
 @RequiredArgsConstructor
 public class MessageSender {
 
     private static final Logger logger = LoggerFactory.getLogger(MessageSender.class);
 
+    private final NioConnectionManager registry;
     private final ConnectionManager connectionManager;
-    private final ExecutorService senderExecutor = Executors.newFixedThreadPool(8,
-            r -> {
-                Thread t = new Thread(r, "message-sender");
-                t.setDaemon(true);
-                return t;
-            });
 
     /**
-     * 메시지 전송 (동기)
+     * 메시지 전송 (결과를 기다리지 않음)
      */
     public void sendMessage(String clientId, byte[] data) {
         if (data == null || data.length == 0) {
@@ -38,103 +37,52 @@ public class MessageSender {
             return;
         }
 
-        senderExecutor.submit(() -> doSendMessage(clientId, data));
+        sendMessageAsync(clientId, data);
     }
 
     /**
      * 메시지 전송 (비동기)
+     *
+     * @return 소켓 기록이 끝나면 완료되고, 연결이 없거나 기록에 실패하면 {@link MessageSendException}으로 실패하는 future
      */
     public CompletableFuture<Void> sendMessageAsync(String clientId, byte[] data) {
-        return CompletableFuture.runAsync(() -> doSendMessage(clientId, data), senderExecutor);
-    }
-
-    /**
-     * 실제 메시지 전송 로직
-     */
-    private void doSendMessage(String clientId, byte[] data) {
-        if (!connectionManager.isActive(clientId)) {
-            logger.debug("Skipping message send to inactive client: {}", clientId);
-            return;
-        }
-
-        Socket socket = connectionManager.getSocket(clientId);
-        if (socket == null || socket.isClosed()) {
-            logger.warn("Cannot send message to client {}: socket not available", clientId);
-            connectionManager.removeConnection(clientId);
-            return;
-        }
-
-        try {
-            synchronized (socket) { // 동일 소켓에 대한 동시 쓰기 방지
-                OutputStream out = socket.getOutputStream();
-                out.write(data);
-                out.flush();
-            }
-
-            connectionManager.updateActivity(clientId);
-            //logger.debug("Message sent to client: {}, data: {}", clientId, HexUtils.toHexString(data));
-
-        } catch (IOException e) {
-            logger.error("Error sending message to client {}: {}", clientId, e.getMessage());
-            // 에러 발생 시 소켓 강제 종료 추가
-            forceCloseSocket(clientId);
-            connectionManager.removeConnection(clientId);
-            throw new MessageSendException("Failed to send message to client: " + clientId, e);
-        }
-    }
-
-    /**
-     * 소켓 강제 종료
-     */
-    private void forceCloseSocket(String clientId) {
-        Socket socket = connectionManager.getSocket(clientId);
-        if (socket != null && !socket.isClosed()) {
-            try {
-                socket.shutdownOutput();
-                socket.shutdownInput();
-                socket.close();
-                logger.debug("Force closed socket for client: {}", clientId);
-            } catch (IOException e) {
-                logger.warn("Error force closing socket for client {}: {}", clientId, e.getMessage());
-            }
-        }
+        return registry.sendData(clientId, data)
+                .exceptionally(e -> {
+                    logger.error("Error sending message to client {}: {}", clientId, e.getMessage());
+                    throw new MessageSendException("Failed to send message to client: " + clientId, e);
+                });
     }
 
     /**
      * 모든 활성 클라이언트에게 메시지 전송
      */
-    public void sendMessageToAllActiveClients(byte[] data) {
-        if (connectionManager.getActiveConnectionCount() == 0) {
-            logger.debug("No active clients to send message to");
-            return;
-        }
-
-        var activeClients = connectionManager.getActiveClientIds();
-        logger.debug("Broadcasting message to {} active clients", activeClients.size());
-
-        for (String clientId : activeClients) {
-            sendMessage(clientId, data);
-        }
+    public CompletableFuture<BroadcastResult> sendMessageToAllActiveClients(byte[] data) {
+        ByteBuffer frame = ByteBuffer.allocateDirect(data.length).put(data).flip().asReadOnlyBuffer();
+        return registry.broadcast(frame);
     }
 
     /**
      * 특정 클라이언트들에게 메시지 전송
      */
-    public void sendMessageToClients(java.util.Set<String> clientIds, byte[] data) {
+    public void sendMessageToClients(Set<String> clientIds, byte[] data) {
         if (clientIds == null || clientIds.isEmpty()) {
             logger.debug("No client IDs specified for message sending");
             return;
         }
 
-        logger.debug("Sending message to {} specified clients", clientIds.size());
-
+        List<ChannelContext> targets = new ArrayList<>(clientIds.size());
         for (String clientId : clientIds) {
-            if (connectionManager.isActive(clientId)) {
-                sendMessage(clientId, data);
+            ChannelContext context = registry.findContext(clientId);
+            if (context != null) {
+                targets.add(context);
             } else {
                 logger.debug("Skipping inactive client: {}", clientId);
             }
         }
+
+        logger.debug("Sending message to {} specified clients", targets.size());
+        ByteBuffer frame = ByteBuffer.allocateDirect(data.length).put(data).flip().asReadOnlyBuffer();
+        registry.sendShared(frame, targets);
     }
 
     /**
@@ -148,32 +96,18 @@ public class MessageSender {
      * 전송 통계 정보
      */
     public SendingStatistics getSendingStatistics() {
+        long bytesSent = 0;
+        for (ChannelContext context : registry.getContexts()) {
+            bytesSent += context.getBytesSent();
+        }
+
         return SendingStatistics.builder()
                 .activeConnections(connectionManager.getActiveConnectionCount())
                 .totalConnections(connectionManager.getTotalConnectionCount())
-                .queuedTasks(((java.util.concurrent.ThreadPoolExecutor) senderExecutor).getQueue().size())
-                .completedTasks(((java.util.concurrent.ThreadPoolExecutor) senderExecutor).getCompletedTaskCount())
+                .bytesSent(bytesSent)
                 .build();
     }
 
-    @PreDestroy
-    public void shutdown() {
-        logger.info("Shutting down MessageSender...");
-        senderExecutor.shutdown();
-        try {
-            if (!senderExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
-                senderExecutor.shutdownNow();
-                if (!senderExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
-                    logger.warn("MessageSender did not terminate gracefully");
-                }
-            }
-        } catch (InterruptedException e) {
-            senderExecutor.shutdownNow();
-            Thread.currentThread().interrupt();
-        }
-        logger.info("MessageSender shutdown completed");
-    }
-
     /**
      * 전송 통계 정보
      */
@@ -182,13 +116,12 @@ public class MessageSender {
     public static class SendingStatistics {
         private final int activeConnections;
         private final int totalConnections;
-        private final int queuedTasks;
-        private final long completedTasks;
+        private final long bytesSent;
 
         @Override
         public String toString() {
-            return String.format("SendingStatistics{active=%d, total=%d, queued=%d, completed=%d}",
-                    activeConnections, totalConnections, queuedTasks, completedTasks);
+            return String.format("SendingStatistics{active=%d, total=%d, bytesSent=%d}",
+                    activeConnections, totalConnections, bytesSent);
         }
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,10 @@
 package com.bspark.comms.service.external;
 
+import com.bspark.comms.core.protocol.message.FrameView;
+import com.bspark.comms.core.protocol.schema.PayloadSchemaRegistry;
 import com.bspark.comms.data.MessageType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonRawValue;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
@@ -35,6 +39,7 @@ public class HttpClientService {
     private boolean apiEnabled;
 
     private final RestTemplate restTemplate;
+    private final PayloadSchemaRegistry payloadSchemas;
     
     private final ExecutorService executorService = Executors.newFixedThreadPool(10,
             r -> {
@@ -51,7 +56,35 @@ public class HttpClientService {
             logger.debug("External API is disabled, skipping data transmission");
             return;
         }
+        send(clientId, msgType, bytesToHex(data), data.length, null);
+    }
+
+    /**
+     * 데이터 전송 (비동기)
+     */
+    public CompletableFuture<Void> sendDataAsync(String clientId, MessageType msgType, byte[] data) {
+        return CompletableFuture.runAsync(() -> sendData(clientId, msgType, data), executorService);
+    }
 
+    /**
+     * 수신 프레임 전송 (비동기)
+     * 프레임 뷰는 호출 중에만 유효하므로 호출 스레드에서 바로 16진수 문자열로 변환하고, 전송만 비동기로 처리합니다.
+     * 중간 배열 복사 없이 프레임의 각 바이트를 한 번만 읽습니다.
+     * 데이터 구조 스키마가 있는 opcode는 여기서 한 번 디코딩해 필드 값 JSON도 함께 전송합니다.
+     */
+    public CompletableFuture<Void> sendDataAsync(String clientId, MessageType msgType, FrameView frame) {
+        if (!apiEnabled) {
+            logger.debug("External API is disabled, skipping data transmission");
+            return CompletableFuture.completedFuture(null);
+        }
+
+        String hex = frame.appendHex(new StringBuilder(frame.length() * 2)).toString();
+        int length = frame.length();
+        String fields = payloadSchemas.decodeJson(frame);
+        return CompletableFuture.runAsync(() -> send(clientId, msgType, hex, length, fields), executorService);
+    }
+
+    private void send(String clientId, MessageType msgType, String hexData, int dataLength, String fields) {
         try {
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
@@ -60,9 +93,10 @@ public class HttpClientService {
             DataPayload payload = DataPayload.builder()
                     .clientId(clientId)
                     .type(msgType)
-                    .data(bytesToHex(data))
+                    .data(hexData)
                     .timestamp(System.currentTimeMillis())
-                    .dataLength(data.length)
+                    .dataLength(dataLength)
+                    .fields(fields)
                     .build();
 
             ObjectMapper mapper = new ObjectMapper();
@@ -75,7 +109,7 @@ public class HttpClientService {
                     baseUrl + "/api/v1/tsc-data", request, String.class);
 
             if (response.getStatusCode().is2xxSuccessful()) {
-                logger.debug("Data sent successfully for client {}: {} bytes", clientId, data.length);
+                logger.debug("Data sent successfully for client {}: {} bytes", clientId, dataLength);
             } else {
                 logger.warn("Unexpected response for client {}: {}", clientId, response.getStatusCode());
             }
@@ -87,13 +121,6 @@ public class HttpClientService {
         }
     }
 
-    /**
-     * 데이터 전송 (비동기)
-     */
-    public CompletableFuture<Void> sendDataAsync(String clientId, MessageType msgType, byte[] data) {
-        return CompletableFuture.runAsync(() -> sendData(clientId, msgType, data), executorService);
-    }
-
     /**
      * 연결 테스트
      */
@@ -155,12 +182,16 @@ public class HttpClientService {
      */
     @lombok.Getter
     @lombok.Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class DataPayload {
         private final String clientId;
         private final MessageType type;
         private final String data;
         private final long timestamp;
         private final int dataLength;
+        // 데이터 구조 스키마로 디코딩한 필드 값 JSON 객체 (스키마가 없으면 생략)
+        @JsonRawValue
+        private final String fields;
     }
 
     /**
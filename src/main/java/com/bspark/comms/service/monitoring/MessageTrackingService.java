@@ -1,57 +1,82 @@
 package com.bspark.comms.service.monitoring;
 
+import com.bspark.comms.util.IntLongHashMap;
+import com.bspark.comms.util.IpAddressUtils;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 클라이언트별 마지막 전송 기록
+ * int로 묶은 IPv4 주소를 키로 하는 primitive 맵에 보관하며, 문자열 ID 메서드는 REST/HTTP 경계용입니다.
+ */
 @Service
 @RequiredArgsConstructor
 public class MessageTrackingService {
     private static final Logger logger = LoggerFactory.getLogger(MessageTrackingService.class);
 
-    private final Map<String, Byte> lastTransmittedOpcodes = new ConcurrentHashMap<>();
-    private final Map<String, Long> transmissionTimestamps = new ConcurrentHashMap<>();
+    private static final long NONE = -1;
+
+    // this 잠금으로 보호
+    private final IntLongHashMap lastTransmittedOpcodes = new IntLongHashMap(NONE);
+    private final IntLongHashMap transmissionTimestamps = new IntLongHashMap(NONE);
 
     /**
      * 전송 기록
      */
+    public void recordTransmission(int address, byte opcode) {
+        synchronized (this) {
+            lastTransmittedOpcodes.put(address, opcode & 0xFF);
+            transmissionTimestamps.put(address, System.currentTimeMillis());
+        }
+        logger.debug("Recorded transmission for {}: opcode 0x{:02X}", IpAddressUtils.format(address), opcode & 0xFF);
+    }
+
     public void recordTransmission(String clientId, byte opcode) {
-        lastTransmittedOpcodes.put(clientId, opcode);
-        transmissionTimestamps.put(clientId, System.currentTimeMillis());
-        logger.debug("Recorded transmission for {}: opcode 0x{:02X}", clientId, opcode & 0xFF);
+        recordTransmission(IpAddressUtils.pack(clientId), opcode);
     }
 
     /**
      * 클라이언트 히스토리 삭제
      */
+    public void clearHistory(int address) {
+        synchronized (this) {
+            lastTransmittedOpcodes.remove(address);
+            transmissionTimestamps.remove(address);
+        }
+        logger.debug("Cleared history for client: {}", IpAddressUtils.format(address));
+    }
+
     public void clearHistory(String clientId) {
-        lastTransmittedOpcodes.remove(clientId);
-        transmissionTimestamps.remove(clientId);
-        logger.debug("Cleared history for client: {}", clientId);
+        clearHistory(IpAddressUtils.pack(clientId));
     }
 
     /**
      * 마지막 전송 opcode 조회
      */
-    public Byte getLastTransmittedOpcode(String clientId) {
-        return lastTransmittedOpcodes.get(clientId);
+    public synchronized Byte getLastTransmittedOpcode(String clientId) {
+        long opcode = lastTransmittedOpcodes.get(IpAddressUtils.pack(clientId));
+        return opcode == NONE ? null : (byte) opcode;
     }
 
     /**
      * 전체 전송 히스토리 조회
      */
-    public Map<String, Byte> getClientTransmissionHistory() {
-        return Map.copyOf(lastTransmittedOpcodes);
+    public synchronized Map<String, Byte> getClientTransmissionHistory() {
+        Map<String, Byte> history = new HashMap<>();
+        lastTransmittedOpcodes.forEach((address, opcode) -> history.put(IpAddressUtils.format(address), (byte) opcode));
+        return Map.copyOf(history);
     }
 
     /**
      * 마지막 전송 시간 조회
      */
-    public Long getLastTransmissionTime(String clientId) {
-        return transmissionTimestamps.get(clientId);
+    public synchronized Long getLastTransmissionTime(String clientId) {
+        long timestamp = transmissionTimestamps.get(IpAddressUtils.pack(clientId));
+        return timestamp == NONE ? null : timestamp;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,209 @@
+package com.bspark.comms.util;
+
+import java.util.Arrays;
+
+/**
+ * int 키, long 값의 open addressing 해시 맵 (선형 탐사, 삭제 시 뒤 항목을 당겨 tombstone 없음)
+ * 키와 값을 boxing하지 않으므로 항목당 배열 두 칸만 사용합니다. 동기화하지 않으므로 호출자가 잠금을 관리합니다.
+ */
+public final class IntLongHashMap {
+
+    private static final int EMPTY = 0;
+    private static final int MIN_CAPACITY = 16;
+
+    private final long missingValue;
+
+    // 키 0은 빈 칸 표시로 쓰므로 따로 보관
+    private boolean hasZeroKey;
+    private long zeroValue;
+
+    private int[] keys;
+    private long[] values;
+    private int size;
+
+    /**
+     * @param missingValue 키가 없을 때 반환할 값
+     */
+    public IntLongHashMap(long missingValue) {
+        this.missingValue = missingValue;
+        this.keys = new int[MIN_CAPACITY];
+        this.values = new long[MIN_CAPACITY];
+    }
+
+    public long get(int key) {
+        if (key == EMPTY) {
+            return hasZeroKey ? zeroValue : missingValue;
+        }
+
+        int mask = keys.length - 1;
+        for (int i = indexOf(key, mask); ; i = (i + 1) & mask) {
+            int k = keys[i];
+            if (k == key) {
+                return values[i];
+            }
+            if (k == EMPTY) {
+                return missingValue;
+            }
+        }
+    }
+
+    public boolean containsKey(int key) {
+        if (key == EMPTY) {
+            return hasZeroKey;
+        }
+
+        int mask = keys.length - 1;
+        for (int i = indexOf(key, mask); ; i = (i + 1) & mask) {
+            int k = keys[i];
+            if (k == key) {
+                return true;
+            }
+            if (k == EMPTY) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * @return 이전 값 (없었으면 missingValue)
+     */
+    public long put(int key, long value) {
+        if (key == EMPTY) {
+            long previous = hasZeroKey ? zeroValue : missingValue;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return previous;
+        }
+
+        int mask = keys.length - 1;
+        int i = indexOf(key, mask);
+        while (keys[i] != EMPTY) {
+            if (keys[i] == key) {
+                long previous = values[i];
+                values[i] = value;
+                return previous;
+            }
+            i = (i + 1) & mask;
+        }
+
+        keys[i] = key;
+        values[i] = value;
+        // 적재율 1/2 초과 시 두 배로 확장
+        if (++size * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+        return missingValue;
+    }
+
+    /**
+     * @return 삭제된 값 (없었으면 missingValue)
+     */
+    public long remove(int key) {
+        if (key == EMPTY) {
+            if (!hasZeroKey) {
+                return missingValue;
+            }
+            hasZeroKey = false;
+            size--;
+            return zeroValue;
+        }
+
+        int mask = keys.length - 1;
+        for (int i = indexOf(key, mask); ; i = (i + 1) & mask) {
+            int k = keys[i];
+            if (k == EMPTY) {
+                return missingValue;
+            }
+            if (k == key) {
+                long previous = values[i];
+                shiftBack(i, mask);
+                size--;
+                return previous;
+            }
+        }
+    }
+
+    /**
+     * 삭제한 칸 뒤의 탐사 구간 항목을 당겨 빈 칸 없이 유지
+     */
+    private void shiftBack(int hole, int mask) {
+        int i = hole;
+        while (true) {
+            i = (i + 1) & mask;
+            int k = keys[i];
+            if (k == EMPTY) {
+                break;
+            }
+
+            int home = indexOf(k, mask);
+            // 원래 위치가 (hole, i] 구간 밖이면 hole로 옮겨도 탐사 경로가 유지됨
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                keys[hole] = k;
+                values[hole] = values[i];
+                hole = i;
+            }
+        }
+        keys[hole] = EMPTY;
+        values[hole] = 0;
+    }
+
+    public void forEach(Visitor visitor) {
+        if (hasZeroKey) {
+            visitor.accept(EMPTY, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                visitor.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(values, 0);
+        hasZeroKey = false;
+        size = 0;
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new int[capacity];
+        values = new long[capacity];
+
+        int mask = capacity - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            int k = oldKeys[j];
+            if (k != EMPTY) {
+                int i = indexOf(k, mask);
+                while (keys[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = k;
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    private static int indexOf(int key, int mask) {
+        // 주소처럼 하위 비트가 몰린 키도 고르게 퍼지도록 섞음
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    @FunctionalInterface
+    public interface Visitor {
+        void accept(int key, long value);
+    }
+}
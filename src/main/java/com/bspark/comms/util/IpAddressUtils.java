@@ -0,0 +1,69 @@
+package com.bspark.comms.util;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+
+/**
+ * IPv4 주소와 int 변환
+ * 내부 연결 테이블은 주소를 int로 묶어 키로 사용하고, 문자열 형식은 REST/HTTP 경계에서만 사용합니다.
+ */
+public class IpAddressUtils {
+
+    /**
+     * IPv4 주소를 int로 변환 (네트워크 바이트 순서)
+     *
+     * @throws IllegalArgumentException IPv4 주소가 아닌 경우
+     */
+    public static int pack(InetAddress address) {
+        if (!(address instanceof Inet4Address)) {
+            throw new IllegalArgumentException("Not an IPv4 address: " + address);
+        }
+
+        byte[] octets = address.getAddress();
+        return (octets[0] & 0xFF) << 24 | (octets[1] & 0xFF) << 16 | (octets[2] & 0xFF) << 8 | (octets[3] & 0xFF);
+    }
+
+    /**
+     * 점 표기 IPv4 문자열을 int로 변환 (DNS 조회 없음)
+     *
+     * @throws IllegalArgumentException 점 표기 IPv4 주소가 아닌 경우
+     */
+    public static int pack(String address) {
+        if (address == null) {
+            throw new IllegalArgumentException("Not an IPv4 address: null");
+        }
+
+        int packed = 0;
+        int octet = -1;
+        int octets = 0;
+        for (int i = 0; i <= address.length(); i++) {
+            char c = i < address.length() ? address.charAt(i) : '.';
+            if (c == '.') {
+                if (octet < 0 || ++octets > 4) {
+                    throw new IllegalArgumentException("Not an IPv4 address: " + address);
+                }
+                packed = packed << 8 | octet;
+                octet = -1;
+            } else if (c >= '0' && c <= '9') {
+                octet = (octet < 0 ? 0 : octet * 10) + (c - '0');
+                if (octet > 255) {
+                    throw new IllegalArgumentException("Not an IPv4 address: " + address);
+                }
+            } else {
+                throw new IllegalArgumentException("Not an IPv4 address: " + address);
+            }
+        }
+
+        if (octets != 4) {
+            throw new IllegalArgumentException("Not an IPv4 address: " + address);
+        }
+        return packed;
+    }
+
+    /**
+     * int로 변환된 주소를 점 표기 문자열로 변환
+     */
+    public static String format(int address) {
+        return (address >>> 24) + "." + (address >>> 16 & 0xFF) + "." + (address >>> 8 & 0xFF) + "." + (address & 0xFF);
+    }
+}
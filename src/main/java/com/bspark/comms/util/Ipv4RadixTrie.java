@@ -0,0 +1,257 @@
+package com.bspark.comms.util;
+
+import java.util.Arrays;
+
+/**
+ * IPv4 허용/거부 규칙의 경로 압축 이진 radix 트리
+ * 단일 주소, CIDR 블록, 주소 범위를 int 접두사로 컴파일하고 조회 시 가장 긴 접두사의 규칙을 적용합니다
+ * (같은 접두사에 허용과 거부가 함께 있으면 거부). 노드는 배열에 담겨 조회는 비트 연산만 하고 할당하지 않습니다.
+ * 단일 주소(/32)는 항상 가장 긴 접두사이므로 트리 대신 해시 맵에 두어, 주소 목록이 커도 트리 깊이는 블록 규칙 수로만 정해집니다.
+ * 연결 테이블이 IPv4만 받으므로 IPv6 규칙은 지원하지 않습니다.
+ */
+public final class Ipv4RadixTrie {
+
+    public static final int NO_MATCH = 0;
+    public static final int ALLOW = 1;
+    public static final int DENY = 2;
+
+    private static final char DENY_MARK = '!';
+
+    // 노드 하나가 int 네 칸을 차지하며 노드 번호는 배열 위치 (한 노드의 값이 같은 캐시 라인에 모임)
+    private static final int NODE_SIZE = 4;
+    // 접두사 (길이 밖의 비트는 0)
+    private static final int KEY = 0;
+    // 접두사 길이 << 8 | 규칙
+    private static final int INFO = 1;
+    // 다음 비트가 0 / 1인 자식 위치 (없으면 -1)
+    private static final int CHILD = 2;
+
+    private final int[] nodes;
+    // 단일 주소 규칙: 주소 -> 규칙
+    private final IntLongHashMap hosts;
+    private final int ruleCount;
+    private final boolean hasAllowRules;
+
+    private Ipv4RadixTrie(Builder builder) {
+        this.nodes = Arrays.copyOf(builder.nodes, builder.nodeCount * NODE_SIZE);
+        this.hosts = new IntLongHashMap(NO_MATCH);
+        builder.hosts.forEach(hosts::put);
+        this.ruleCount = builder.ruleCount;
+        this.hasAllowRules = builder.hasAllowRules;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return 주소에 걸리는 가장 긴 접두사의 규칙 ({@link #ALLOW}, {@link #DENY}, 없으면 {@link #NO_MATCH})
+     */
+    public int match(int address) {
+        int host = (int) hosts.get(address);
+        if (host != NO_MATCH) {
+            return host;
+        }
+
+        int[] n = nodes;
+        int result = NO_MATCH;
+        int node = 0;
+        while (node >= 0) {
+            int info = n[node + INFO];
+            int length = info >>> 8;
+            if (length > 0 && ((address ^ n[node + KEY]) & (-1 << (32 - length))) != 0) {
+                break;
+            }
+            if ((info & 0xFF) != NO_MATCH) {
+                result = info & 0xFF;
+            }
+            node = n[node + CHILD + bitAt(address, length)];
+        }
+        return result;
+    }
+
+    /**
+     * @return 컴파일된 접두사 규칙 수 (범위는 여러 CIDR 블록으로 나뉨)
+     */
+    public int size() {
+        return ruleCount;
+    }
+
+    public boolean isEmpty() {
+        return ruleCount == 0;
+    }
+
+    /**
+     * 허용 규칙이 하나라도 있는지 (없으면 거부 규칙에 걸리지 않는 주소는 모두 허용하는 용도)
+     */
+    public boolean hasAllowRules() {
+        return hasAllowRules;
+    }
+
+    private static int bitAt(int key, int index) {
+        return (key >>> (31 - index)) & 1;
+    }
+
+    private static int mask(int key, int length) {
+        return length == 0 ? 0 : key & (-1 << (32 - length));
+    }
+
+    /**
+     * 규칙을 모아 트리를 만드는 빌더 (스레드 안전하지 않음)
+     */
+    public static final class Builder {
+
+        private int[] nodes = new int[16 * NODE_SIZE];
+        private final IntLongHashMap hosts = new IntLongHashMap(NO_MATCH);
+        private int nodeCount;
+        private int ruleCount;
+        private boolean hasAllowRules;
+
+        private Builder() {
+            // 루트는 길이 0의 접두사 (모든 주소와 일치)
+            newNode(0, 0, NO_MATCH);
+        }
+
+        /**
+         * 문자열 규칙 추가
+         * {@code 10.0.0.1}, {@code 10.0.0.0/24}, {@code 10.0.0.10-10.0.0.20} 형식이며 앞에 {@code !}를 붙이면 거부 규칙입니다.
+         *
+         * @throws IllegalArgumentException 형식이 잘못된 경우
+         */
+        public Builder add(String entry) {
+            if (entry == null || entry.isBlank()) {
+                throw new IllegalArgumentException("Empty whitelist entry");
+            }
+
+            String rule = entry.trim();
+            boolean deny = rule.charAt(0) == DENY_MARK;
+            if (deny) {
+                rule = rule.substring(1).trim();
+            }
+
+            int slash = rule.indexOf('/');
+            int dash = rule.indexOf('-');
+            if (slash >= 0) {
+                int length;
+                try {
+                    length = Integer.parseInt(rule.substring(slash + 1).trim());
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid prefix length: " + entry);
+                }
+                if (length < 0 || length > 32) {
+                    throw new IllegalArgumentException("Invalid prefix length: " + entry);
+                }
+                addPrefix(IpAddressUtils.pack(rule.substring(0, slash).trim()), length, deny);
+            } else if (dash >= 0) {
+                addRange(IpAddressUtils.pack(rule.substring(0, dash).trim()),
+                        IpAddressUtils.pack(rule.substring(dash + 1).trim()), deny);
+            } else {
+                addPrefix(IpAddressUtils.pack(rule), 32, deny);
+            }
+            return this;
+        }
+
+        /**
+         * 접두사 규칙 추가 (접두사 길이 밖의 비트는 무시)
+         */
+        public Builder addPrefix(int prefix, int length, boolean deny) {
+            if (length < 0 || length > 32) {
+                throw new IllegalArgumentException("Invalid prefix length: " + length);
+            }
+            int verdict = deny ? DENY : ALLOW;
+            if (length == 32) {
+                // 같은 주소의 허용과 거부는 거부 우선
+                hosts.put(prefix, Math.max(hosts.get(prefix), verdict));
+            } else {
+                insert(mask(prefix, length), length, verdict);
+            }
+            ruleCount++;
+            hasAllowRules |= !deny;
+            return this;
+        }
+
+        /**
+         * 양 끝을 포함하는 주소 범위를 최소 개수의 CIDR 블록으로 나눠 추가
+         */
+        public Builder addRange(int from, int to, boolean deny) {
+            long start = Integer.toUnsignedLong(from);
+            long end = Integer.toUnsignedLong(to);
+            if (start > end) {
+                throw new IllegalArgumentException(
+                        "Invalid address range: " + IpAddressUtils.format(from) + "-" + IpAddressUtils.format(to));
+            }
+
+            while (start <= end) {
+                // start에 정렬된 가장 큰 블록 중 범위를 넘지 않는 것
+                int hostBits = start == 0 ? 32 : Long.numberOfTrailingZeros(start);
+                while (start + (1L << hostBits) - 1 > end) {
+                    hostBits--;
+                }
+                addPrefix((int) start, 32 - hostBits, deny);
+                start += 1L << hostBits;
+            }
+            return this;
+        }
+
+        public Ipv4RadixTrie build() {
+            return new Ipv4RadixTrie(this);
+        }
+
+        private void insert(int key, int length, int verdict) {
+            int node = 0;
+            while (true) {
+                // node의 접두사는 key의 접두사이고 node 길이 <= length < 32
+                int nodeLength = nodes[node + INFO] >>> 8;
+                if (nodeLength == length) {
+                    // 같은 접두사의 허용과 거부는 거부 우선
+                    nodes[node + INFO] = length << 8 | Math.max(nodes[node + INFO] & 0xFF, verdict);
+                    return;
+                }
+
+                int slot = node + CHILD + bitAt(key, nodeLength);
+                int child = nodes[slot];
+                if (child < 0) {
+                    // 배열이 확장될 수 있으므로 노드를 먼저 만든 뒤 연결
+                    int leaf = newNode(key, length, verdict);
+                    nodes[slot] = leaf;
+                    return;
+                }
+
+                int childKey = nodes[child + KEY];
+                int childLength = nodes[child + INFO] >>> 8;
+                int common = Math.min(Math.min(length, childLength), Integer.numberOfLeadingZeros(key ^ childKey));
+                if (common == childLength) {
+                    node = child;
+                    continue;
+                }
+
+                // 공통 접두사 위치에서 경로를 나눔
+                int split;
+                if (common == length) {
+                    split = newNode(key, length, verdict);
+                } else {
+                    split = newNode(mask(key, common), common, NO_MATCH);
+                    int leaf = newNode(key, length, verdict);
+                    nodes[split + CHILD + bitAt(key, common)] = leaf;
+                }
+                nodes[split + CHILD + bitAt(childKey, common)] = child;
+                nodes[slot] = split;
+                return;
+            }
+        }
+
+        private int newNode(int key, int length, int verdict) {
+            int node = nodeCount * NODE_SIZE;
+            if (node == nodes.length) {
+                nodes = Arrays.copyOf(nodes, nodes.length * 2);
+            }
+
+            nodeCount++;
+            nodes[node + KEY] = key;
+            nodes[node + INFO] = length << 8 | verdict;
+            nodes[node + CHILD] = -1;
+            nodes[node + CHILD + 1] = -1;
+            return node;
+        }
+    }
+}
@@ -70,61 +70,6 @@ public class MessageUtils {
         return data.clone(); // 방어적 복사
     }
 
-    /**
-     * 메시지에서 opcode 추출
-     * 메시지 구조: [길이(2바이트)] + [헤더(4바이트)] + [opcode(1바이트)] + [데이터]
-     */
-    public static byte extractOpcode(byte[] data) {
-        if (data == null || data.length < 7) {
-            throw new IllegalArgumentException("Data too short to extract opcode");
-        }
-
-        // 일반적인 메시지 구조에서 opcode는 7번째 바이트 (인덱스 6)
-        // 실제 프로토콜에 맞게 조정해야 할 수 있습니다
-        return data[7];
-    }
-
-    /**
-     * 메시지에서 길이 필드 추출 (빅엔디안)
-     */
-    public static int extractLength(byte[] data) {
-        if (data == null || data.length < 2) {
-            return 0;
-        }
-        return ((data[0] & 0xFF) << 8) | (data[1] & 0xFF);
-    }
-
-    /**
-     * 메시지에서 데이터 부분만 추출
-     */
-    public static byte[] extractPayload(byte[] data) {
-        if (data == null || data.length < 7) {
-            return new byte[0];
-        }
-
-        // opcode 이후의 데이터 추출
-        int payloadLength = data.length - 7;
-        if (payloadLength <= 0) {
-            return new byte[0];
-        }
-
-        byte[] payload = new byte[payloadLength];
-        System.arraycopy(data, 7, payload, 0, payloadLength);
-        return payload;
-    }
-
-    /**
-     * 메시지 구조 검증
-     */
-    public static boolean isValidMessageStructure(byte[] data) {
-        if (data == null || data.length < 7) {
-            return false;
-        }
-
-        int declaredLength = extractLength(data);
-        return declaredLength == data.length;
-    }
-
     /**
      * 바이트를 unsigned int로 변환
      */
@@ -0,0 +1,81 @@
+package com.bspark.comms.util;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 연결 ID(0부터 조밀하게 배정되는 int)로 색인하는 배열
+ * 조회는 잠금 없이 현재 배열을 읽고, 변경과 확장은 잠금을 잡고 수행합니다.
+ */
+public final class SlotArray<T> {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private volatile AtomicReferenceArray<T> slots = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+
+    /**
+     * @return 비어 있거나 범위 밖이면 null
+     */
+    public T get(int index) {
+        AtomicReferenceArray<T> current = slots;
+        return index >= 0 && index < current.length() ? current.get(index) : null;
+    }
+
+    /**
+     * @return 이전 값 (없었으면 null)
+     */
+    public synchronized T set(int index, T value) {
+        AtomicReferenceArray<T> current = slots;
+        if (index >= current.length()) {
+            current = grow(current, index + 1);
+        }
+        return current.getAndSet(index, value);
+    }
+
+    /**
+     * @return 비운 값 (없었으면 null)
+     */
+    public synchronized T remove(int index) {
+        AtomicReferenceArray<T> current = slots;
+        return index >= 0 && index < current.length() ? current.getAndSet(index, null) : null;
+    }
+
+    /**
+     * 현재 값이 expected인 경우에만 비움
+     */
+    public synchronized boolean remove(int index, T expected) {
+        AtomicReferenceArray<T> current = slots;
+        return index >= 0 && index < current.length() && current.compareAndSet(index, expected, null);
+    }
+
+    /**
+     * 비어 있지 않은 칸 순회 (순회 중 변경은 반영될 수도, 안 될 수도 있음)
+     */
+    public void forEach(Consumer<? super T> action) {
+        AtomicReferenceArray<T> current = slots;
+        for (int i = 0; i < current.length(); i++) {
+            T value = current.get(i);
+            if (value != null) {
+                action.accept(value);
+            }
+        }
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    private AtomicReferenceArray<T> grow(AtomicReferenceArray<T> current, int minCapacity) {
+        int capacity = current.length();
+        while (capacity < minCapacity) {
+            capacity *= 2;
+        }
+
+        AtomicReferenceArray<T> grown = new AtomicReferenceArray<>(capacity);
+        for (int i = 0; i < current.length(); i++) {
+            grown.set(i, current.get(i));
+        }
+        slots = grown;
+        return grown;
+    }
+}
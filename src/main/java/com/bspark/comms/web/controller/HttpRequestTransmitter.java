@@ -29,6 +29,7 @@ public class HttpRequestTransmitter {
         try {
             byte op = parseOpcode(opcode);
             byte[] data = messageBuilder.buildMessage(op);
+            // 워커에 분배만 하고 반환 (전송 결과는 완료 시 로그로 기록)
             tcpClientService.sendDataToAllActiveClients(data);
             return ResponseEntity.ok("Broadcast sent successfully");
         } catch (Exception e) {
@@ -0,0 +1,111 @@
+package com.bspark.comms.core.protocol.message;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 값 자리를 채운 프레임이 같은 데이터로 {@link FrameEncoder#encode}한 프레임과 같은지 확인
+ * 값 자리는 데이터 시작, 중간, 마지막 바이트에 둡니다.
+ */
+class FrameTemplateTest {
+
+    private static final int ADDRESS = 0x0102;
+    private static final byte OPCODE = 0x41;
+
+    @Test
+    void slotAtPayloadStart() {
+        byte[] payload = {0, 0, 0x10, 0x20, 0x30};
+        FrameTemplate template = FrameTemplate.builder(ADDRESS, OPCODE, payload).slot(0, 2).build();
+
+        assertMatchesEncoder(template, payload, new int[]{0}, new int[]{2}, 0xBEEF);
+    }
+
+    @Test
+    void slotInMiddleOfPayload() {
+        byte[] payload = {1, 2, 3, 0, 0, 0, 7, 8};
+        FrameTemplate template = FrameTemplate.builder(ADDRESS, OPCODE, payload).slot(3, 3).build();
+
+        assertMatchesEncoder(template, payload, new int[]{3}, new int[]{3}, 0x123456);
+    }
+
+    @Test
+    void slotAtLastPayloadByte() {
+        byte[] payload = {9, 8, 7, 6, 0};
+        FrameTemplate template = FrameTemplate.builder(ADDRESS, OPCODE, payload).slot(4, 1).build();
+
+        assertMatchesEncoder(template, payload, new int[]{4}, new int[]{1}, 0xA5);
+    }
+
+    @Test
+    void slotsDeclaredOutOfOrderWithRandomValues() {
+        // 첫 값 자리가 선언 순서가 아니라 위치로 정해지는지 (그 앞까지만 CRC를 미리 계산)
+        byte[] payload = new byte[12];
+        new Random(25).nextBytes(payload);
+        int[] offsets = {11, 0, 5};
+        int[] widths = {1, 4, 2};
+        FrameTemplate template = FrameTemplate.builder(ADDRESS, OPCODE, payload)
+                .slot(offsets[0], widths[0]).slot(offsets[1], widths[1]).slot(offsets[2], widths[2]).build();
+
+        Random random = new Random(26);
+        for (int i = 0; i < 200; i++) {
+            assertMatchesEncoder(template, payload, offsets, widths,
+                    random.nextInt(), random.nextInt(), random.nextInt());
+        }
+    }
+
+    @Test
+    void writesAtBufferPositionWithoutTouchingNeighbours() {
+        byte[] payload = {0, 0, 5};
+        FrameTemplate template = FrameTemplate.builder(ADDRESS, OPCODE, payload).slot(0, 2).build();
+        ByteBuffer dst = ByteBuffer.allocateDirect(64);
+        for (int i = 0; i < dst.capacity(); i++) {
+            dst.put(i, (byte) 0xEE);
+        }
+        dst.position(10);
+
+        assertEquals(template.size(), template.write(dst, new int[]{0x0304}));
+        assertEquals(10 + template.size(), dst.position());
+
+        byte[] written = new byte[template.size()];
+        dst.get(10, written);
+        assertArrayEquals(FrameEncoder.encode(ADDRESS, OPCODE, new byte[]{3, 4, 5}), written);
+        assertEquals((byte) 0xEE, dst.get(9));
+        assertEquals((byte) 0xEE, dst.get(10 + template.size()));
+    }
+
+    @Test
+    void rejectsWrongValueCountAndShortBuffer() {
+        FrameTemplate template = FrameTemplate.builder(ADDRESS, OPCODE, new byte[4]).slot(0, 1).slot(2, 2).build();
+
+        assertThrows(IllegalArgumentException.class, () -> template.toBytes(new int[]{1}));
+        assertThrows(BufferOverflowException.class,
+                () -> template.write(ByteBuffer.allocate(template.size() - 1), new int[]{1, 2}));
+        assertThrows(IllegalArgumentException.class,
+                () -> FrameTemplate.builder(ADDRESS, OPCODE, new byte[4]).slot(3, 2));
+    }
+
+    /**
+     * 값 자리에 값을 빅엔디안으로 넣은 데이터를 인코더로 만든 프레임과 비교
+     */
+    private static void assertMatchesEncoder(FrameTemplate template, byte[] payload, int[] offsets, int[] widths,
+                                             int... values) {
+        byte[] expectedPayload = Arrays.copyOf(payload, payload.length);
+        for (int i = 0; i < offsets.length; i++) {
+            int value = values[i];
+            for (int b = widths[i] - 1; b >= 0; b--) {
+                expectedPayload[offsets[i] + b] = (byte) value;
+                value >>>= 8;
+            }
+        }
+
+        assertArrayEquals(FrameEncoder.encode(ADDRESS, OPCODE, expectedPayload), template.toBytes(values));
+    }
+}
@@ -0,0 +1,123 @@
+package com.bspark.comms.core.protocol.schema;
+
+import com.bspark.comms.core.protocol.message.FrameEncoder;
+import com.bspark.comms.core.protocol.message.FrameView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 예시 스키마로 디코더를 생성, 컴파일해 스키마 해석 디코딩과 같은 결과를 내는지 확인
+ */
+class PayloadDecoderGeneratorTest {
+
+    private static final String PACKAGE = "com.bspark.comms.core.protocol.schema.generated";
+
+    @TempDir
+    Path output;
+
+    private final Random random = new Random(24);
+    private Map<Integer, PayloadSchema> schemas;
+
+    @BeforeEach
+    void loadSchema() throws IOException {
+        try (Reader reader = new InputStreamReader(
+                getClass().getResourceAsStream("/protocol/payload-schema-sample.txt"), StandardCharsets.UTF_8)) {
+            schemas = PayloadSchemaParser.parse(reader);
+        }
+    }
+
+    @Test
+    void generatedDecodersMatchSchemaDecoding() throws Exception {
+        for (GeneratedPayload decoder : compile(PayloadDecoderGenerator.generate(schemas, PACKAGE))) {
+            PayloadSchema schema = schemas.get(decoder.opcode());
+            assertNotNull(schema);
+            assertEquals(schema.layout(), decoder.layout());
+
+            PayloadRecord record = schema.newRecord();
+            GeneratedPayload reused = decoder.newInstance();
+            for (int i = 0; i < 500; i++) {
+                // 반복 수 위치(0, 2)는 대부분 작은 값으로 두고, 반복 수가 최대를 넘거나 데이터가 잘린 경우도 섞어 같은 결과 코드인지 비교
+                byte[] payload = new byte[random.nextInt(schema.fixedLength() + 2 * 64 * 5)];
+                random.nextBytes(payload);
+                for (int count = 0; count < Math.min(3, payload.length); count += 2) {
+                    payload[count] = (byte) random.nextInt(8);
+                }
+                FrameView frame = frame(schema.getOpcode(), payload);
+
+                int expected = schema.decode(frame, record);
+                assertEquals(expected, reused.decode(frame));
+                if (expected == PayloadSchema.OK) {
+                    assertEquals(record.appendJson(new StringBuilder()).toString(),
+                            reused.appendJson(new StringBuilder()).toString());
+                }
+            }
+        }
+    }
+
+    @Test
+    void registersEveryGeneratedClass() {
+        Map<String, String> sources = PayloadDecoderGenerator.generate(schemas, PACKAGE);
+
+        assertEquals(PACKAGE + ".IntersectionStatusPayload\n" + PACKAGE + ".DetectorInfoPayload\n"
+                + PACKAGE + ".PhaseInfoPayload\n", sources.get(PayloadDecoderGenerator.SERVICE_FILE));
+        assertEquals(schemas.size() + 1, sources.size());
+    }
+
+    @Test
+    void rejectsNamesThatCollideInGeneratedCode() throws IOException {
+        Map<Integer, PayloadSchema> colliding = PayloadSchemaParser.parse(new StringReader(
+                "message 0x13\n    cycle_length 0 u8\n    CYCLE_LENGTH 1 u8\nend\n"));
+
+        assertThrows(IllegalArgumentException.class, () -> PayloadDecoderGenerator.generate(colliding, PACKAGE));
+    }
+
+    private List<GeneratedPayload> compile(Map<String, String> sources) throws Exception {
+        List<String> arguments = new ArrayList<>(List.of(
+                "-d", output.toString(), "-cp", System.getProperty("java.class.path")));
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            if (source.getKey().endsWith(".java")) {
+                Path file = output.resolve("src").resolve(source.getKey());
+                Files.createDirectories(file.getParent());
+                Files.writeString(file, source.getValue());
+                arguments.add(file.toString());
+            }
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertEquals(0, compiler.run(null, null, null, arguments.toArray(new String[0])), "generated sources compile");
+
+        List<GeneratedPayload> decoders = new ArrayList<>();
+        URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader());
+        for (String className : sources.get(PayloadDecoderGenerator.SERVICE_FILE).split("\n")) {
+            decoders.add((GeneratedPayload) loader.loadClass(className).getDeclaredConstructor().newInstance());
+        }
+        assertEquals(schemas.size(), decoders.size());
+        return decoders;
+    }
+
+    private static FrameView frame(int opcode, byte[] payload) {
+        return new FrameView().wrap(ByteBuffer.wrap(FrameEncoder.encode(0x0001, (byte) opcode, payload)));
+    }
+}
@@ -0,0 +1,203 @@
+package com.bspark.comms.core.protocol.schema;
+
+import com.bspark.comms.core.protocol.message.FrameEncoder;
+import com.bspark.comms.core.protocol.message.FrameView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 예시 스키마(payload-schema-sample.txt)의 응답 구조로 샘플 프레임을 디코딩하고 다시 인코딩해 원본과 비교
+ */
+class PayloadSchemaTest {
+
+    // 교차로 101, 운영 모드 2, 수동, 소등, 주기 120, 주기 카운터 45, A링 3현시 1단계, B링 5현시 2단계, 옵셋 10
+    private static final byte[] INTERSECTION_STATUS = {0x00, 0x65, 0x2A, 120, 45, 0x31, 0x52, 10};
+
+    // 검지기 2개: 1번 점유 중 교통량 300 점유율 37, 2번 고장 교통량 0x1234 점유율 0
+    private static final byte[] DETECTOR_INFO = {
+            2,
+            1, (byte) 0x80, 0x01, 0x2C, 37,
+            2, 0x40, 0x12, 0x34, 0
+    };
+
+    // 주기 150, 현시 3개: (1, A링, 이동류 5, 40초), (2, B링, 이동류 0x7F, 35초), (3, A링, 이동류 0, 75초)
+    private static final byte[] PHASE_INFO = {
+            0x00, (byte) 150, 3,
+            1, 0x05, 40,
+            2, (byte) 0xFF, 35,
+            3, 0x00, 75
+    };
+
+    private Map<Integer, PayloadSchema> schemas;
+
+    @BeforeEach
+    void loadSchema() throws IOException {
+        try (Reader reader = new InputStreamReader(
+                getClass().getResourceAsStream("/protocol/payload-schema-sample.txt"), StandardCharsets.UTF_8)) {
+            schemas = PayloadSchemaParser.parse(reader);
+        }
+    }
+
+    @Test
+    void decodesIntersectionStatus() {
+        PayloadSchema schema = schema(0x13);
+        PayloadRecord record = decode(schema, INTERSECTION_STATUS);
+
+        assertEquals(101, record.get(schema.fieldIndex("intersection_id")));
+        assertEquals(2, record.get(schema.fieldIndex("operation_mode")));
+        assertEquals(1, record.get(schema.fieldIndex("manual")));
+        assertEquals(0, record.get(schema.fieldIndex("flashing")));
+        assertEquals(1, record.get(schema.fieldIndex("lamp_off")));
+        assertEquals(0, record.get(schema.fieldIndex("fault")));
+        assertEquals(120, record.get(schema.fieldIndex("cycle_length")));
+        assertEquals(45, record.get(schema.fieldIndex("cycle_counter")));
+        assertEquals(3, record.get(schema.fieldIndex("ring_a_phase")));
+        assertEquals(1, record.get(schema.fieldIndex("ring_a_step")));
+        assertEquals(5, record.get(schema.fieldIndex("ring_b_phase")));
+        assertEquals(2, record.get(schema.fieldIndex("ring_b_step")));
+        assertEquals(10, record.get(schema.fieldIndex("offset")));
+    }
+
+    @Test
+    void decodesDetectorInfo() {
+        PayloadSchema schema = schema(0x23);
+        PayloadRecord record = decode(schema, DETECTOR_INFO);
+        int group = schema.groupIndex("detectors");
+        int occupied = schema.groupFieldIndex(group, "occupied");
+        int fault = schema.groupFieldIndex(group, "fault");
+        int volume = schema.groupFieldIndex(group, "volume");
+        int occupancy = schema.groupFieldIndex(group, "occupancy");
+
+        assertEquals(2, record.getGroupCount(group));
+        assertEquals(1, record.get(group, 0, schema.groupFieldIndex(group, "detector_no")));
+        assertEquals(1, record.get(group, 0, occupied));
+        assertEquals(0, record.get(group, 0, fault));
+        assertEquals(300, record.get(group, 0, volume));
+        assertEquals(37, record.get(group, 0, occupancy));
+        assertEquals(2, record.get(group, 1, schema.groupFieldIndex(group, "detector_no")));
+        assertEquals(0, record.get(group, 1, occupied));
+        assertEquals(1, record.get(group, 1, fault));
+        assertEquals(0x1234, record.get(group, 1, volume));
+        assertEquals(0, record.get(group, 1, occupancy));
+    }
+
+    @Test
+    void decodesPhaseInfo() {
+        PayloadSchema schema = schema(0x33);
+        PayloadRecord record = decode(schema, PHASE_INFO);
+        int group = schema.groupIndex("phases");
+        int phaseNo = schema.groupFieldIndex(group, "phase_no");
+        int ring = schema.groupFieldIndex(group, "ring");
+        int movement = schema.groupFieldIndex(group, "movement");
+        int split = schema.groupFieldIndex(group, "split");
+
+        assertEquals(150, record.get(schema.fieldIndex("cycle_length")));
+        assertEquals(3, record.getGroupCount(group));
+        long[][] expected = {{1, 0, 5, 40}, {2, 1, 0x7F, 35}, {3, 0, 0, 75}};
+        for (int e = 0; e < expected.length; e++) {
+            assertEquals(expected[e][0], record.get(group, e, phaseNo));
+            assertEquals(expected[e][1], record.get(group, e, ring));
+            assertEquals(expected[e][2], record.get(group, e, movement));
+            assertEquals(expected[e][3], record.get(group, e, split));
+        }
+    }
+
+    @Test
+    void encodesDecodedRecordsBackToTheSamePayload() {
+        Map<Integer, byte[]> samples = Map.of(0x13, INTERSECTION_STATUS, 0x23, DETECTOR_INFO, 0x33, PHASE_INFO);
+        samples.forEach((opcode, payload) -> {
+            PayloadSchema schema = schema(opcode);
+            PayloadRecord record = decode(schema, payload);
+            assertEquals(payload.length, schema.encodedLength(record));
+
+            // 버퍼 중간 위치에 기록해도 position, limit은 그대로
+            ByteBuffer encoded = ByteBuffer.allocateDirect(payload.length + 4);
+            assertEquals(payload.length, schema.encode(record, encoded, 4));
+            assertEquals(0, encoded.position());
+            byte[] bytes = new byte[payload.length];
+            encoded.get(4, bytes);
+            assertArrayEquals(payload, bytes);
+        });
+    }
+
+    @Test
+    void writesFieldsAsJson() {
+        PayloadSchema schema = schema(0x33);
+        String json = decode(schema, PHASE_INFO).appendJson(new StringBuilder()).toString();
+
+        assertEquals("{\"cycle_length\":150,\"phase_count\":3,\"phases\":["
+                + "{\"phase_no\":1,\"ring\":0,\"movement\":5,\"split\":40},"
+                + "{\"phase_no\":2,\"ring\":1,\"movement\":127,\"split\":35},"
+                + "{\"phase_no\":3,\"ring\":0,\"movement\":0,\"split\":75}]}", json);
+    }
+
+    @Test
+    void rejectsPayloadsThatDoNotMatchTheSchema() {
+        PayloadSchema status = schema(0x13);
+        assertEquals(PayloadSchema.TRUNCATED,
+                status.decode(frame(0x13, Arrays.copyOf(INTERSECTION_STATUS, 7)), status.newRecord()));
+
+        PayloadSchema detector = schema(0x23);
+        byte[] missingElement = Arrays.copyOf(DETECTOR_INFO, DETECTOR_INFO.length - 1);
+        assertEquals(PayloadSchema.TRUNCATED, detector.decode(frame(0x23, missingElement), detector.newRecord()));
+
+        byte[] tooMany = DETECTOR_INFO.clone();
+        tooMany[0] = (byte) 65;
+        assertEquals(PayloadSchema.GROUP_OVERFLOW, detector.decode(frame(0x23, tooMany), detector.newRecord()));
+    }
+
+    @Test
+    void rejectsMalformedSchemaFiles() {
+        List<String> malformed = List.of(
+                "message 0x13\n    id 0 u16\n",                                     // end 누락
+                "message 0x13\n    id 0 u12\nend\n",                                // 알 수 없는 형식
+                "message 0x13\n    id 0 u8 bits 4 5\nend\n",                        // 비트 범위 초과
+                "message 0x13\n    id 0 u8\n    id 1 u8\nend\n",                    // 필드 중복
+                "message 0x13\nend\nmessage 0x13\nend\n",                           // opcode 중복
+                "message 0x100\nend\n",                                             // opcode 범위 초과
+                "message 0x13\n    \"id\" 0 u8\nend\n",                              // 식별자가 아닌 이름
+                "message 0x23\n    group g count n offset 1 stride 2 max 4\n        a 0 u8\n    end\nend\n",
+                "message 0x23\n    n 0 u8\n    group g count n offset 1 stride 2\n        a 0 u8\n    end\nend\n",
+                "message 0x23\n    n 0 u8\n    group g count n offset 1 stride 1 max 4\n        a 0 u16\n    end\nend\n",
+                "message 0x23\n    n 0 s8\n    group g count n offset 1 stride 1 max 4\n        a 0 u8\n    end\nend\n",
+                "    id 0 u8\n");                                                    // message 밖의 필드
+
+        for (String source : malformed) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> PayloadSchemaParser.parse(new StringReader(source)));
+            assertTrue(e.getMessage().startsWith("Invalid payload schema"), e.getMessage());
+        }
+    }
+
+    private PayloadSchema schema(int opcode) {
+        PayloadSchema schema = schemas.get(opcode);
+        assertNotNull(schema, String.format("payload-schema-sample.txt has no message 0x%02X", opcode));
+        return schema;
+    }
+
+    private static PayloadRecord decode(PayloadSchema schema, byte[] payload) {
+        PayloadRecord record = schema.newRecord();
+        assertEquals(PayloadSchema.OK, schema.decode(frame(schema.getOpcode(), payload), record));
+        return record;
+    }
+
+    private static FrameView frame(int opcode, byte[] payload) {
+        return new FrameView().wrap(ByteBuffer.wrap(FrameEncoder.encode(0x0001, (byte) opcode, payload)));
+    }
+}
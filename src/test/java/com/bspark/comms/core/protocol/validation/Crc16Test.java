@@ -0,0 +1,118 @@
+package com.bspark.comms.core.protocol.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * slice-by-8 계산을 비트 단위 0x8408 참조 구현과 비교
+ */
+class Crc16Test {
+
+    // 기존 요청 프레임 (기본 주소, 데이터 없음)
+    private static final byte[] STATUS_REQUEST = {0x7F, 0x7F, 0x00, 0x08, 0x00, 0x01, 0x00, 0x12, 0x3B, 0x1F};
+    private static final byte[] STARTUP_CODE = {0x7F, 0x7F, 0x00, 0x08, 0x00, 0x01, 0x00, (byte) 0xA2, (byte) 0x8E, (byte) 0x94};
+
+    private final Random random = new Random(0x8408);
+
+    /**
+     * 비트 단위 참조 구현 (반사형 0x8408, 초기값 0xFFFF)
+     */
+    private static int reference(byte[] data, int offset, int length) {
+        int crc = Crc16.INITIAL;
+        for (int i = offset; i < offset + length; i++) {
+            crc ^= data[i] & 0xFF;
+            for (int bit = 0; bit < 8; bit++) {
+                crc = (crc & 1) != 0 ? (crc >>> 1) ^ 0x8408 : crc >>> 1;
+            }
+        }
+        return crc;
+    }
+
+    @Test
+    void knownFramesVerify() {
+        assertEquals(0x3B1F, Crc16.compute(STATUS_REQUEST, 0, STATUS_REQUEST.length));
+        assertEquals(0x8E94, Crc16.compute(STARTUP_CODE, 0, STARTUP_CODE.length));
+        assertEquals(Crc16.OK, Crc16.verify(STATUS_REQUEST, 0, STATUS_REQUEST.length));
+        assertEquals(Crc16.OK, Crc16.verify(ByteBuffer.wrap(STARTUP_CODE)));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(STATUS_REQUEST.length).put(STATUS_REQUEST).flip();
+        assertEquals(Crc16.OK, Crc16.verify(direct));
+        assertEquals(0, direct.position());
+    }
+
+    @Test
+    void detectsCorruptionAndShortFrames() {
+        byte[] corrupt = STATUS_REQUEST.clone();
+        corrupt[5] ^= 0x01;
+        assertEquals(Crc16.MISMATCH, Crc16.verify(corrupt, 0, corrupt.length));
+        assertEquals(Crc16.MISMATCH, Crc16.verify(ByteBuffer.wrap(corrupt)));
+        assertEquals(Crc16.TOO_SHORT, Crc16.verify(STATUS_REQUEST, 0, 3));
+    }
+
+    @Test
+    void matchesReferenceOnRandomLengthsAndOffsets() {
+        for (int round = 0; round < 2_000; round++) {
+            int length = random.nextInt(300);
+            int offset = random.nextInt(9);
+            byte[] data = randomBytes(offset + length + random.nextInt(9));
+
+            int expected = reference(data, offset, length);
+            assertEquals(expected, Crc16.update(Crc16.INITIAL, data, offset, length), "array length " + length);
+            assertEquals(expected, Crc16.update(Crc16.INITIAL, ByteBuffer.wrap(data), offset, length),
+                    "heap buffer length " + length);
+        }
+    }
+
+    @Test
+    void matchesReferenceAcrossSplitUpdates() {
+        for (int round = 0; round < 1_000; round++) {
+            byte[] data = randomBytes(1 + random.nextInt(200));
+            int expected = reference(data, 0, data.length);
+
+            // 부분 읽기처럼 임의 크기로 나눠 이어서 계산
+            int crc = Crc16.INITIAL;
+            int position = 0;
+            while (position < data.length) {
+                int chunk = Math.min(data.length - position, random.nextInt(20));
+                crc = Crc16.update(crc, data, position, chunk);
+                position += chunk;
+            }
+            assertEquals(expected, crc, "split length " + data.length);
+        }
+    }
+
+    @Test
+    void matchesReferenceOnDirectBuffers() {
+        for (int round = 0; round < 1_000; round++) {
+            byte[] data = randomBytes(random.nextInt(300));
+            int index = random.nextInt(9);
+            int expected = reference(data, 0, data.length);
+
+            for (ByteOrder order : new ByteOrder[]{ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+                ByteBuffer direct = ByteBuffer.allocateDirect(index + data.length).order(order);
+                direct.put(index, data);
+                assertEquals(expected, Crc16.update(Crc16.INITIAL, direct, index, data.length),
+                        order + " direct length " + data.length);
+                assertEquals(expected, Crc16.update(Crc16.INITIAL, direct.asReadOnlyBuffer(), index, data.length),
+                        order + " read-only length " + data.length);
+
+                // 앞부분은 배열, 뒷부분은 direct 버퍼로 이어서 계산
+                int split = data.length == 0 ? 0 : random.nextInt(data.length);
+                int crc = Crc16.update(Crc16.INITIAL, data, 0, split);
+                assertEquals(expected, Crc16.update(crc, direct, index + split, data.length - split),
+                        order + " mixed split length " + data.length);
+            }
+        }
+    }
+
+    private byte[] randomBytes(int length) {
+        byte[] data = new byte[length];
+        random.nextBytes(data);
+        return data;
+    }
+}
@@ -0,0 +1,155 @@
+package com.bspark.comms.core.scheduling;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 여러 바퀴 뒤 만료, 만료 전 취소, 고정 주기 작업의 누적 지연 없음 확인
+ * tick 10ms, 버킷 8개(한 바퀴 80ms)의 휠을 사용합니다.
+ */
+class HashedTimingWheelTest {
+
+    private static final long TICK_MILLIS = 10;
+    private static final int WHEEL_SIZE = 8;
+
+    private HashedTimingWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        Timer lagTimer = Timer.builder("test.lag").register(new SimpleMeterRegistry());
+        wheel = new HashedTimingWheel("test-wheel", TICK_MILLIS, TimeUnit.MILLISECONDS, WHEEL_SIZE, lagTimer);
+        wheel.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        wheel.stop();
+    }
+
+    @Test
+    void expiresAfterSeveralRounds() throws InterruptedException {
+        // 250ms = 25 tick, 같은 버킷을 세 번 지난 뒤 실행되어야 함
+        long delayMillis = 250;
+        CountDownLatch fired = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        long start = System.nanoTime();
+        long[] firedAt = new long[1];
+
+        WheelTimeout timeout = wheel.schedule(() -> {
+            firedAt[0] = System.nanoTime();
+            runs.incrementAndGet();
+            fired.countDown();
+        }, delayMillis, TimeUnit.MILLISECONDS);
+
+        assertTrue(fired.await(2, TimeUnit.SECONDS));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(firedAt[0] - start);
+        assertTrue(elapsedMillis >= delayMillis, "fired after " + elapsedMillis + "ms");
+        assertTrue(timeout.isExpired());
+        assertFalse(timeout.cancel());
+
+        Thread.sleep(WHEEL_SIZE * TICK_MILLIS * 2);
+        assertEquals(1, runs.get());
+        assertEquals(0, wheel.getActiveCount());
+    }
+
+    @Test
+    void cancelledBeforeExpiryNeverRuns() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        WheelTimeout once = wheel.schedule(runs::incrementAndGet, 150, TimeUnit.MILLISECONDS);
+        WheelTimeout periodic = wheel.scheduleAtFixedRate(runs::incrementAndGet, 150, 20, TimeUnit.MILLISECONDS);
+
+        assertTrue(once.cancel());
+        assertTrue(periodic.cancel());
+        assertFalse(once.cancel());
+
+        Thread.sleep(400);
+        assertEquals(0, runs.get());
+        assertTrue(once.isCancelled());
+        assertFalse(once.isExpired());
+        assertEquals(0, wheel.getActiveCount());
+    }
+
+    @Test
+    void cancelStopsPeriodicTaskBetweenRuns() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch threeRuns = new CountDownLatch(3);
+        WheelTimeout timeout = wheel.scheduleAtFixedRate(() -> {
+            runs.incrementAndGet();
+            threeRuns.countDown();
+        }, 0, 30, TimeUnit.MILLISECONDS);
+
+        assertTrue(threeRuns.await(2, TimeUnit.SECONDS));
+        assertTrue(timeout.cancel());
+        // 취소 호출과 겹친 실행 한 번까지만 허용
+        int afterCancel = runs.get();
+        Thread.sleep(200);
+        assertTrue(runs.get() <= afterCancel + 1, "ran " + (runs.get() - afterCancel) + " times after cancel");
+    }
+
+    @Test
+    void fixedRateRunsDoNotAccumulateDrift() throws InterruptedException {
+        // 실행 시각을 직전 실행이 아닌 예정 시각 기준으로 다음 주기에 맞추므로
+        // n번째 실행의 오차는 n에 비례해 커지지 않고 몇 tick 이내에 머물러야 함
+        long periodMillis = 30;
+        int count = 20;
+        List<Long> runTimes = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(count);
+        long start = System.nanoTime();
+        WheelTimeout timeout = wheel.scheduleAtFixedRate(() -> {
+            runTimes.add(System.nanoTime());
+            done.countDown();
+        }, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        timeout.cancel();
+
+        long lastExpectedMillis = periodMillis * count;
+        long lastActualMillis = TimeUnit.NANOSECONDS.toMillis(runTimes.get(count - 1) - start);
+        long drift = lastActualMillis - lastExpectedMillis;
+        assertTrue(drift >= 0, "ran " + (-drift) + "ms early");
+        assertTrue(drift <= TICK_MILLIS * 5, "drifted " + drift + "ms after " + count + " runs");
+    }
+
+    @Test
+    void slowRunSkipsMissedPeriodsInsteadOfBursting() throws InterruptedException {
+        long periodMillis = 20;
+        List<Long> runTimes = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(4);
+        WheelTimeout timeout = wheel.scheduleAtFixedRate(() -> {
+            runTimes.add(System.nanoTime());
+            if (runTimes.size() == 1) {
+                // 첫 실행이 다섯 주기 동안 휠 스레드를 붙잡음
+                sleepQuietly(periodMillis * 5);
+            }
+            done.countDown();
+        }, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        timeout.cancel();
+
+        // 밀린 주기를 몰아서 실행했다면 두 번째, 세 번째 실행이 연달아 일어남
+        long gapMillis = TimeUnit.NANOSECONDS.toMillis(runTimes.get(2) - runTimes.get(1));
+        assertTrue(gapMillis >= periodMillis - TICK_MILLIS, "second and third runs " + gapMillis + "ms apart");
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
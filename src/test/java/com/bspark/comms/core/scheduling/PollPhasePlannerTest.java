@@ -0,0 +1,117 @@
+package com.bspark.comms.core.scheduling;
+
+import com.bspark.comms.config.CommsProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 연결 시 가장 적은 슬롯 배정, 연결 종료 후 재배치로 슬롯 부하 차이를 1 이하로 맞추는지 확인
+ * 주기 1000ms, 슬롯 4개(슬롯 폭 250ms), 지터 20ms
+ */
+class PollPhasePlannerTest {
+
+    private static final int SLOTS = 4;
+
+    private PollPhasePlanner planner;
+
+    @BeforeEach
+    void setUp() {
+        CommsProperties properties = new CommsProperties();
+        properties.getPolling().setIntervalMillis(1000);
+        properties.getPolling().setPhaseSlots(SLOTS);
+        properties.getPolling().setJitterMillis(20);
+        planner = new PollPhasePlanner(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void connectsFillLeastLoadedSlots() {
+        // 같은 대역에서 한꺼번에 재접속해도 슬롯마다 두 개씩
+        for (int id = 0; id < 2 * SLOTS; id++) {
+            planner.assign(id, 0x0A000001 + id);
+        }
+        assertLoads(2, 2, 2, 2);
+
+        // 이미 배정된 연결은 같은 슬롯 유지
+        int slot = planner.assign(3, 0x0A000004);
+        assertEquals(slot, planner.assign(3, 0x0A000004));
+        assertLoads(2, 2, 2, 2);
+    }
+
+    @Test
+    void phaseStaysInsideAssignedSlot() {
+        for (int id = 0; id < 40; id++) {
+            int slot = planner.assign(id, 0xC0A80000 + id * 7);
+            long phase = planner.phaseOf(id);
+            long slotStart = slot * 1000L / SLOTS;
+            assertTrue(phase >= slotStart && phase < slotStart + 20, "connection " + id + " phase " + phase);
+        }
+        // 미배정 연결은 주기 시작
+        assertEquals(0, planner.phaseOf(1000));
+    }
+
+    @Test
+    void rebalanceAfterDisconnectsMovesClientsToEmptiedSlot() {
+        int[] slotOf = new int[12];
+        for (int id = 0; id < 12; id++) {
+            slotOf[id] = planner.assign(id, 0x0A000001 + id);
+        }
+
+        // 한 슬롯의 연결 세 개가 모두 끊김 -> 부하 3, 3, 3, 0
+        int emptied = slotOf[0];
+        for (int id = 0; id < 12; id++) {
+            if (slotOf[id] == emptied) {
+                planner.release(id);
+            }
+        }
+        assertEquals(0, planner.getSlotLoad(emptied));
+
+        int[] moved = planner.rebalance();
+
+        assertEquals(2, moved.length);
+        for (int id : moved) {
+            long slotStart = emptied * 1000L / SLOTS;
+            assertTrue(planner.phaseOf(id) >= slotStart && planner.phaseOf(id) < slotStart + 20);
+        }
+        assertEquals(2, planner.getSlotLoad(emptied));
+        assertMaxDifference(1);
+
+        // 이미 고르면 옮기지 않음
+        assertEquals(0, planner.rebalance().length);
+    }
+
+    @Test
+    void reconnectAfterRebalanceUsesLeastLoadedSlot() {
+        for (int id = 0; id < 8; id++) {
+            planner.assign(id, 0x0A000001 + id);
+        }
+        planner.release(0);
+        planner.release(1);
+        planner.rebalance();
+        assertMaxDifference(1);
+
+        // 끊긴 연결 ID가 다시 쓰이면 새로 배정
+        planner.assign(0, 0x0A0000FF);
+        planner.assign(1, 0x0A0000FE);
+        assertLoads(2, 2, 2, 2);
+    }
+
+    private void assertLoads(int... expected) {
+        for (int slot = 0; slot < SLOTS; slot++) {
+            assertEquals(expected[slot], planner.getSlotLoad(slot), "slot " + slot);
+        }
+    }
+
+    private void assertMaxDifference(int difference) {
+        int max = Integer.MIN_VALUE;
+        int min = Integer.MAX_VALUE;
+        for (int slot = 0; slot < SLOTS; slot++) {
+            max = Math.max(max, planner.getSlotLoad(slot));
+            min = Math.min(min, planner.getSlotLoad(slot));
+        }
+        assertTrue(max - min <= difference, "slot loads differ by " + (max - min));
+    }
+}
@@ -0,0 +1,41 @@
+package com.bspark.comms.core.scheduling;
+
+import com.bspark.comms.config.CommsProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * 위상 슬롯 번호로 휠을 나누는지 확인
+ */
+class PollTimerTest {
+
+    private PollTimer pollTimer;
+
+    @AfterEach
+    void tearDown() {
+        pollTimer.stop();
+    }
+
+    @Test
+    void adjacentPhaseSlotsUseDifferentWheels() {
+        CommsProperties properties = new CommsProperties();
+        properties.getPolling().setWheelShards(4);
+        pollTimer = new PollTimer(properties, new SimpleMeterRegistry());
+
+        Set<HashedTimingWheel> wheels = new HashSet<>();
+        for (int slot = 0; slot < 4; slot++) {
+            wheels.add(pollTimer.wheelOf(slot));
+            assertNotSame(pollTimer.wheelOf(slot), pollTimer.wheelOf(slot + 1));
+            assertSame(pollTimer.wheelOf(slot), pollTimer.wheelOf(slot + 4));
+        }
+        assertEquals(4, wheels.size());
+    }
+}
@@ -0,0 +1,122 @@
+package com.bspark.comms.dao;
+
+import com.bspark.comms.config.CommsProperties.Polling.Plan;
+import com.bspark.comms.data.MessageType;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 잘못된 계획 행과 클라이언트 주소는 건너뛰고 나머지 행으로 계획을 만드는지 확인
+ */
+class PollPlanDAOTest {
+
+    @Test
+    void skipsInvalidRows() {
+        List<Map<String, Object>> entryRows = List.of(
+                row("plan_name", "fast", "opcode", 0x12, "interval_millis", 1000L),
+                // 알 수 없는 on_change_of
+                row("plan_name", "fast", "opcode", 0x40, "interval_millis", 0L, "on_change_of", "NO_SUCH_TYPE"),
+                // 범위를 벗어난 opcode
+                row("plan_name", "fast", "opcode", 0x1FF, "interval_millis", 1000L),
+                // 주기와 변경 조건이 모두 없음
+                row("plan_name", "fast", "opcode", 0x41, "interval_millis", 0L),
+                row("plan_name", "fast", "opcode", 0x42, "interval_millis", 0L,
+                        "on_change_of", " INTERSECTION_STATUS ", "min_interval_millis", 5000L),
+                row("plan_name", "broken", "opcode", -1, "interval_millis", 1000L));
+        List<Map<String, Object>> clientRows = List.of(
+                row("ip_address", "10.0.0.1 ", "plan_name", "fast"),
+                row("ip_address", "not-an-ip", "plan_name", "fast"),
+                row("ip_address", "10.0.0.2", "plan_name", "missing"));
+
+        Map<String, Plan> plans = new PollPlanDAO(dataSource(entryRows, clientRows)).getPlans();
+
+        // 모든 항목이 잘못된 계획은 만들지 않음
+        assertNull(plans.get("broken"));
+        Plan fast = plans.get("fast");
+        assertEquals(2, fast.getEntries().size());
+        assertEquals(0x12, fast.getEntries().get(0).getOpcode());
+        assertEquals(0x42, fast.getEntries().get(1).getOpcode());
+        assertEquals(MessageType.INTERSECTION_STATUS, fast.getEntries().get(1).getOnChangeOf());
+        assertEquals(5000L, fast.getEntries().get(1).getMinIntervalMillis());
+        assertEquals(List.of("10.0.0.1"), fast.getClients());
+        assertEquals(1, plans.size());
+    }
+
+    private static Map<String, Object> row(Object... pairs) {
+        Map<String, Object> row = new HashMap<>();
+        for (int i = 0; i < pairs.length; i += 2) {
+            row.put((String) pairs[i], pairs[i + 1]);
+        }
+        return row;
+    }
+
+    /**
+     * 계획 항목 조회 -> 클라이언트 조회 순서로 행을 돌려주는 JDBC 대역
+     */
+    private static DataSource dataSource(List<Map<String, Object>> entryRows, List<Map<String, Object>> clientRows) {
+        Connection connection = proxy(Connection.class, (method, args) -> switch (method) {
+            case "prepareStatement" -> statement(((String) args[0]).contains("tb_poll_plan_client")
+                    ? clientRows : entryRows);
+            default -> null;
+        });
+        return proxy(DataSource.class, (method, args) -> method.equals("getConnection") ? connection : null);
+    }
+
+    private static PreparedStatement statement(List<Map<String, Object>> rows) {
+        return proxy(PreparedStatement.class, (method, args) -> method.equals("executeQuery") ? resultSet(rows) : null);
+    }
+
+    private static ResultSet resultSet(List<Map<String, Object>> rows) {
+        Iterator<Map<String, Object>> iterator = rows.iterator();
+        Object[] current = new Object[1];
+        return proxy(ResultSet.class, (method, args) -> {
+            switch (method) {
+                case "next" -> {
+                    current[0] = iterator.hasNext() ? iterator.next() : null;
+                    return current[0] != null;
+                }
+                case "getString" -> {
+                    Object value = ((Map<?, ?>) current[0]).get(args[0]);
+                    return value == null ? null : value.toString();
+                }
+                case "getInt" -> {
+                    Object value = ((Map<?, ?>) current[0]).get(args[0]);
+                    return value == null ? 0 : ((Number) value).intValue();
+                }
+                case "getLong" -> {
+                    Object value = ((Map<?, ?>) current[0]).get(args[0]);
+                    return value == null ? 0L : ((Number) value).longValue();
+                }
+                default -> {
+                    return null;
+                }
+            }
+        });
+    }
+
+    private interface Handler {
+        Object invoke(String method, Object[] args) throws Exception;
+    }
+
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close")) {
+                        return null;
+                    }
+                    return handler.invoke(method.getName(), args);
+                }));
+    }
+}
@@ -0,0 +1,139 @@
+package com.bspark.comms.message;
+
+import com.bspark.comms.config.CommsProperties;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 지연/손실 시 간격을 최대 간격까지 두 배씩 늘리고, 연속 정상 응답 후 한 단계씩 되돌리는지 확인
+ * 기본 주기 1000ms, 최대 간격 8000ms, 정상 응답 3회마다 회복
+ */
+class AdaptivePollControllerTest {
+
+    private static final int ID = 7;
+    private static final String CLIENT = "10.0.0.7";
+
+    @Test
+    void failuresDoubleIntervalUpToMaxInterval() {
+        AdaptivePollController controller = controller(60_000, 60_000);
+
+        long[] expected = {2000, 4000, 8000, 8000, 8000};
+        for (long interval : expected) {
+            controller.sendFailed(ID);
+            assertEquals(interval, intervalOf(controller));
+        }
+        assertEquals(5L, controller.getSnapshot().get(CLIENT).get("failures"));
+    }
+
+    @Test
+    void backedOffClientSendsOnlyEveryNthTick() {
+        AdaptivePollController controller = controller(60_000, 60_000);
+        controller.sendFailed(ID);
+        controller.sendFailed(ID);
+
+        // 4000ms 간격 - 바로 한 번 보낸 뒤 기본 주기 tick 4번에 한 번 전송
+        assertEquals(1, ticksUntilSent(controller));
+        controller.responseReceived(ID);
+        assertEquals(4, ticksUntilSent(controller));
+        controller.responseReceived(ID);
+        assertEquals(4, ticksUntilSent(controller));
+    }
+
+    @Test
+    void fastResponsesRecoverOneLevelPerRecoverAfter() {
+        AdaptivePollController controller = controller(60_000, 60_000);
+        for (int i = 0; i < 3; i++) {
+            controller.sendFailed(ID);
+        }
+        assertEquals(8000, intervalOf(controller));
+
+        long[] expected = {4000, 2000, 1000};
+        for (long interval : expected) {
+            for (int i = 0; i < 3; i++) {
+                ticksUntilSent(controller);
+                controller.responseReceived(ID);
+            }
+            assertEquals(interval, intervalOf(controller));
+        }
+
+        // 기본 주기에서는 더 줄지 않고 tick마다 전송
+        for (int i = 0; i < 3; i++) {
+            ticksUntilSent(controller);
+            controller.responseReceived(ID);
+        }
+        assertEquals(1000, intervalOf(controller));
+        assertEquals(1, ticksUntilSent(controller));
+    }
+
+    @Test
+    void slowResponsesBackOffUpToMaxInterval() {
+        // 지연 기준 0ms - 모든 응답을 지연으로 판단
+        AdaptivePollController controller = controller(60_000, 0);
+
+        for (long interval : new long[]{2000, 4000, 8000, 8000}) {
+            ticksUntilSent(controller);
+            controller.responseReceived(ID);
+            assertEquals(interval, intervalOf(controller));
+        }
+    }
+
+    @Test
+    void unansweredRequestBacksOffOnResponseTimeout() {
+        // 응답 제한 시간 0ms - 다음 tick에 손실로 판단
+        AdaptivePollController controller = controller(0, 60_000);
+
+        assertTrue(controller.tryAcquire(ID));
+        // 손실 처리 후 2000ms 간격이 적용되지만 직전 전송에서 정한 다음 tick은 그대로 전송
+        assertTrue(controller.tryAcquire(ID));
+        assertEquals(2000, intervalOf(controller));
+        assertEquals(1L, controller.getSnapshot().get(CLIENT).get("timeouts"));
+    }
+
+    @Test
+    void inFlightRequestHoldsBackNextSend() {
+        AdaptivePollController controller = controller(60_000, 60_000);
+
+        assertTrue(controller.tryAcquire(ID));
+        assertFalse(controller.tryAcquire(ID));
+        assertFalse(controller.tryAcquire(ID));
+        controller.responseReceived(ID);
+        assertTrue(controller.tryAcquire(ID));
+        assertEquals(1000, intervalOf(controller));
+    }
+
+    private static AdaptivePollController controller(long responseTimeoutMillis, long slowResponseMillis) {
+        CommsProperties properties = new CommsProperties();
+        CommsProperties.Polling polling = properties.getPolling();
+        polling.setIntervalMillis(1000);
+        polling.setMaxIntervalMillis(8000);
+        polling.setRecoverAfter(3);
+        polling.setMaxInFlight(1);
+        polling.setResponseTimeoutMillis(responseTimeoutMillis);
+        polling.setSlowResponseMillis(slowResponseMillis);
+
+        AdaptivePollController controller = new AdaptivePollController(properties);
+        controller.register(ID, CLIENT);
+        return controller;
+    }
+
+    /**
+     * 전송할 때까지 tick을 진행
+     *
+     * @return 전송한 tick까지 진행한 tick 수
+     */
+    private static int ticksUntilSent(AdaptivePollController controller) {
+        for (int tick = 1; tick <= 64; tick++) {
+            if (controller.tryAcquire(ID)) {
+                return tick;
+            }
+        }
+        throw new AssertionError("no request sent in 64 ticks");
+    }
+
+    private static long intervalOf(AdaptivePollController controller) {
+        return (Long) controller.getSnapshot().get(CLIENT).get("effectiveIntervalMillis");
+    }
+}
@@ -0,0 +1,129 @@
+package com.bspark.comms.message;
+
+import com.bspark.comms.core.protocol.message.FrameEncoder;
+import com.bspark.comms.core.protocol.message.FrameView;
+import com.bspark.comms.data.MessageType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 처리기 등록, 중복 등록, 기본 처리기 대체와 복귀, 길이 검사, 미등록 opcode 집계 확인
+ */
+class OpcodeRegistryTest {
+
+    private static final byte[] STATUS_ACK = "STATUS_ACK".getBytes(StandardCharsets.US_ASCII);
+
+    private OpcodeRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new OpcodeRegistry(List.of(), new SimpleMeterRegistry());
+        // 기본 처리기를 대체 처리기로 등록
+        new DefaultMessageProcessor(registry);
+    }
+
+    @Test
+    void registeredHandlerReplacesDefault() {
+        assertArrayEquals(STATUS_ACK, dispatch(MessageType.STATUS_REQUEST, new byte[0]));
+
+        OpcodeHandler handler = handler(OpcodeSpec.of(MessageType.STATUS_REQUEST, OpcodeSpec.VARIABLE_LENGTH), "custom");
+        registry.register(handler);
+
+        assertSame(handler, registry.find((byte) MessageType.STATUS_REQUEST.getOpcode()));
+        assertArrayEquals(bytes("custom"), dispatch(MessageType.STATUS_REQUEST, new byte[0]));
+    }
+
+    @Test
+    void rejectsSecondRegisteredHandler() {
+        OpcodeSpec spec = OpcodeSpec.of(MessageType.DETECTOR_INFO, OpcodeSpec.VARIABLE_LENGTH);
+        OpcodeHandler first = handler(spec, "first");
+        registry.register(first);
+
+        assertThrows(IllegalStateException.class, () -> registry.register(handler(spec, "second")));
+        assertSame(first, registry.find((byte) MessageType.DETECTOR_INFO.getOpcode()));
+    }
+
+    @Test
+    void unregisterRestoresDefault() {
+        OpcodeHandler handler = handler(OpcodeSpec.of(MessageType.STATUS_REQUEST, OpcodeSpec.VARIABLE_LENGTH), "custom");
+        registry.register(handler);
+
+        assertSame(handler, registry.unregister(MessageType.STATUS_REQUEST.getOpcode()));
+        assertArrayEquals(STATUS_ACK, dispatch(MessageType.STATUS_REQUEST, new byte[0]));
+        assertNull(registry.unregister(MessageType.STATUS_REQUEST.getOpcode()));
+
+        // 다시 등록 가능
+        registry.register(handler);
+        assertArrayEquals(bytes("custom"), dispatch(MessageType.STATUS_REQUEST, new byte[0]));
+    }
+
+    @Test
+    void opcodeWithoutDefaultHasNoHandlerAfterUnregister() {
+        OpcodeSpec spec = new OpcodeSpec(0x55, MessageType.MessageCategory.REQUEST, OpcodeSpec.VARIABLE_LENGTH);
+        registry.register(handler(spec, "custom"));
+        int size = registry.size();
+
+        registry.unregister(0x55);
+
+        assertNull(registry.find((byte) 0x55));
+        assertEquals(size - 1, registry.size());
+        assertNull(registry.dispatch("10.0.0.1", frame(0x55, new byte[0])));
+        assertEquals(1, registry.getUnknownCount((byte) 0x55));
+    }
+
+    @Test
+    void dropsFramesWithUndeclaredLength() {
+        OpcodeSpec spec = OpcodeSpec.of(MessageType.INTERSECTION_STATUS, 8);
+        registry.register(handler(spec, "status"));
+
+        assertNull(dispatch(MessageType.INTERSECTION_STATUS, new byte[7]));
+        assertArrayEquals(bytes("status"), dispatch(MessageType.INTERSECTION_STATUS, new byte[8]));
+    }
+
+    @Test
+    void countsUnknownOpcodes() {
+        for (int i = 0; i < 3; i++) {
+            assertNull(registry.dispatch("10.0.0.1", frame(0x77, new byte[1])));
+        }
+
+        assertEquals(3, registry.getUnknownCount((byte) 0x77));
+        assertEquals(0, registry.getUnknownCount((byte) MessageType.STATUS_REQUEST.getOpcode()));
+    }
+
+    private byte[] dispatch(MessageType type, byte[] payload) {
+        return registry.dispatch("10.0.0.1", frame(type.getOpcode(), payload));
+    }
+
+    private static OpcodeHandler handler(OpcodeSpec spec, String response) {
+        return new OpcodeHandler() {
+            @Override
+            public OpcodeSpec getSpec() {
+                return spec;
+            }
+
+            @Override
+            public byte[] handle(String clientId, FrameView frame) {
+                return bytes(response);
+            }
+        };
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static FrameView frame(int opcode, byte[] payload) {
+        return new FrameView().wrap(ByteBuffer.wrap(FrameEncoder.encode(0x0001, (byte) opcode, payload)));
+    }
+}
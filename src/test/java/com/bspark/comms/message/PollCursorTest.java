@@ -0,0 +1,91 @@
+package com.bspark.comms.message;
+
+import com.bspark.comms.config.CommsProperties.Polling.PlanEntry;
+import com.bspark.comms.data.MessageType;
+import org.junit.jupiter.api.Test;
+
+import static com.bspark.comms.message.PollScheduleTest.compile;
+import static com.bspark.comms.message.PollScheduleTest.entry;
+import static com.bspark.comms.message.PollScheduleTest.plan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 응답 CRC 변경에 따른 전송과 최소 간격 제한, 상태 요청 보류 확인
+ */
+class PollCursorTest {
+
+    private static final long STATUS = 1L;
+    private static final long PHASE = 1L << 1;
+
+    // 상태 요청 매 tick, 현시 요청은 상태 응답이 바뀔 때만 (최소 3 tick 간격)
+    private final PollSchedule.CompiledPlan plan = compile(plan(entry(0x12, 1000), onChange(3000)))
+            .getPlans().get(PollSchedule.DEFAULT_PLAN);
+    private final PollCursor cursor = new PollCursor(plan);
+
+    @Test
+    void sendsChangeEntryOnlyWhenResponseCrcChanges() {
+        assertEquals(STATUS, cursor.advance(plan, () -> true));
+
+        // 첫 응답은 비교 대상이 없으므로 변경 아님
+        assertFalse(cursor.responseReceived(MessageType.INTERSECTION_STATUS, 0x1111));
+        assertEquals(STATUS, cursor.advance(plan, () -> true));
+
+        assertFalse(cursor.responseReceived(MessageType.INTERSECTION_STATUS, 0x1111));
+        assertEquals(STATUS, cursor.advance(plan, () -> true));
+
+        assertTrue(cursor.responseReceived(MessageType.INTERSECTION_STATUS, 0x2222));
+        assertEquals(STATUS | PHASE, cursor.advance(plan, () -> true));
+        assertEquals(STATUS, cursor.advance(plan, () -> true));
+
+        // 계획에 없는 응답 유형은 무시
+        assertFalse(cursor.responseReceived(MessageType.DETECTOR_INFO, 0x3333));
+    }
+
+    @Test
+    void throttlesChangesToMinInterval() {
+        cursor.responseReceived(MessageType.INTERSECTION_STATUS, 1);
+        cursor.responseReceived(MessageType.INTERSECTION_STATUS, 2);
+        // tick 0 - 전송
+        assertEquals(STATUS | PHASE, cursor.advance(plan, () -> true));
+
+        cursor.responseReceived(MessageType.INTERSECTION_STATUS, 3);
+        // tick 1, 2 - 최소 간격(3 tick) 전이므로 미룸
+        assertEquals(STATUS, cursor.advance(plan, () -> true));
+        cursor.responseReceived(MessageType.INTERSECTION_STATUS, 4);
+        assertEquals(STATUS, cursor.advance(plan, () -> true));
+        // tick 3 - 미룬 변경을 한 번만 전송
+        assertEquals(STATUS | PHASE, cursor.advance(plan, () -> true));
+        assertEquals(STATUS, cursor.advance(plan, () -> true));
+    }
+
+    @Test
+    void holdsOnlyStatusRequestWhenNotAcquired() {
+        cursor.responseReceived(MessageType.INTERSECTION_STATUS, 1);
+        cursor.responseReceived(MessageType.INTERSECTION_STATUS, 2);
+
+        assertEquals(PHASE, cursor.advance(plan, () -> false));
+        assertEquals(STATUS, cursor.advance(plan, () -> true));
+    }
+
+    @Test
+    void reloadedPlanResetsChangeTracking() {
+        cursor.responseReceived(MessageType.INTERSECTION_STATUS, 1);
+        cursor.responseReceived(MessageType.INTERSECTION_STATUS, 2);
+
+        PollSchedule.CompiledPlan reloaded = compile(plan(entry(0x12, 1000), onChange(3000)))
+                .getPlans().get(PollSchedule.DEFAULT_PLAN);
+        assertEquals(STATUS, cursor.advance(reloaded, () -> true));
+
+        // 새 계획에서 첫 응답은 다시 비교 기준이 됨
+        assertFalse(cursor.responseReceived(MessageType.INTERSECTION_STATUS, 3));
+    }
+
+    private static PlanEntry onChange(long minIntervalMillis) {
+        PlanEntry entry = entry(0x40, 0);
+        entry.setOnChangeOf(MessageType.INTERSECTION_STATUS);
+        entry.setMinIntervalMillis(minIntervalMillis);
+        return entry;
+    }
+}
@@ -0,0 +1,92 @@
+package com.bspark.comms.message;
+
+import com.bspark.comms.config.CommsProperties;
+import com.bspark.comms.config.CommsProperties.Polling.Plan;
+import com.bspark.comms.dao.PollPlanDAO;
+import com.bspark.comms.util.IpAddressUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static com.bspark.comms.message.PollScheduleTest.entry;
+import static com.bspark.comms.message.PollScheduleTest.plan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 계획을 다시 읽을 때 잘못된 계획이면 기존 계획을 유지하는지 확인
+ */
+class PollPlanRegistryTest {
+
+    private static final int CLIENT = IpAddressUtils.pack("10.0.0.7");
+
+    private final CommsProperties properties = new CommsProperties();
+    private Supplier<Map<String, Plan>> tablePlans;
+    private PollPlanRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        properties.getPolling().getPlans().put(PollSchedule.DEFAULT_PLAN, plan(entry(0x12, 1000)));
+        PollPlanDAO dao = new PollPlanDAO(null) {
+            @Override
+            public Map<String, Plan> getPlans() {
+                return tablePlans.get();
+            }
+        };
+        registry = new PollPlanRegistry(properties, dao, null);
+    }
+
+    @Test
+    void keepsPreviousScheduleWhenConfigPlanIsInvalid() {
+        PollSchedule previous = registry.getSchedule();
+
+        properties.getPolling().getPlans().put(PollSchedule.DEFAULT_PLAN, plan(entry(0x100, 1000)));
+
+        assertFalse(registry.reload());
+        assertSame(previous, registry.getSchedule());
+    }
+
+    @Test
+    void appliesTablePlansAndKeepsThemWhenReloadFails() {
+        properties.getPolling().setPlanTableEnabled(true);
+        Plan special = plan(entry(0x40, 2000));
+        special.getClients().add("10.0.0.7");
+        tablePlans = () -> Map.of("special", special);
+
+        assertTrue(registry.reload());
+        PollSchedule applied = registry.getSchedule();
+        assertSame(applied.getPlans().get("special"), registry.planFor(CLIENT));
+
+        // DB 오류
+        tablePlans = () -> {
+            throw new RuntimeException("connection refused");
+        };
+        assertFalse(registry.reload());
+        assertSame(applied, registry.getSchedule());
+
+        // 순환표가 너무 긴 계획
+        Plan tooLong = plan(entry(0x40, 59_000), entry(0x41, 61_000), entry(0x42, 67_000));
+        tablePlans = () -> Map.of("special", tooLong);
+        assertFalse(registry.reload());
+        assertSame(applied, registry.getSchedule());
+        assertEquals(0x40, registry.planFor(CLIENT).getEntry(0).getOpcode());
+    }
+
+    @Test
+    void tablePlanOverridesConfigPlanWithSameName() {
+        properties.getPolling().setPlanTableEnabled(true);
+        Map<String, Plan> plans = new LinkedHashMap<>();
+        plans.put(PollSchedule.DEFAULT_PLAN, plan(entry(0x12, 2000)));
+        tablePlans = () -> plans;
+
+        assertTrue(registry.reload());
+        PollSchedule.CompiledPlan plan = registry.planFor(CLIENT);
+        assertTrue(plan.tracksAt(0));
+        assertFalse(plan.tracksAt(1));
+    }
+}
@@ -0,0 +1,145 @@
+package com.bspark.comms.message;
+
+import com.bspark.comms.config.CommsProperties.Polling.Plan;
+import com.bspark.comms.config.CommsProperties.Polling.PlanEntry;
+import com.bspark.comms.data.MessageType;
+import com.bspark.comms.util.IpAddressUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 계획 컴파일 결과 (최소공배수 순환표, 항목별 위치 어긋남, 잘못된 계획 거부) 확인
+ */
+class PollScheduleTest {
+
+    private static final long BASE = 1000;
+
+    @Test
+    void cycleTableRepeatsAfterLcmOfPeriods() {
+        // 주기 1, 2, 3 tick -> 순환 길이 6
+        PollSchedule schedule = compile(plan(entry(0x12, 1000), entry(0x40, 2000), entry(0x41, 3000)));
+        PollSchedule.CompiledPlan plan = schedule.getPlans().get(PollSchedule.DEFAULT_PLAN);
+
+        for (int tick = 0; tick < 6; tick++) {
+            assertEquals(opcodesAt(plan, tick), opcodesAt(plan, tick + 6), "tick " + tick);
+            assertEquals(opcodesAt(plan, tick), opcodesAt(plan, tick + 600), "tick " + tick);
+        }
+
+        int[] counts = new int[3];
+        for (int tick = 0; tick < 6; tick++) {
+            for (PollSchedule.Entry entry : plan.dueAt(tick)) {
+                counts[entry.getIndex()]++;
+            }
+        }
+        assertEquals(6, counts[0]);
+        assertEquals(3, counts[1]);
+        assertEquals(2, counts[2]);
+    }
+
+    @Test
+    void entriesWithSamePeriodAreOffsetByIndex() {
+        // 같은 3 tick 주기의 세 항목이 한 tick에 몰리지 않고 0, 1, 2에 하나씩
+        PollSchedule schedule = compile(plan(entry(0x40, 3000), entry(0x41, 3000), entry(0x42, 3000)));
+        PollSchedule.CompiledPlan plan = schedule.getPlans().get(PollSchedule.DEFAULT_PLAN);
+
+        assertEquals(List.of(0x40), opcodesAt(plan, 0));
+        assertEquals(List.of(0x41), opcodesAt(plan, 1));
+        assertEquals(List.of(0x42), opcodesAt(plan, 2));
+        assertEquals(List.of(0x40), opcodesAt(plan, 3));
+    }
+
+    @Test
+    void tracksOnlyTicksWithStatusRequest() {
+        PollSchedule schedule = compile(plan(entry(0x12, 2000), entry(0x40, 1000)));
+        PollSchedule.CompiledPlan plan = schedule.getPlans().get(PollSchedule.DEFAULT_PLAN);
+
+        assertTrue(plan.tracksAt(0));
+        assertFalse(plan.tracksAt(1));
+        assertTrue(plan.getEntry(0).isTracked());
+        assertFalse(plan.getEntry(1).isTracked());
+    }
+
+    @Test
+    void changeOnlyEntryIsNeverInCycleTable() {
+        PlanEntry onChange = entry(0x40, 0);
+        onChange.setOnChangeOf(MessageType.INTERSECTION_STATUS);
+        PollSchedule schedule = compile(plan(entry(0x12, 1000), onChange));
+        PollSchedule.CompiledPlan plan = schedule.getPlans().get(PollSchedule.DEFAULT_PLAN);
+
+        assertEquals(List.of(0x12), opcodesAt(plan, 0));
+        assertEquals(1L << 1, plan.changeMaskOf(MessageType.INTERSECTION_STATUS));
+        assertEquals(0L, plan.changeMaskOf(MessageType.DETECTOR_INFO));
+    }
+
+    @Test
+    void clientsUseTheirPlanAndOthersUseDefault() {
+        Plan special = plan(entry(0x40, 1000));
+        special.getClients().add("10.0.0.7");
+        Map<String, Plan> plans = new LinkedHashMap<>();
+        plans.put("special", special);
+
+        PollSchedule schedule = PollSchedule.compile(plans, BASE);
+
+        assertSame(schedule.getPlans().get("special"), schedule.planFor(IpAddressUtils.pack("10.0.0.7")));
+        PollSchedule.CompiledPlan fallback = schedule.planFor(IpAddressUtils.pack("10.0.0.8"));
+        assertSame(schedule.getPlans().get(PollSchedule.DEFAULT_PLAN), fallback);
+        // default 계획이 없으면 기본 주기마다 상태 요청만 전송
+        assertEquals(List.of(MessageType.STATUS_REQUEST.getOpcode()), opcodesAt(fallback, 0));
+    }
+
+    @Test
+    void rejectsInvalidPlans() {
+        assertThrows(IllegalArgumentException.class, () -> compile(plan()));
+        assertThrows(IllegalArgumentException.class, () -> compile(plan(entry(0x100, 1000))));
+        assertThrows(IllegalArgumentException.class, () -> compile(plan(entry(0x40, 0))));
+        // 최소공배수가 순환표 최대 길이를 넘음
+        assertThrows(IllegalArgumentException.class, () -> compile(plan(entry(0x40, 59_000), entry(0x41, 61_000),
+                entry(0x42, 67_000))));
+
+        Plan first = plan(entry(0x40, 1000));
+        first.getClients().add("10.0.0.1");
+        Plan second = plan(entry(0x41, 1000));
+        second.getClients().add("10.0.0.1");
+        Map<String, Plan> plans = new LinkedHashMap<>();
+        plans.put("first", first);
+        plans.put("second", second);
+        assertThrows(IllegalArgumentException.class, () -> PollSchedule.compile(plans, BASE));
+    }
+
+    static PollSchedule compile(Plan plan) {
+        Map<String, Plan> plans = new LinkedHashMap<>();
+        plans.put(PollSchedule.DEFAULT_PLAN, plan);
+        return PollSchedule.compile(plans, BASE);
+    }
+
+    static Plan plan(PlanEntry... entries) {
+        Plan plan = new Plan();
+        plan.getEntries().addAll(List.of(entries));
+        return plan;
+    }
+
+    static PlanEntry entry(int opcode, long intervalMillis) {
+        PlanEntry entry = new PlanEntry();
+        entry.setOpcode(opcode);
+        entry.setIntervalMillis(intervalMillis);
+        return entry;
+    }
+
+    private static List<Integer> opcodesAt(PollSchedule.CompiledPlan plan, long tick) {
+        List<Integer> opcodes = new ArrayList<>();
+        for (PollSchedule.Entry entry : plan.dueAt(tick)) {
+            opcodes.add(entry.getOpcode() & 0xFF);
+        }
+        return opcodes;
+    }
+}
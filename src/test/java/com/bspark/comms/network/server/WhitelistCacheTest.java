@@ -0,0 +1,267 @@
+package com.bspark.comms.network.server;
+
+import com.bspark.comms.config.CommsProperties;
+import com.bspark.comms.core.scheduling.PollTimer;
+import com.bspark.comms.dao.IpAddressWhitelistDAO;
+import com.bspark.comms.network.server.WhitelistCache.Decision;
+import com.bspark.comms.network.server.dispatch.InboundDispatcher;
+import com.bspark.comms.network.server.nio.InboundFlowControl;
+import com.bspark.comms.network.server.nio.NioConnectionManager;
+import com.bspark.comms.util.IpAddressUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 개별 조회 결과의 허용/거부 TTL, 변경 알림에 따른 규칙 갱신, 조회 대기 상한 초과 시 보류 연결 거부 확인
+ */
+class WhitelistCacheTest {
+
+    private static final int CONFIGURED = IpAddressUtils.pack("10.9.9.9");
+
+    private final CommsProperties properties = new CommsProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FakeWhitelistDAO dao = new FakeWhitelistDAO();
+    private final List<AutoCloseable> resources = new ArrayList<>();
+    private PollTimer pollTimer;
+    private WhitelistCache cache;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        dao.release.countDown();
+        for (AutoCloseable resource : resources) {
+            resource.close();
+        }
+        if (cache != null) {
+            cache.stop();
+        }
+        if (pollTimer != null) {
+            pollTimer.stop();
+        }
+    }
+
+    @Test
+    void lookupResultsAreCachedForPositiveAndNegativeTtl() throws Exception {
+        properties.getWhitelist().setPositiveTtlMillis(600);
+        properties.getWhitelist().setNegativeTtlMillis(150);
+        createCache();
+        dao.allowed.add("10.0.0.2");
+        int allowed = IpAddressUtils.pack("10.0.0.2");
+        int denied = IpAddressUtils.pack("10.0.0.3");
+
+        assertEquals(Decision.UNKNOWN, cache.check(allowed));
+        assertTrue(cache.resolve(allowed).get(1, TimeUnit.SECONDS));
+        assertEquals(Decision.UNKNOWN, cache.check(denied));
+        assertFalse(cache.resolve(denied).get(1, TimeUnit.SECONDS));
+
+        assertEquals(Decision.ALLOWED, cache.check(allowed));
+        assertEquals(Decision.DENIED, cache.check(denied));
+        assertEquals(2, dao.lookups.get());
+
+        // 거부 TTL만 만료
+        Thread.sleep(300);
+        assertEquals(Decision.ALLOWED, cache.check(allowed));
+        assertEquals(Decision.UNKNOWN, cache.check(denied));
+
+        // 허용 TTL도 만료
+        Thread.sleep(450);
+        assertEquals(Decision.UNKNOWN, cache.check(allowed));
+        assertEquals(2, dao.lookups.get());
+    }
+
+    @Test
+    void notificationsUpdateRulesWhileLive() {
+        createCache();
+        dao.table.add("10.0.0.0/24");
+        int listed = IpAddressUtils.pack("10.0.0.5");
+        int other = IpAddressUtils.pack("10.0.1.1");
+
+        assertTrue(cache.resync());
+        assertTrue(cache.isLive());
+        assertEquals(Decision.ALLOWED, cache.check(listed));
+        // 동기화 중에는 목록에 없으면 DB 조회 없이 거부
+        assertEquals(Decision.DENIED, cache.check(other));
+
+        // INSERT 알림
+        cache.allow("10.0.1.0/24");
+        assertEquals(Decision.ALLOWED, cache.check(other));
+        // 거부 항목 INSERT 알림은 같은 블록의 허용보다 우선 (더 긴 접두사)
+        cache.allow("!10.0.0.5");
+        assertEquals(Decision.DENIED, cache.check(listed));
+        // DELETE 알림
+        cache.revoke("10.0.1.0/24");
+        cache.revoke("!10.0.0.5");
+        assertEquals(Decision.DENIED, cache.check(other));
+        assertEquals(Decision.ALLOWED, cache.check(listed));
+        assertThrows(IllegalArgumentException.class, () -> cache.allow("10.0.0.0/40"));
+
+        // 알림 연결이 끊기면 목록에 없는 IP는 DB 조회 대상
+        cache.markStale();
+        assertEquals(Decision.UNKNOWN, cache.check(other));
+        assertEquals(0, dao.lookups.get());
+    }
+
+    @Test
+    void failedRefreshKeepsPreviousRules() {
+        createCache();
+        dao.table.add("10.0.0.0/24");
+        assertTrue(cache.refresh());
+
+        dao.failRefresh = true;
+        assertFalse(cache.refresh());
+        assertFalse(cache.resync());
+        assertFalse(cache.isLive());
+        assertEquals(Decision.ALLOWED, cache.check(IpAddressUtils.pack("10.0.0.7")));
+    }
+
+    @Test
+    void fullMaxPendingRejectsWithoutLookup() throws Exception {
+        properties.getWhitelist().setMaxPending(2);
+        properties.getWhitelist().setLookupThreads(1);
+        createCache();
+        dao.allowed.add("10.0.0.1");
+        dao.allowed.add("10.0.0.2");
+        dao.allowed.add("10.0.0.3");
+        dao.block = true;
+
+        CompletableFuture<Boolean> first = cache.resolve(IpAddressUtils.pack("10.0.0.1"));
+        CompletableFuture<Boolean> second = cache.resolve(IpAddressUtils.pack("10.0.0.2"));
+        CompletableFuture<Boolean> overflow = cache.resolve(IpAddressUtils.pack("10.0.0.3"));
+
+        assertTrue(overflow.isDone());
+        assertFalse(overflow.get());
+        assertFalse(first.isDone());
+
+        dao.release.countDown();
+        assertTrue(first.get(1, TimeUnit.SECONDS));
+        assertTrue(second.get(1, TimeUnit.SECONDS));
+        assertEquals(2, dao.lookups.get());
+
+        // 대기가 풀리면 다시 조회
+        assertTrue(cache.resolve(IpAddressUtils.pack("10.0.0.3")).get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void concurrentConnectionsFromSameIpShareOneLookup() throws Exception {
+        createCache();
+        dao.allowed.add("10.0.0.1");
+        dao.block = true;
+        int address = IpAddressUtils.pack("10.0.0.1");
+
+        CompletableFuture<Boolean> first = cache.resolve(address);
+        CompletableFuture<Boolean> second = cache.resolve(address);
+        dao.release.countDown();
+
+        assertTrue(first.get(1, TimeUnit.SECONDS));
+        assertTrue(second.get(1, TimeUnit.SECONDS));
+        assertEquals(1, dao.lookups.get());
+    }
+
+    @Test
+    void deferredAdmitRejectsConnectionsBeyondMaxPending() throws Exception {
+        properties.getWhitelist().setMaxPending(2);
+        createCache();
+        dao.allowed.add("127.0.0.2");
+        dao.allowed.add("127.0.0.3");
+        dao.allowed.add("127.0.0.4");
+        dao.block = true;
+
+        InboundFlowControl flowControl = new InboundFlowControl(properties, meterRegistry);
+        NioConnectionManager connectionManager = new NioConnectionManager(event -> {
+        }, cache, flowControl, new InboundDispatcher(properties, flowControl, meterRegistry), pollTimer,
+                properties);
+
+        ServerSocketChannel server = ServerSocketChannel.open().bind(new InetSocketAddress("127.0.0.1", 0));
+        resources.add(server);
+        List<SocketChannel> admitted = new CopyOnWriteArrayList<>();
+        CountDownLatch deferred = new CountDownLatch(2);
+        List<SocketChannel> accepted = new ArrayList<>();
+        for (int i = 2; i <= 4; i++) {
+            SocketChannel client = SocketChannel.open();
+            resources.add(client);
+            client.bind(new InetSocketAddress("127.0.0." + i, 0));
+            client.connect(server.getLocalAddress());
+            SocketChannel channel = server.accept();
+            resources.add(channel);
+            accepted.add(channel);
+
+            assertFalse(connectionManager.admit(channel, c -> {
+                admitted.add(c);
+                deferred.countDown();
+            }));
+        }
+
+        // 상한을 넘은 세 번째 연결은 조회 없이 바로 닫힘
+        assertFalse(accepted.get(2).isOpen());
+        assertTrue(accepted.get(0).isOpen());
+        assertTrue(admitted.isEmpty());
+
+        dao.release.countDown();
+        assertTrue(deferred.await(1, TimeUnit.SECONDS));
+        assertEquals(Set.of(accepted.get(0), accepted.get(1)), Set.copyOf(admitted));
+        assertEquals(2, dao.lookups.get());
+    }
+
+    private void createCache() {
+        properties.getWhitelist().setRefreshMillis(0);
+        pollTimer = new PollTimer(properties, meterRegistry);
+        cache = new WhitelistCache(dao, properties, pollTimer, meterRegistry);
+        // 허용 항목이 하나도 없으면 모두 허용하므로 관계없는 설정 항목 하나를 둠
+        cache.setConfiguredIps(Set.of(IpAddressUtils.format(CONFIGURED)));
+    }
+
+    /**
+     * 허용 목록 테이블 대신 메모리 목록을 쓰고, 필요하면 개별 조회를 release까지 붙잡는 DAO
+     */
+    private static final class FakeWhitelistDAO extends IpAddressWhitelistDAO {
+        final Set<String> table = ConcurrentHashMap.newKeySet();
+        final Set<String> allowed = ConcurrentHashMap.newKeySet();
+        final AtomicInteger lookups = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+        volatile boolean block;
+        volatile boolean failRefresh;
+
+        FakeWhitelistDAO() {
+            super(null);
+        }
+
+        @Override
+        public Set<String> getAllowedIps() {
+            if (failRefresh) {
+                throw new IllegalStateException("connection refused");
+            }
+            return Set.copyOf(table);
+        }
+
+        @Override
+        public boolean isIpAllowed(String ip) {
+            lookups.incrementAndGet();
+            if (block) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return allowed.contains(ip);
+        }
+    }
+}
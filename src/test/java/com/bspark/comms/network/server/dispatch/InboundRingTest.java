@@ -0,0 +1,99 @@
+package com.bspark.comms.network.server.dispatch;
+
+import com.bspark.comms.data.MessageType;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 링이 가득 차면 생산자가 대기하지 않고 발행을 거절하는지, 거절 후에도 순서와 내용이 유지되는지 확인
+ */
+class InboundRingTest {
+
+    private static final WaitStrategy NO_WAIT = (idleCount, available) -> Thread.onSpinWait();
+
+    @Test
+    void rejectsWhenFullWithoutBlocking() {
+        InboundRing ring = new InboundRing(4, NO_WAIT);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(publish(ring, i));
+        }
+        assertFalse(publish(ring, 4), "가득 찬 링에 발행됨");
+        assertEquals(4, ring.getDepth());
+
+        List<String> drained = new ArrayList<>();
+        assertEquals(2, ring.drain(slot -> drained.add(slot.getClientId()), 2));
+
+        assertTrue(publish(ring, 5));
+        assertTrue(publish(ring, 6));
+        assertFalse(publish(ring, 7), "가득 찬 링에 발행됨");
+
+        assertEquals(4, ring.drain(slot -> drained.add(slot.getClientId()), 16));
+        assertEquals(List.of("c0", "c1", "c2", "c3", "c5", "c6"), drained);
+        assertEquals(0, ring.getDepth());
+        assertFalse(ring.hasAvailable());
+    }
+
+    @Test
+    void copiesFrameIntoSlot() {
+        InboundRing ring = new InboundRing(2, NO_WAIT);
+        ByteBuffer frame = ByteBuffer.wrap(new byte[]{1, 2, 3, 4});
+        assertTrue(ring.publish(null, "c", MessageType.fromOpcode((byte) 0x13), frame));
+
+        // 발행 후 원본을 재사용해도 슬롯 내용은 바뀌지 않아야 함
+        frame.clear();
+        frame.put(new byte[]{9, 9, 9, 9});
+
+        AtomicInteger sum = new AtomicInteger();
+        ring.drain(slot -> {
+            for (int i = 0; i < slot.getLength(); i++) {
+                sum.addAndGet(slot.getFrame().getUnsignedByte(i));
+            }
+        }, 1);
+        assertEquals(10, sum.get());
+    }
+
+    @Test
+    void concurrentProducersNeverLoseAcceptedFrames() throws InterruptedException {
+        InboundRing ring = new InboundRing(64, NO_WAIT);
+        int producers = 4;
+        int perProducer = 20_000;
+        AtomicInteger accepted = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(producers);
+
+        for (int p = 0; p < producers; p++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    if (publish(ring, i)) {
+                        accepted.incrementAndGet();
+                    }
+                }
+                done.countDown();
+            });
+            thread.start();
+        }
+
+        AtomicInteger consumed = new AtomicInteger();
+        while (done.getCount() > 0 || ring.hasAvailable()) {
+            ring.drain(slot -> consumed.incrementAndGet(), 64);
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        ring.drain(slot -> consumed.incrementAndGet(), Integer.MAX_VALUE);
+
+        assertEquals(accepted.get(), consumed.get());
+        assertEquals(0, ring.getDepth());
+    }
+
+    private static boolean publish(InboundRing ring, int index) {
+        return ring.publish(null, "c" + index, MessageType.fromOpcode((byte) 0x13), ByteBuffer.wrap(new byte[8]));
+    }
+}
@@ -0,0 +1,131 @@
+package com.bspark.comms.network.server.nio;
+
+import com.bspark.comms.config.CommsProperties;
+import com.bspark.comms.core.scheduling.PollTimer;
+import com.bspark.comms.network.server.dispatch.InboundDispatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Pipe;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 브로드캐스트 제한 시간이 지나면 아직 기록되지 않은 대상만 실패로 집계되는지 확인
+ * 소유자는 flush 요청을 받아도 아무것도 하지 않으므로, 테스트가 직접 기록하지 않은 대상은 멈춘 연결과 같습니다.
+ */
+class BroadcastTimeoutTest {
+
+    private static final long TIMEOUT_MILLIS = 300;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CommsProperties properties = new CommsProperties();
+    private final PollTimer pollTimer;
+    private final NioConnectionManager connectionManager;
+
+    BroadcastTimeoutTest() {
+        properties.getServer().setBroadcastTimeoutMillis(TIMEOUT_MILLIS);
+        pollTimer = new PollTimer(properties, meterRegistry);
+        InboundFlowControl flowControl = new InboundFlowControl(properties, meterRegistry);
+        connectionManager = new NioConnectionManager(event -> {
+        }, null, flowControl, new InboundDispatcher(properties, flowControl, meterRegistry), pollTimer,
+                properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pollTimer.stop();
+    }
+
+    @Test
+    void timeoutFailsOnlyTargetsStillPending() throws Exception {
+        ChannelContext written = context();
+        ChannelContext closed = context();
+        ChannelContext stalled = context();
+        List<ChannelContext> failures = new CopyOnWriteArrayList<>();
+        ByteBuffer frame = ByteBuffer.wrap(new byte[]{0x7F, 0x7F, 0, 1, 2, 3});
+
+        long start = System.nanoTime();
+        CompletableFuture<BroadcastResult> result =
+                connectionManager.sendShared(frame, List.of(written, closed, stalled), failures::add);
+
+        Pipe pipe = Pipe.open();
+        assertTrue(flush(written, pipe));
+        closed.getOutboundQueue().close();
+        assertEquals(List.of(closed), failures);
+        assertFalse(result.isDone());
+
+        BroadcastResult broadcast = result.get(2, TimeUnit.SECONDS);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsedMillis >= TIMEOUT_MILLIS - 20, "completed after " + elapsedMillis + "ms");
+        assertEquals(3, broadcast.getTotal());
+        assertEquals(1, broadcast.getSucceeded());
+        assertEquals(2, broadcast.getFailed());
+        assertEquals(List.of(closed, stalled), failures);
+
+        // 제한 시간 뒤에 기록이 끝나도 결과와 실패 목록은 바뀌지 않음
+        assertTrue(flush(stalled, pipe));
+        assertEquals(List.of(closed, stalled), failures);
+        pipe.sink().close();
+        pipe.source().close();
+    }
+
+    @Test
+    void completesWithoutWaitingWhenAllTargetsFinish() throws Exception {
+        ChannelContext a = context();
+        ChannelContext b = context();
+
+        CompletableFuture<BroadcastResult> result =
+                connectionManager.sendShared(ByteBuffer.wrap(new byte[]{1}), List.of(a, b), context -> {
+                });
+        a.getOutboundQueue().close();
+        b.getOutboundQueue().close();
+
+        // 모든 대상이 끝나면 제한 시간을 기다리지 않고 바로 완료
+        assertTrue(result.isDone());
+        assertEquals(2, result.get().getFailed());
+        assertTrue(connectionManager.sendShared(ByteBuffer.wrap(new byte[]{1}), List.of(), context -> {
+        }).isDone());
+    }
+
+    /**
+     * 워커 대신 송신 대기열을 파이프에 기록
+     */
+    private boolean flush(ChannelContext context, Pipe pipe) throws IOException {
+        return context.getOutboundQueue().flush(pipe.sink(), new WriteBatch(8, 1024), new NioMetrics(meterRegistry));
+    }
+
+    private static ChannelContext context() {
+        return new ChannelContext(new ChannelOwner() {
+            @Override
+            public void requestFlush(ChannelContext context) {
+            }
+
+            @Override
+            public void suspendRead(ChannelContext context) {
+            }
+
+            @Override
+            public void resumeRead(ChannelContext context) {
+            }
+
+            @Override
+            public void connectionClosed(ChannelContext context) {
+            }
+
+            @Override
+            public String getName() {
+                return "stalled";
+            }
+        }, null, null);
+    }
+}
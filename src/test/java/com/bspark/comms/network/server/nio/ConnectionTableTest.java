@@ -0,0 +1,100 @@
+package com.bspark.comms.network.server.nio;
+
+import com.bspark.comms.util.IpAddressUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * 연결 ID 배정과 재사용, 주소 조회, 같은 주소 재접속 시 이전 연결 정리 확인
+ */
+class ConnectionTableTest {
+
+    private final ConnectionTable table = new ConnectionTable();
+
+    @Test
+    void assignsDenseIdsAndFindsByIdAndAddress() {
+        ChannelContext a = context("10.0.0.1");
+        ChannelContext b = context("10.0.0.2");
+        table.add(a);
+        table.add(b);
+
+        assertEquals(0, a.getId());
+        assertEquals(1, b.getId());
+        assertSame(a, table.get(0));
+        assertSame(b, table.findByAddress(IpAddressUtils.pack("10.0.0.2")));
+        assertNull(table.findByAddress(IpAddressUtils.pack("10.0.0.3")));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    void releasedIdIsReused() {
+        ChannelContext a = context("10.0.0.1");
+        ChannelContext b = context("10.0.0.2");
+        table.add(a);
+        table.add(b);
+
+        table.release(a);
+        assertNull(table.get(0));
+        assertNull(table.findByAddress(a.getAddress()));
+        assertEquals(1, table.size());
+
+        ChannelContext c = context("10.0.0.3");
+        table.add(c);
+        assertEquals(0, c.getId());
+        assertSame(c, table.get(0));
+
+        // 이미 반납한 연결을 다시 반납해도 새 연결에는 영향 없음
+        table.release(a);
+        assertSame(c, table.get(0));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    void lateCleanupOfPreviousConnectionKeepsReconnectedAddress() {
+        ChannelContext previous = context("10.0.0.1");
+        table.add(previous);
+        table.unmapAddress(previous);
+
+        // 같은 주소의 새 연결 등록 후 이전 연결의 정리가 끝남
+        ChannelContext current = context("10.0.0.1");
+        table.add(current);
+        table.unmapAddress(previous);
+        table.release(previous);
+
+        assertSame(current, table.findByAddress(current.getAddress()));
+        assertSame(current, table.get(current.getId()));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    void viewIteratesRegisteredConnections() {
+        List<ChannelContext> added = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) {
+            ChannelContext context = context("10.0.1." + i);
+            table.add(context);
+            added.add(context);
+        }
+        for (int i = 0; i < 100; i += 2) {
+            table.release(added.get(i));
+        }
+
+        List<ChannelContext> visited = new ArrayList<>(table.view());
+        assertEquals(50, visited.size());
+        assertEquals(50, table.view().size());
+        for (int i = 1; i < 100; i += 2) {
+            assertSame(added.get(i), visited.get(i / 2));
+        }
+    }
+
+    private static ChannelContext context(String address) {
+        ChannelContext context = new ChannelContext(null, null, null);
+        context.setAddress(IpAddressUtils.pack(address));
+        return context;
+    }
+}
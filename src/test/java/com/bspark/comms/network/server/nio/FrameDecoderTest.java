@@ -0,0 +1,287 @@
+package com.bspark.comms.network.server.nio;
+
+import com.bspark.comms.core.protocol.message.FrameEncoder;
+import com.bspark.comms.core.protocol.validation.Crc16;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 조각난 스트림과 손상된 스트림을 디코딩한 뒤 풀에서 빌린 보관 버퍼가 모두 반납되는지 확인
+ */
+class FrameDecoderTest {
+
+    private static final int MAX_FRAME_SIZE = 8192;
+
+    private final Random random = new Random(7);
+    private final List<byte[]> received = new ArrayList<>();
+    private final List<Integer> crcStatuses = new ArrayList<>();
+
+    private BufferPool pool;
+    private ByteBuffer sharedBuffer;
+    private FrameDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        pool = new BufferPool("test", MAX_FRAME_SIZE);
+        sharedBuffer = ByteBuffer.allocateDirect(MAX_FRAME_SIZE);
+        decoder = new FrameDecoder(pool);
+    }
+
+    @AfterEach
+    void assertNoLeaks() {
+        decoder.release();
+        assertEquals(0, pool.getOutstandingCount(), "outstanding pooled buffers");
+        assertEquals(0, pool.getUsedBytes());
+        assertTrue(pool.checkLeaks());
+    }
+
+    @Test
+    void returnsBuffersAfterFragmentedFrames() {
+        List<byte[]> frames = new ArrayList<>();
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        for (int i = 0; i < 200; i++) {
+            // 작은 등급부터 가장 큰 등급까지 걸치도록 데이터 크기를 섞음
+            int payloadLength = i % 10 == 0 ? MAX_FRAME_SIZE - 10 - random.nextInt(100) : random.nextInt(600);
+            byte[] frame = frame(payloadLength);
+            frames.add(frame);
+            stream.writeBytes(frame);
+        }
+
+        feed(stream.toByteArray(), 1, 700);
+
+        assertEquals(frames.size(), received.size());
+        for (int i = 0; i < frames.size(); i++) {
+            assertArrayEquals(frames.get(i), received.get(i));
+            assertEquals(Crc16.OK, (int) crcStatuses.get(i));
+        }
+        // 프레임 경계에서 끝났으므로 보관 버퍼 없음
+        assertFalse(decoder.hasPartialFrame());
+        assertEquals(0, pool.getOutstandingCount());
+        assertTrue(pool.getHighWaterBytes() > 0);
+    }
+
+    @Test
+    void returnsBuffersAfterSingleByteReads() {
+        byte[] first = frame(1000);
+        byte[] second = frame(3);
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        stream.writeBytes(first);
+        stream.writeBytes(second);
+
+        feed(stream.toByteArray(), 1, 1);
+
+        assertEquals(2, received.size());
+        assertArrayEquals(second, received.get(1));
+        assertEquals(0, pool.getOutstandingCount());
+    }
+
+    @Test
+    void returnsBuffersAfterCorruptStream() {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        for (int i = 0; i < 100; i++) {
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    // 임의 바이트
+                    byte[] garbage = new byte[random.nextInt(50)];
+                    random.nextBytes(garbage);
+                    stream.writeBytes(garbage);
+                }
+                case 1 -> {
+                    // 잘못된 길이의 헤더
+                    stream.writeBytes(new byte[]{FrameDecoder.SYNC_BYTE, FrameDecoder.SYNC_BYTE, (byte) 0xFF, (byte) 0xF0});
+                }
+                case 2 -> {
+                    // CRC가 틀린 프레임
+                    byte[] frame = frame(random.nextInt(100));
+                    frame[frame.length - 1] ^= 0x01;
+                    stream.writeBytes(frame);
+                }
+                default -> stream.writeBytes(frame(random.nextInt(300)));
+            }
+        }
+        // 끝에 잘린 프레임을 남김
+        byte[] truncated = frame(500);
+        stream.write(truncated, 0, 200);
+
+        feed(stream.toByteArray(), 1, 400);
+
+        assertTrue(decoder.hasPartialFrame());
+        assertEquals(1, pool.getOutstandingCount());
+        assertTrue(decoder.getDiscardedBytes() > 0);
+        assertTrue(decoder.getCrcErrors() > 0);
+    }
+
+    @Test
+    void resyncsAfterFalseHeader() {
+        // 잘린 데이터 안의 0x7F7F가 뒤따르는 정상 프레임을 덮는 길이로 읽힘
+        byte[] real = frame(20);
+        byte[] bogus = {FrameDecoder.SYNC_BYTE, FrameDecoder.SYNC_BYTE, 0x00, 0x10};
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        stream.writeBytes(bogus);
+        stream.writeBytes(real);
+        stream.writeBytes(real);
+
+        feed(stream.toByteArray(), 1, 7);
+
+        assertEquals(2, received.size());
+        assertArrayEquals(real, received.get(0));
+        assertArrayEquals(real, received.get(1));
+        assertEquals(Crc16.OK, (int) crcStatuses.get(0));
+        assertEquals(1, decoder.getCrcErrors());
+        assertEquals(bogus.length, decoder.getDiscardedBytes());
+        assertFalse(decoder.hasPartialFrame());
+    }
+
+    @Test
+    void resyncsWhenFalseHeaderLengthExceedsReceivedData() {
+        // 길이 4098의 잘못 잡은 헤더 - 뒤따르는 정상 프레임이 도착하면 나머지를 기다리지 않고 다시 동기화
+        byte[] bogus = {FrameDecoder.SYNC_BYTE, FrameDecoder.SYNC_BYTE, 0x10, 0x00, 0x01};
+        byte[] first = frame(20);
+        byte[] second = frame(3);
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        stream.writeBytes(bogus);
+        stream.writeBytes(first);
+        stream.writeBytes(second);
+
+        feed(stream.toByteArray(), 1, 6);
+
+        assertEquals(2, received.size());
+        assertArrayEquals(first, received.get(0));
+        assertArrayEquals(second, received.get(1));
+        assertEquals(0, decoder.getCrcErrors());
+        assertEquals(bogus.length, decoder.getDiscardedBytes());
+        assertFalse(decoder.hasPartialFrame());
+    }
+
+    @Test
+    void keepsWaitingForFrameWithFalseHeadersInPayload() {
+        // 데이터 안의 0x7F7F는 길이가 맞지 않거나 CRC가 틀리므로 진짜 프레임의 나머지를 계속 기다림
+        byte[] frame = frame(3000);
+        byte[] inner = frame(10);
+        inner[inner.length - 1] ^= 0x01;
+        System.arraycopy(inner, 0, frame, 100, inner.length);
+        frame[500] = FrameDecoder.SYNC_BYTE;
+        frame[501] = FrameDecoder.SYNC_BYTE;
+        frame[502] = (byte) 0xFF;
+        frame[503] = (byte) 0xFF;
+        frame[1000] = FrameDecoder.SYNC_BYTE;
+        frame[1001] = FrameDecoder.SYNC_BYTE;
+        frame[1002] = 0x10;
+        frame[1003] = 0x00;
+        byte[] encoded = FrameEncoder.encode(0x0001, (byte) 0x13,
+                Arrays.copyOfRange(frame, FrameDecoder.OPCODE_OFFSET + 1, frame.length - Crc16.CRC_SIZE));
+
+        feed(encoded, 1, 300);
+
+        assertEquals(1, received.size());
+        assertArrayEquals(encoded, received.get(0));
+        assertEquals(0, decoder.getDiscardedBytes());
+    }
+
+    @Test
+    void deliversMismatchWhenResyncDisabled() {
+        decoder = new FrameDecoder(pool, false);
+        byte[] corrupt = frame(30);
+        corrupt[corrupt.length - 1] ^= 0x01;
+        byte[] next = frame(5);
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        stream.writeBytes(corrupt);
+        stream.writeBytes(next);
+
+        feed(stream.toByteArray(), 1, 50);
+
+        assertEquals(2, received.size());
+        assertArrayEquals(corrupt, received.get(0));
+        assertEquals(Crc16.MISMATCH, (int) crcStatuses.get(0));
+        assertArrayEquals(next, received.get(1));
+        assertEquals(Crc16.OK, (int) crcStatuses.get(1));
+    }
+
+    @Test
+    void returnsBufferWhenConnectionClosesMidFrame() {
+        byte[] frame = frame(2000);
+        feed(Arrays.copyOf(frame, 1500), 100, 600);
+
+        assertTrue(decoder.hasPartialFrame());
+        assertEquals(1, pool.getOutstandingCount());
+        assertFalse(pool.checkLeaks());
+
+        // 연결 종료 시 워커가 호출
+        decoder.release();
+        assertFalse(decoder.hasPartialFrame());
+        assertEquals(0, pool.getOutstandingCount());
+        assertTrue(received.isEmpty());
+    }
+
+    @Test
+    void returnsBufferWhenListenerFails() {
+        byte[] first = frame(10);
+        byte[] second = frame(900);
+        ByteBuffer buffer = decoder.readBuffer(sharedBuffer);
+        buffer.put(first).put(second, 0, 300);
+
+        // 첫 프레임 처리 중 예외 - 남은 미완성 프레임은 보관 버퍼로 옮겨짐
+        assertThrows(IllegalStateException.class, () -> decoder.decode(buffer, (frame, crcStatus) -> {
+            throw new IllegalStateException("handler failed");
+        }));
+        assertTrue(decoder.hasPartialFrame());
+        assertEquals(1, pool.getOutstandingCount());
+
+        ByteBuffer next = decoder.readBuffer(sharedBuffer);
+        next.put(second, 300, second.length - 300);
+        decoder.decode(next, this::onFrame);
+
+        assertEquals(1, received.size());
+        assertArrayEquals(second, received.get(0));
+        assertEquals(0, pool.getOutstandingCount());
+    }
+
+    /**
+     * 워커의 읽기 루프처럼 minChunk ~ maxChunk 크기로 나눠 디코더에 전달
+     */
+    private void feed(byte[] stream, int minChunk, int maxChunk) {
+        int position = 0;
+        while (position < stream.length) {
+            ByteBuffer buffer = decoder.readBuffer(sharedBuffer);
+            int chunk = minChunk + random.nextInt(maxChunk - minChunk + 1);
+            int length = Math.min(Math.min(chunk, buffer.remaining()), stream.length - position);
+            buffer.put(stream, position, length);
+            position += length;
+            decoder.decode(buffer, this::onFrame);
+            assertTrue(pool.getOutstandingCount() <= 1, "at most one pending buffer per connection");
+        }
+    }
+
+    private void onFrame(ByteBuffer frame, int crcStatus) {
+        byte[] copy = new byte[frame.remaining()];
+        frame.get(copy);
+        received.add(copy);
+        crcStatuses.add(crcStatus);
+    }
+
+    private byte[] frame(int payloadLength) {
+        byte[] payload = new byte[payloadLength];
+        random.nextBytes(payload);
+        // 데이터 안의 우연한 동기 바이트 쌍은 스트림 검증을 어렵게 하므로 제거
+        for (int i = 0; i < payload.length; i++) {
+            if (payload[i] == FrameDecoder.SYNC_BYTE) {
+                payload[i] = 0x7E;
+            }
+        }
+        return FrameEncoder.encode(0x0001, (byte) 0x13, payload);
+    }
+}
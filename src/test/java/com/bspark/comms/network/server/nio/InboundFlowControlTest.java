@@ -0,0 +1,145 @@
+package com.bspark.comms.network.server.nio;
+
+import com.bspark.comms.config.CommsProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 연결별 상한/하한과 전체 상한/하한으로 읽기를 중단하고 재개하는 시점 확인
+ */
+class InboundFlowControlTest {
+
+    private final List<String> events = new ArrayList<>();
+
+    @Test
+    void resumesConnectionAtItsLowWatermarkWhileGlobalBacklogRemains() {
+        InboundFlowControl flowControl = flowControl(4, 1, 20, 5);
+        ChannelContext busy = context("busy");
+        queue(flowControl, context("other1"), 3);
+        queue(flowControl, context("other2"), 3);
+
+        queue(flowControl, busy, 4);
+        assertEquals(List.of("suspend busy"), events);
+
+        process(flowControl, busy, 2);
+        assertTrue(busy.isReadSuspended());
+        process(flowControl, busy, 1);
+
+        // 전체 대기 7은 전체 하한 5보다 크지만 연결 대기가 하한 1에 도달하여 재개
+        assertEquals(7, flowControl.getGlobalPending());
+        assertFalse(busy.isReadSuspended());
+        assertEquals(List.of("suspend busy", "resume busy"), events);
+        assertEquals(0, flowControl.getSuspendedCount());
+    }
+
+    @Test
+    void holdsGloballySuspendedConnectionsUntilGlobalLowWatermark() {
+        InboundFlowControl flowControl = flowControl(8, 2, 10, 5);
+        ChannelContext a = context("a");
+        ChannelContext b = context("b");
+        ChannelContext c = context("c");
+        queue(flowControl, a, 3);
+        queue(flowControl, b, 3);
+        queue(flowControl, c, 3);
+
+        // 전체 상한 10 도달 - 연결 대기는 1이지만 전체 적체로 중단
+        ChannelContext late = context("late");
+        queue(flowControl, late, 1);
+        assertEquals(List.of("suspend late"), events);
+
+        process(flowControl, late, 1);
+        process(flowControl, a, 3);
+        assertEquals(6, flowControl.getGlobalPending());
+        assertTrue(late.isReadSuspended(), "global backlog still above its low watermark");
+
+        process(flowControl, b, 1);
+        assertEquals(5, flowControl.getGlobalPending());
+        assertFalse(late.isReadSuspended());
+        assertEquals(List.of("suspend late", "resume late"), events);
+    }
+
+    @Test
+    void globalSweepLeavesConnectionsAboveTheirOwnLowWatermark() {
+        InboundFlowControl flowControl = flowControl(8, 2, 10, 5);
+        ChannelContext heavy = context("heavy");
+        ChannelContext light = context("light");
+        queue(flowControl, heavy, 6);
+        queue(flowControl, light, 4);
+        assertEquals(List.of("suspend light"), events);
+        // 전체 상한 초과 상태에서 더 받은 heavy도 전체 적체로 중단
+        queue(flowControl, heavy, 1);
+        assertEquals(List.of("suspend light", "suspend heavy"), events);
+
+        // 전체 하한 도달 시 light는 재개, heavy는 연결 대기 5 > 하한 2라 유지
+        process(flowControl, light, 4);
+        process(flowControl, heavy, 2);
+        assertEquals(5, flowControl.getGlobalPending());
+        assertFalse(light.isReadSuspended());
+        assertTrue(heavy.isReadSuspended());
+
+        // 이후 heavy는 자기 하한만 보고 재개
+        process(flowControl, heavy, 3);
+        assertFalse(heavy.isReadSuspended());
+        assertEquals(List.of("suspend light", "suspend heavy", "resume light", "resume heavy"), events);
+    }
+
+    private static InboundFlowControl flowControl(int high, int low, int globalHigh, int globalLow) {
+        CommsProperties properties = new CommsProperties();
+        properties.getServer().setInboundHighWatermark(high);
+        properties.getServer().setInboundLowWatermark(low);
+        properties.getServer().setInboundGlobalHighWatermark(globalHigh);
+        properties.getServer().setInboundGlobalLowWatermark(globalLow);
+        return new InboundFlowControl(properties, new SimpleMeterRegistry());
+    }
+
+    /**
+     * 연결 관리자처럼 대기열에 넣고 상한에 도달하면 읽기 중단
+     */
+    private static void queue(InboundFlowControl flowControl, ChannelContext context, int frames) {
+        for (int i = 0; i < frames; i++) {
+            if (flowControl.frameQueued(context)) {
+                flowControl.suspend(context);
+            }
+        }
+    }
+
+    private static void process(InboundFlowControl flowControl, ChannelContext context, int frames) {
+        for (int i = 0; i < frames; i++) {
+            flowControl.frameProcessed(context);
+        }
+    }
+
+    private ChannelContext context(String name) {
+        return new ChannelContext(new ChannelOwner() {
+            @Override
+            public void requestFlush(ChannelContext context) {
+            }
+
+            @Override
+            public void suspendRead(ChannelContext context) {
+                events.add("suspend " + name);
+            }
+
+            @Override
+            public void resumeRead(ChannelContext context) {
+                events.add("resume " + name);
+            }
+
+            @Override
+            public void connectionClosed(ChannelContext context) {
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        }, null, null);
+    }
+}
@@ -0,0 +1,134 @@
+package com.bspark.comms.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 임의의 put/remove/get 순서를 HashMap과 비교
+ * 키 0(빈 칸 표시와 같은 값), 음수 키, 배열 끝에서 처음으로 이어지는 탐사 구간을 포함합니다.
+ */
+class IntLongHashMapTest {
+
+    private static final long MISSING = -1;
+
+    @Test
+    void zeroKeyIsStoredSeparately() {
+        IntLongHashMap map = new IntLongHashMap(MISSING);
+        assertEquals(MISSING, map.get(0));
+        assertFalse(map.containsKey(0));
+
+        assertEquals(MISSING, map.put(0, 5));
+        assertEquals(5, map.put(0, 6));
+        assertEquals(6, map.get(0));
+        assertTrue(map.containsKey(0));
+        assertEquals(1, map.size());
+
+        assertEquals(6, map.remove(0));
+        assertEquals(MISSING, map.remove(0));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void matchesHashMapOnWrapAroundCluster() {
+        // 초기 용량 16에서 마지막 세 칸에 모이는 키 7개와 키 0 - 탐사 구간이 배열 끝에서 처음으로 이어지고,
+        // 항목이 8개 이하라 확장되지 않으므로 삭제 시 당기기가 경계를 넘는 경우를 반복해서 거침
+        List<Integer> keys = new ArrayList<>();
+        for (int key = 1; keys.size() < 7; key++) {
+            if (homeIndex(key, 15) >= 13) {
+                keys.add(key);
+            }
+        }
+        keys.add(0);
+
+        runRandomOperations(keys, 20_000, 17);
+    }
+
+    @Test
+    void matchesHashMapWhileGrowingAndShrinking() {
+        Random random = new Random(18);
+        List<Integer> keys = new ArrayList<>();
+        keys.add(0);
+        keys.add(Integer.MIN_VALUE);
+        keys.add(Integer.MAX_VALUE);
+        keys.add(-1);
+        // 주소처럼 하위 비트만 다른 키와 임의의 키
+        for (int i = 0; i < 500; i++) {
+            keys.add(0x0A000000 + i);
+            keys.add(random.nextInt());
+        }
+
+        runRandomOperations(keys, 200_000, 19);
+    }
+
+    @Test
+    void clearRemovesAllEntries() {
+        IntLongHashMap map = new IntLongHashMap(MISSING);
+        for (int key = -50; key <= 50; key++) {
+            map.put(key, key);
+        }
+        map.clear();
+
+        assertEquals(0, map.size());
+        for (int key = -50; key <= 50; key++) {
+            assertEquals(MISSING, map.get(key));
+        }
+        map.put(3, 30);
+        assertEquals(30, map.get(3));
+    }
+
+    private static void runRandomOperations(List<Integer> keys, int operations, long seed) {
+        Random random = new Random(seed);
+        IntLongHashMap map = new IntLongHashMap(MISSING);
+        Map<Integer, Long> reference = new HashMap<>();
+
+        for (int op = 0; op < operations; op++) {
+            int key = keys.get(random.nextInt(keys.size()));
+            int action = random.nextInt(10);
+            if (action < 5) {
+                long value = random.nextLong() & Long.MAX_VALUE;
+                Long previous = reference.put(key, value);
+                assertEquals(previous == null ? MISSING : previous, map.put(key, value), "put " + key);
+            } else if (action < 8) {
+                Long previous = reference.remove(key);
+                assertEquals(previous == null ? MISSING : previous, map.remove(key), "remove " + key);
+            } else {
+                assertEquals((long) reference.getOrDefault(key, MISSING), map.get(key), "get " + key);
+            }
+            assertEquals(reference.size(), map.size(), "size after op " + op);
+
+            if (op % 1000 == 0) {
+                assertSameContents(reference, keys, map);
+            }
+        }
+        assertSameContents(reference, keys, map);
+    }
+
+    private static void assertSameContents(Map<Integer, Long> reference, List<Integer> keys, IntLongHashMap map) {
+        for (int key : keys) {
+            assertEquals(reference.containsKey(key), map.containsKey(key), "containsKey " + key);
+            assertEquals((long) reference.getOrDefault(key, MISSING), map.get(key), "get " + key);
+        }
+
+        Map<Integer, Long> visited = new HashMap<>();
+        map.forEach((key, value) -> assertNull(visited.put(key, value), "visited twice " + key));
+        assertEquals(reference, visited);
+    }
+
+    /**
+     * IntLongHashMap의 기본 위치 계산과 같은 식
+     */
+    private static int homeIndex(int key, int mask) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
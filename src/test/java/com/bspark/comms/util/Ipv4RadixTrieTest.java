@@ -0,0 +1,167 @@
+package com.bspark.comms.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class Ipv4RadixTrieTest {
+
+    private static int match(Ipv4RadixTrie trie, String address) {
+        return trie.match(IpAddressUtils.pack(address));
+    }
+
+    @Test
+    void matchesCidrBlocks() {
+        Ipv4RadixTrie trie = Ipv4RadixTrie.builder()
+                .add("10.0.0.0/8")
+                .add("192.168.1.0/24")
+                .add("172.16.5.3/12") // 접두사 밖의 비트는 무시
+                .build();
+
+        assertEquals(Ipv4RadixTrie.ALLOW, match(trie, "10.0.0.0"));
+        assertEquals(Ipv4RadixTrie.ALLOW, match(trie, "10.255.255.255"));
+        assertEquals(Ipv4RadixTrie.NO_MATCH, match(trie, "11.0.0.0"));
+        assertEquals(Ipv4RadixTrie.NO_MATCH, match(trie, "9.255.255.255"));
+        assertEquals(Ipv4RadixTrie.ALLOW, match(trie, "192.168.1.77"));
+        assertEquals(Ipv4RadixTrie.NO_MATCH, match(trie, "192.168.2.1"));
+        assertEquals(Ipv4RadixTrie.ALLOW, match(trie, "172.31.255.255"));
+        assertEquals(Ipv4RadixTrie.NO_MATCH, match(trie, "172.32.0.0"));
+        assertEquals(3, trie.size());
+        assertTrue(trie.hasAllowRules());
+    }
+
+    @Test
+    void matchesRanges() {
+        Ipv4RadixTrie trie = Ipv4RadixTrie.builder().add("10.0.0.10-10.0.0.20").build();
+
+        assertEquals(Ipv4RadixTrie.NO_MATCH, match(trie, "10.0.0.9"));
+        for (int last = 10; last <= 20; last++) {
+            assertEquals(Ipv4RadixTrie.ALLOW, match(trie, "10.0.0." + last));
+        }
+        assertEquals(Ipv4RadixTrie.NO_MATCH, match(trie, "10.0.0.21"));
+        // 10-11, 12-15, 16-19, 20
+        assertEquals(4, trie.size());
+
+        Ipv4RadixTrie single = Ipv4RadixTrie.builder().add("10.0.0.5-10.0.0.5").build();
+        assertEquals(1, single.size());
+        assertEquals(Ipv4RadixTrie.ALLOW, match(single, "10.0.0.5"));
+        assertEquals(Ipv4RadixTrie.NO_MATCH, match(single, "10.0.0.6"));
+
+        // 전체 주소 범위는 /0 블록 하나
+        Ipv4RadixTrie all = Ipv4RadixTrie.builder().add("0.0.0.0-255.255.255.255").build();
+        assertEquals(1, all.size());
+        assertEquals(Ipv4RadixTrie.ALLOW, match(all, "0.0.0.0"));
+        assertEquals(Ipv4RadixTrie.ALLOW, match(all, "255.255.255.255"));
+    }
+
+    @Test
+    void denyTakesPrecedence() {
+        Ipv4RadixTrie trie = Ipv4RadixTrie.builder()
+                .add("10.0.0.0/8")
+                .add("!10.1.0.0/16")
+                .add("10.1.2.0/24")   // 거부 블록 안의 더 긴 허용 접두사
+                .add("!10.1.2.3")
+                .add("192.168.0.0/16")
+                .add("!192.168.0.0/16") // 같은 접두사는 거부 우선
+                .add("!172.16.0.1")
+                .add("172.16.0.1")
+                .build();
+
+        assertEquals(Ipv4RadixTrie.ALLOW, match(trie, "10.2.0.1"));
+        assertEquals(Ipv4RadixTrie.DENY, match(trie, "10.1.9.9"));
+        assertEquals(Ipv4RadixTrie.ALLOW, match(trie, "10.1.2.4"));
+        assertEquals(Ipv4RadixTrie.DENY, match(trie, "10.1.2.3"));
+        assertEquals(Ipv4RadixTrie.DENY, match(trie, "192.168.10.10"));
+        assertEquals(Ipv4RadixTrie.DENY, match(trie, "172.16.0.1"));
+        assertEquals(Ipv4RadixTrie.NO_MATCH, match(trie, "172.16.0.2"));
+
+        Ipv4RadixTrie denyOnly = Ipv4RadixTrie.builder().add(" ! 10.0.0.0/8 ").build();
+        assertFalse(denyOnly.hasAllowRules());
+        assertEquals(Ipv4RadixTrie.DENY, match(denyOnly, "10.0.0.1"));
+    }
+
+    @Test
+    void handlesZeroAndFullLengthPrefixes() {
+        Ipv4RadixTrie any = Ipv4RadixTrie.builder().add("0.0.0.0/0").add("!10.0.0.1/32").build();
+        assertEquals(Ipv4RadixTrie.ALLOW, match(any, "0.0.0.0"));
+        assertEquals(Ipv4RadixTrie.ALLOW, match(any, "128.0.0.0"));
+        assertEquals(Ipv4RadixTrie.ALLOW, match(any, "255.255.255.255"));
+        assertEquals(Ipv4RadixTrie.DENY, match(any, "10.0.0.1"));
+        assertEquals(Ipv4RadixTrie.ALLOW, match(any, "10.0.0.0"));
+
+        Ipv4RadixTrie denyAll = Ipv4RadixTrie.builder().add("!0.0.0.0/0").add("255.255.255.255/32").build();
+        assertEquals(Ipv4RadixTrie.DENY, match(denyAll, "1.2.3.4"));
+        assertEquals(Ipv4RadixTrie.ALLOW, match(denyAll, "255.255.255.255"));
+
+        Ipv4RadixTrie hosts = Ipv4RadixTrie.builder().add("0.0.0.0").add("255.255.255.255").build();
+        assertEquals(Ipv4RadixTrie.ALLOW, match(hosts, "0.0.0.0"));
+        assertEquals(Ipv4RadixTrie.ALLOW, match(hosts, "255.255.255.255"));
+        assertEquals(Ipv4RadixTrie.NO_MATCH, match(hosts, "0.0.0.1"));
+
+        Ipv4RadixTrie empty = Ipv4RadixTrie.builder().build();
+        assertTrue(empty.isEmpty());
+        assertEquals(Ipv4RadixTrie.NO_MATCH, match(empty, "10.0.0.1"));
+    }
+
+    @Test
+    void rejectsMalformedEntries() {
+        for (String entry : List.of("", " ", "10.0.0.0/33", "10.0.0.0/-1", "10.0.0.0/x",
+                "10.0.0.20-10.0.0.10", "10.0.0", "256.0.0.1", "::1")) {
+            assertThrows(IllegalArgumentException.class, () -> Ipv4RadixTrie.builder().add(entry));
+        }
+    }
+
+    @Test
+    void matchesLinearReferenceOnRandomRules() {
+        Random random = new Random(20);
+        for (int round = 0; round < 50; round++) {
+            Ipv4RadixTrie.Builder builder = Ipv4RadixTrie.builder();
+            List<int[]> rules = new ArrayList<>();
+            for (int i = 0; i < 1 + random.nextInt(60); i++) {
+                // 주소가 겹치도록 상위 비트를 좁은 범위에서 고름
+                int prefix = (random.nextInt(4) << 28) | random.nextInt(1 << 20) << 8 | random.nextInt(256);
+                int length = random.nextInt(33);
+                boolean deny = random.nextInt(3) == 0;
+                builder.addPrefix(prefix, length, deny);
+                rules.add(new int[]{prefix, length, deny ? Ipv4RadixTrie.DENY : Ipv4RadixTrie.ALLOW});
+            }
+            Ipv4RadixTrie trie = builder.build();
+
+            for (int i = 0; i < 2_000; i++) {
+                int address = i % 2 == 0
+                        ? rules.get(random.nextInt(rules.size()))[0] ^ random.nextInt(1 << random.nextInt(20))
+                        : (random.nextInt(4) << 28) | random.nextInt(1 << 28);
+                assertEquals(reference(rules, address), trie.match(address), IpAddressUtils.format(address));
+            }
+        }
+    }
+
+    /**
+     * 가장 긴 접두사, 같은 길이면 거부 우선
+     */
+    private static int reference(List<int[]> rules, int address) {
+        int bestLength = -1;
+        int verdict = Ipv4RadixTrie.NO_MATCH;
+        for (int[] rule : rules) {
+            int length = rule[1];
+            int mask = length == 0 ? 0 : -1 << (32 - length);
+            if (((address ^ rule[0]) & mask) != 0) {
+                continue;
+            }
+            if (length > bestLength) {
+                bestLength = length;
+                verdict = rule[2];
+            } else if (length == bestLength) {
+                verdict = Math.max(verdict, rule[2]);
+            }
+        }
+        return verdict;
+    }
+}
@@ -0,0 +1,80 @@
+package com.bspark.comms.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 범위 밖 조회, 확장 시 기존 값 유지, 조건부 비우기, 순회 확인
+ */
+class SlotArrayTest {
+
+    @Test
+    void outOfRangeReadsAreEmpty() {
+        SlotArray<String> slots = new SlotArray<>();
+        assertNull(slots.get(-1));
+        assertNull(slots.get(0));
+        assertNull(slots.get(1_000_000));
+        assertNull(slots.remove(-1));
+        assertNull(slots.remove(1_000_000));
+    }
+
+    @Test
+    void growKeepsExistingValues() {
+        SlotArray<String> slots = new SlotArray<>();
+        int initial = slots.capacity();
+        slots.set(0, "a");
+        slots.set(initial - 1, "b");
+
+        assertNull(slots.set(initial * 3, "c"));
+        assertEquals(initial * 4, slots.capacity());
+        assertEquals("a", slots.get(0));
+        assertEquals("b", slots.get(initial - 1));
+        assertEquals("c", slots.get(initial * 3));
+        assertNull(slots.get(initial));
+    }
+
+    @Test
+    void setAndRemoveReturnPreviousValue() {
+        SlotArray<String> slots = new SlotArray<>();
+        assertNull(slots.set(5, "first"));
+        assertEquals("first", slots.set(5, "second"));
+        assertEquals("second", slots.remove(5));
+        assertNull(slots.remove(5));
+    }
+
+    @Test
+    void conditionalRemoveKeepsReplacedValue() {
+        // 종료된 연결의 정리가 같은 ID를 받은 새 연결을 지우지 않아야 함
+        SlotArray<String> slots = new SlotArray<>();
+        String previous = new String("conn");
+        String current = new String("conn");
+        slots.set(3, previous);
+        slots.set(3, current);
+
+        assertFalse(slots.remove(3, previous));
+        assertEquals(current, slots.get(3));
+        assertTrue(slots.remove(3, current));
+        assertNull(slots.get(3));
+        assertFalse(slots.remove(200, current));
+    }
+
+    @Test
+    void forEachVisitsOnlyOccupiedSlotsInIndexOrder() {
+        SlotArray<Integer> slots = new SlotArray<>();
+        slots.set(100, 100);
+        slots.set(2, 2);
+        slots.set(7, 7);
+        slots.remove(7);
+
+        List<Integer> visited = new ArrayList<>();
+        slots.forEach(visited::add);
+        assertEquals(List.of(2, 100), visited);
+    }
+}